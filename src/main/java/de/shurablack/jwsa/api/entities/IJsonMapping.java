@@ -2,9 +2,17 @@ package de.shurablack.jwsa.api.entities;
 
 import org.json.JSONObject;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Interface for mapping objects to JSON representations.
  * Classes implementing this interface should provide a method to convert their instances into a {@link JSONObject}.
+ * Large entities can additionally override {@link #writeJson(JsonWriter)} to be written without building the tree.
  */
 public interface IJsonMapping {
 
@@ -15,4 +23,37 @@ public interface IJsonMapping {
      */
     JSONObject serialize();
 
-}
\ No newline at end of file
+    /**
+     * Writes the JSON representation of the instance to the given writer.
+     * The default implementation writes the result of {@link #serialize()}.
+     *
+     * @param writer The writer to write to.
+     * @throws IOException If the target of the writer cannot be written.
+     */
+    default void writeJson(JsonWriter writer) throws IOException {
+        writer.value(serialize());
+    }
+
+    /**
+     * Writes the compact JSON representation of the instance to the given target.
+     *
+     * @param out The target, e.g. a {@link Writer} or {@link StringBuilder}.
+     * @throws IOException If the target cannot be written.
+     */
+    default void writeTo(Appendable out) throws IOException {
+        writeJson(new JsonWriter(out));
+    }
+
+    /**
+     * Writes the compact JSON representation of the instance to the given stream as UTF-8.
+     * The stream is flushed but not closed.
+     *
+     * @param out The stream to write to.
+     * @throws IOException If the stream cannot be written.
+     */
+    default void writeTo(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeTo(writer);
+        writer.flush();
+    }
+}
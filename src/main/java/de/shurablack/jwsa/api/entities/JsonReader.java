@@ -0,0 +1,717 @@
+package de.shurablack.jwsa.api.entities;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Reads JSON token by token from a {@link Reader}, without building a {@link JSONObject} tree first.
+ * Entities read their members in a single pass and switch on the member names, e.g.
+ * <pre>{@code
+ * reader.beginObject();
+ * while (reader.hasNext()) {
+ *     switch (reader.nextName()) {
+ *         case "name": name = reader.nextString(); break;
+ *         case "tradable": tradable = reader.nextBoolean(); break;
+ *         default: reader.skipValue();
+ *     }
+ * }
+ * reader.endObject();
+ * }</pre>
+ * Values are converted like the {@code opt} methods of org.json do, so reading an entity yields
+ * the same values as deserializing it from a {@link JSONObject}.
+ */
+public class JsonReader implements Closeable {
+
+    /** The kinds of the next value. */
+    public enum Token {
+        OBJECT, ARRAY, STRING, NUMBER, BOOLEAN, NULL, END
+    }
+
+    /**
+     * Reads a single element of a list.
+     *
+     * @param <T> The type of the element.
+     */
+    @FunctionalInterface
+    public interface Element<T> {
+
+        /**
+         * Reads the next value as an element.
+         *
+         * @param reader The reader positioned at the value.
+         * @return The element, may be null.
+         * @throws IOException If the source cannot be read.
+         */
+        T read(JsonReader reader) throws IOException;
+    }
+
+    /** The state of a container without members. */
+    private static final int EMPTY = 0;
+
+    /** The state of a container whose last member is complete and needs a separator before the next one. */
+    private static final int FILLED = 1;
+
+    /** The state of a container expecting the next value. */
+    private static final int READY = 2;
+
+    /** The characters ending an unquoted literal, as used by org.json. */
+    private static final String DELIMITERS = ",:]}/\\\"[{;=#";
+
+    /** The source of the read JSON. */
+    private final Reader in;
+
+    /** The buffered characters of the source. */
+    private final char[] buffer = new char[8192];
+
+    /** The position of the next character in the buffer. */
+    private int pos;
+
+    /** The amount of valid characters in the buffer. */
+    private int limit;
+
+    /** The amount of characters read before the current buffer. */
+    private long offset;
+
+    /** The state of the current object or array of each nesting level, the top level at index 0. */
+    private int[] states = new int[16];
+
+    /** Whether the container of each nesting level is an object. */
+    private boolean[] objects = new boolean[16];
+
+    /** The names of the members read from the filtered objects, or null if all members are read. */
+    private Predicate<String> memberFilter;
+
+    /** The nesting level of the filtered objects. */
+    private int filterDepth;
+
+    /** The name of the next member, which was already read to check it against the member filter. */
+    private String pendingName;
+
+    /** The current nesting level. */
+    private int depth;
+
+    /**
+     * Creates a new reader.
+     *
+     * @param in The source of the read JSON.
+     */
+    public JsonReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Restricts the members of all objects at the given nesting level to the accepted names.
+     * Other members are skipped before {@link #hasNext()} reports them, so entities never read them
+     * and keep the default values of their fields, like for members that are absent.
+     *
+     * @param depth    The nesting level of the filtered objects, 1 for a top-level object
+     *                 and 2 for the objects of a top-level array.
+     * @param accepted The names of the members to read.
+     */
+    public void filterMembers(int depth, Predicate<String> accepted) {
+        this.filterDepth = depth;
+        this.memberFilter = accepted;
+    }
+
+    /**
+     * Starts reading a JSON object.
+     *
+     * @throws IOException   If the source cannot be read.
+     * @throws JSONException If the next value is not an object.
+     */
+    public void beginObject() throws IOException {
+        open('{');
+    }
+
+    /**
+     * Ends reading the current JSON object.
+     *
+     * @throws IOException   If the source cannot be read.
+     * @throws JSONException If the object has further members.
+     */
+    public void endObject() throws IOException {
+        close('}');
+    }
+
+    /**
+     * Starts reading a JSON array.
+     *
+     * @throws IOException   If the source cannot be read.
+     * @throws JSONException If the next value is not an array.
+     */
+    public void beginArray() throws IOException {
+        open('[');
+    }
+
+    /**
+     * Ends reading the current JSON array.
+     *
+     * @throws IOException   If the source cannot be read.
+     * @throws JSONException If the array has further elements.
+     */
+    public void endArray() throws IOException {
+        close(']');
+    }
+
+    /**
+     * Checks whether the current object or array has further members.
+     *
+     * @return true if another member follows, false if the container ends.
+     * @throws IOException If the source cannot be read.
+     */
+    public boolean hasNext() throws IOException {
+        if (pendingName != null) {
+            return true;
+        }
+        while (true) {
+            int c = peekChar();
+            if (c == '}' || c == ']' || c == -1) {
+                return false;
+            }
+            if (memberFilter == null || depth != filterDepth || !objects[depth]) {
+                return true;
+            }
+            String name = nextName();
+            if (memberFilter.test(name)) {
+                pendingName = name;
+                return true;
+            }
+            skipValue();
+        }
+    }
+
+    /**
+     * Retrieves the kind of the next value without consuming it.
+     *
+     * @return The kind of the next value, or {@link Token#END} if the container or document ends.
+     * @throws IOException If the source cannot be read.
+     */
+    public Token peek() throws IOException {
+        separate();
+        int c = peekChar();
+        switch (c) {
+            case '{':
+                return Token.OBJECT;
+            case '[':
+                return Token.ARRAY;
+            case '"':
+            case '\'':
+                return Token.STRING;
+            case 'n':
+                return Token.NULL;
+            case 't':
+            case 'f':
+                return Token.BOOLEAN;
+            case '}':
+            case ']':
+            case -1:
+                return Token.END;
+            default:
+                return Token.NUMBER;
+        }
+    }
+
+    /**
+     * Reads the name of the next member of the current object.
+     *
+     * @return The name of the member.
+     * @throws IOException   If the source cannot be read.
+     * @throws JSONException If no member follows.
+     */
+    public String nextName() throws IOException {
+        if (pendingName != null) {
+            String name = pendingName;
+            pendingName = null;
+            return name;
+        }
+        separate();
+        int c = nextChar();
+        if (c != '"' && c != '\'') {
+            throw syntax("Expected a member name");
+        }
+        String name = readString((char) c);
+        if (nextChar() != ':') {
+            throw syntax("Expected a ':' after a key");
+        }
+        states[depth] = READY;
+        return name;
+    }
+
+    /**
+     * Reads the next value as a string, like {@link JSONObject#optString(String, String)}.
+     * Numbers and booleans are returned as their literal text.
+     *
+     * @return The string, or null if the value is null, an object or an array.
+     * @throws IOException If the source cannot be read.
+     */
+    public String nextString() throws IOException {
+        switch (peek()) {
+            case STRING:
+                String value = readString(buffer[pos++]);
+                filled();
+                return value;
+            case NUMBER:
+            case BOOLEAN:
+                return readLiteral();
+            case NULL:
+                nextNull();
+                return null;
+            default:
+                skipValue();
+                return null;
+        }
+    }
+
+    /**
+     * Reads the next value as a string.
+     *
+     * @param fallback The value returned if the read value is null.
+     * @return The string, or the fallback.
+     * @throws IOException If the source cannot be read.
+     */
+    public String nextString(String fallback) throws IOException {
+        String value = nextString();
+        return value != null ? value : fallback;
+    }
+
+    /**
+     * Reads the next value as a number, like {@link JSONObject#optNumber(String, Number)}.
+     * Numbers are converted to the same type org.json chooses, strings are parsed.
+     *
+     * @return The number, or null if the value is not a number.
+     * @throws IOException If the source cannot be read.
+     */
+    public Number nextNumber() throws IOException {
+        Token token = peek();
+        if (token != Token.NUMBER && token != Token.STRING) {
+            skipValue();
+            return null;
+        }
+        String text = token == Token.NUMBER ? readLiteral() : nextString();
+        Object value = JSONObject.stringToValue(text.trim());
+        return value instanceof Number ? (Number) value : null;
+    }
+
+    /**
+     * Reads the next value as a number.
+     *
+     * @param fallback The value returned if the read value is not a number.
+     * @return The number, or the fallback.
+     * @throws IOException If the source cannot be read.
+     */
+    public Number nextNumber(Number fallback) throws IOException {
+        Number value = nextNumber();
+        return value != null ? value : fallback;
+    }
+
+    /**
+     * Reads the next value as a boolean, like {@link JSONObject#optBoolean(String)}.
+     * The strings {@code "true"} and {@code "false"} are accepted as well.
+     *
+     * @return The boolean, or false if the value is not a boolean.
+     * @throws IOException If the source cannot be read.
+     */
+    public boolean nextBoolean() throws IOException {
+        Token token = peek();
+        if (token != Token.BOOLEAN && token != Token.STRING) {
+            skipValue();
+            return false;
+        }
+        return "true".equalsIgnoreCase(token == Token.BOOLEAN ? readLiteral() : nextString());
+    }
+
+    /**
+     * Reads a null value.
+     *
+     * @throws IOException   If the source cannot be read.
+     * @throws JSONException If the next value is not null.
+     */
+    public void nextNull() throws IOException {
+        separate();
+        if (!"null".equals(readLiteral())) {
+            throw syntax("Expected null");
+        }
+    }
+
+    /**
+     * Skips the next value if it is null.
+     *
+     * @return true if a null value was skipped, false otherwise.
+     * @throws IOException If the source cannot be read.
+     */
+    public boolean skipNull() throws IOException {
+        if (peek() != Token.NULL) {
+            return false;
+        }
+        nextNull();
+        return true;
+    }
+
+    /**
+     * Reads the next value as a list, like a JSON array whose elements are read with the given function.
+     *
+     * @param element The function reading each element.
+     * @param <T>     The type of the elements.
+     * @return The elements, or an empty list if the value is not an array.
+     * @throws IOException If the source cannot be read.
+     */
+    public <T> List<T> nextList(Element<T> element) throws IOException {
+        List<T> list = new ArrayList<>();
+        if (peek() != Token.ARRAY) {
+            skipValue();
+            return list;
+        }
+        beginArray();
+        while (hasNext()) {
+            list.add(element.read(this));
+        }
+        endArray();
+        return list;
+    }
+
+    /**
+     * Skips the next value, including all nested members.
+     *
+     * @throws IOException   If the source cannot be read.
+     * @throws JSONException If no value follows.
+     */
+    public void skipValue() throws IOException {
+        switch (peek()) {
+            case OBJECT:
+                beginObject();
+                while (hasNext()) {
+                    nextName();
+                    skipValue();
+                }
+                endObject();
+                break;
+            case ARRAY:
+                beginArray();
+                while (hasNext()) {
+                    skipValue();
+                }
+                endArray();
+                break;
+            case STRING:
+                nextString();
+                break;
+            case END:
+                throw syntax("Expected a value");
+            default:
+                readLiteral();
+        }
+    }
+
+    /**
+     * Copies the next value, including all nested members, to the given writer.
+     * Strings are unescaped and quoted again and numbers are written in the form org.json uses.
+     *
+     * @param writer The writer to copy the value to.
+     * @throws IOException   If the source or the target cannot be accessed.
+     * @throws JSONException If no value follows.
+     */
+    public void copyValue(JsonWriter writer) throws IOException {
+        switch (peek()) {
+            case OBJECT:
+                beginObject();
+                writer.beginObject();
+                while (hasNext()) {
+                    writer.name(nextName());
+                    copyValue(writer);
+                }
+                endObject();
+                writer.endObject();
+                break;
+            case ARRAY:
+                beginArray();
+                writer.beginArray();
+                while (hasNext()) {
+                    copyValue(writer);
+                }
+                endArray();
+                writer.endArray();
+                break;
+            case STRING:
+                writer.value(nextString());
+                break;
+            case NUMBER:
+                writer.value(nextNumber());
+                break;
+            case BOOLEAN:
+                writer.value(nextBoolean());
+                break;
+            case NULL:
+                nextNull();
+                writer.nullValue();
+                break;
+            default:
+                throw syntax("Expected a value");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Consumes the opening character of an object or array.
+     *
+     * @param open The opening character.
+     * @throws IOException If the source cannot be read.
+     */
+    private void open(char open) throws IOException {
+        separate();
+        if (nextChar() != open) {
+            throw syntax("Expected '" + open + "'");
+        }
+        if (++depth == states.length) {
+            states = Arrays.copyOf(states, states.length * 2);
+            objects = Arrays.copyOf(objects, objects.length * 2);
+        }
+        states[depth] = EMPTY;
+        objects[depth] = open == '{';
+    }
+
+    /**
+     * Consumes the closing character of an object or array.
+     *
+     * @param close The closing character.
+     * @throws IOException If the source cannot be read.
+     */
+    private void close(char close) throws IOException {
+        if (nextChar() != close) {
+            throw syntax("Expected '" + close + "'");
+        }
+        depth--;
+        filled();
+    }
+
+    /**
+     * Consumes the separator before the next member of the current container, if one is required.
+     * Values on the top level may follow each other without a separator, as in newline-delimited JSON.
+     *
+     * @throws IOException If the source cannot be read.
+     */
+    private void separate() throws IOException {
+        if (depth == 0 || states[depth] != FILLED) {
+            return;
+        }
+        int c = peekChar();
+        if (c == ',') {
+            pos++;
+            states[depth] = READY;
+        } else if (c != '}' && c != ']' && c != -1) {
+            throw syntax("Expected a ',' or the end of the container");
+        }
+    }
+
+    /**
+     * Marks the current member of the current container as complete.
+     */
+    private void filled() {
+        states[depth] = FILLED;
+    }
+
+    /**
+     * Reads an unquoted literal, i.e. a number, boolean or null.
+     *
+     * @return The text of the literal.
+     * @throws IOException If the source cannot be read.
+     */
+    private String readLiteral() throws IOException {
+        peekChar();
+        StringBuilder builder = null;
+        int start = pos;
+        while (true) {
+            if (pos == limit) {
+                if (builder == null) {
+                    builder = new StringBuilder();
+                }
+                builder.append(buffer, start, pos - start);
+                if (!fill()) {
+                    break;
+                }
+                start = pos;
+            }
+            char c = buffer[pos];
+            if (c <= ' ' || DELIMITERS.indexOf(c) >= 0) {
+                if (builder == null) {
+                    builder = new StringBuilder(pos - start);
+                }
+                builder.append(buffer, start, pos - start);
+                break;
+            }
+            pos++;
+        }
+        if (builder.length() == 0) {
+            throw syntax("Missing value");
+        }
+        filled();
+        return builder.toString();
+    }
+
+    /**
+     * Reads the remainder of a quoted string, after its opening quote.
+     *
+     * @param quote The quote character enclosing the string.
+     * @return The unescaped string.
+     * @throws IOException If the source cannot be read.
+     */
+    private String readString(char quote) throws IOException {
+        StringBuilder builder = null;
+        int start = pos;
+        while (true) {
+            if (pos == limit) {
+                if (builder == null) {
+                    builder = new StringBuilder();
+                }
+                builder.append(buffer, start, pos - start);
+                if (!fill()) {
+                    throw syntax("Unterminated string");
+                }
+                start = pos;
+            }
+            char c = buffer[pos++];
+            if (c == quote) {
+                if (builder == null) {
+                    return new String(buffer, start, pos - start - 1);
+                }
+                return builder.append(buffer, start, pos - start - 1).toString();
+            }
+            if (c == '\\') {
+                if (builder == null) {
+                    builder = new StringBuilder();
+                }
+                builder.append(buffer, start, pos - start - 1).append(readEscape());
+                start = pos;
+            } else if (c == '\n' || c == '\r' || c == 0) {
+                throw syntax("Unterminated string");
+            }
+        }
+    }
+
+    /**
+     * Reads the character of an escape sequence, after its backslash.
+     *
+     * @return The escaped character.
+     * @throws IOException If the source cannot be read.
+     */
+    private char readEscape() throws IOException {
+        int c = read();
+        switch (c) {
+            case 'b':
+                return '\b';
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'f':
+                return '\f';
+            case 'r':
+                return '\r';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw syntax("Illegal escape");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            case '"':
+            case '\'':
+            case '\\':
+            case '/':
+                return (char) c;
+            default:
+                throw syntax("Illegal escape");
+        }
+    }
+
+    /**
+     * Consumes the next character.
+     *
+     * @return The character, or -1 at the end of the source.
+     * @throws IOException If the source cannot be read.
+     */
+    private int read() throws IOException {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        return buffer[pos++];
+    }
+
+    /**
+     * Skips whitespace and consumes the next character.
+     *
+     * @return The character, or -1 at the end of the source.
+     * @throws IOException If the source cannot be read.
+     */
+    private int nextChar() throws IOException {
+        int c = peekChar();
+        if (c != -1) {
+            pos++;
+        }
+        return c;
+    }
+
+    /**
+     * Skips whitespace and retrieves the next character without consuming it.
+     *
+     * @return The character, or -1 at the end of the source.
+     * @throws IOException If the source cannot be read.
+     */
+    private int peekChar() throws IOException {
+        while (true) {
+            if (pos == limit && !fill()) {
+                return -1;
+            }
+            char c = buffer[pos];
+            if (c > ' ') {
+                return c;
+            }
+            pos++;
+        }
+    }
+
+    /**
+     * Refills the buffer from the source.
+     *
+     * @return true if characters were read, false at the end of the source.
+     * @throws IOException If the source cannot be read.
+     */
+    private boolean fill() throws IOException {
+        offset += limit;
+        pos = 0;
+        limit = 0;
+        int read;
+        do {
+            read = in.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        if (read < 0) {
+            return false;
+        }
+        limit = read;
+        return true;
+    }
+
+    /**
+     * Creates an exception for malformed input at the current position.
+     *
+     * @param message The description of the error.
+     * @return The exception.
+     */
+    private JSONException syntax(String message) {
+        return new JSONException(message + " at " + (offset + pos));
+    }
+}
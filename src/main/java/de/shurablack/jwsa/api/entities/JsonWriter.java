@@ -0,0 +1,416 @@
+package de.shurablack.jwsa.api.entities;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONString;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Writes compact JSON directly to an {@link Appendable}, without building a {@link JSONObject} tree first.
+ * Strings and numbers are formatted like org.json does, so the output of an entity matches the string
+ * representation of its {@link IJsonMapping#serialize()} result.
+ * <pre>{@code
+ * writer.beginObject()
+ *         .field("name", name)
+ *         .field("tradable", tradable)
+ *         .name("tags").value(tags)
+ *         .endObject();
+ * }</pre>
+ */
+public class JsonWriter {
+
+    /** The target of the written JSON. */
+    private final Appendable out;
+
+    /** Whether the current object or array of each nesting level is still empty. */
+    private boolean[] empty = new boolean[16];
+
+    /** The current nesting level. */
+    private int depth;
+
+    /** Whether a name was written and its value is expected next. */
+    private boolean afterName;
+
+    /**
+     * Creates a new writer.
+     *
+     * @param out The target of the written JSON.
+     */
+    public JsonWriter(Appendable out) {
+        this.out = out;
+    }
+
+    /**
+     * Starts a JSON object.
+     *
+     * @return This writer.
+     * @throws IOException If the target cannot be written.
+     */
+    public JsonWriter beginObject() throws IOException {
+        return open('{');
+    }
+
+    /**
+     * Ends the current JSON object.
+     *
+     * @return This writer.
+     * @throws IOException If the target cannot be written.
+     */
+    public JsonWriter endObject() throws IOException {
+        return close('}');
+    }
+
+    /**
+     * Starts a JSON array.
+     *
+     * @return This writer.
+     * @throws IOException If the target cannot be written.
+     */
+    public JsonWriter beginArray() throws IOException {
+        return open('[');
+    }
+
+    /**
+     * Ends the current JSON array.
+     *
+     * @return This writer.
+     * @throws IOException If the target cannot be written.
+     */
+    public JsonWriter endArray() throws IOException {
+        return close(']');
+    }
+
+    /**
+     * Writes the name of the next member of the current object.
+     *
+     * @param name The name of the member.
+     * @return This writer.
+     * @throws IOException If the target cannot be written.
+     */
+    public JsonWriter name(String name) throws IOException {
+        separate();
+        quote(name);
+        out.append(':');
+        afterName = true;
+        return this;
+    }
+
+    /**
+     * Writes a string value.
+     *
+     * @param value The value, written as null if absent.
+     * @return This writer.
+     * @throws IOException If the target cannot be written.
+     */
+    public JsonWriter value(String value) throws IOException {
+        separate();
+        if (value == null) {
+            out.append("null");
+        } else {
+            quote(value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes a number value.
+     *
+     * @param value The value, written as null if absent or not finite.
+     * @return This writer.
+     * @throws IOException If the target cannot be written.
+     */
+    public JsonWriter value(Number value) throws IOException {
+        separate();
+        if (value == null || value instanceof Double && !Double.isFinite((Double) value)
+                || value instanceof Float && !Float.isFinite((Float) value)) {
+            out.append("null");
+        } else {
+            out.append(JSONObject.numberToString(value));
+        }
+        return this;
+    }
+
+    /**
+     * Writes a boolean value.
+     *
+     * @param value The value.
+     * @return This writer.
+     * @throws IOException If the target cannot be written.
+     */
+    public JsonWriter value(boolean value) throws IOException {
+        separate();
+        out.append(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Writes a null value.
+     *
+     * @return This writer.
+     * @throws IOException If the target cannot be written.
+     */
+    public JsonWriter nullValue() throws IOException {
+        separate();
+        out.append("null");
+        return this;
+    }
+
+    /**
+     * Writes an entity through its {@link IJsonMapping#writeJson(JsonWriter)} method.
+     *
+     * @param value The entity, written as null if absent.
+     * @return This writer.
+     * @throws IOException If the target cannot be written.
+     */
+    public JsonWriter value(IJsonMapping value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        value.writeJson(this);
+        return this;
+    }
+
+    /**
+     * Writes an arbitrary value like org.json would: entities, JSON objects and arrays, maps, collections and
+     * arrays are written recursively, enums by name and unknown objects as their string representation.
+     *
+     * @param value The value, written as null if absent.
+     * @return This writer.
+     * @throws IOException If the target cannot be written.
+     */
+    public JsonWriter value(Object value) throws IOException {
+        if (value == null || JSONObject.NULL.equals(value)) {
+            return nullValue();
+        }
+        if (value instanceof String) {
+            return value((String) value);
+        }
+        if (value instanceof Number) {
+            return value((Number) value);
+        }
+        if (value instanceof Boolean) {
+            return value(((Boolean) value).booleanValue());
+        }
+        if (value instanceof IJsonMapping) {
+            return value((IJsonMapping) value);
+        }
+        if (value instanceof Enum) {
+            return value(((Enum<?>) value).name());
+        }
+        if (value instanceof JSONString) {
+            separate();
+            out.append(((JSONString) value).toJSONString());
+            return this;
+        }
+        if (value instanceof JSONObject) {
+            JSONObject object = (JSONObject) value;
+            beginObject();
+            for (String key : object.keySet()) {
+                name(key).value(object.opt(key));
+            }
+            return endObject();
+        }
+        if (value instanceof Map) {
+            beginObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (entry.getValue() != null) {
+                    name(String.valueOf(entry.getKey())).value(entry.getValue());
+                }
+            }
+            return endObject();
+        }
+        if (value instanceof JSONArray) {
+            beginArray();
+            for (Object element : (JSONArray) value) {
+                value(element);
+            }
+            return endArray();
+        }
+        if (value instanceof Collection) {
+            beginArray();
+            for (Object element : (Collection<?>) value) {
+                value(element);
+            }
+            return endArray();
+        }
+        if (value.getClass().isArray()) {
+            beginArray();
+            for (int i = 0; i < Array.getLength(value); i++) {
+                value(Array.get(value, i));
+            }
+            return endArray();
+        }
+        return value(value.toString());
+    }
+
+    /**
+     * Writes a member with a string value.
+     *
+     * @param name  The name of the member.
+     * @param value The value, written as null if absent.
+     * @return This writer.
+     * @throws IOException If the target cannot be written.
+     */
+    public JsonWriter field(String name, String value) throws IOException {
+        return name(name).value(value);
+    }
+
+    /**
+     * Writes a member with a number value.
+     *
+     * @param name  The name of the member.
+     * @param value The value, written as null if absent.
+     * @return This writer.
+     * @throws IOException If the target cannot be written.
+     */
+    public JsonWriter field(String name, Number value) throws IOException {
+        return name(name).value(value);
+    }
+
+    /**
+     * Writes a member with a boolean value.
+     *
+     * @param name  The name of the member.
+     * @param value The value.
+     * @return This writer.
+     * @throws IOException If the target cannot be written.
+     */
+    public JsonWriter field(String name, boolean value) throws IOException {
+        return name(name).value(value);
+    }
+
+    /**
+     * Writes a member with an arbitrary value, see {@link #value(Object)}.
+     *
+     * @param name  The name of the member.
+     * @param value The value, written as null if absent.
+     * @return This writer.
+     * @throws IOException If the target cannot be written.
+     */
+    public JsonWriter field(String name, Object value) throws IOException {
+        return name(name).value(value);
+    }
+
+    /**
+     * Writes a member only if its value is present, like {@link JSONObject#put(String, Object)} drops null values.
+     *
+     * @param name  The name of the member.
+     * @param value The value, or null to skip the member.
+     * @return This writer.
+     * @throws IOException If the target cannot be written.
+     */
+    public JsonWriter optField(String name, Object value) throws IOException {
+        return value == null ? this : name(name).value(value);
+    }
+
+    /**
+     * Starts an object or array.
+     *
+     * @param bracket The opening bracket.
+     * @return This writer.
+     * @throws IOException If the target cannot be written.
+     */
+    private JsonWriter open(char bracket) throws IOException {
+        separate();
+        out.append(bracket);
+        if (++depth == empty.length) {
+            empty = Arrays.copyOf(empty, depth * 2);
+        }
+        empty[depth] = true;
+        return this;
+    }
+
+    /**
+     * Ends an object or array.
+     *
+     * @param bracket The closing bracket.
+     * @return This writer.
+     * @throws IOException If the target cannot be written.
+     */
+    private JsonWriter close(char bracket) throws IOException {
+        if (depth == 0) {
+            throw new IllegalStateException("No open object or array");
+        }
+        depth--;
+        out.append(bracket);
+        return this;
+    }
+
+    /**
+     * Writes the comma before the next value or member if required.
+     *
+     * @throws IOException If the target cannot be written.
+     */
+    private void separate() throws IOException {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (depth > 0) {
+            if (!empty[depth]) {
+                out.append(',');
+            }
+            empty[depth] = false;
+        }
+    }
+
+    /**
+     * Writes a quoted and escaped string like {@link JSONObject#quote(String)}.
+     *
+     * @param string The string.
+     * @throws IOException If the target cannot be written.
+     */
+    private void quote(String string) throws IOException {
+        out.append('"');
+        char previous;
+        char c = 0;
+        for (int i = 0; i < string.length(); i++) {
+            previous = c;
+            c = string.charAt(i);
+            switch (c) {
+                case '\\':
+                case '"':
+                    out.append('\\').append(c);
+                    break;
+                case '/':
+                    if (previous == '<') {
+                        out.append('\\');
+                    }
+                    out.append(c);
+                    break;
+                case '\b':
+                    out.append("\\b");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\f':
+                    out.append("\\f");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                default:
+                    if (c < ' ' || c >= '\u0080' && c < '\u00a0' || c >= '\u2000' && c < '\u2100') {
+                        String hex = Integer.toHexString(c);
+                        out.append("\\u");
+                        for (int pad = hex.length(); pad < 4; pad++) {
+                            out.append('0');
+                        }
+                        out.append(hex);
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+}
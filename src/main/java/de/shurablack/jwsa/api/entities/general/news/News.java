@@ -10,6 +10,7 @@ import org.json.JSONObject;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -99,7 +100,7 @@ public class News implements Serializable, IJsonMapping {
      * @return A list of News objects representing the latest news items.
      */
     public static List<News> request() {
-        List<News> newsList = Requests.withListMapping(News.class, Paths.NEWS);
+        List<News> newsList = new ArrayList<>(Requests.withListMapping(News.class, Paths.NEWS));
 
         final LocalDateTime ninetyDaysAgo = LocalDateTime.now().minusDays(90);
         newsList.removeIf(news -> news.getDate().isBefore(ninetyDaysAgo));
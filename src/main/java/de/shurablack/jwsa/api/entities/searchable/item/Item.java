@@ -5,8 +5,11 @@ import de.shurablack.jwsa.api.entities.searchable.others.Introduced;
 import de.shurablack.jwsa.api.entities.searchable.others.Component;
 import de.shurablack.jwsa.api.entities.searchable.others.Patchlog;
 import de.shurablack.jwsa.api.requests.Paths;
+import de.shurablack.jwsa.api.requests.Projection;
 import de.shurablack.jwsa.api.requests.Requests;
 import de.shurablack.jwsa.api.requests.url.Encoder;
+import de.shurablack.jwsa.api.utils.Compaction;
+import de.shurablack.jwsa.api.utils.LazyLoading;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -14,8 +17,9 @@ import org.json.JSONObject;
 
 import java.io.Serializable;
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -72,27 +76,17 @@ public class Item implements Serializable, IJsonMapping {
         String name = object.optString("name", null);
         String uniqueName = object.optString("uniqueName", null);
         String description = object.optString("description", null);
-        String type = object.optString("type", null);
+        String type = Compaction.string(object.optString("type", null));
         boolean tradable = object.optBoolean("tradable", false);
-        String category = object.optString("category", null);
-        String productCategory = object.optString("productCategory", null);
-
-        List<Patchlog> patchlogs = new ArrayList<>();
-        if (object.has("patchlogs")) {
-            for (Object patchlogObj : object.getJSONArray("patchlogs")) {
-                patchlogs.add(Patchlog.deserialize((JSONObject) patchlogObj));
-            }
-        }
-        List<Component> components = new ArrayList<>();
-        if (object.has("components")) {
-            for (Object componentObj : object.getJSONArray("components")) {
-                components.add(Component.deserialize((JSONObject) componentObj));
-            }
-        }
+        String category = Compaction.string(object.optString("category", null));
+        String productCategory = Compaction.string(object.optString("productCategory", null));
+
+        List<Patchlog> patchlogs = LazyLoading.list(object.optJSONArray("patchlogs"), Patchlog::deserialize);
+        List<Component> components = LazyLoading.list(object.optJSONArray("components"), Component::deserialize);
         Introduced introduced = Introduced.deserialize(object.optJSONObject("introduced"));
         LocalDate estimatedVaultDate = LocalDate.parse(object.optString("estimatedVaultDate", "1970-01-01"));
 
-        return new Item(name, uniqueName, description, type, tradable, category, productCategory, patchlogs, components, introduced, estimatedVaultDate);
+        return new Item(name, uniqueName, description, type, tradable, category, productCategory, Compaction.list(patchlogs), Compaction.list(components), introduced, estimatedVaultDate);
     }
 
     /**
@@ -145,4 +139,37 @@ public class Item implements Serializable, IJsonMapping {
         return Requests.withListMapping(Item.class, String.format(Paths.SEARCH_CLOSEST_ITEMS, Encoder.encode(query)));
     }
 
-}
\ No newline at end of file
+    /**
+     * Requests an item by its query string, only retrieving the fields of the given projection.
+     *
+     * @param query      The query string to search for the item.
+     * @param projection The projection limiting the returned fields.
+     * @return The {@link Item} instance matching the query.
+     */
+    public static Item request(String query, Projection projection) {
+        return Requests.withDirectMapping(Item.class, String.format(Paths.CLOSEST_ITEM, Encoder.encode(query)), projection);
+    }
+
+    /**
+     * Requests a list of items matching the query string, only retrieving the fields of the given projection.
+     *
+     * @param query      The query string to search for items.
+     * @param projection The projection limiting the returned fields.
+     * @return A list of {@link Item} instances matching the query.
+     */
+    public static List<Item> requestAll(String query, Projection projection) {
+        return Requests.withListMapping(Item.class, String.format(Paths.SEARCH_CLOSEST_ITEMS, Encoder.encode(query)), projection);
+    }
+
+    /**
+     * Requests the closest {@link Item} for each of the given queries concurrently.
+     * Queries are normalized and deduplicated, see {@link Requests#withDirectBatch(Class, String, Collection)}.
+     *
+     * @param queries The query strings to search for items.
+     * @return A map of each normalized query to the {@link Item} matching it.
+     */
+    public static Map<String, Item> requestBatch(Collection<String> queries) {
+        return Requests.withDirectBatch(Item.class, Paths.CLOSEST_ITEM, queries);
+    }
+
+}
@@ -11,7 +11,9 @@ import lombok.Getter;
 import org.json.JSONObject;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents an item drop in the game, including details such as the item name, drop chance,
@@ -75,4 +77,15 @@ public class ItemDrop implements Serializable, IJsonMapping {
     public static List<ItemDrop> request(String query) {
         return Requests.withListMapping(ItemDrop.class, String.format(Paths.SEARCH_DROP, Encoder.encode(query)));
     }
-}
\ No newline at end of file
+
+    /**
+     * Requests the item drops for each of the given queries concurrently.
+     * Queries are normalized and deduplicated, see {@link Requests#withListBatch(Class, String, Collection)}.
+     *
+     * @param queries The search queries for item drops.
+     * @return A map of each normalized query to the list of {@link ItemDrop} objects matching it.
+     */
+    public static Map<String, List<ItemDrop>> requestBatch(Collection<String> queries) {
+        return Requests.withListBatch(ItemDrop.class, Paths.SEARCH_DROP, queries);
+    }
+}
@@ -6,8 +6,11 @@ import de.shurablack.jwsa.api.entities.searchable.others.Introduced;
 import de.shurablack.jwsa.api.entities.searchable.others.Patchlog;
 import de.shurablack.jwsa.api.entities.searchable.others.types.Polarity;
 import de.shurablack.jwsa.api.requests.Paths;
+import de.shurablack.jwsa.api.requests.Projection;
 import de.shurablack.jwsa.api.requests.Requests;
 import de.shurablack.jwsa.api.requests.url.Encoder;
+import de.shurablack.jwsa.api.utils.Compaction;
+import de.shurablack.jwsa.api.utils.LazyLoading;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -15,7 +18,9 @@ import org.json.JSONObject;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -87,40 +92,30 @@ public class Mod implements Serializable, IJsonMapping {
         String name = object.optString("name", null);
         String uniqueName = object.optString("uniqueName", null);
         String description = object.optString("description", null);
-        String type = object.optString("type", null);
+        String type = Compaction.string(object.optString("type", null));
         boolean tradable = object.optBoolean("tradable", false);
-        String category = object.optString("category", null);
-        String productCategory = object.optString("productCategory", null);
+        String category = Compaction.string(object.optString("category", null));
+        String productCategory = Compaction.string(object.optString("productCategory", null));
 
-        List<Patchlog> patchlogs = new ArrayList<>();
-        if (object.has("patchlogs")) {
-            for (Object patchlogObj : object.getJSONArray("patchlogs")) {
-                patchlogs.add(Patchlog.deserialize((JSONObject) patchlogObj));
-            }
-        }
-        List<Component> components = new ArrayList<>();
-        if (object.has("components")) {
-            for (Object componentObj : object.getJSONArray("components")) {
-                components.add(Component.deserialize((JSONObject) componentObj));
-            }
-        }
+        List<Patchlog> patchlogs = LazyLoading.list(object.optJSONArray("patchlogs"), Patchlog::deserialize);
+        List<Component> components = LazyLoading.list(object.optJSONArray("components"), Component::deserialize);
         Introduced introduced = Introduced.deserialize(object.optJSONObject("introduced"));
         int baseDrain = object.optInt("baseDrain", -1);
-        String compatName = object.optString("compatName", null);
+        String compatName = Compaction.string(object.optString("compatName", null));
         int fusionLimit = object.optInt("fusionLimit", -1);
         List<List<String>> levelStats = new ArrayList<>();
         if (object.has("levelStats")) {
             for (Object levelStatObj : object.getJSONArray("levelStats")) {
                 List<String> stats = ((JSONObject) levelStatObj).getJSONArray("stats").toList().stream()
                         .map(Object::toString).collect(Collectors.toList());
-                levelStats.add(stats);
+                levelStats.add(Compaction.strings(stats));
             }
         }
         Polarity polarity = Polarity.fromString(object.optString("polarity", null));
         boolean transmutable = object.optBoolean("transmutable", false);
 
-        return new Mod(name, uniqueName, description, type, tradable, category, productCategory, patchlogs,
-                components, introduced, baseDrain, compatName, fusionLimit, levelStats,
+        return new Mod(name, uniqueName, description, type, tradable, category, productCategory, Compaction.list(patchlogs),
+                Compaction.list(components), introduced, baseDrain, compatName, fusionLimit, Compaction.list(levelStats),
                 polarity, transmutable);
     }
 
@@ -182,4 +177,37 @@ public class Mod implements Serializable, IJsonMapping {
         return Requests.withListMapping(Mod.class, String.format(Paths.SEARCH_CLOSEST_MODS, Encoder.encode(query)));
     }
 
-}
\ No newline at end of file
+    /**
+     * Requests a mod by its query string, only retrieving the fields of the given projection.
+     *
+     * @param query      The query string to search for the mod.
+     * @param projection The projection limiting the returned fields.
+     * @return The {@link Mod} instance matching the query.
+     */
+    public static Mod request(String query, Projection projection) {
+        return Requests.withDirectMapping(Mod.class, String.format(Paths.CLOSEST_MOD, Encoder.encode(query)), projection);
+    }
+
+    /**
+     * Requests a list of mods matching the query string, only retrieving the fields of the given projection.
+     *
+     * @param query      The query string to search for mods.
+     * @param projection The projection limiting the returned fields.
+     * @return A list of {@link Mod} instances matching the query.
+     */
+    public static List<Mod> requestAll(String query, Projection projection) {
+        return Requests.withListMapping(Mod.class, String.format(Paths.SEARCH_CLOSEST_MODS, Encoder.encode(query)), projection);
+    }
+
+    /**
+     * Requests the closest {@link Mod} for each of the given queries concurrently.
+     * Queries are normalized and deduplicated, see {@link Requests#withDirectBatch(Class, String, Collection)}.
+     *
+     * @param queries The query strings to search for mods.
+     * @return A map of each normalized query to the {@link Mod} matching it.
+     */
+    public static Map<String, Mod> requestBatch(Collection<String> queries) {
+        return Requests.withDirectBatch(Mod.class, Paths.CLOSEST_MOD, queries);
+    }
+
+}
@@ -1,11 +1,15 @@
 package de.shurablack.jwsa.api.entities.searchable.others;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
 import de.shurablack.jwsa.api.entities.searchable.warframe.sub.Drop;
+import de.shurablack.jwsa.api.utils.Compaction;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
@@ -56,10 +60,10 @@ public class AltComponent implements Serializable, IJsonMapping {
             return null;
         }
 
-        String name = object.optString("name", null);
-        String uniqueName = object.optString("uniqueName", null);
-        String description = object.optString("description", null);
-        String imageName = object.optString("imageName", null);
+        String name = Compaction.string(object.optString("name", null));
+        String uniqueName = Compaction.string(object.optString("uniqueName", null));
+        String description = Compaction.string(object.optString("description", null));
+        String imageName = Compaction.string(object.optString("imageName", null));
         boolean tradable = object.optBoolean("tradable", false);
         Number itemCount = object.optNumber("itemCount", -1);
         Number ducats = object.optNumber("ducats", -1);
@@ -70,7 +74,65 @@ public class AltComponent implements Serializable, IJsonMapping {
             });
         }
 
-        return new AltComponent(name, uniqueName, description, imageName, tradable, itemCount, ducats, drops);
+        return new AltComponent(name, uniqueName, description, imageName, tradable, itemCount, ducats, Compaction.list(drops));
+    }
+
+    /**
+     * Reads an instance of {@link AltComponent} from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing component data.
+     * @return An instance of {@link AltComponent} populated with data from the JSON value, or null if the value is null.
+     * @throws IOException If the source cannot be read.
+     */
+    public static AltComponent read(JsonReader reader) throws IOException {
+        if (reader.skipNull()) {
+            return null;
+        }
+
+        String name = null;
+        String uniqueName = null;
+        String description = null;
+        String imageName = null;
+        boolean tradable = false;
+        Number itemCount = -1;
+        Number ducats = -1;
+        List<Drop> drops = new ArrayList<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    name = Compaction.string(reader.nextString());
+                    break;
+                case "uniqueName":
+                    uniqueName = Compaction.string(reader.nextString());
+                    break;
+                case "description":
+                    description = Compaction.string(reader.nextString());
+                    break;
+                case "imageName":
+                    imageName = Compaction.string(reader.nextString());
+                    break;
+                case "tradable":
+                    tradable = reader.nextBoolean();
+                    break;
+                case "itemCount":
+                    itemCount = reader.nextNumber(-1);
+                    break;
+                case "ducats":
+                    ducats = reader.nextNumber(-1);
+                    break;
+                case "drops":
+                    drops = reader.nextList(Drop::read);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new AltComponent(name, uniqueName, description, imageName, tradable, itemCount, ducats, Compaction.list(drops));
     }
 
     /**
@@ -96,4 +158,26 @@ public class AltComponent implements Serializable, IJsonMapping {
         return object;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .field("name", name != null ? name : "")
+                .field("uniqueName", uniqueName != null ? uniqueName : "")
+                .field("description", description != null ? description : "")
+                .field("imageName", imageName != null ? imageName : "")
+                .field("tradable", tradable)
+                .field("itemCount", itemCount != null ? itemCount : -1)
+                .field("ducats", ducats != null ? ducats : -1);
+
+        if (drops != null && !drops.isEmpty()) {
+            writer.name("drops").beginArray();
+            for (Drop drop : drops) {
+                writer.value(drop);
+            }
+            writer.endArray();
+        }
+
+        writer.endObject();
+    }
+
 }
\ No newline at end of file
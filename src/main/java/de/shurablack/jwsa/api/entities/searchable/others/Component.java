@@ -1,6 +1,7 @@
 package de.shurablack.jwsa.api.entities.searchable.others;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.utils.Compaction;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.json.JSONObject;
@@ -49,13 +50,13 @@ public class Component implements Serializable, IJsonMapping {
             return null;
         }
 
-        String name = object.optString("name", null);
-        String uniqueName = object.optString("uniqueName", null);
-        String description = object.optString("description", null);
-        String type = object.optString("type", null);
+        String name = Compaction.string(object.optString("name", null));
+        String uniqueName = Compaction.string(object.optString("uniqueName", null));
+        String description = Compaction.string(object.optString("description", null));
+        String type = Compaction.string(object.optString("type", null));
         boolean tradeable = object.optBoolean("tradeable", false);
-        String category = object.optString("category", null);
-        String productCategory = object.optString("productCategory", null);
+        String category = Compaction.string(object.optString("category", null));
+        String productCategory = Compaction.string(object.optString("productCategory", null));
 
         return new Component(name, uniqueName, description, type, tradeable, category, productCategory);
     }
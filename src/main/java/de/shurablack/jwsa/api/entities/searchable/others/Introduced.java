@@ -1,10 +1,14 @@
 package de.shurablack.jwsa.api.entities.searchable.others;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
+import de.shurablack.jwsa.api.utils.Compaction;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.List;
@@ -46,14 +50,60 @@ public class Introduced implements Serializable, IJsonMapping {
             return null;
         }
 
-        String name = object.optString("name", null);
-        String url = object.optString("url", null);
+        String name = Compaction.string(object.optString("name", null));
+        String url = Compaction.string(object.optString("url", null));
         List<String> aliases = object.has("aliases") ? object.getJSONArray("aliases").toList().stream()
                 .map(Object::toString).collect(Collectors.toList()) : List.of();
-        String parent = object.optString("parent", null);
+        String parent = Compaction.string(object.optString("parent", null));
         LocalDate date = LocalDate.parse(object.optString("date", "1970-01-01"));
 
-        return new Introduced(name, url, aliases, parent, date);
+        return new Introduced(name, url, Compaction.strings(aliases), parent, date);
+    }
+
+    /**
+     * Reads an instance of {@link Introduced} from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing introduction data.
+     * @return An instance of {@link Introduced} populated with data from the JSON value, or null if the value is null.
+     * @throws IOException If the source cannot be read.
+     */
+    public static Introduced read(JsonReader reader) throws IOException {
+        if (reader.skipNull()) {
+            return null;
+        }
+
+        String name = null;
+        String url = null;
+        List<String> aliases = List.of();
+        String parent = null;
+        String date = "1970-01-01";
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    name = Compaction.string(reader.nextString());
+                    break;
+                case "url":
+                    url = Compaction.string(reader.nextString());
+                    break;
+                case "aliases":
+                    aliases = reader.nextList(JsonReader::nextString);
+                    break;
+                case "parent":
+                    parent = Compaction.string(reader.nextString());
+                    break;
+                case "date":
+                    date = reader.nextString("1970-01-01");
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Introduced(name, url, Compaction.strings(aliases), parent, LocalDate.parse(date));
     }
 
     /**
@@ -72,4 +122,15 @@ public class Introduced implements Serializable, IJsonMapping {
         return object;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .field("name", name)
+                .field("url", url)
+                .optField("aliases", aliases)
+                .field("parent", parent)
+                .field("date", date != null ? date.toString() : null)
+                .endObject();
+    }
+
 }
\ No newline at end of file
@@ -1,11 +1,15 @@
 package de.shurablack.jwsa.api.entities.searchable.others;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
+import de.shurablack.jwsa.api.utils.Compaction;
 import de.shurablack.jwsa.api.utils.ServerOffsetTime;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 
@@ -47,9 +51,9 @@ public class Patchlog implements Serializable, IJsonMapping {
             return null;
         }
 
-        String name = object.optString("name", null);
+        String name = Compaction.string(object.optString("name", null));
         LocalDateTime date = ServerOffsetTime.of(object.optString("date", null));
-        String url = object.optString("url", null);
+        String url = Compaction.string(object.optString("url", null));
         String additions = object.optString("additions", null);
         String changes = object.optString("changes", null);
         String fixes = object.optString("fixes", null);
@@ -57,6 +61,56 @@ public class Patchlog implements Serializable, IJsonMapping {
         return new Patchlog(name, date, url, additions, changes, fixes);
     }
 
+    /**
+     * Reads an instance of {@link Patchlog} from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing patchlog data.
+     * @return An instance of {@link Patchlog} populated with data from the JSON value, or null if the value is null.
+     * @throws IOException If the source cannot be read.
+     */
+    public static Patchlog read(JsonReader reader) throws IOException {
+        if (reader.skipNull()) {
+            return null;
+        }
+
+        String name = null;
+        LocalDateTime date = null;
+        String url = null;
+        String additions = null;
+        String changes = null;
+        String fixes = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    name = Compaction.string(reader.nextString());
+                    break;
+                case "date":
+                    date = ServerOffsetTime.of(reader.nextString());
+                    break;
+                case "url":
+                    url = Compaction.string(reader.nextString());
+                    break;
+                case "additions":
+                    additions = reader.nextString();
+                    break;
+                case "changes":
+                    changes = reader.nextString();
+                    break;
+                case "fixes":
+                    fixes = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Patchlog(name, date, url, additions, changes, fixes);
+    }
+
     /**
      * Serializes this {@link Patchlog} instance into a JSON object.
      *
@@ -74,4 +128,16 @@ public class Patchlog implements Serializable, IJsonMapping {
         return jsonObject;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .field("name", name)
+                .field("date", date != null ? date.toString() : null)
+                .field("url", url)
+                .field("additions", additions)
+                .field("changes", changes)
+                .field("fixes", fixes)
+                .endObject();
+    }
+
 }
\ No newline at end of file
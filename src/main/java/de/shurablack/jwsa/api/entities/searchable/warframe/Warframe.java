@@ -1,22 +1,30 @@
 package de.shurablack.jwsa.api.entities.searchable.warframe;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
 import de.shurablack.jwsa.api.entities.searchable.others.AltComponent;
 import de.shurablack.jwsa.api.entities.searchable.others.Introduced;
 import de.shurablack.jwsa.api.entities.searchable.others.Patchlog;
 import de.shurablack.jwsa.api.entities.searchable.warframe.sub.Ability;
 import de.shurablack.jwsa.api.requests.Paths;
+import de.shurablack.jwsa.api.requests.Projection;
 import de.shurablack.jwsa.api.requests.Requests;
 import de.shurablack.jwsa.api.requests.url.Encoder;
+import de.shurablack.jwsa.api.utils.Compaction;
+import de.shurablack.jwsa.api.utils.LazyLoading;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -158,10 +166,10 @@ public class Warframe implements Serializable, IJsonMapping {
         String uniqueName = object.optString("uniqueName", null);
         String description = object.optString("description", null);
         String passiveDescription = object.optString("passiveDescription", null);
-        String type = object.optString("type", null);
-        String sex = object.optString("sex", null);
-        String category = object.optString("category", null);
-        String productCategory = object.optString("productCategory", null);
+        String type = Compaction.string(object.optString("type", null));
+        String sex = Compaction.string(object.optString("sex", null));
+        String category = Compaction.string(object.optString("category", null));
+        String productCategory = Compaction.string(object.optString("productCategory", null));
         boolean tradable = object.optBoolean("tradable", false);
         boolean prime = object.optBoolean("isPrime", false);
         boolean masterable = object.optBoolean("masterable", false);
@@ -181,29 +189,14 @@ public class Warframe implements Serializable, IJsonMapping {
         Number health = object.optNumber("health", -1);
         Number armor = object.optNumber("armor", -1);
         Number power = object.optNumber("power", -1);
-        String aura = object.optString("aura", null);
+        String aura = Compaction.string(object.optString("aura", null));
         List<String> polarities = object.has("polarities") ? object.getJSONArray("polarities").toList().stream()
                 .map(Object::toString).collect(Collectors.toList()) : new ArrayList<>();
         List<String> exalted = object.has("exalted") ? object.getJSONArray("exalted").toList().stream()
                 .map(Object::toString).collect(Collectors.toList()) : new ArrayList<>();
-        List<Ability> abilities = new ArrayList<>();
-        if (object.has("abilities")) {
-            for (Object abilityObj : object.getJSONArray("abilities")) {
-                abilities.add(Ability.deserialize((JSONObject) abilityObj));
-            }
-        }
-        List<Patchlog> patchlogs = new ArrayList<>();
-        if (object.has("patchlogs")) {
-            for (Object patchlogObj : object.getJSONArray("patchlogs")) {
-                patchlogs.add(Patchlog.deserialize((JSONObject) patchlogObj));
-            }
-        }
-        List<AltComponent> components = new ArrayList<>();
-        if (object.has("components")) {
-            for (Object componentObj : object.getJSONArray("components")) {
-                components.add(AltComponent.deserialize((JSONObject) componentObj));
-            }
-        }
+        List<Ability> abilities = LazyLoading.list(object.optJSONArray("abilities"), Ability::deserialize);
+        List<Patchlog> patchlogs = LazyLoading.list(object.optJSONArray("patchlogs"), Patchlog::deserialize);
+        List<AltComponent> components = LazyLoading.list(object.optJSONArray("components"), AltComponent::deserialize);
         Introduced introduced = Introduced.deserialize(object.optJSONObject("introduced", null));
         Number bpCost = object.optNumber("bpCost", -1);
         Number buildPrice = object.optNumber("buildPrice", -1);
@@ -213,11 +206,203 @@ public class Warframe implements Serializable, IJsonMapping {
 
         return new Warframe(name, uniqueName, description, passiveDescription, type, sex, category, productCategory,
                 tradable, prime, masterable, vaulted, conclave, masteryReq, releaseDate, estimatedVaultDate, vaultDate, imageName, wikiaUrl,
-                color, sprint, sprintSpeed, stamina, shield, health, armor, power, aura, polarities, exalted,
-                abilities, patchlogs, components, introduced, bpCost, buildPrice, buildTime, marketCost,
+                color, sprint, sprintSpeed, stamina, shield, health, armor, power, aura, Compaction.strings(polarities), Compaction.strings(exalted),
+                Compaction.list(abilities), Compaction.list(patchlogs), Compaction.list(components), introduced, bpCost, buildPrice, buildTime, marketCost,
                 skipBuildTimePrice);
     }
 
+    /**
+     * Reads an instance of {@link Warframe} from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing warframe data.
+     * @return An instance of {@link Warframe} populated with data from the JSON object.
+     * @throws IOException If the source cannot be read.
+     */
+    public static Warframe read(JsonReader reader) throws IOException {
+        String name = null;
+        String uniqueName = null;
+        String description = null;
+        String passiveDescription = null;
+        String type = null;
+        String sex = null;
+        String category = null;
+        String productCategory = null;
+        boolean tradable = false;
+        boolean prime = false;
+        boolean masterable = false;
+        boolean vaulted = false;
+        boolean conclave = false;
+        Number masteryReq = -1;
+        LocalDate releaseDate = null;
+        LocalDate estimatedVaultDate = null;
+        LocalDate vaultDate = null;
+        String imageName = null;
+        String wikiaUrl = null;
+        Number color = -1;
+        Number sprint = -1;
+        Number sprintSpeed = -1;
+        Number stamina = -1;
+        Number shield = -1;
+        Number health = -1;
+        Number armor = -1;
+        Number power = -1;
+        String aura = null;
+        List<String> polarities = new ArrayList<>();
+        List<String> exalted = new ArrayList<>();
+        List<Ability> abilities = new ArrayList<>();
+        List<Patchlog> patchlogs = new ArrayList<>();
+        List<AltComponent> components = new ArrayList<>();
+        Introduced introduced = null;
+        Number bpCost = -1;
+        Number buildPrice = -1;
+        Number buildTime = -1;
+        Number marketCost = -1;
+        Number skipBuildTimePrice = -1;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    name = reader.nextString();
+                    break;
+                case "uniqueName":
+                    uniqueName = reader.nextString();
+                    break;
+                case "description":
+                    description = reader.nextString();
+                    break;
+                case "passiveDescription":
+                    passiveDescription = reader.nextString();
+                    break;
+                case "type":
+                    type = Compaction.string(reader.nextString());
+                    break;
+                case "sex":
+                    sex = Compaction.string(reader.nextString());
+                    break;
+                case "category":
+                    category = Compaction.string(reader.nextString());
+                    break;
+                case "productCategory":
+                    productCategory = Compaction.string(reader.nextString());
+                    break;
+                case "tradable":
+                    tradable = reader.nextBoolean();
+                    break;
+                case "isPrime":
+                    prime = reader.nextBoolean();
+                    break;
+                case "masterable":
+                    masterable = reader.nextBoolean();
+                    break;
+                case "vaulted":
+                    vaulted = reader.nextBoolean();
+                    break;
+                case "conclave":
+                    conclave = reader.nextBoolean();
+                    break;
+                case "masteryReq":
+                    masteryReq = reader.nextNumber(-1);
+                    break;
+                case "releaseDate":
+                    releaseDate = date(reader.nextString());
+                    break;
+                case "estimatedVaultDate":
+                    estimatedVaultDate = date(reader.nextString());
+                    break;
+                case "vaultDate":
+                    vaultDate = date(reader.nextString());
+                    break;
+                case "imageName":
+                    imageName = reader.nextString();
+                    break;
+                case "wikiaUrl":
+                    wikiaUrl = reader.nextString();
+                    break;
+                case "color":
+                    color = reader.nextNumber(-1);
+                    break;
+                case "sprint":
+                    sprint = reader.nextNumber(-1);
+                    break;
+                case "sprintSpeed":
+                    sprintSpeed = reader.nextNumber(-1);
+                    break;
+                case "stamina":
+                    stamina = reader.nextNumber(-1);
+                    break;
+                case "shield":
+                    shield = reader.nextNumber(-1);
+                    break;
+                case "health":
+                    health = reader.nextNumber(-1);
+                    break;
+                case "armor":
+                    armor = reader.nextNumber(-1);
+                    break;
+                case "power":
+                    power = reader.nextNumber(-1);
+                    break;
+                case "aura":
+                    aura = Compaction.string(reader.nextString());
+                    break;
+                case "polarities":
+                    polarities = reader.nextList(JsonReader::nextString);
+                    break;
+                case "exalted":
+                    exalted = reader.nextList(JsonReader::nextString);
+                    break;
+                case "abilities":
+                    abilities = LazyLoading.read(reader, Ability::read);
+                    break;
+                case "patchlogs":
+                    patchlogs = LazyLoading.read(reader, Patchlog::read);
+                    break;
+                case "components":
+                    components = LazyLoading.read(reader, AltComponent::read);
+                    break;
+                case "introduced":
+                    introduced = Introduced.read(reader);
+                    break;
+                case "bpCost":
+                    bpCost = reader.nextNumber(-1);
+                    break;
+                case "buildPrice":
+                    buildPrice = reader.nextNumber(-1);
+                    break;
+                case "buildTime":
+                    buildTime = reader.nextNumber(-1);
+                    break;
+                case "marketCost":
+                    marketCost = reader.nextNumber(-1);
+                    break;
+                case "skipBuildTimePrice":
+                    skipBuildTimePrice = reader.nextNumber(-1);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Warframe(name, uniqueName, description, passiveDescription, type, sex, category, productCategory,
+                tradable, prime, masterable, vaulted, conclave, masteryReq, releaseDate, estimatedVaultDate, vaultDate, imageName, wikiaUrl,
+                color, sprint, sprintSpeed, stamina, shield, health, armor, power, aura, Compaction.strings(polarities), Compaction.strings(exalted),
+                Compaction.list(abilities), Compaction.list(patchlogs), Compaction.list(components), introduced, bpCost, buildPrice, buildTime, marketCost,
+                skipBuildTimePrice);
+    }
+
+    /**
+     * Parses an optional ISO date.
+     *
+     * @param date The date text, may be null.
+     * @return The parsed date, or null if the text is null.
+     */
+    private static LocalDate date(String date) {
+        return date != null ? LocalDate.parse(date) : null;
+    }
+
     /**
      * Serializes this {@link Warframe} instance into a JSON object.
      *
@@ -277,6 +462,85 @@ public class Warframe implements Serializable, IJsonMapping {
         return json;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .field("name", name)
+                .field("uniqueName", uniqueName)
+                .field("description", description)
+                .field("passiveDescription", passiveDescription)
+                .field("type", type)
+                .field("sex", sex)
+                .field("category", category)
+                .field("productCategory", productCategory)
+                .field("tradable", tradable)
+                .field("isPrime", prime)
+                .field("masterable", masterable)
+                .field("vaulted", vaulted)
+                .field("conclave", conclave)
+                .field("masteryReq", masteryReq)
+                .field("releaseDate", releaseDate != null ? releaseDate.toString() : null)
+                .field("estimatedVaultDate", estimatedVaultDate != null ? estimatedVaultDate.toString() : null)
+                .field("vaultDate", vaultDate != null ? vaultDate.toString() : null)
+                .field("imageName", imageName)
+                .field("wikiaUrl", wikiaUrl)
+                .field("color", color)
+                .field("sprint", sprint)
+                .field("sprintSpeed", sprintSpeed)
+                .field("stamina", stamina)
+                .field("shield", shield)
+                .field("health", health)
+                .field("armor", armor)
+                .field("power", power)
+                .field("aura", aura);
+
+        writer.name("polarities").beginArray();
+        if (polarities != null) {
+            for (String polarity : polarities) {
+                writer.value(polarity);
+            }
+        }
+        writer.endArray();
+
+        writer.name("exalted").beginArray();
+        if (exalted != null) {
+            for (String weapon : exalted) {
+                writer.value(weapon);
+            }
+        }
+        writer.endArray();
+
+        if (abilities != null) {
+            writer.name("abilities").beginArray();
+            for (Ability ability : abilities) {
+                writer.value(ability);
+            }
+            writer.endArray();
+        }
+        if (patchlogs != null) {
+            writer.name("patchlogs").beginArray();
+            for (Patchlog patchlog : patchlogs) {
+                writer.value(patchlog);
+            }
+            writer.endArray();
+        }
+        if (components != null) {
+            writer.name("components").beginArray();
+            for (AltComponent component : components) {
+                writer.value(component);
+            }
+            writer.endArray();
+        }
+        writer.optField("introduced", introduced);
+
+        writer.field("bpCost", bpCost)
+                .field("buildPrice", buildPrice)
+                .field("buildTime", buildTime)
+                .field("marketCost", marketCost)
+                .field("skipBuildTimePrice", skipBuildTimePrice)
+                .endObject();
+    }
+
     /**
      * Sends a request to retrieve a Warframe based on a search query.
      *
@@ -297,4 +561,37 @@ public class Warframe implements Serializable, IJsonMapping {
         return Requests.withListMapping(Warframe.class, String.format(Paths.SEARCH_CLOSEST_WARFRAMES, Encoder.encode(query)));
     }
 
-}
\ No newline at end of file
+    /**
+     * Requests a Warframe by its query string, only retrieving the fields of the given projection.
+     *
+     * @param query      The query string to search for the Warframe.
+     * @param projection The projection limiting the returned fields.
+     * @return The {@link Warframe} instance matching the query.
+     */
+    public static Warframe request(String query, Projection projection) {
+        return Requests.withDirectMapping(Warframe.class, String.format(Paths.CLOSEST_WARFRAME, Encoder.encode(query)), projection);
+    }
+
+    /**
+     * Requests a list of Warframes matching the query string, only retrieving the fields of the given projection.
+     *
+     * @param query      The query string to search for Warframes.
+     * @param projection The projection limiting the returned fields.
+     * @return A list of {@link Warframe} instances matching the query.
+     */
+    public static List<Warframe> requestAll(String query, Projection projection) {
+        return Requests.withListMapping(Warframe.class, String.format(Paths.SEARCH_CLOSEST_WARFRAMES, Encoder.encode(query)), projection);
+    }
+
+    /**
+     * Requests the closest {@link Warframe} for each of the given queries concurrently.
+     * Queries are normalized and deduplicated, see {@link Requests#withDirectBatch(Class, String, Collection)}.
+     *
+     * @param queries The query strings to search for Warframes.
+     * @return A map of each normalized query to the {@link Warframe} matching it.
+     */
+    public static Map<String, Warframe> requestBatch(Collection<String> queries) {
+        return Requests.withDirectBatch(Warframe.class, Paths.CLOSEST_WARFRAME, queries);
+    }
+
+}
@@ -1,10 +1,13 @@
 package de.shurablack.jwsa.api.entities.searchable.warframe.sub;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 /**
@@ -47,6 +50,48 @@ public class Ability implements Serializable, IJsonMapping {
         return new Ability(name, uniqueName, description, imageName);
     }
 
+    /**
+     * Reads an instance of {@link Ability} from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing ability data.
+     * @return An instance of {@link Ability} populated with data from the JSON value, or null if the value is null.
+     * @throws IOException If the source cannot be read.
+     */
+    public static Ability read(JsonReader reader) throws IOException {
+        if (reader.skipNull()) {
+            return null;
+        }
+
+        String name = null;
+        String uniqueName = null;
+        String description = null;
+        String imageName = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    name = reader.nextString();
+                    break;
+                case "uniqueName":
+                    uniqueName = reader.nextString();
+                    break;
+                case "description":
+                    description = reader.nextString();
+                    break;
+                case "imageName":
+                    imageName = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Ability(name, uniqueName, description, imageName);
+    }
+
     /**
      * Serializes this {@link Ability} instance into a JSON object.
      *
@@ -62,4 +107,14 @@ public class Ability implements Serializable, IJsonMapping {
         return object;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .field("name", name != null ? name : "")
+                .field("uniqueName", uniqueName != null ? uniqueName : "")
+                .field("description", description != null ? description : "")
+                .field("imageName", imageName != null ? imageName : "")
+                .endObject();
+    }
+
 }
\ No newline at end of file
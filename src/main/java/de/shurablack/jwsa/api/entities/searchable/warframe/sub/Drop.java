@@ -1,11 +1,15 @@
 package de.shurablack.jwsa.api.entities.searchable.warframe.sub;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
 import de.shurablack.jwsa.api.entities.searchable.others.types.Rarity;
+import de.shurablack.jwsa.api.utils.Compaction;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 /**
@@ -43,15 +47,61 @@ public class Drop implements Serializable, IJsonMapping {
             return null;
         }
 
-        String uniqueName = object.optString("uniqueName", null);
+        String uniqueName = Compaction.string(object.optString("uniqueName", null));
         Rarity rarity = Rarity.fromString(object.optString("rarity", null));
-        String type = object.optString("type", null);
-        String location = object.optString("location", null);
+        String type = Compaction.string(object.optString("type", null));
+        String location = Compaction.string(object.optString("location", null));
         Number chance = object.optNumber("chance", -1.0);
 
         return new Drop(uniqueName, rarity, type, location, chance);
     }
 
+    /**
+     * Reads an instance of {@link Drop} from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing drop data.
+     * @return An instance of {@link Drop} populated with data from the JSON value, or null if the value is null.
+     * @throws IOException If the source cannot be read.
+     */
+    public static Drop read(JsonReader reader) throws IOException {
+        if (reader.skipNull()) {
+            return null;
+        }
+
+        String uniqueName = null;
+        String rarity = null;
+        String type = null;
+        String location = null;
+        Number chance = -1.0;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "uniqueName":
+                    uniqueName = Compaction.string(reader.nextString());
+                    break;
+                case "rarity":
+                    rarity = reader.nextString();
+                    break;
+                case "type":
+                    type = Compaction.string(reader.nextString());
+                    break;
+                case "location":
+                    location = Compaction.string(reader.nextString());
+                    break;
+                case "chance":
+                    chance = reader.nextNumber(-1.0);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Drop(uniqueName, Rarity.fromString(rarity), type, location, chance);
+    }
+
     /**
      * Serializes this {@link Drop} instance into a JSON object.
      *
@@ -67,4 +117,15 @@ public class Drop implements Serializable, IJsonMapping {
         object.put("chance", chance);
         return object;
     }
+
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .optField("uniqueName", uniqueName)
+                .optField("rarity", rarity != null ? rarity.toString() : null)
+                .optField("type", type)
+                .optField("location", location)
+                .optField("chance", chance)
+                .endObject();
+    }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package de.shurablack.jwsa.api.entities.searchable.weapon;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
 import de.shurablack.jwsa.api.entities.searchable.others.AltComponent;
 import de.shurablack.jwsa.api.entities.searchable.others.Introduced;
 import de.shurablack.jwsa.api.entities.searchable.others.Patchlog;
@@ -8,16 +10,22 @@ import de.shurablack.jwsa.api.entities.searchable.others.types.Polarity;
 import de.shurablack.jwsa.api.entities.searchable.weapon.sub.Attack;
 import de.shurablack.jwsa.api.entities.searchable.weapon.sub.DamageType;
 import de.shurablack.jwsa.api.requests.Paths;
+import de.shurablack.jwsa.api.requests.Projection;
 import de.shurablack.jwsa.api.requests.Requests;
 import de.shurablack.jwsa.api.requests.url.Encoder;
+import de.shurablack.jwsa.api.utils.Compaction;
+import de.shurablack.jwsa.api.utils.LazyLoading;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -163,9 +171,9 @@ public class Weapon implements Serializable, IJsonMapping {
         String name = object.optString("name", null);
         String uniqueName = object.optString("uniqueName", null);
         String description = object.optString("description", null);
-        String type = object.optString("type", null);
-        String category = object.optString("category", null);
-        String productCategory = object.optString("productCategory", null);
+        String type = Compaction.string(object.optString("type", null));
+        String category = Compaction.string(object.optString("category", null));
+        String productCategory = Compaction.string(object.optString("productCategory", null));
         boolean tradable = object.optBoolean("tradable", false);
         boolean prime = object.optBoolean("prime", false);
         boolean masterable = object.optBoolean("masterable", false);
@@ -183,8 +191,8 @@ public class Weapon implements Serializable, IJsonMapping {
             object.getJSONArray("polarities").forEach(item -> polarities.add(Polarity.fromString((String) item)));
         }
         Number slot = object.optNumber("slot", -1);
-        String trigger = object.optString("trigger", null);
-        String noise = object.optString("noise", null);
+        String trigger = Compaction.string(object.optString("trigger", null));
+        String noise = Compaction.string(object.optString("noise", null));
         Number accuracy = object.optNumber("accuracy", -1);
         Number multishot = object.optNumber("multishot", -1);
         Number fireRate = object.optNumber("fireRate", -1);
@@ -195,10 +203,7 @@ public class Weapon implements Serializable, IJsonMapping {
         Number procChance = object.optNumber("procChance", -1);
         Number totalDamage = object.optNumber("totalDamage", -1);
 
-        List<Attack> attacks = new ArrayList<>();
-        if (object.has("attacks")) {
-            object.getJSONArray("attacks").forEach(item -> attacks.add(Attack.deserialize((JSONObject) item)));
-        }
+        List<Attack> attacks = LazyLoading.list(object.optJSONArray("attacks"), Attack::deserialize);
 
         Map<DamageType, Double> damage = new HashMap<>();
         JSONObject damageObject = object.optJSONObject("damage");
@@ -215,14 +220,8 @@ public class Weapon implements Serializable, IJsonMapping {
         Number buildPrice = object.optNumber("buildPrice", -1);
         Number buildTime = object.optNumber("buildTime", -1);
         Number skipBuildTimePrice = object.optNumber("skipBuildTimePrice", -1);
-        List<Patchlog> patchlogs = new ArrayList<>();
-        if (object.has("patchlogs")) {
-            object.getJSONArray("patchlogs").forEach(item -> patchlogs.add(Patchlog.deserialize((JSONObject) item)));
-        }
-        List<AltComponent> components = new ArrayList<>();
-        if (object.has("components")) {
-            object.getJSONArray("components").forEach(item -> components.add(AltComponent.deserialize((JSONObject) item)));
-        }
+        List<Patchlog> patchlogs = LazyLoading.list(object.optJSONArray("patchlogs"), Patchlog::deserialize);
+        List<AltComponent> components = LazyLoading.list(object.optJSONArray("components"), AltComponent::deserialize);
         Introduced introduced = Introduced.deserialize(object.optJSONObject("introduced"));
         List<String> tags = new ArrayList<>();
         if (object.has("tags")) {
@@ -231,11 +230,199 @@ public class Weapon implements Serializable, IJsonMapping {
 
         return new Weapon(name, uniqueName, description, type, category, productCategory, tradable, prime, masterable,
                 vaulted, releaseDate, estimatedVaultDate, masteryReq, imageName, wikiaUrl, disposition,
-                omegaAttenuation, polarities, slot, trigger, noise, accuracy, multishot, fireRate,
+                omegaAttenuation, Compaction.list(polarities), slot, trigger, noise, accuracy, multishot, fireRate,
                 magazineSize, reloadTime, criticalChance, criticalMultiplier, procChance,
-                totalDamage, attacks, damage, damagePerShot, buildPrice,
-                buildTime, skipBuildTimePrice, patchlogs, components,
-                introduced, tags);
+                totalDamage, Compaction.list(attacks), Collections.unmodifiableMap(damage), Compaction.list(damagePerShot), buildPrice,
+                buildTime, skipBuildTimePrice, Compaction.list(patchlogs), Compaction.list(components),
+                introduced, Compaction.strings(tags));
+    }
+
+    /**
+     * Reads an instance of {@link Weapon} from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing weapon data.
+     * @return An instance of {@link Weapon} populated with data from the JSON object.
+     * @throws IOException If the source cannot be read.
+     */
+    public static Weapon read(JsonReader reader) throws IOException {
+        String name = null;
+        String uniqueName = null;
+        String description = null;
+        String type = null;
+        String category = null;
+        String productCategory = null;
+        boolean tradable = false;
+        boolean prime = false;
+        boolean masterable = false;
+        boolean vaulted = false;
+        String releaseDate = "1970-01-01";
+        String estimatedVaultDate = "1970-01-01";
+        Number masteryReq = -1;
+        String imageName = null;
+        String wikiaUrl = null;
+        Number disposition = -1;
+        Number omegaAttenuation = -1;
+        List<Polarity> polarities = new ArrayList<>();
+        Number slot = -1;
+        String trigger = null;
+        String noise = null;
+        Number accuracy = -1;
+        Number multishot = -1;
+        Number fireRate = -1;
+        Number magazineSize = -1;
+        Number reloadTime = -1;
+        Number criticalChance = -1;
+        Number criticalMultiplier = -1;
+        Number procChance = -1;
+        Number totalDamage = -1;
+        List<Attack> attacks = new ArrayList<>();
+        Map<DamageType, Double> damage = new HashMap<>();
+        List<Number> damagePerShot = new ArrayList<>();
+        Number buildPrice = -1;
+        Number buildTime = -1;
+        Number skipBuildTimePrice = -1;
+        List<Patchlog> patchlogs = new ArrayList<>();
+        List<AltComponent> components = new ArrayList<>();
+        Introduced introduced = null;
+        List<String> tags = new ArrayList<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    name = reader.nextString();
+                    break;
+                case "uniqueName":
+                    uniqueName = reader.nextString();
+                    break;
+                case "description":
+                    description = reader.nextString();
+                    break;
+                case "type":
+                    type = Compaction.string(reader.nextString());
+                    break;
+                case "category":
+                    category = Compaction.string(reader.nextString());
+                    break;
+                case "productCategory":
+                    productCategory = Compaction.string(reader.nextString());
+                    break;
+                case "tradable":
+                    tradable = reader.nextBoolean();
+                    break;
+                case "prime":
+                    prime = reader.nextBoolean();
+                    break;
+                case "masterable":
+                    masterable = reader.nextBoolean();
+                    break;
+                case "vaulted":
+                    vaulted = reader.nextBoolean();
+                    break;
+                case "releaseDate":
+                    releaseDate = reader.nextString("1970-01-01");
+                    break;
+                case "estimatedVaultDate":
+                    estimatedVaultDate = reader.nextString("1970-01-01");
+                    break;
+                case "masteryReq":
+                    masteryReq = reader.nextNumber(-1);
+                    break;
+                case "imageName":
+                    imageName = reader.nextString();
+                    break;
+                case "wikiaUrl":
+                    wikiaUrl = reader.nextString();
+                    break;
+                case "disposition":
+                    disposition = reader.nextNumber(-1);
+                    break;
+                case "omegaAttenuation":
+                    omegaAttenuation = reader.nextNumber(-1);
+                    break;
+                case "polarities":
+                    polarities = reader.nextList(element -> Polarity.fromString(element.nextString()));
+                    break;
+                case "slot":
+                    slot = reader.nextNumber(-1);
+                    break;
+                case "trigger":
+                    trigger = Compaction.string(reader.nextString());
+                    break;
+                case "noise":
+                    noise = Compaction.string(reader.nextString());
+                    break;
+                case "accuracy":
+                    accuracy = reader.nextNumber(-1);
+                    break;
+                case "multishot":
+                    multishot = reader.nextNumber(-1);
+                    break;
+                case "fireRate":
+                    fireRate = reader.nextNumber(-1);
+                    break;
+                case "magazineSize":
+                    magazineSize = reader.nextNumber(-1);
+                    break;
+                case "reloadTime":
+                    reloadTime = reader.nextNumber(-1);
+                    break;
+                case "criticalChance":
+                    criticalChance = reader.nextNumber(-1);
+                    break;
+                case "criticalMultiplier":
+                    criticalMultiplier = reader.nextNumber(-1);
+                    break;
+                case "procChance":
+                    procChance = reader.nextNumber(-1);
+                    break;
+                case "totalDamage":
+                    totalDamage = reader.nextNumber(-1);
+                    break;
+                case "attacks":
+                    attacks = LazyLoading.read(reader, Attack::read);
+                    break;
+                case "damage":
+                    DamageType.readValues(reader, damage);
+                    break;
+                case "damagePerShot":
+                    damagePerShot = reader.nextList(JsonReader::nextNumber);
+                    break;
+                case "buildPrice":
+                    buildPrice = reader.nextNumber(-1);
+                    break;
+                case "buildTime":
+                    buildTime = reader.nextNumber(-1);
+                    break;
+                case "skipBuildTimePrice":
+                    skipBuildTimePrice = reader.nextNumber(-1);
+                    break;
+                case "patchlogs":
+                    patchlogs = LazyLoading.read(reader, Patchlog::read);
+                    break;
+                case "components":
+                    components = LazyLoading.read(reader, AltComponent::read);
+                    break;
+                case "introduced":
+                    introduced = Introduced.read(reader);
+                    break;
+                case "tags":
+                    tags = reader.nextList(JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Weapon(name, uniqueName, description, type, category, productCategory, tradable, prime, masterable,
+                vaulted, LocalDate.parse(releaseDate), LocalDate.parse(estimatedVaultDate), masteryReq, imageName,
+                wikiaUrl, disposition, omegaAttenuation, Compaction.list(polarities), slot, trigger, noise, accuracy,
+                multishot, fireRate, magazineSize, reloadTime, criticalChance, criticalMultiplier, procChance,
+                totalDamage, Compaction.list(attacks), Collections.unmodifiableMap(damage), Compaction.list(damagePerShot), buildPrice,
+                buildTime, skipBuildTimePrice, Compaction.list(patchlogs), Compaction.list(components),
+                introduced, Compaction.strings(tags));
     }
 
     /**
@@ -324,6 +511,103 @@ public class Weapon implements Serializable, IJsonMapping {
         return object;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .field("name", name)
+                .field("uniqueName", uniqueName)
+                .field("description", description)
+                .field("type", type)
+                .field("category", category)
+                .field("productCategory", productCategory)
+                .field("tradable", tradable)
+                .field("prime", prime)
+                .field("masterable", masterable)
+                .field("vaulted", vaulted)
+                .field("releaseDate", releaseDate != null ? releaseDate.toString() : "1970-01-01")
+                .field("estimatedVaultDate", estimatedVaultDate != null ? estimatedVaultDate.toString() : "1970-01-01")
+                .field("masteryReq", masteryReq != null ? masteryReq : -1)
+                .field("imageName", imageName)
+                .field("wikiaUrl", wikiaUrl)
+                .field("disposition", disposition != null ? disposition : -1)
+                .field("omegaAttenuation", omegaAttenuation != null ? omegaAttenuation : -1);
+
+        writer.name("polarities").beginArray();
+        for (Polarity polarity : polarities) {
+            writer.value(polarity.toString());
+        }
+        writer.endArray();
+
+        writer.field("slot", slot != null ? slot : -1)
+                .field("trigger", trigger)
+                .field("noise", noise)
+                .field("accuracy", accuracy != null ? accuracy : -1)
+                .field("multishot", multishot != null ? multishot : -1)
+                .field("fireRate", fireRate != null ? fireRate : -1)
+                .field("magazineSize", magazineSize != null ? magazineSize : -1)
+                .field("reloadTime", reloadTime != null ? reloadTime : -1)
+                .field("criticalChance", criticalChance != null ? criticalChance : -1)
+                .field("criticalMultiplier", criticalMultiplier != null ? criticalMultiplier : -1)
+                .field("procChance", procChance != null ? procChance : -1)
+                .field("totalDamage", totalDamage != null ? totalDamage : -1);
+
+        writer.name("attacks").beginArray();
+        if (attacks != null) {
+            for (Attack attack : attacks) {
+                writer.value(attack);
+            }
+        }
+        writer.endArray();
+
+        writer.name("damage").beginObject();
+        if (damage != null) {
+            for (Map.Entry<DamageType, Double> entry : damage.entrySet()) {
+                writer.optField(entry.getKey().toString(), entry.getValue());
+            }
+        }
+        writer.endObject();
+
+        writer.name("damagePerShot").beginArray();
+        if (damagePerShot != null) {
+            for (Number value : damagePerShot) {
+                writer.value(value.doubleValue());
+            }
+        }
+        writer.endArray();
+
+        writer.field("buildPrice", buildPrice != null ? buildPrice : -1)
+                .field("buildTime", buildTime != null ? buildTime : -1)
+                .field("skipBuildTimePrice", skipBuildTimePrice != null ? skipBuildTimePrice : -1);
+
+        writer.name("patchlogs").beginArray();
+        if (patchlogs != null) {
+            for (Patchlog patchlog : patchlogs) {
+                writer.value(patchlog);
+            }
+        }
+        writer.endArray();
+
+        writer.name("components").beginArray();
+        if (components != null) {
+            for (AltComponent component : components) {
+                writer.value(component);
+            }
+        }
+        writer.endArray();
+
+        writer.name("introduced").value(introduced);
+
+        writer.name("tags").beginArray();
+        if (tags != null) {
+            for (String tag : tags) {
+                writer.value(tag);
+            }
+        }
+        writer.endArray();
+
+        writer.endObject();
+    }
+
     /**
      * Requests a weapon by its query string.
      *
@@ -344,4 +628,37 @@ public class Weapon implements Serializable, IJsonMapping {
         return Requests.withListMapping(Weapon.class, String.format(Paths.SEARCH_CLOSEST_WEAPONS, Encoder.encode(query)));
     }
 
+    /**
+     * Requests a weapon by its query string, only retrieving the fields of the given projection.
+     *
+     * @param query      The query string to search for the weapon.
+     * @param projection The projection limiting the returned fields.
+     * @return The {@link Weapon} instance matching the query.
+     */
+    public static Weapon request(String query, Projection projection) {
+        return Requests.withDirectMapping(Weapon.class, String.format(Paths.CLOSEST_WEAPON, Encoder.encode(query)), projection);
+    }
+
+    /**
+     * Requests a list of weapons matching the query string, only retrieving the fields of the given projection.
+     *
+     * @param query      The query string to search for weapons.
+     * @param projection The projection limiting the returned fields.
+     * @return A list of {@link Weapon} instances matching the query.
+     */
+    public static List<Weapon> requestAll(String query, Projection projection) {
+        return Requests.withListMapping(Weapon.class, String.format(Paths.SEARCH_CLOSEST_WEAPONS, Encoder.encode(query)), projection);
+    }
+
+    /**
+     * Requests the closest {@link Weapon} for each of the given queries concurrently.
+     * Queries are normalized and deduplicated, see {@link Requests#withDirectBatch(Class, String, Collection)}.
+     *
+     * @param queries The query strings to search for weapons.
+     * @return A map of each normalized query to the {@link Weapon} matching it.
+     */
+    public static Map<String, Weapon> requestBatch(Collection<String> queries) {
+        return Requests.withDirectBatch(Weapon.class, Paths.CLOSEST_WEAPON, queries);
+    }
+
 }
@@ -1,11 +1,15 @@
 package de.shurablack.jwsa.api.entities.searchable.weapon.sub;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -77,7 +81,73 @@ public class Attack implements Serializable, IJsonMapping {
             }
         }
 
-        return new Attack(name, shotType, speed, shotSpeed, flight, criticalChance, criticalMultiplier, statusChance, falloff, damage);
+        return new Attack(name, shotType, speed, shotSpeed, flight, criticalChance, criticalMultiplier, statusChance, falloff, Collections.unmodifiableMap(damage));
+    }
+
+    /**
+     * Reads an instance of {@link Attack} from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing attack data.
+     * @return An instance of {@link Attack} populated with data from the JSON value, or null if the value is null.
+     * @throws IOException If the source cannot be read.
+     */
+    public static Attack read(JsonReader reader) throws IOException {
+        if (reader.skipNull()) {
+            return null;
+        }
+
+        String name = null;
+        String shotType = null;
+        Number speed = -1;
+        Number shotSpeed = -1;
+        Number flight = -1;
+        Number criticalChance = -1;
+        Number criticalMultiplier = -1;
+        Number statusChance = -1;
+        Falloff falloff = null;
+        Map<DamageType, Double> damage = new HashMap<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    name = reader.nextString();
+                    break;
+                case "shot_type":
+                    shotType = reader.nextString();
+                    break;
+                case "speed":
+                    speed = reader.nextNumber(-1);
+                    break;
+                case "shot_speed":
+                    shotSpeed = reader.nextNumber(-1);
+                    break;
+                case "flight":
+                    flight = reader.nextNumber(-1);
+                    break;
+                case "crit_chance":
+                    criticalChance = reader.nextNumber(-1);
+                    break;
+                case "crit_mult":
+                    criticalMultiplier = reader.nextNumber(-1);
+                    break;
+                case "status_chance":
+                    statusChance = reader.nextNumber(-1);
+                    break;
+                case "falloff":
+                    falloff = Falloff.read(reader);
+                    break;
+                case "damage":
+                    DamageType.readValues(reader, damage);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Attack(name, shotType, speed, shotSpeed, flight, criticalChance, criticalMultiplier, statusChance, falloff, Collections.unmodifiableMap(damage));
     }
 
     /**
@@ -106,4 +176,28 @@ public class Attack implements Serializable, IJsonMapping {
 
         return object;
     }
+
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .field("name", name != null ? name : "")
+                .field("shot_type", shotType != null ? shotType : "")
+                .field("speed", speed != null ? speed : -1)
+                .field("shot_speed", shotSpeed != null ? shotSpeed : -1)
+                .field("flight", flight != null ? flight : -1)
+                .field("crit_chance", criticalChance != null ? criticalChance : -1)
+                .field("crit_mult", criticalMultiplier != null ? criticalMultiplier : -1)
+                .field("status_chance", statusChance != null ? statusChance : -1);
+        writer.name("falloff").value(falloff);
+
+        writer.name("damage").beginObject();
+        if (damage != null) {
+            for (Map.Entry<DamageType, Double> entry : damage.entrySet()) {
+                writer.optField(entry.getKey().toString(), entry.getValue());
+            }
+        }
+        writer.endObject();
+
+        writer.endObject();
+    }
 }
\ No newline at end of file
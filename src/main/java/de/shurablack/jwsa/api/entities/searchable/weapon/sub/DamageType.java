@@ -1,9 +1,12 @@
 package de.shurablack.jwsa.api.entities.searchable.weapon.sub;
 
+import de.shurablack.jwsa.api.entities.JsonReader;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.util.Map;
 
 /**
  * Enum representing various damage types in the game, each with a name and a unique identifier.
@@ -111,4 +114,24 @@ public enum DamageType implements Serializable {
         return UNKNOWN;
     }
 
+    /**
+     * Reads a JSON object of damage values by the unique identifier of their type, as used by weapons and attacks.
+     *
+     * @param reader The reader positioned at the JSON object.
+     * @param damage The map the damage values are added to. Left unchanged if the value is not an object.
+     * @throws IOException If the source cannot be read.
+     */
+    public static void readValues(JsonReader reader, Map<DamageType, Double> damage) throws IOException {
+        if (reader.peek() != JsonReader.Token.OBJECT) {
+            reader.skipValue();
+            return;
+        }
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            damage.put(fromString(reader.nextName()), reader.nextNumber(-1).doubleValue());
+        }
+        reader.endObject();
+    }
+
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package de.shurablack.jwsa.api.entities.searchable.weapon.sub;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 /**
@@ -44,6 +47,44 @@ public class Falloff implements Serializable, IJsonMapping {
         return new Falloff(start, end, reduction);
     }
 
+    /**
+     * Reads an instance of {@link Falloff} from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing falloff data.
+     * @return An instance of {@link Falloff} populated with data from the JSON value, or null if the value is null.
+     * @throws IOException If the source cannot be read.
+     */
+    public static Falloff read(JsonReader reader) throws IOException {
+        if (reader.skipNull()) {
+            return null;
+        }
+
+        Number start = -1;
+        Number end = -1;
+        Number reduction = -1;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "start":
+                    start = reader.nextNumber(-1);
+                    break;
+                case "end":
+                    end = reader.nextNumber(-1);
+                    break;
+                case "reduction":
+                    reduction = reader.nextNumber(-1);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Falloff(start, end, reduction);
+    }
+
     /**
      * Serializes this {@link Falloff} instance into a JSON object.
      *
@@ -57,4 +98,13 @@ public class Falloff implements Serializable, IJsonMapping {
         object.put("reduction", reduction != null ? reduction : -1);
         return object;
     }
+
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .field("start", start != null ? start : -1)
+                .field("end", end != null ? end : -1)
+                .field("reduction", reduction != null ? reduction : -1)
+                .endObject();
+    }
 }
\ No newline at end of file
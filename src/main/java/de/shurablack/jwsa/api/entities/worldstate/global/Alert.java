@@ -1,16 +1,20 @@
 package de.shurablack.jwsa.api.entities.worldstate.global;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
 import de.shurablack.jwsa.api.entities.worldstate.others.Mission;
 import de.shurablack.jwsa.api.entities.worldstate.others.types.RewardTypes;
 import de.shurablack.jwsa.api.requests.Paths;
 import de.shurablack.jwsa.api.requests.Requests;
+import de.shurablack.jwsa.api.utils.Compaction;
 import de.shurablack.jwsa.api.utils.ServerOffsetTime;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -77,7 +81,66 @@ public class Alert implements Serializable, IJsonMapping {
 
         Mission mission = Mission.deserialize(json.optJSONObject("mission", null));
 
-        return new Alert(id, activation, expiry, startString, active, mission, expired, eta, alertRewardTypes);
+        return new Alert(id, activation, expiry, startString, active, mission, expired, eta, Compaction.list(alertRewardTypes));
+    }
+
+    /**
+     * Reads an {@link Alert} object from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing alert data.
+     * @return An {@link Alert} object populated with data from the JSON object.
+     * @throws IOException If the source cannot be read.
+     */
+    public static Alert read(JsonReader reader) throws IOException {
+        String id = null;
+        String activation = null;
+        String expiry = null;
+        String startString = null;
+        boolean active = false;
+        boolean expired = false;
+        String eta = null;
+        List<RewardTypes> alertRewardTypes = new ArrayList<>();
+        Mission mission = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    id = reader.nextString();
+                    break;
+                case "activation":
+                    activation = reader.nextString();
+                    break;
+                case "expiry":
+                    expiry = reader.nextString();
+                    break;
+                case "startString":
+                    startString = reader.nextString();
+                    break;
+                case "active":
+                    active = reader.nextBoolean();
+                    break;
+                case "expired":
+                    expired = reader.nextBoolean();
+                    break;
+                case "eta":
+                    eta = reader.nextString();
+                    break;
+                case "rewardTypes":
+                    alertRewardTypes = reader.nextList(element -> RewardTypes.fromString(element.nextString()));
+                    break;
+                case "mission":
+                    mission = Mission.read(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Alert(id, ServerOffsetTime.of(activation), ServerOffsetTime.of(expiry), startString, active, mission,
+                expired, eta, Compaction.list(alertRewardTypes));
     }
 
     @Override
@@ -110,6 +173,29 @@ public class Alert implements Serializable, IJsonMapping {
         return json;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .field("id", id)
+                .field("activation", activation != null ? activation.toString() : null)
+                .field("expiry", expiry != null ? expiry.toString() : null)
+                .field("startString", startString)
+                .field("active", active)
+                .field("expired", expired)
+                .field("eta", eta)
+                .field("mission", mission);
+
+        writer.name("rewardTypes").beginArray();
+        if (alertRewardTypes != null) {
+            for (RewardTypes type : alertRewardTypes) {
+                writer.value(type.toString());
+            }
+        }
+        writer.endArray();
+
+        writer.endObject();
+    }
+
     /**
      * Requests a list of active alerts from the server.
      *
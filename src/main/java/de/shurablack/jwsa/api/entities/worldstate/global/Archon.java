@@ -5,6 +5,7 @@ import de.shurablack.jwsa.api.entities.worldstate.others.types.Faction;
 import de.shurablack.jwsa.api.entities.worldstate.others.Mission;
 import de.shurablack.jwsa.api.requests.Paths;
 import de.shurablack.jwsa.api.requests.Requests;
+import de.shurablack.jwsa.api.utils.Compaction;
 import de.shurablack.jwsa.api.utils.ServerOffsetTime;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -85,7 +86,7 @@ public class Archon implements Serializable, IJsonMapping {
         boolean expired = json.optBoolean("expired", false);
         String eta = json.optString("eta", null);
 
-        return new Archon(id, activation, expiry, startString, active, rewardPool, missions, boss, faction, expired, eta);
+        return new Archon(id, activation, expiry, startString, active, rewardPool, Compaction.list(missions), boss, faction, expired, eta);
     }
 
     @Override
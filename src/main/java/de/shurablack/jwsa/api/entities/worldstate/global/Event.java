@@ -1,6 +1,8 @@
 package de.shurablack.jwsa.api.entities.worldstate.global;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
 import de.shurablack.jwsa.api.entities.worldstate.global.sub.InterimSteps;
 import de.shurablack.jwsa.api.entities.worldstate.others.Job;
 import de.shurablack.jwsa.api.entities.worldstate.global.sub.ProgressionStep;
@@ -10,12 +12,14 @@ import de.shurablack.jwsa.api.entities.worldstate.others.types.SyndicateType;
 import de.shurablack.jwsa.api.entities.worldstate.others.types.Faction;
 import de.shurablack.jwsa.api.requests.Paths;
 import de.shurablack.jwsa.api.requests.Requests;
+import de.shurablack.jwsa.api.utils.Compaction;
 import de.shurablack.jwsa.api.utils.ServerOffsetTime;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -199,10 +203,173 @@ public class Event implements Serializable, IJsonMapping {
         String tag = object.optString("tag", null);
 
         return new Event(id, activation, expiry, startString, active, maximumScore, currentScore, smallInterval,
-                largeInterval, faction, description, tooltip, node, concurrentNodes, victimNode, scoreLocTag,
-                rewards, health, affiliatedWith, jobs, interimSteps, progressionSteps, progressTotal,
-                showTotalAtEndOfMission, personal, community, regionDrops, asString,
-                completionBonuses, scoreVar, altExpiry, altActivation, nextAlt, tag);
+                largeInterval, faction, description, tooltip, node, Compaction.strings(concurrentNodes), victimNode, scoreLocTag,
+                Compaction.list(rewards), health, affiliatedWith, Compaction.list(jobs), interimSteps, Compaction.list(progressionSteps), progressTotal,
+                showTotalAtEndOfMission, personal, community, Compaction.strings(regionDrops), asString,
+                Compaction.list(completionBonuses), scoreVar, altExpiry, altActivation, nextAlt, tag);
+    }
+
+    /**
+     * Reads an Event object from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing the event data.
+     * @return An Event object populated with data from the JSON object.
+     * @throws IOException If the source cannot be read.
+     */
+    public static Event read(JsonReader reader) throws IOException {
+        String id = null;
+        String activation = null;
+        String expiry = null;
+        String startString = null;
+        boolean active = false;
+        Number maximumScore = -1;
+        Number currentScore = -1;
+        Number smallInterval = -1;
+        Number largeInterval = -1;
+        String faction = null;
+        String description = null;
+        String tooltip = null;
+        String node = null;
+        List<String> concurrentNodes = new ArrayList<>();
+        String victimNode = null;
+        String scoreLocTag = null;
+        List<Reward> rewards = new ArrayList<>();
+        Number health = -1;
+        String affiliatedWith = null;
+        List<Job> jobs = new ArrayList<>();
+        InterimSteps interimSteps = null;
+        List<ProgressionStep> progressionSteps = new ArrayList<>();
+        Number progressTotal = -1;
+        boolean showTotalAtEndOfMission = false;
+        boolean personal = false;
+        boolean community = false;
+        List<String> regionDrops = new ArrayList<>();
+        String asString = null;
+        List<Number> completionBonuses = new ArrayList<>();
+        String scoreVar = null;
+        LocalDateTime altExpiry = null;
+        LocalDateTime altActivation = null;
+        Alt nextAlt = null;
+        String tag = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    id = reader.nextString();
+                    break;
+                case "activation":
+                    activation = reader.nextString();
+                    break;
+                case "expiry":
+                    expiry = reader.nextString();
+                    break;
+                case "startString":
+                    startString = reader.nextString();
+                    break;
+                case "active":
+                    active = reader.nextBoolean();
+                    break;
+                case "maximumScore":
+                    maximumScore = reader.nextNumber(-1);
+                    break;
+                case "currentScore":
+                    currentScore = reader.nextNumber(-1);
+                    break;
+                case "smallInterval":
+                    smallInterval = reader.nextNumber(-1);
+                    break;
+                case "largeInterval":
+                    largeInterval = reader.nextNumber(-1);
+                    break;
+                case "faction":
+                    faction = reader.nextString();
+                    break;
+                case "description":
+                    description = reader.nextString();
+                    break;
+                case "tooltip":
+                    tooltip = reader.nextString();
+                    break;
+                case "node":
+                    node = reader.nextString();
+                    break;
+                case "concurrentNodes":
+                    concurrentNodes = reader.nextList(JsonReader::nextString);
+                    break;
+                case "victimNode":
+                    victimNode = reader.nextString();
+                    break;
+                case "scoreLocTag":
+                    scoreLocTag = reader.nextString();
+                    break;
+                case "rewards":
+                    rewards = reader.nextList(Reward::read);
+                    break;
+                case "health":
+                    health = reader.nextNumber(-1);
+                    break;
+                case "affiliatedWith":
+                    affiliatedWith = reader.nextString();
+                    break;
+                case "jobs":
+                    jobs = reader.nextList(Job::read);
+                    break;
+                case "interimSteps":
+                    interimSteps = InterimSteps.read(reader);
+                    break;
+                case "progressionSteps":
+                    progressionSteps = reader.nextList(ProgressionStep::read);
+                    break;
+                case "progressTotal":
+                    progressTotal = reader.nextNumber(-1);
+                    break;
+                case "showTotalAtEndOfMission":
+                    showTotalAtEndOfMission = reader.nextBoolean();
+                    break;
+                case "isPersonal":
+                    personal = reader.nextBoolean();
+                    break;
+                case "isCommunity":
+                    community = reader.nextBoolean();
+                    break;
+                case "regionDrops":
+                    regionDrops = reader.nextList(JsonReader::nextString);
+                    break;
+                case "asString":
+                    asString = reader.nextString();
+                    break;
+                case "completionBonuses":
+                    completionBonuses = reader.nextList(JsonReader::nextNumber);
+                    break;
+                case "scoreVar":
+                    scoreVar = reader.nextString();
+                    break;
+                case "altExpiry":
+                    altExpiry = ServerOffsetTime.of(reader.nextString());
+                    break;
+                case "altActivation":
+                    altActivation = ServerOffsetTime.of(reader.nextString());
+                    break;
+                case "nextAlt":
+                    nextAlt = Alt.read(reader);
+                    break;
+                case "tag":
+                    tag = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Event(id, ServerOffsetTime.of(activation), ServerOffsetTime.of(expiry), startString, active,
+                maximumScore, currentScore, smallInterval, largeInterval, Faction.fromString(faction), description,
+                tooltip, node, Compaction.strings(concurrentNodes), victimNode, scoreLocTag, Compaction.list(rewards), health,
+                SyndicateType.fromString(affiliatedWith), Compaction.list(jobs), interimSteps, Compaction.list(progressionSteps), progressTotal,
+                showTotalAtEndOfMission, personal, community, Compaction.strings(regionDrops), asString,
+                Compaction.list(completionBonuses), scoreVar, altExpiry, altActivation, nextAlt, tag);
     }
 
     @Override
@@ -280,6 +447,70 @@ public class Event implements Serializable, IJsonMapping {
         return json;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .field("id", id)
+                .field("activation", activation != null ? activation.toString() : null)
+                .field("expiry", expiry != null ? expiry.toString() : null)
+                .field("startString", startString)
+                .field("active", active)
+                .field("maximumScore", maximumScore != null ? maximumScore : -1)
+                .field("currentScore", currentScore != null ? currentScore : -1)
+                .field("smallInterval", smallInterval != null ? smallInterval : -1)
+                .field("largeInterval", largeInterval != null ? largeInterval : -1)
+                .field("faction", faction != null ? faction.toString() : null)
+                .field("description", description)
+                .field("tooltip", tooltip)
+                .field("node", node)
+                .field("concurrentNodes", concurrentNodes != null ? concurrentNodes : List.of())
+                .field("victimNode", victimNode)
+                .field("scoreLocTag", scoreLocTag);
+
+        writer.name("rewards").beginArray();
+        if (rewards != null) {
+            for (Reward reward : rewards) {
+                writer.value(reward);
+            }
+        }
+        writer.endArray();
+
+        writer.field("health", health != null ? health : -1)
+                .field("affiliatedWith", affiliatedWith != null ? affiliatedWith.toString() : null);
+
+        writer.name("jobs").beginArray();
+        if (jobs != null) {
+            for (Job job : jobs) {
+                writer.value(job);
+            }
+        }
+        writer.endArray();
+
+        writer.field("interimSteps", interimSteps);
+
+        writer.name("progressionSteps").beginArray();
+        if (progressionSteps != null) {
+            for (ProgressionStep step : progressionSteps) {
+                writer.value(step);
+            }
+        }
+        writer.endArray();
+
+        writer.field("progressTotal", progressTotal != null ? progressTotal : -1)
+                .field("showTotalAtEndOfMission", showTotalAtEndOfMission)
+                .field("isPersonal", personal)
+                .field("isCommunity", community)
+                .field("regionDrops", regionDrops != null ? regionDrops : List.of())
+                .field("asString", asString)
+                .field("completionBonuses", completionBonuses != null ? completionBonuses : List.of())
+                .field("scoreVar", scoreVar)
+                .field("altExpiry", altExpiry != null ? altExpiry.toString() : null)
+                .field("altActivation", altActivation != null ? altActivation.toString() : null)
+                .field("nextAlt", nextAlt)
+                .field("tag", tag)
+                .endObject();
+    }
+
     /**
      * Requests the list of current events from the server.
      *
@@ -1,17 +1,21 @@
 package de.shurablack.jwsa.api.entities.worldstate.global;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
 import de.shurablack.jwsa.api.entities.worldstate.others.types.Era;
 import de.shurablack.jwsa.api.entities.worldstate.others.types.Faction;
 import de.shurablack.jwsa.api.entities.worldstate.others.types.MissionType;
 import de.shurablack.jwsa.api.requests.Paths;
 import de.shurablack.jwsa.api.requests.Requests;
+import de.shurablack.jwsa.api.utils.Compaction;
 import de.shurablack.jwsa.api.utils.ServerOffsetTime;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -78,7 +82,7 @@ public class Fissure implements Serializable, IJsonMapping {
         LocalDateTime expiry = ServerOffsetTime.of(object.optString("expiry", null));
         String startString = object.optString("startString", null);
         boolean active = object.optBoolean("active", false);
-        String node = object.optString("node", null);
+        String node = Compaction.string(object.optString("node", null));
         boolean expired = object.optBoolean("expired", false);
         String eta = object.optString("eta", null);
         MissionType missionType = MissionType.fromString(object.optString("missionType", null));
@@ -90,6 +94,81 @@ public class Fissure implements Serializable, IJsonMapping {
         return new Fissure(id, activation, expiry, startString, active, node, expired, eta, missionType, tier, enemy, storm, hard);
     }
 
+    /**
+     * Reads a Fissure object from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing the Fissure data.
+     * @return A Fissure object populated with data from the JSON object.
+     * @throws IOException If the source cannot be read.
+     */
+    public static Fissure read(JsonReader reader) throws IOException {
+        String id = null;
+        String activation = null;
+        String expiry = null;
+        String startString = null;
+        boolean active = false;
+        String node = null;
+        boolean expired = false;
+        String eta = null;
+        String missionType = null;
+        String tier = null;
+        String enemy = null;
+        boolean storm = false;
+        boolean hard = false;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    id = reader.nextString();
+                    break;
+                case "activation":
+                    activation = reader.nextString();
+                    break;
+                case "expiry":
+                    expiry = reader.nextString();
+                    break;
+                case "startString":
+                    startString = reader.nextString();
+                    break;
+                case "active":
+                    active = reader.nextBoolean();
+                    break;
+                case "node":
+                    node = Compaction.string(reader.nextString());
+                    break;
+                case "expired":
+                    expired = reader.nextBoolean();
+                    break;
+                case "eta":
+                    eta = reader.nextString();
+                    break;
+                case "missionType":
+                    missionType = reader.nextString();
+                    break;
+                case "tier":
+                    tier = reader.nextString();
+                    break;
+                case "enemy":
+                    enemy = reader.nextString();
+                    break;
+                case "isStorm":
+                    storm = reader.nextBoolean();
+                    break;
+                case "isHard":
+                    hard = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Fissure(id, ServerOffsetTime.of(activation), ServerOffsetTime.of(expiry), startString, active, node,
+                expired, eta, MissionType.fromString(missionType), Era.fromString(tier), Faction.fromString(enemy), storm, hard);
+    }
+
     @Override
     public JSONObject serialize() {
         JSONObject json = new JSONObject();
@@ -110,6 +189,25 @@ public class Fissure implements Serializable, IJsonMapping {
         return json;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .field("id", id)
+                .field("activation", activation != null ? activation.toString() : null)
+                .field("expiry", expiry != null ? expiry.toString() : null)
+                .field("startString", startString)
+                .field("active", active)
+                .field("node", node)
+                .field("expired", expired)
+                .field("eta", eta)
+                .field("missionType", missionType != null ? missionType.toString() : null)
+                .field("tier", tier != null ? tier.toString() : null)
+                .field("enemy", enemy != null ? enemy.toString() : null)
+                .field("isStorm", storm)
+                .field("isHard", hard)
+                .endObject();
+    }
+
     /**
      * Requests the list of current Fissures from the server.
      *
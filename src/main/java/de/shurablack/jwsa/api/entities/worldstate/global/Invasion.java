@@ -1,16 +1,20 @@
 package de.shurablack.jwsa.api.entities.worldstate.global;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
 import de.shurablack.jwsa.api.entities.worldstate.global.sub.InvasionParty;
 import de.shurablack.jwsa.api.entities.worldstate.others.types.RewardTypes;
 import de.shurablack.jwsa.api.requests.Paths;
 import de.shurablack.jwsa.api.requests.Requests;
+import de.shurablack.jwsa.api.utils.Compaction;
 import de.shurablack.jwsa.api.utils.ServerOffsetTime;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -92,9 +96,9 @@ public class Invasion implements Serializable, IJsonMapping {
         Number completion = object.optNumber("completion", -1);
         Number count = object.optNumber("count", -1);
         InvasionParty defender = InvasionParty.deserialize(object.optJSONObject("defender", null));
-        String desc = object.optString("desc", null);
+        String desc = Compaction.string(object.optString("desc", null));
         String eta = object.optString("eta", null);
-        String node = object.optString("node", null);
+        String node = Compaction.string(object.optString("node", null));
         Number requiredRuns = object.optNumber("requiredRuns", -1);
 
         List<RewardTypes> rewardTypes = new ArrayList<>();
@@ -106,7 +110,94 @@ public class Invasion implements Serializable, IJsonMapping {
 
         boolean vsInfestation = object.optBoolean("vsInfestation", false);
 
-        return new Invasion(id, activation, expiry, startString, active, attacker, completed, completion, count, defender, desc, eta, node, requiredRuns, rewardTypes, vsInfestation);
+        return new Invasion(id, activation, expiry, startString, active, attacker, completed, completion, count, defender, desc, eta, node, requiredRuns, Compaction.list(rewardTypes), vsInfestation);
+    }
+
+    /**
+     * Reads an Invasion object from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing the invasion data.
+     * @return An Invasion object populated with data from the JSON object.
+     * @throws IOException If the source cannot be read.
+     */
+    public static Invasion read(JsonReader reader) throws IOException {
+        String id = null;
+        String activation = null;
+        String expiry = null;
+        String startString = null;
+        boolean active = false;
+        InvasionParty attacker = null;
+        boolean completed = false;
+        Number completion = -1;
+        Number count = -1;
+        InvasionParty defender = null;
+        String desc = null;
+        String eta = null;
+        String node = null;
+        Number requiredRuns = -1;
+        List<RewardTypes> rewardTypes = new ArrayList<>();
+        boolean vsInfestation = false;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    id = reader.nextString();
+                    break;
+                case "activation":
+                    activation = reader.nextString();
+                    break;
+                case "expiry":
+                    expiry = reader.nextString();
+                    break;
+                case "startString":
+                    startString = reader.nextString();
+                    break;
+                case "active":
+                    active = reader.nextBoolean();
+                    break;
+                case "attacker":
+                    attacker = InvasionParty.read(reader);
+                    break;
+                case "completed":
+                    completed = reader.nextBoolean();
+                    break;
+                case "completion":
+                    completion = reader.nextNumber(-1);
+                    break;
+                case "count":
+                    count = reader.nextNumber(-1);
+                    break;
+                case "defender":
+                    defender = InvasionParty.read(reader);
+                    break;
+                case "desc":
+                    desc = Compaction.string(reader.nextString());
+                    break;
+                case "eta":
+                    eta = reader.nextString();
+                    break;
+                case "node":
+                    node = Compaction.string(reader.nextString());
+                    break;
+                case "requiredRuns":
+                    requiredRuns = reader.nextNumber(-1);
+                    break;
+                case "rewardTypes":
+                    rewardTypes = reader.nextList(element -> RewardTypes.fromString(element.nextString()));
+                    break;
+                case "vsInfestation":
+                    vsInfestation = reader.nextBoolean();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Invasion(id, ServerOffsetTime.of(activation), ServerOffsetTime.of(expiry), startString, active, attacker,
+                completed, completion, count, defender, desc, eta, node, requiredRuns, Compaction.list(rewardTypes), vsInfestation);
     }
 
     @Override
@@ -142,6 +233,36 @@ public class Invasion implements Serializable, IJsonMapping {
         return json;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .field("id", id)
+                .field("activation", activation != null ? activation.toString() : null)
+                .field("expiry", expiry != null ? expiry.toString() : null)
+                .field("startString", startString)
+                .field("active", active)
+                .field("attacker", attacker)
+                .field("completed", completed)
+                .field("completion", completion)
+                .field("count", count)
+                .field("defender", defender)
+                .field("desc", desc)
+                .field("eta", eta)
+                .field("node", node)
+                .field("requiredRuns", requiredRuns);
+
+        writer.name("rewardTypes").beginArray();
+        if (rewardTypes != null) {
+            for (RewardTypes type : rewardTypes) {
+                writer.value(type.toString());
+            }
+        }
+        writer.endArray();
+
+        writer.field("vsInfestation", vsInfestation)
+                .endObject();
+    }
+
     /**
      * Requests the list of current invasions from the server.
      *
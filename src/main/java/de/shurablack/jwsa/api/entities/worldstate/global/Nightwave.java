@@ -4,6 +4,7 @@ import de.shurablack.jwsa.api.entities.IJsonMapping;
 import de.shurablack.jwsa.api.entities.worldstate.global.sub.NightwaveChallenge;
 import de.shurablack.jwsa.api.requests.Paths;
 import de.shurablack.jwsa.api.requests.Requests;
+import de.shurablack.jwsa.api.utils.Compaction;
 import de.shurablack.jwsa.api.utils.ServerOffsetTime;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -93,7 +94,7 @@ public class Nightwave implements Serializable, IJsonMapping {
             }
         }
 
-        return new Nightwave(id, activation, expiry, startString, active, rewardTypes, season, tag, phase, possibleChallenges, activeChallenges);
+        return new Nightwave(id, activation, expiry, startString, active, Compaction.strings(rewardTypes), season, tag, phase, Compaction.list(possibleChallenges), Compaction.list(activeChallenges));
     }
 
     @Override
@@ -5,6 +5,7 @@ import de.shurablack.jwsa.api.entities.worldstate.global.sub.Variant;
 import de.shurablack.jwsa.api.entities.worldstate.others.types.Faction;
 import de.shurablack.jwsa.api.requests.Paths;
 import de.shurablack.jwsa.api.requests.Requests;
+import de.shurablack.jwsa.api.utils.Compaction;
 import de.shurablack.jwsa.api.utils.ServerOffsetTime;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -84,7 +85,7 @@ public class Sortie implements Serializable, IJsonMapping {
         boolean expired = object.optBoolean("expired", false);
         String eta = object.optString("eta", null);
 
-        return new Sortie(id, activation, expiry, startString, active, rewardPool, variants, boss, faction, expired, eta);
+        return new Sortie(id, activation, expiry, startString, active, rewardPool, Compaction.list(variants), boss, faction, expired, eta);
     }
 
     @Override
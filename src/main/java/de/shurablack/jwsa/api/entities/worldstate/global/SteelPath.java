@@ -4,6 +4,7 @@ import de.shurablack.jwsa.api.entities.IJsonMapping;
 import de.shurablack.jwsa.api.entities.worldstate.global.sub.Incursions;
 import de.shurablack.jwsa.api.requests.Paths;
 import de.shurablack.jwsa.api.requests.Requests;
+import de.shurablack.jwsa.api.utils.Compaction;
 import de.shurablack.jwsa.api.utils.ServerOffsetTime;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -72,7 +73,7 @@ public class SteelPath implements Serializable, IJsonMapping {
         }
         Incursions incursions = Incursions.deserialize(object.optJSONObject("incursions", null));
 
-        return new SteelPath(activation, expiry, currentRewardObj, remaining, rotation, evergreens, incursions);
+        return new SteelPath(activation, expiry, currentRewardObj, remaining, Compaction.list(rotation), Compaction.list(evergreens), incursions);
     }
 
     @Override
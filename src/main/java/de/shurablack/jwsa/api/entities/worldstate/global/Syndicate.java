@@ -5,6 +5,7 @@ import de.shurablack.jwsa.api.entities.worldstate.others.Job;
 import de.shurablack.jwsa.api.entities.worldstate.others.types.SyndicateType;
 import de.shurablack.jwsa.api.requests.Paths;
 import de.shurablack.jwsa.api.requests.Requests;
+import de.shurablack.jwsa.api.utils.Compaction;
 import de.shurablack.jwsa.api.utils.ServerOffsetTime;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -70,7 +71,7 @@ public class Syndicate implements Serializable, IJsonMapping {
         }
         SyndicateType syndicate = SyndicateType.fromString(object.optString("syndicate", null));
 
-        return new Syndicate(id, activation, expiry, nodes, eta, jobs, syndicate);
+        return new Syndicate(id, activation, expiry, Compaction.strings(nodes), eta, Compaction.list(jobs), syndicate);
     }
 
     @Override
@@ -1,11 +1,14 @@
 package de.shurablack.jwsa.api.entities.worldstate.global.sub;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
 import de.shurablack.jwsa.api.entities.worldstate.others.Reward;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 /**
@@ -47,6 +50,48 @@ public class InterimSteps implements Serializable, IJsonMapping {
         return new InterimSteps(goal, reward, message, winnerCount);
     }
 
+    /**
+     * Reads an InterimSteps object from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing the interim step data.
+     * @return An InterimSteps object populated with data from the JSON object, or null if the value is null.
+     * @throws IOException If the source cannot be read.
+     */
+    public static InterimSteps read(JsonReader reader) throws IOException {
+        if (reader.skipNull()) {
+            return null;
+        }
+
+        Number goal = -1;
+        Reward reward = null;
+        Message message = null;
+        Number winnerCount = -1;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "goal":
+                    goal = reader.nextNumber(-1);
+                    break;
+                case "reward":
+                    reward = Reward.read(reader);
+                    break;
+                case "message":
+                    message = Message.read(reader);
+                    break;
+                case "winnerCount":
+                    winnerCount = reader.nextNumber(-1);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new InterimSteps(goal, reward, message, winnerCount);
+    }
+
     @Override
     public JSONObject serialize() {
         JSONObject json = new JSONObject();
@@ -56,4 +101,14 @@ public class InterimSteps implements Serializable, IJsonMapping {
         json.put("winnerCount", winnerCount);
         return json;
     }
+
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .optField("goal", goal)
+                .field("reward", reward)
+                .field("message", message)
+                .optField("winnerCount", winnerCount)
+                .endObject();
+    }
 }
\ No newline at end of file
@@ -1,12 +1,15 @@
 package de.shurablack.jwsa.api.entities.worldstate.global.sub;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
 import de.shurablack.jwsa.api.entities.worldstate.others.Reward;
 import de.shurablack.jwsa.api.entities.worldstate.others.types.Faction;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 /**
@@ -41,6 +44,40 @@ public class InvasionParty implements Serializable, IJsonMapping {
         return new InvasionParty(reward, faction);
     }
 
+    /**
+     * Reads an InvasionParty object from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing the invasion party data.
+     * @return An InvasionParty object populated with data from the JSON object, or null if the value is null.
+     * @throws IOException If the source cannot be read.
+     */
+    public static InvasionParty read(JsonReader reader) throws IOException {
+        if (reader.skipNull()) {
+            return null;
+        }
+
+        Reward reward = null;
+        String faction = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "reward":
+                    reward = Reward.read(reader);
+                    break;
+                case "faction":
+                    faction = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new InvasionParty(reward, Faction.fromString(faction));
+    }
+
     @Override
     public JSONObject serialize() {
         JSONObject json = new JSONObject();
@@ -48,4 +85,12 @@ public class InvasionParty implements Serializable, IJsonMapping {
         json.put("faction", faction != null ? faction.toString() : JSONObject.NULL);
         return json;
     }
+
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .field("reward", reward)
+                .field("faction", faction != null ? faction.toString() : null)
+                .endObject();
+    }
 }
\ No newline at end of file
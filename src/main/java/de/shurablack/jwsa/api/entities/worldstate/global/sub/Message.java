@@ -1,10 +1,14 @@
 package de.shurablack.jwsa.api.entities.worldstate.global.sub;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
+import de.shurablack.jwsa.api.utils.Compaction;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.List;
 
@@ -49,7 +53,53 @@ public class Message implements Serializable, IJsonMapping {
                 .collect(java.util.stream.Collectors.toList())
                 : List.of();
 
-        return new Message(sender, subject, message, senderIcon, attachments);
+        return new Message(sender, subject, message, senderIcon, Compaction.strings(attachments));
+    }
+
+    /**
+     * Reads a Message object from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing the message data.
+     * @return A Message object populated with data from the JSON object, or null if the value is null.
+     * @throws IOException If the source cannot be read.
+     */
+    public static Message read(JsonReader reader) throws IOException {
+        if (reader.skipNull()) {
+            return null;
+        }
+
+        String sender = null;
+        String subject = null;
+        String message = null;
+        String senderIcon = null;
+        List<String> attachments = List.of();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "sender":
+                    sender = reader.nextString();
+                    break;
+                case "subject":
+                    subject = reader.nextString();
+                    break;
+                case "message":
+                    message = reader.nextString();
+                    break;
+                case "senderIcon":
+                    senderIcon = reader.nextString();
+                    break;
+                case "attachments":
+                    attachments = reader.nextList(JsonReader::nextString);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Message(sender, subject, message, senderIcon, Compaction.strings(attachments));
     }
 
     @Override
@@ -63,4 +113,15 @@ public class Message implements Serializable, IJsonMapping {
 
         return json;
     }
+
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .field("sender", sender)
+                .field("subject", subject)
+                .field("message", message)
+                .field("senderIcon", senderIcon)
+                .field("attachments", attachments != null ? attachments : List.of())
+                .endObject();
+    }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package de.shurablack.jwsa.api.entities.worldstate.global.sub;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 /**
@@ -35,6 +38,36 @@ public class ProgressionStep implements Serializable, IJsonMapping {
         return new ProgressionStep(type, progressAmt);
     }
 
+    /**
+     * Reads a ProgressionStep object from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing the progression step data.
+     * @return A ProgressionStep object populated with data from the JSON object.
+     * @throws IOException If the source cannot be read.
+     */
+    public static ProgressionStep read(JsonReader reader) throws IOException {
+        String type = null;
+        Number progressAmt = -1;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    type = reader.nextString();
+                    break;
+                case "progressAmt":
+                    progressAmt = reader.nextNumber(-1);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new ProgressionStep(type, progressAmt);
+    }
+
     @Override
     public JSONObject serialize() {
         JSONObject json = new JSONObject();
@@ -42,4 +75,12 @@ public class ProgressionStep implements Serializable, IJsonMapping {
         json.put("progressAmt", progressAmt != null ? progressAmt : JSONObject.NULL);
         return json;
     }
+
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .field("type", type)
+                .field("progressAmt", progressAmt)
+                .endObject();
+    }
 }
\ No newline at end of file
@@ -1,11 +1,14 @@
 package de.shurablack.jwsa.api.entities.worldstate.others;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
 import de.shurablack.jwsa.api.utils.ServerOffsetTime;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 
@@ -37,6 +40,40 @@ public class Alt implements Serializable, IJsonMapping {
         return new Alt(activation, expiry);
     }
 
+    /**
+     * Reads an Alt instance from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing the activation and expiry times.
+     * @return A new Alt instance with the parsed activation and expiry times, or null if the value is null.
+     * @throws IOException If the source cannot be read.
+     */
+    public static Alt read(JsonReader reader) throws IOException {
+        if (reader.skipNull()) {
+            return null;
+        }
+
+        String activation = null;
+        String expiry = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "activation":
+                    activation = reader.nextString();
+                    break;
+                case "expiry":
+                    expiry = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Alt(ServerOffsetTime.of(activation), ServerOffsetTime.of(expiry));
+    }
+
     @Override
     public JSONObject serialize() {
         JSONObject json = new JSONObject();
@@ -44,4 +81,12 @@ public class Alt implements Serializable, IJsonMapping {
         json.put("expiry", expiry != null ? expiry.toString() : JSONObject.NULL);
         return json;
     }
+
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .field("activation", activation != null ? activation.toString() : null)
+                .field("expiry", expiry != null ? expiry.toString() : null)
+                .endObject();
+    }
 }
\ No newline at end of file
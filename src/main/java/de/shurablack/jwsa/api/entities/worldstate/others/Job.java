@@ -1,13 +1,18 @@
 package de.shurablack.jwsa.api.entities.worldstate.others;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
+import de.shurablack.jwsa.api.utils.Compaction;
 import de.shurablack.jwsa.api.utils.ServerOffsetTime;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -54,7 +59,7 @@ public class Job implements Serializable, IJsonMapping {
         List<String> rewardPool = json.getJSONArray("rewardPool").toList().stream()
                 .map(Object::toString)
                 .collect(Collectors.toList());
-        String type = json.optString("type", null);
+        String type = Compaction.string(json.optString("type", null));
         List<Number> enemyLevels = json.getJSONArray("enemyLevels").toList().stream()
                 .map(obj -> (Number) obj)
                 .collect(Collectors.toList());
@@ -63,7 +68,58 @@ public class Job implements Serializable, IJsonMapping {
                 .collect(Collectors.toList());
         Number minMR = json.optNumber("minMR", -1);
 
-        return new Job(activation, expiry, rewardPool, type, enemyLevels, standingStages, minMR);
+        return new Job(activation, expiry, Compaction.strings(rewardPool), type, Compaction.list(enemyLevels), Compaction.list(standingStages), minMR);
+    }
+
+    /**
+     * Reads a Job instance from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing the job details.
+     * @return A new Job instance with the parsed details.
+     * @throws IOException If the source cannot be read.
+     */
+    public static Job read(JsonReader reader) throws IOException {
+        String activation = null;
+        String expiry = null;
+        List<String> rewardPool = new ArrayList<>();
+        String type = null;
+        List<Number> enemyLevels = new ArrayList<>();
+        List<Number> standingStages = new ArrayList<>();
+        Number minMR = -1;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "activation":
+                    activation = reader.nextString();
+                    break;
+                case "expiry":
+                    expiry = reader.nextString();
+                    break;
+                case "rewardPool":
+                    rewardPool = reader.nextList(JsonReader::nextString);
+                    break;
+                case "type":
+                    type = Compaction.string(reader.nextString());
+                    break;
+                case "enemyLevels":
+                    enemyLevels = reader.nextList(JsonReader::nextNumber);
+                    break;
+                case "standingStages":
+                    standingStages = reader.nextList(JsonReader::nextNumber);
+                    break;
+                case "minMR":
+                    minMR = reader.nextNumber(-1);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Job(ServerOffsetTime.of(activation), ServerOffsetTime.of(expiry), Compaction.strings(rewardPool), type,
+                Compaction.list(enemyLevels), Compaction.list(standingStages), minMR);
     }
 
     @Override
@@ -78,4 +134,17 @@ public class Job implements Serializable, IJsonMapping {
         json.put("minMR", minMR != null ? minMR : -1);
         return json;
     }
+
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .field("activation", activation != null ? activation.toString() : null)
+                .field("expiry", expiry != null ? expiry.toString() : null)
+                .field("rewardPool", rewardPool != null ? rewardPool : List.of())
+                .optField("type", type)
+                .field("enemyLevels", enemyLevels != null ? enemyLevels : List.of())
+                .field("standingStages", standingStages != null ? standingStages : List.of())
+                .field("minMR", minMR != null ? minMR : -1)
+                .endObject();
+    }
 }
\ No newline at end of file
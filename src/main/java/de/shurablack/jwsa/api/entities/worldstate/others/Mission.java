@@ -1,12 +1,16 @@
 package de.shurablack.jwsa.api.entities.worldstate.others;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
 import de.shurablack.jwsa.api.entities.worldstate.others.types.Faction;
 import de.shurablack.jwsa.api.entities.worldstate.others.types.MissionType;
+import de.shurablack.jwsa.api.utils.Compaction;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -86,8 +90,8 @@ public class Mission implements Serializable, IJsonMapping {
      */
     public static Mission deserialize(JSONObject object) {
         Reward reward = object.has("reward") ? Reward.deserialize(object.getJSONObject("reward")) : null;
-        String node = object.optString("node", null);
-        String nodeKey = object.optString("nodeKey", null);
+        String node = Compaction.string(object.optString("node", null));
+        String nodeKey = Compaction.string(object.optString("nodeKey", null));
         Faction faction = object.has("faction") ? Faction.fromString(object.getString("faction")) : Faction.UNKNOWN;
         int maxEnemyLevel = object.optInt("maxEnemyLevel", -1);
         int minEnemyLevel = object.optInt("minEnemyLevel", -1);
@@ -96,19 +100,124 @@ public class Mission implements Serializable, IJsonMapping {
         boolean nightmare = object.optBoolean("nightmare", false);
         boolean archwingRequired = object.optBoolean("archwingRequired", false);
         boolean sharkwing = object.optBoolean("sharkwing", false);
-        String enemySpec = object.optString("enemySpec", null);
-        String levelOverride = object.optString("levelOverride", null);
+        String enemySpec = Compaction.string(object.optString("enemySpec", null));
+        String levelOverride = Compaction.string(object.optString("levelOverride", null));
         List<String> advancedSpawners = object.has("advancedSpawners") ? object.getJSONArray("advancedSpawners").toList().stream().map(Object::toString).collect(Collectors.toList()) : List.of();
         List<String> requiredItems = object.has("requiredItems") ? object.getJSONArray("requiredItems").toList().stream().map(Object::toString).collect(Collectors.toList()) : List.of();
         boolean consumeRequiredItems = object.optBoolean("consumeRequiredItems", false);
         boolean leadersAlwaysAllowed = object.optBoolean("leadersAlwaysAllowed", false);
         List<String> levelAuras = object.has("levelAuras") ? object.getJSONArray("levelAuras").toList().stream().map(Object::toString).collect(Collectors.toList()) : List.of();
-        String description = object.optString("description", null);
+        String description = Compaction.string(object.optString("description", null));
 
         return new Mission(reward, node, nodeKey, faction, maxEnemyLevel, minEnemyLevel, maxWaveNum,
                 type, nightmare, archwingRequired, sharkwing, enemySpec, levelOverride,
-                advancedSpawners, requiredItems, consumeRequiredItems, leadersAlwaysAllowed,
-                levelAuras, description);
+                Compaction.strings(advancedSpawners), Compaction.strings(requiredItems), consumeRequiredItems, leadersAlwaysAllowed,
+                Compaction.strings(levelAuras), description);
+    }
+
+    /**
+     * Reads a Mission instance from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing the mission details.
+     * @return A new Mission instance with the parsed details, or null if the value is null.
+     * @throws IOException If the source cannot be read.
+     */
+    public static Mission read(JsonReader reader) throws IOException {
+        if (reader.skipNull()) {
+            return null;
+        }
+
+        Reward reward = null;
+        String node = null;
+        String nodeKey = null;
+        String faction = null;
+        int maxEnemyLevel = -1;
+        int minEnemyLevel = -1;
+        int maxWaveNum = -1;
+        String type = null;
+        boolean nightmare = false;
+        boolean archwingRequired = false;
+        boolean sharkwing = false;
+        String enemySpec = null;
+        String levelOverride = null;
+        List<String> advancedSpawners = List.of();
+        List<String> requiredItems = List.of();
+        boolean consumeRequiredItems = false;
+        boolean leadersAlwaysAllowed = false;
+        List<String> levelAuras = List.of();
+        String description = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "reward":
+                    reward = Reward.read(reader);
+                    break;
+                case "node":
+                    node = Compaction.string(reader.nextString());
+                    break;
+                case "nodeKey":
+                    nodeKey = Compaction.string(reader.nextString());
+                    break;
+                case "faction":
+                    faction = reader.nextString();
+                    break;
+                case "maxEnemyLevel":
+                    maxEnemyLevel = reader.nextNumber(-1).intValue();
+                    break;
+                case "minEnemyLevel":
+                    minEnemyLevel = reader.nextNumber(-1).intValue();
+                    break;
+                case "maxWaveNum":
+                    maxWaveNum = reader.nextNumber(-1).intValue();
+                    break;
+                case "type":
+                    type = reader.nextString();
+                    break;
+                case "nightmare":
+                    nightmare = reader.nextBoolean();
+                    break;
+                case "archwingRequired":
+                    archwingRequired = reader.nextBoolean();
+                    break;
+                case "sharkwing":
+                    sharkwing = reader.nextBoolean();
+                    break;
+                case "enemySpec":
+                    enemySpec = Compaction.string(reader.nextString());
+                    break;
+                case "levelOverride":
+                    levelOverride = Compaction.string(reader.nextString());
+                    break;
+                case "advancedSpawners":
+                    advancedSpawners = reader.nextList(JsonReader::nextString);
+                    break;
+                case "requiredItems":
+                    requiredItems = reader.nextList(JsonReader::nextString);
+                    break;
+                case "consumeRequiredItems":
+                    consumeRequiredItems = reader.nextBoolean();
+                    break;
+                case "leadersAlwaysAllowed":
+                    leadersAlwaysAllowed = reader.nextBoolean();
+                    break;
+                case "levelAuras":
+                    levelAuras = reader.nextList(JsonReader::nextString);
+                    break;
+                case "description":
+                    description = Compaction.string(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Mission(reward, node, nodeKey, Faction.fromString(faction), maxEnemyLevel, minEnemyLevel, maxWaveNum,
+                MissionType.fromString(type), nightmare, archwingRequired, sharkwing, enemySpec, levelOverride,
+                Compaction.strings(advancedSpawners), Compaction.strings(requiredItems), consumeRequiredItems, leadersAlwaysAllowed,
+                Compaction.strings(levelAuras), description);
     }
 
     @Override
@@ -136,4 +245,29 @@ public class Mission implements Serializable, IJsonMapping {
 
         return json;
     }
+
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject()
+                .field("reward", reward)
+                .field("node", node)
+                .field("nodeKey", nodeKey)
+                .field("faction", faction != null ? faction.toString() : null)
+                .field("maxEnemyLevel", maxEnemyLevel != null ? maxEnemyLevel : -1)
+                .field("minEnemyLevel", minEnemyLevel != null ? minEnemyLevel : -1)
+                .field("maxWaveNum", maxWaveNum != null ? maxWaveNum : -1)
+                .field("type", type != null ? type.toString() : null)
+                .field("nightmare", nightmare)
+                .field("archwingRequired", archwingRequired)
+                .field("sharkwing", sharkwing)
+                .field("enemySpec", enemySpec)
+                .field("levelOverride", levelOverride)
+                .field("advancedSpawners", advancedSpawners != null ? advancedSpawners : List.of())
+                .field("requiredItems", requiredItems != null ? requiredItems : List.of())
+                .field("consumeRequiredItems", consumeRequiredItems)
+                .field("leadersAlwaysAllowed", leadersAlwaysAllowed)
+                .field("levelAuras", levelAuras != null ? levelAuras : List.of())
+                .field("description", description)
+                .endObject();
+    }
 }
\ No newline at end of file
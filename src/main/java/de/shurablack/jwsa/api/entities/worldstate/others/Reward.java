@@ -1,11 +1,15 @@
 package de.shurablack.jwsa.api.entities.worldstate.others;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
+import de.shurablack.jwsa.api.utils.Compaction;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
@@ -62,18 +66,72 @@ public class Reward implements Serializable, IJsonMapping {
             }
         }
 
-        String thumbnail = json.optString("thumbnail", null);
+        String thumbnail = Compaction.string(json.optString("thumbnail", null));
         Number color = json.optNumber("color", -1);
         int credits = json.optInt("credits", -1);
-        String asString = json.optString("asString", null);
+        String asString = Compaction.string(json.optString("asString", null));
         List<String> items = json.optJSONArray("items") != null
                 ? json.getJSONArray("items").toList().stream()
                 .map(Object::toString)
                 .collect(Collectors.toList())
                 : List.of();
-        String itemString = json.optString("itemString", null);
+        String itemString = Compaction.string(json.optString("itemString", null));
 
-        return new Reward(countedItems, thumbnail, color, credits, asString, items, itemString);
+        return new Reward(Compaction.list(countedItems), thumbnail, color, credits, asString, Compaction.strings(items), itemString);
+    }
+
+    /**
+     * Reads a Reward instance from the next value of the reader in a single pass,
+     * like {@link #deserialize(JSONObject)}.
+     *
+     * @param reader The reader positioned at the JSON object containing the reward details.
+     * @return A new Reward instance with the parsed details, or null if the value is null.
+     * @throws IOException If the source cannot be read.
+     */
+    public static Reward read(JsonReader reader) throws IOException {
+        if (reader.skipNull()) {
+            return null;
+        }
+
+        List<Item> countedItems = new ArrayList<>();
+        String thumbnail = null;
+        Number color = -1;
+        int credits = -1;
+        String asString = null;
+        List<String> items = new ArrayList<>();
+        String itemString = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "countedItems":
+                    countedItems = reader.nextList(Item::read);
+                    break;
+                case "thumbnail":
+                    thumbnail = Compaction.string(reader.nextString());
+                    break;
+                case "color":
+                    color = reader.nextNumber(-1);
+                    break;
+                case "credits":
+                    credits = reader.nextNumber(-1).intValue();
+                    break;
+                case "asString":
+                    asString = Compaction.string(reader.nextString());
+                    break;
+                case "items":
+                    items = reader.nextList(JsonReader::nextString);
+                    break;
+                case "itemString":
+                    itemString = Compaction.string(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Reward(Compaction.list(countedItems), thumbnail, color, credits, asString, Compaction.strings(items), itemString);
     }
 
     @Override
@@ -89,6 +147,27 @@ public class Reward implements Serializable, IJsonMapping {
         return json;
     }
 
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        writer.beginObject();
+
+        writer.name("countedItems").beginArray();
+        if (countedItems != null) {
+            for (Item item : countedItems) {
+                writer.value(item);
+            }
+        }
+        writer.endArray();
+
+        writer.optField("thumbnail", thumbnail)
+                .optField("color", color)
+                .field("credits", credits)
+                .optField("asString", asString)
+                .field("items", items != null ? items : List.of())
+                .optField("itemString", itemString)
+                .endObject();
+    }
+
     /**
      * Represents an individual item in the reward.
      */
@@ -115,11 +194,45 @@ public class Reward implements Serializable, IJsonMapping {
                 return null;
             }
 
-            String type = json.getString("type");
+            String type = Compaction.string(json.getString("type"));
             int count = json.optInt("count", 1);
             return new Item(type, count);
         }
 
+        /**
+         * Reads an Item instance from the next value of the reader in a single pass,
+         * like {@link #deserialize(JSONObject)}.
+         *
+         * @param reader The reader positioned at the JSON object containing the item details.
+         * @return A new Item instance with the parsed details, or null if the value is null.
+         * @throws IOException If the source cannot be read.
+         */
+        public static Item read(JsonReader reader) throws IOException {
+            if (reader.skipNull()) {
+                return null;
+            }
+
+            String type = null;
+            int count = 1;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "type":
+                        type = Compaction.string(reader.nextString());
+                        break;
+                    case "count":
+                        count = reader.nextNumber(1).intValue();
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            return new Item(type, count);
+        }
+
         @Override
         public JSONObject serialize() {
             JSONObject json = new JSONObject();
@@ -127,5 +240,13 @@ public class Reward implements Serializable, IJsonMapping {
             json.put("count", count);
             return json;
         }
+
+        @Override
+        public void writeJson(JsonWriter writer) throws IOException {
+            writer.beginObject()
+                    .field("type", type)
+                    .field("count", count)
+                    .endObject();
+        }
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import de.shurablack.jwsa.api.entities.worldstate.planet.sub.ArchimedeaMission;
 import de.shurablack.jwsa.api.entities.worldstate.planet.sub.PersonalModifier;
 import de.shurablack.jwsa.api.requests.Paths;
 import de.shurablack.jwsa.api.requests.Requests;
+import de.shurablack.jwsa.api.utils.Compaction;
 import de.shurablack.jwsa.api.utils.Persistence;
 import de.shurablack.jwsa.api.utils.ServerOffsetTime;
 import lombok.AllArgsConstructor;
@@ -69,7 +70,7 @@ public class DeepArchimedea implements Serializable, IJsonMapping {
             }
         }
 
-        return new DeepArchimedea(id, activation, expiry, missions, personalModifiers);
+        return new DeepArchimedea(id, activation, expiry, Compaction.list(missions), Compaction.list(personalModifiers));
     }
 
     @Override
@@ -1,6 +1,7 @@
 package de.shurablack.jwsa.api.entities.worldstate.planet.sub;
 
 import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.utils.Compaction;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.json.JSONObject;
@@ -45,7 +46,7 @@ public class ArchimedeaMission implements Serializable, IJsonMapping {
             }
         }
 
-        return new ArchimedeaMission(mission, deviation, riskVariables);
+        return new ArchimedeaMission(mission, deviation, Compaction.list(riskVariables));
     }
 
     @Override
@@ -3,17 +3,19 @@ package de.shurablack.jwsa.api.entities.worldstate.relay;
 import de.shurablack.jwsa.api.entities.IJsonMapping;
 import de.shurablack.jwsa.api.requests.Paths;
 import de.shurablack.jwsa.api.requests.Requests;
+import de.shurablack.jwsa.api.utils.ServerOffsetTime;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.json.JSONObject;
 
 import java.io.Serializable;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * Represents a Flash Sale in the worldstate, containing details such as the item being sold,
- * its discount, whether it is expired, and other related attributes.
+ * its discount, its activation and expiry, and other related attributes.
  */
 @AllArgsConstructor
 @Getter
@@ -25,6 +27,12 @@ public class FlashSale implements Serializable, IJsonMapping {
     /** The name of the item being sold in the Flash Sale. */
     private final String item;
 
+    /** The activation time of the Flash Sale. */
+    private final LocalDateTime activation;
+
+    /** The expiry time of the Flash Sale. */
+    private final LocalDateTime expiry;
+
     /** Indicates whether the Flash Sale has expired. */
     private final boolean expired;
 
@@ -51,6 +59,8 @@ public class FlashSale implements Serializable, IJsonMapping {
      */
     public static FlashSale deserialize(JSONObject object) {
         String item = object.optString("item", null);
+        LocalDateTime activation = ServerOffsetTime.of(object.optString("activation", null));
+        LocalDateTime expiry = ServerOffsetTime.of(object.optString("expiry", null));
         boolean expired = object.optBoolean("expired", false);
         String eta = object.optString("eta", null);
         Number discount = object.optNumber("discount", -1);
@@ -58,13 +68,15 @@ public class FlashSale implements Serializable, IJsonMapping {
         boolean popular = object.optBoolean("popular", false);
         boolean featured = object.optBoolean("featured", false);
 
-        return new FlashSale(item, expired, eta, discount, premiumOverride, popular, featured);
+        return new FlashSale(item, activation, expiry, expired, eta, discount, premiumOverride, popular, featured);
     }
 
     @Override
     public JSONObject serialize() {
         JSONObject json = new JSONObject();
         json.put("item", item);
+        json.put("activation", activation != null ? activation.toString() : JSONObject.NULL);
+        json.put("expiry", expiry != null ? expiry.toString() : JSONObject.NULL);
         json.put("expired", expired);
         json.put("eta", eta);
         json.put("discount", discount);
@@ -3,6 +3,7 @@ package de.shurablack.jwsa.api.entities.worldstate.relay;
 import de.shurablack.jwsa.api.entities.IJsonMapping;
 import de.shurablack.jwsa.api.requests.Paths;
 import de.shurablack.jwsa.api.requests.Requests;
+import de.shurablack.jwsa.api.utils.Compaction;
 import de.shurablack.jwsa.api.utils.ServerOffsetTime;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -80,7 +81,7 @@ public class VoidTrader implements Serializable, IJsonMapping {
         String psId = object.optString("psId", null);
         String endString = object.optString("endString", null);
 
-        return new VoidTrader(id, activation, expiry, startString, active, character, location, inventory, psId, endString);
+        return new VoidTrader(id, activation, expiry, startString, active, character, location, Compaction.list(inventory), psId, endString);
     }
 
     @Override
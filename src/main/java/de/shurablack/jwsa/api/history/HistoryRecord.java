@@ -0,0 +1,33 @@
+package de.shurablack.jwsa.api.history;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.json.JSONObject;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * Represents a snapshot stored in a {@link HistoryStore} together with the time it was recorded.
+ */
+@AllArgsConstructor
+@Getter
+public class HistoryRecord {
+
+    /** The time the snapshot was recorded. */
+    private final Instant timestamp;
+
+    /** The reconstructed snapshot. */
+    private final JSONObject snapshot;
+
+    /**
+     * Deserializes the snapshot with the given function.
+     *
+     * @param deserializer The deserialization method of the entity (e.g., {@code VoidTrader::deserialize}).
+     * @param <T>          The type of the entity.
+     * @return The deserialized entity.
+     */
+    public <T> T as(Function<JSONObject, T> deserializer) {
+        return deserializer.apply(snapshot);
+    }
+}
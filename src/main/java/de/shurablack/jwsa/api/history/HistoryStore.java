@@ -0,0 +1,465 @@
+package de.shurablack.jwsa.api.history;
+
+import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.requests.cache.CompressionDictionary;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An append-only store recording the history of a worldstate section (e.g., the serialized
+ * {@code ConstructionProgress} or a wrapped list of fissures) in a directory of segment files.
+ * <p>
+ * Every {@code keyframeInterval}-th record stores the full snapshot, all other records only store a
+ * {@link JsonDelta} against the previous snapshot. Records are compressed with the dictionary pinned in the
+ * {@code dictionary.bin} file of the store, which is the {@link CompressionDictionary#DEFAULT} dictionary at the
+ * time the store was created. Later changes to the default dictionary therefore do not affect existing history.
+ * A new segment, always starting with a keyframe, is started
+ * once the current one exceeds {@code segmentBytes}, which allows dropping old history segment by segment.
+ * The timestamps of all records are indexed in memory, so point-in-time lookups only decode the records
+ * between the preceding keyframe and the requested time.
+ * <p>
+ * Snapshots equal to the previous one are not recorded. All methods are thread-safe.
+ */
+public class HistoryStore implements Closeable {
+
+    /** The default amount of records between two keyframes. */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 64;
+
+    /** The default size at which a new segment is started. */
+    public static final long DEFAULT_SEGMENT_BYTES = 16L * 1024 * 1024;
+
+    /** The prefix of segment file names. */
+    private static final String PREFIX = "segment-";
+
+    /** The suffix of segment file names. */
+    private static final String SUFFIX = ".hist";
+
+    /** The name of the file pinning the dictionary of a store. */
+    private static final String DICTIONARY_FILE = "dictionary.bin";
+
+    /** The directory holding the segment files. */
+    private final Path directory;
+
+    /** The dictionary used to compress the records, as pinned in the directory. */
+    private final CompressionDictionary dictionary;
+
+    /** The maximum amount of records between two keyframes. */
+    private final int keyframeInterval;
+
+    /** The size at which a new segment is started. */
+    private final long segmentBytes;
+
+    /** The segments of this store, ordered by time. The last segment is open for appending. */
+    private final List<Segment> segments = new ArrayList<>();
+
+    /** The latest recorded snapshot, or null if the store is empty. */
+    private JSONObject latest;
+
+    /** The amount of deltas appended since the last keyframe. */
+    private int sinceKeyframe;
+
+    /** Indicates whether the store has been closed. */
+    private boolean closed;
+
+    /**
+     * Private constructor to create a store over the given directory.
+     *
+     * @param directory        The directory holding the segment files.
+     * @param dictionary       The dictionary used to compress the records.
+     * @param keyframeInterval The maximum amount of records between two keyframes.
+     * @param segmentBytes     The size at which a new segment is started.
+     */
+    private HistoryStore(Path directory, CompressionDictionary dictionary, int keyframeInterval, long segmentBytes) {
+        this.directory = directory;
+        this.dictionary = dictionary;
+        this.keyframeInterval = keyframeInterval;
+        this.segmentBytes = segmentBytes;
+    }
+
+    /**
+     * Opens or creates a store in the given directory with the default settings.
+     *
+     * @param directory The directory holding the segment files.
+     * @return The opened {@link HistoryStore}.
+     * @throws IOException If the directory or its segments cannot be read.
+     */
+    public static HistoryStore open(Path directory) throws IOException {
+        return open(directory, DEFAULT_KEYFRAME_INTERVAL, DEFAULT_SEGMENT_BYTES);
+    }
+
+    /**
+     * Opens or creates a store in the given directory.
+     *
+     * @param directory        The directory holding the segment files.
+     * @param keyframeInterval The maximum amount of records between two keyframes.
+     * @param segmentBytes     The size at which a new segment is started.
+     * @return The opened {@link HistoryStore}.
+     * @throws IOException If the directory or its segments cannot be read.
+     */
+    public static HistoryStore open(Path directory, int keyframeInterval, long segmentBytes) throws IOException {
+        if (keyframeInterval < 1 || segmentBytes < 1) {
+            throw new IllegalArgumentException("The keyframe interval and the segment size must be positive");
+        }
+        Files.createDirectories(directory);
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+            }).sorted().collect(Collectors.toList());
+        }
+
+        HistoryStore store = new HistoryStore(directory, pinDictionary(directory), keyframeInterval, segmentBytes);
+        for (int i = 0; i < files.size(); i++) {
+            Segment segment = Segment.load(files.get(i), i == files.size() - 1);
+            if (segment.count() > 0) {
+                store.segments.add(segment);
+            } else {
+                segment.delete();
+            }
+        }
+
+        if (!store.segments.isEmpty()) {
+            int position = store.segments.size() - 1;
+            Segment last = store.segments.get(position);
+            if (!last.isWritable()) {
+                last = Segment.load(last.getFile(), true);
+                store.segments.set(position, last);
+            }
+            int index = last.count() - 1;
+            store.latest = store.reconstruct(last, index);
+            store.sinceKeyframe = index - last.keyframe(index);
+        }
+        return store;
+    }
+
+    /**
+     * Records the serialized representation of the given entity.
+     *
+     * @param timestamp The time of the snapshot.
+     * @param entity    The entity to record.
+     * @return true if the snapshot was recorded, false if it equals the latest snapshot.
+     * @throws IOException If the record cannot be written.
+     */
+    public boolean append(Instant timestamp, IJsonMapping entity) throws IOException {
+        return append(timestamp, entity.serialize());
+    }
+
+    /**
+     * Records the given snapshot. Timestamps must not decrease.
+     *
+     * @param timestamp The time of the snapshot.
+     * @param snapshot  The snapshot to record, it is copied and not modified.
+     * @return true if the snapshot was recorded, false if it equals the latest snapshot.
+     * @throws IOException If the record cannot be written.
+     */
+    public synchronized boolean append(Instant timestamp, JSONObject snapshot) throws IOException {
+        ensureOpen();
+        long millis = timestamp.toEpochMilli();
+        Segment active = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (active != null && millis < active.timestamp(active.count() - 1)) {
+            throw new IllegalArgumentException("Timestamp " + timestamp + " is before the latest record");
+        }
+
+        JSONObject copy = copy(snapshot);
+        if (latest != null && copy.similar(latest)) {
+            return false;
+        }
+
+        if (active == null || active.size() >= segmentBytes) {
+            if (active != null) {
+                active.seal();
+            }
+            active = Segment.create(directory.resolve(String.format("%s%020d%s", PREFIX, millis, SUFFIX)));
+            segments.add(active);
+            write(active, millis, Segment.KEYFRAME, copy);
+        } else if (sinceKeyframe + 1 >= keyframeInterval) {
+            write(active, millis, Segment.KEYFRAME, copy);
+        } else {
+            write(active, millis, Segment.DELTA, JsonDelta.diff(latest, copy));
+        }
+
+        latest = copy;
+        return true;
+    }
+
+    /**
+     * Reconstructs the snapshot recorded at or before the given time.
+     *
+     * @param timestamp The point in time.
+     * @return The snapshot valid at the given time, or null if nothing was recorded before.
+     * @throws IOException If the records cannot be read.
+     */
+    public synchronized HistoryRecord at(Instant timestamp) throws IOException {
+        ensureOpen();
+        long millis = timestamp.toEpochMilli();
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            Segment segment = segments.get(i);
+            int index = segment.floor(millis);
+            if (index >= 0) {
+                return new HistoryRecord(Instant.ofEpochMilli(segment.timestamp(index)), reconstruct(segment, index));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves all snapshots recorded within the given time range.
+     *
+     * @param from The start of the range, inclusive.
+     * @param to   The end of the range, inclusive.
+     * @return The recorded snapshots in chronological order.
+     * @throws IOException If the records cannot be read.
+     */
+    public List<HistoryRecord> range(Instant from, Instant to) throws IOException {
+        List<HistoryRecord> records = new ArrayList<>();
+        replay(from, to, records::add);
+        return records;
+    }
+
+    /**
+     * Replays all snapshots recorded within the given time range in chronological order.
+     * Each record holds its own copy of the snapshot.
+     *
+     * @param from     The start of the range, inclusive.
+     * @param to       The end of the range, inclusive.
+     * @param consumer The consumer receiving the records.
+     * @throws IOException If the records cannot be read.
+     */
+    public synchronized void replay(Instant from, Instant to, Consumer<HistoryRecord> consumer) throws IOException {
+        ensureOpen();
+        long start = from.toEpochMilli();
+        long end = to.toEpochMilli();
+
+        JSONObject state = null;
+        for (Segment segment : segments) {
+            int first = segment.ceiling(start);
+            int last = segment.floor(end);
+            if (first > last) {
+                continue;
+            }
+
+            int keyframe = segment.keyframe(first);
+            ByteBuffer buffer = segment.read(keyframe, last);
+            for (int index = keyframe; index <= last; index++) {
+                state = decode(buffer, state);
+                if (index >= first) {
+                    consumer.accept(new HistoryRecord(Instant.ofEpochMilli(segment.timestamp(index)), copy(state)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes all segments that only contain records before the given time.
+     * The snapshot valid at the given time is kept.
+     *
+     * @param timestamp The time before which history may be dropped.
+     * @return The amount of deleted segments.
+     * @throws IOException If a segment cannot be deleted.
+     */
+    public synchronized int deleteBefore(Instant timestamp) throws IOException {
+        ensureOpen();
+        long millis = timestamp.toEpochMilli();
+        int deleted = 0;
+        while (segments.size() > 1 && segments.get(1).timestamp(0) <= millis) {
+            segments.remove(0).delete();
+            deleted++;
+        }
+        return deleted;
+    }
+
+    /**
+     * Flushes all records to the storage device.
+     *
+     * @throws IOException If the records cannot be flushed.
+     */
+    public synchronized void sync() throws IOException {
+        ensureOpen();
+        if (!segments.isEmpty()) {
+            segments.get(segments.size() - 1).sync();
+        }
+    }
+
+    /**
+     * Retrieves the amount of recorded snapshots.
+     *
+     * @return The record count.
+     */
+    public synchronized long size() {
+        long count = 0;
+        for (Segment segment : segments) {
+            count += segment.count();
+        }
+        return count;
+    }
+
+    /**
+     * Retrieves the total size of all segment files.
+     *
+     * @return The size in bytes.
+     */
+    public synchronized long diskSize() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Retrieves the time of the first recorded snapshot.
+     *
+     * @return The time of the first record, or null if the store is empty.
+     */
+    public synchronized Instant getFirstTimestamp() {
+        return segments.isEmpty() ? null : Instant.ofEpochMilli(segments.get(0).timestamp(0));
+    }
+
+    /**
+     * Retrieves the time of the latest recorded snapshot.
+     *
+     * @return The time of the latest record, or null if the store is empty.
+     */
+    public synchronized Instant getLastTimestamp() {
+        if (segments.isEmpty()) {
+            return null;
+        }
+        Segment last = segments.get(segments.size() - 1);
+        return Instant.ofEpochMilli(last.timestamp(last.count() - 1));
+    }
+
+    /**
+     * Closes the segment open for appending. The store cannot be used afterwards.
+     *
+     * @throws IOException If the segment cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (!segments.isEmpty()) {
+            Segment last = segments.get(segments.size() - 1);
+            last.sync();
+            last.seal();
+        }
+    }
+
+    /**
+     * Compresses and appends a record to the given segment.
+     *
+     * @param segment   The segment to append to.
+     * @param timestamp The timestamp of the record.
+     * @param type      The type of the record.
+     * @param content   The snapshot or delta to store.
+     * @throws IOException If the record cannot be written.
+     */
+    private void write(Segment segment, long timestamp, byte type, JSONObject content) throws IOException {
+        byte[] raw = content.toString().getBytes(StandardCharsets.UTF_8);
+        segment.append(timestamp, type, dictionary.deflate(raw), raw.length);
+        sinceKeyframe = type == Segment.KEYFRAME ? 0 : sinceKeyframe + 1;
+    }
+
+    /**
+     * Reconstructs the snapshot of the given record from its preceding keyframe.
+     *
+     * @param segment The segment of the record.
+     * @param index   The index of the record.
+     * @return The reconstructed snapshot.
+     * @throws IOException If the records cannot be read.
+     */
+    private JSONObject reconstruct(Segment segment, int index) throws IOException {
+        int keyframe = segment.keyframe(index);
+        ByteBuffer buffer = segment.read(keyframe, index);
+        JSONObject state = null;
+        for (int i = keyframe; i <= index; i++) {
+            state = decode(buffer, state);
+        }
+        return state;
+    }
+
+    /**
+     * Decodes the next record of the buffer and applies it to the given state.
+     *
+     * @param buffer The buffer positioned at the record.
+     * @param state  The snapshot before the record, or null before a keyframe.
+     * @return The snapshot after the record.
+     */
+    private JSONObject decode(ByteBuffer buffer, JSONObject state) {
+        buffer.getInt();
+        int length = buffer.getInt();
+        buffer.getLong();
+        byte type = buffer.get();
+        int rawLength = buffer.getInt();
+
+        ByteBuffer payload = buffer.slice();
+        payload.limit(length);
+        buffer.position(buffer.position() + length);
+
+        byte[] raw = dictionary.inflate(payload, rawLength);
+        JSONObject content = new JSONObject(new JSONTokener(
+                new InputStreamReader(new ByteArrayInputStream(raw), StandardCharsets.UTF_8)));
+        return type == Segment.KEYFRAME || state == null ? content : JsonDelta.apply(state, content);
+    }
+
+    /**
+     * Loads the dictionary pinned in the given directory.
+     * If none is pinned yet, the current {@link CompressionDictionary#DEFAULT} dictionary is pinned.
+     * Stores created before dictionaries were pinned were compressed with that dictionary as well.
+     *
+     * @param directory The directory holding the segment files.
+     * @return The pinned dictionary.
+     * @throws IOException If the dictionary cannot be read or pinned.
+     */
+    private static CompressionDictionary pinDictionary(Path directory) throws IOException {
+        Path file = directory.resolve(DICTIONARY_FILE);
+        if (Files.exists(file)) {
+            return CompressionDictionary.of(Files.readAllBytes(file));
+        }
+
+        Path temp = Files.createTempFile(directory, DICTIONARY_FILE, ".tmp");
+        Files.write(temp, CompressionDictionary.DEFAULT.toByteArray());
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        return CompressionDictionary.DEFAULT;
+    }
+
+    /**
+     * Creates a deep copy of a snapshot.
+     *
+     * @param snapshot The snapshot to copy.
+     * @return The copy.
+     */
+    private static JSONObject copy(JSONObject snapshot) {
+        return new JSONObject(snapshot.toString());
+    }
+
+    /**
+     * Ensures that the store has not been closed.
+     *
+     * @throws IllegalStateException If the store has been closed.
+     */
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("History store has been closed");
+        }
+    }
+}
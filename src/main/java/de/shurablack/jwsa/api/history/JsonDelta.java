@@ -0,0 +1,266 @@
+package de.shurablack.jwsa.api.history;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Utility class computing and applying structural deltas between two JSON snapshots.
+ * Objects are compared key by key, nested objects are diffed recursively and arrays of entities carrying an
+ * {@code id} (fissures, alerts, invasions, ...) are diffed by id, so a single changed entity only stores its
+ * changed fields. All other values are replaced as a whole.
+ * <p>
+ * An object delta may contain {@code "set"} (replaced or added keys), {@code "del"} (removed keys),
+ * {@code "sub"} (deltas of nested objects) and {@code "arr"} (deltas of entity arrays).
+ * An array delta contains {@code "ids"} (the ids in their new order), {@code "set"} (new entities by id)
+ * and {@code "sub"} (deltas of changed entities by id).
+ */
+public class JsonDelta {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private JsonDelta() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Computes the delta transforming the previous snapshot into the current one.
+     *
+     * @param previous The previous snapshot.
+     * @param current  The current snapshot.
+     * @return The delta, empty if both snapshots are equal.
+     */
+    public static JSONObject diff(JSONObject previous, JSONObject current) {
+        JSONObject set = new JSONObject();
+        JSONObject sub = new JSONObject();
+        JSONObject arr = new JSONObject();
+        JSONArray del = new JSONArray();
+
+        for (String key : previous.keySet()) {
+            if (!current.has(key)) {
+                del.put(key);
+            }
+        }
+
+        for (String key : current.keySet()) {
+            Object after = current.get(key);
+            Object before = previous.opt(key);
+            if (before == null) {
+                set.put(key, after);
+            } else if (before instanceof JSONObject && after instanceof JSONObject) {
+                JSONObject delta = diff((JSONObject) before, (JSONObject) after);
+                if (!delta.isEmpty()) {
+                    sub.put(key, delta);
+                }
+            } else if (isEntityArray(before) && isEntityArray(after)) {
+                JSONObject delta = diffArray((JSONArray) before, (JSONArray) after);
+                if (delta != null) {
+                    arr.put(key, delta);
+                }
+            } else if (!same(before, after)) {
+                set.put(key, after);
+            }
+        }
+
+        JSONObject delta = new JSONObject();
+        if (!set.isEmpty()) {
+            delta.put("set", set);
+        }
+        if (!del.isEmpty()) {
+            delta.put("del", del);
+        }
+        if (!sub.isEmpty()) {
+            delta.put("sub", sub);
+        }
+        if (!arr.isEmpty()) {
+            delta.put("arr", arr);
+        }
+        return delta;
+    }
+
+    /**
+     * Applies a delta computed by {@link #diff(JSONObject, JSONObject)} to the given snapshot.
+     * The snapshot is modified in place.
+     *
+     * @param base  The snapshot the delta was computed against.
+     * @param delta The delta to apply.
+     * @return The updated snapshot.
+     */
+    public static JSONObject apply(JSONObject base, JSONObject delta) {
+        JSONArray del = delta.optJSONArray("del");
+        if (del != null) {
+            for (int i = 0; i < del.length(); i++) {
+                base.remove(del.getString(i));
+            }
+        }
+
+        JSONObject set = delta.optJSONObject("set");
+        if (set != null) {
+            for (String key : set.keySet()) {
+                base.put(key, set.get(key));
+            }
+        }
+
+        JSONObject sub = delta.optJSONObject("sub");
+        if (sub != null) {
+            for (String key : sub.keySet()) {
+                apply(base.getJSONObject(key), sub.getJSONObject(key));
+            }
+        }
+
+        JSONObject arr = delta.optJSONObject("arr");
+        if (arr != null) {
+            for (String key : arr.keySet()) {
+                base.put(key, applyArray(base.getJSONArray(key), arr.getJSONObject(key)));
+            }
+        }
+        return base;
+    }
+
+    /**
+     * Computes the delta between two entity arrays.
+     *
+     * @param previous The previous array.
+     * @param current  The current array.
+     * @return The array delta, or null if both arrays are equal.
+     */
+    private static JSONObject diffArray(JSONArray previous, JSONArray current) {
+        Map<String, JSONObject> before = byId(previous);
+        JSONArray ids = new JSONArray();
+        JSONObject set = new JSONObject();
+        JSONObject sub = new JSONObject();
+        boolean reordered = previous.length() != current.length();
+
+        for (int i = 0; i < current.length(); i++) {
+            JSONObject entity = current.getJSONObject(i);
+            String id = id(entity);
+            ids.put(id);
+
+            JSONObject old = before.get(id);
+            if (old == null) {
+                set.put(id, entity);
+            } else {
+                JSONObject delta = diff(old, entity);
+                if (!delta.isEmpty()) {
+                    sub.put(id, delta);
+                }
+            }
+            if (!reordered && !id.equals(id(previous.getJSONObject(i)))) {
+                reordered = true;
+            }
+        }
+
+        if (!reordered && set.isEmpty() && sub.isEmpty()) {
+            return null;
+        }
+        JSONObject delta = new JSONObject().put("ids", ids);
+        if (!set.isEmpty()) {
+            delta.put("set", set);
+        }
+        if (!sub.isEmpty()) {
+            delta.put("sub", sub);
+        }
+        return delta;
+    }
+
+    /**
+     * Applies an array delta to the given entity array.
+     *
+     * @param base  The entity array the delta was computed against.
+     * @param delta The array delta.
+     * @return The updated entity array.
+     */
+    private static JSONArray applyArray(JSONArray base, JSONObject delta) {
+        Map<String, JSONObject> before = byId(base);
+        JSONObject set = delta.optJSONObject("set");
+        JSONObject sub = delta.optJSONObject("sub");
+        JSONArray ids = delta.getJSONArray("ids");
+
+        JSONArray result = new JSONArray();
+        for (int i = 0; i < ids.length(); i++) {
+            String id = ids.getString(i);
+            if (set != null && set.has(id)) {
+                result.put(set.getJSONObject(id));
+                continue;
+            }
+            JSONObject entity = before.get(id);
+            if (sub != null && sub.has(id)) {
+                apply(entity, sub.getJSONObject(id));
+            }
+            result.put(entity);
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether the given value is a non-empty array of objects with unique ids.
+     *
+     * @param value The value to check.
+     * @return true if the value can be diffed by id, false otherwise.
+     */
+    private static boolean isEntityArray(Object value) {
+        if (!(value instanceof JSONArray) || ((JSONArray) value).isEmpty()) {
+            return false;
+        }
+        JSONArray array = (JSONArray) value;
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < array.length(); i++) {
+            Object element = array.get(i);
+            if (!(element instanceof JSONObject) || !((JSONObject) element).has("id")
+                    || !ids.add(id((JSONObject) element))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indexes the entities of an array by id.
+     *
+     * @param array The entity array.
+     * @return A map of each id to its entity.
+     */
+    private static Map<String, JSONObject> byId(JSONArray array) {
+        Map<String, JSONObject> entities = new HashMap<>();
+        for (int i = 0; i < array.length(); i++) {
+            JSONObject entity = array.getJSONObject(i);
+            entities.put(id(entity), entity);
+        }
+        return entities;
+    }
+
+    /**
+     * Retrieves the id of an entity as string.
+     *
+     * @param entity The entity.
+     * @return The id of the entity.
+     */
+    private static String id(JSONObject entity) {
+        return String.valueOf(entity.get("id"));
+    }
+
+    /**
+     * Compares two JSON values by content.
+     *
+     * @param a The first value.
+     * @param b The second value.
+     * @return true if both values are equal, false otherwise.
+     */
+    private static boolean same(Object a, Object b) {
+        if (a instanceof JSONObject && b instanceof JSONObject) {
+            return ((JSONObject) a).similar(b);
+        }
+        if (a instanceof JSONArray && b instanceof JSONArray) {
+            return ((JSONArray) a).similar(b);
+        }
+        if (a instanceof Number && b instanceof Number) {
+            return ((Number) a).doubleValue() == ((Number) b).doubleValue();
+        }
+        return a.equals(b);
+    }
+}
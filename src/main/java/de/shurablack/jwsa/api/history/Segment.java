@@ -0,0 +1,330 @@
+package de.shurablack.jwsa.api.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * A single append-only file of a {@link HistoryStore}. Every segment starts with a keyframe,
+ * so it can be decoded without any other segment.
+ * <p>
+ * Each record consists of a header ({@code crc}, {@code payload length}, {@code timestamp}, {@code type},
+ * {@code raw length}) followed by the compressed payload. The CRC covers everything after itself.
+ * The timestamps and offsets of all records are kept in memory as the time index of the segment.
+ */
+class Segment {
+
+    /** The size of the record header in bytes. */
+    static final int HEADER_SIZE = 4 + 4 + 8 + 1 + 4;
+
+    /** The record type of a full snapshot. */
+    static final byte KEYFRAME = 0;
+
+    /** The record type of a delta against the previous snapshot. */
+    static final byte DELTA = 1;
+
+    /** The file of this segment. */
+    private final Path file;
+
+    /** The timestamps of the records in epoch milliseconds. */
+    private long[] timestamps = new long[64];
+
+    /** The file offsets of the records. */
+    private long[] offsets = new long[64];
+
+    /** The types of the records. */
+    private byte[] types = new byte[64];
+
+    /** The amount of records in this segment. */
+    private int count;
+
+    /** The size of the valid part of the file in bytes. */
+    private long size;
+
+    /** The channel used for appending, or null if the segment is sealed. */
+    private FileChannel writer;
+
+    /**
+     * Creates a segment for the given file.
+     *
+     * @param file The file of the segment.
+     */
+    private Segment(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Creates a new, empty segment open for appending.
+     *
+     * @param file The file of the segment.
+     * @return The new {@link Segment}.
+     * @throws IOException If the file cannot be created.
+     */
+    static Segment create(Path file) throws IOException {
+        Segment segment = new Segment(file);
+        segment.writer = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        return segment;
+    }
+
+    /**
+     * Loads the time index of an existing segment. The records of a writable segment are verified,
+     * and a torn record at its end, e.g. after a crash during an append, is cut off.
+     *
+     * @param file     The file of the segment.
+     * @param writable Whether the segment is opened for appending.
+     * @return The loaded {@link Segment}.
+     * @throws IOException If the file cannot be read.
+     */
+    static Segment load(Path file, boolean writable) throws IOException {
+        Segment segment = new Segment(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            long offset = 0;
+            while (offset + HEADER_SIZE <= fileSize) {
+                header.clear();
+                channel.read(header, offset);
+                header.flip();
+                int crc = header.getInt();
+                int length = header.getInt();
+                long timestamp = header.getLong();
+                byte type = header.get();
+                if (length < 0 || offset + HEADER_SIZE + length > fileSize
+                        || writable && crc != checksum(channel, header, offset, length)) {
+                    break;
+                }
+                segment.index(timestamp, offset, type);
+                offset += HEADER_SIZE + length;
+            }
+            segment.size = offset;
+        }
+
+        if (writable) {
+            segment.writer = FileChannel.open(file, StandardOpenOption.WRITE);
+            segment.writer.truncate(segment.size);
+        }
+        return segment;
+    }
+
+    /**
+     * Appends a record to this segment.
+     *
+     * @param timestamp The timestamp of the record in epoch milliseconds.
+     * @param type      The type of the record.
+     * @param payload   The compressed payload.
+     * @param rawLength The length of the uncompressed payload.
+     * @throws IOException If the record cannot be written.
+     */
+    void append(long timestamp, byte type, byte[] payload, int rawLength) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+        record.putInt(0).putInt(payload.length).putLong(timestamp).put(type).putInt(rawLength).put(payload);
+
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 4, record.capacity() - 4);
+        record.putInt(0, (int) crc.getValue());
+        record.flip();
+
+        long offset = size;
+        while (record.hasRemaining()) {
+            writer.write(record, offset + record.position());
+        }
+        index(timestamp, offset, type);
+        size += record.capacity();
+    }
+
+    /**
+     * Flushes all appended records to the storage device.
+     *
+     * @throws IOException If the records cannot be flushed.
+     */
+    void sync() throws IOException {
+        if (writer != null) {
+            writer.force(false);
+        }
+    }
+
+    /**
+     * Seals this segment, no further records can be appended.
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    void seal() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    /**
+     * Reads the records in the given index range.
+     *
+     * @param from The index of the first record, inclusive.
+     * @param to   The index of the last record, inclusive.
+     * @return A buffer positioned at the first record and limited after the last record.
+     * @throws IOException If the records cannot be read.
+     */
+    ByteBuffer read(int from, int to) throws IOException {
+        long start = offsets[from];
+        long end = to + 1 < count ? offsets[to + 1] : size;
+        ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of segment " + file);
+                }
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Finds the last record with a timestamp at or before the given time.
+     *
+     * @param timestamp The time in epoch milliseconds.
+     * @return The index of the record, or -1 if all records are later.
+     */
+    int floor(long timestamp) {
+        int index = Arrays.binarySearch(timestamps, 0, count, timestamp);
+        if (index < 0) {
+            return -index - 2;
+        }
+        while (index + 1 < count && timestamps[index + 1] == timestamp) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Finds the first record with a timestamp at or after the given time.
+     *
+     * @param timestamp The time in epoch milliseconds.
+     * @return The index of the record, or {@link #count()} if all records are earlier.
+     */
+    int ceiling(long timestamp) {
+        int index = Arrays.binarySearch(timestamps, 0, count, timestamp);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index > 0 && timestamps[index - 1] == timestamp) {
+            index--;
+        }
+        return index;
+    }
+
+    /**
+     * Finds the last keyframe at or before the given record.
+     *
+     * @param index The index of the record.
+     * @return The index of the keyframe.
+     */
+    int keyframe(int index) {
+        while (index > 0 && types[index] != KEYFRAME) {
+            index--;
+        }
+        return index;
+    }
+
+    /**
+     * Checks whether records can be appended to this segment.
+     *
+     * @return true if the segment is open for appending, false if it is sealed.
+     */
+    boolean isWritable() {
+        return writer != null;
+    }
+
+    /**
+     * Retrieves the file of this segment.
+     *
+     * @return The path of the segment file.
+     */
+    Path getFile() {
+        return file;
+    }
+
+    /**
+     * Retrieves the amount of records in this segment.
+     *
+     * @return The record count.
+     */
+    int count() {
+        return count;
+    }
+
+    /**
+     * Retrieves the size of this segment.
+     *
+     * @return The size in bytes.
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the timestamp of a record.
+     *
+     * @param index The index of the record.
+     * @return The timestamp in epoch milliseconds.
+     */
+    long timestamp(int index) {
+        return timestamps[index];
+    }
+
+    /**
+     * Deletes the file of this segment.
+     *
+     * @throws IOException If the file cannot be deleted.
+     */
+    void delete() throws IOException {
+        seal();
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Adds a record to the time index.
+     *
+     * @param timestamp The timestamp of the record.
+     * @param offset    The file offset of the record.
+     * @param type      The type of the record.
+     */
+    private void index(long timestamp, long offset, byte type) {
+        if (count == timestamps.length) {
+            timestamps = Arrays.copyOf(timestamps, count * 2);
+            offsets = Arrays.copyOf(offsets, count * 2);
+            types = Arrays.copyOf(types, count * 2);
+        }
+        timestamps[count] = timestamp;
+        offsets[count] = offset;
+        types[count] = type;
+        count++;
+    }
+
+    /**
+     * Computes the CRC of a record as stored in its header.
+     *
+     * @param channel The channel to read the payload from.
+     * @param header  The header of the record.
+     * @param offset  The file offset of the record.
+     * @param length  The length of the payload.
+     * @return The CRC of the record.
+     * @throws IOException If the payload cannot be read.
+     */
+    private static int checksum(FileChannel channel, ByteBuffer header, long offset, int length) throws IOException {
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        while (payload.hasRemaining()) {
+            if (channel.read(payload, offset + HEADER_SIZE + payload.position()) < 0) {
+                return 0;
+            }
+        }
+        CRC32 crc = new CRC32();
+        crc.update(header.array(), 4, HEADER_SIZE - 4);
+        crc.update(payload.array());
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,105 @@
+package de.shurablack.jwsa.api.index;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.function.Function;
+
+/**
+ * Describes an enum-valued property of an entity indexed by an {@link EntityIndex}.
+ * For every constant of the enum the index keeps a bitmap of the entities having that value.
+ *
+ * @param <T> The type of the indexed entities.
+ * @param <V> The enum type of the property.
+ */
+public class Dimension<T, V extends Enum<V>> {
+
+    /** The name of the dimension, used for logging and debugging. */
+    private final String name;
+
+    /** The enum type of the property. */
+    private final Class<V> type;
+
+    /** The function extracting the values of an entity, may return null or an empty collection. */
+    private final Function<T, Collection<V>> extractor;
+
+    /**
+     * Private constructor to create a dimension.
+     *
+     * @param name      The name of the dimension.
+     * @param type      The enum type of the property.
+     * @param extractor The function extracting the values of an entity.
+     */
+    private Dimension(String name, Class<V> type, Function<T, Collection<V>> extractor) {
+        this.name = name;
+        this.type = type;
+        this.extractor = extractor;
+    }
+
+    /**
+     * Creates a dimension for a single-valued property.
+     *
+     * @param name      The name of the dimension.
+     * @param type      The enum type of the property.
+     * @param extractor The function extracting the value of an entity, may return null.
+     * @param <T>       The type of the indexed entities.
+     * @param <V>       The enum type of the property.
+     * @return A new {@link Dimension}.
+     */
+    public static <T, V extends Enum<V>> Dimension<T, V> of(String name, Class<V> type, Function<T, V> extractor) {
+        return new Dimension<>(name, type, entity -> {
+            V value = extractor.apply(entity);
+            return value == null ? Collections.emptyList() : Collections.singletonList(value);
+        });
+    }
+
+    /**
+     * Creates a dimension for a multi-valued property, e.g. the reward types of an invasion.
+     *
+     * @param name      The name of the dimension.
+     * @param type      The enum type of the property.
+     * @param extractor The function extracting the values of an entity, may return null.
+     * @param <T>       The type of the indexed entities.
+     * @param <V>       The enum type of the property.
+     * @return A new {@link Dimension}.
+     */
+    public static <T, V extends Enum<V>> Dimension<T, V> ofMany(String name, Class<V> type,
+                                                                Function<T, Collection<V>> extractor) {
+        return new Dimension<>(name, type, entity -> {
+            Collection<V> values = extractor.apply(entity);
+            return values == null ? Collections.emptyList() : values;
+        });
+    }
+
+    /**
+     * Retrieves the name of this dimension.
+     *
+     * @return The name of the dimension.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the enum type of this dimension.
+     *
+     * @return The enum class of the property.
+     */
+    public Class<V> getType() {
+        return type;
+    }
+
+    /**
+     * Extracts the values of the given entity.
+     *
+     * @param entity The entity.
+     * @return The values of the entity, never null.
+     */
+    public Collection<V> values(T entity) {
+        return extractor.apply(entity);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
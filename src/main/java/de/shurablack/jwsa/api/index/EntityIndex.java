@@ -0,0 +1,307 @@
+package de.shurablack.jwsa.api.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * An in-memory index over a set of entities (e.g., the current fissures) answering conjunctive queries
+ * over enum-valued {@link Dimension}s and boolean {@link Flag}s with bitmap operations instead of linear filtering.
+ * <p>
+ * Every entity occupies a slot; for each dimension value and each flag a {@link BitSet} over the slots is kept.
+ * {@link #update(Collection)} only touches the slots of added, removed or changed entities, so refreshing
+ * the index after a poll is proportional to the amount of changes. Queries and updates may run concurrently.
+ *
+ * @param <T> The type of the indexed entities.
+ */
+public class EntityIndex<T> {
+
+    /** The function extracting the identity of an entity. */
+    private final Function<T, ?> key;
+
+    /** The bitmaps of each dimension, indexed by the ordinal of the enum value. */
+    private final Map<Dimension<T, ?>, BitSet[]> dimensions = new IdentityHashMap<>();
+
+    /** The bitmaps of each flag. */
+    private final Map<Flag<T>, BitSet> flags = new IdentityHashMap<>();
+
+    /** The slots of all occupied entities. */
+    private final BitSet live = new BitSet();
+
+    /** The slot of each entity by its identity. */
+    private final Map<Object, Integer> slots = new HashMap<>();
+
+    /** The entities by slot, null for free slots. */
+    private final List<T> entities = new ArrayList<>();
+
+    /** The slots freed by removed entities, reused before new slots are allocated. */
+    private final Deque<Integer> free = new ArrayDeque<>();
+
+    /** The lock separating queries from updates. */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates a new, empty index.
+     *
+     * @param key        The function extracting the identity of an entity (e.g., {@code Fissure::getId}).
+     * @param dimensions The indexed dimensions.
+     * @param flags      The indexed flags.
+     */
+    public EntityIndex(Function<T, ?> key, List<Dimension<T, ?>> dimensions, List<Flag<T>> flags) {
+        this.key = key;
+        for (Dimension<T, ?> dimension : dimensions) {
+            BitSet[] bitmaps = new BitSet[dimension.getType().getEnumConstants().length];
+            for (int i = 0; i < bitmaps.length; i++) {
+                bitmaps[i] = new BitSet();
+            }
+            this.dimensions.put(dimension, bitmaps);
+        }
+        for (Flag<T> flag : flags) {
+            this.flags.put(flag, new BitSet());
+        }
+    }
+
+    /**
+     * Replaces the indexed entities with the given ones. Only entities that were added, removed
+     * or whose indexed dimension values or flags changed are re-indexed and counted as changes.
+     * Other entities just replace their previous version, so values relative to the current time
+     * (e.g., {@code eta}) do not cause any re-indexing.
+     *
+     * @param current The current entities.
+     * @return The amount of added, removed or changed entities.
+     */
+    public int update(Collection<T> current) {
+        lock.writeLock().lock();
+        try {
+            int changes = 0;
+            Set<Object> seen = new HashSet<>();
+            for (T entity : current) {
+                Object id = key.apply(entity);
+                if (!seen.add(id)) {
+                    continue;
+                }
+                Integer slot = slots.get(id);
+                if (slot == null) {
+                    add(id, entity);
+                    changes++;
+                } else if (sameAttributes(entities.get(slot), entity)) {
+                    entities.set(slot, entity);
+                } else {
+                    clear(slot);
+                    set(slot, entity);
+                    changes++;
+                }
+            }
+
+            List<Object> removed = new ArrayList<>();
+            for (Object id : slots.keySet()) {
+                if (!seen.contains(id)) {
+                    removed.add(id);
+                }
+            }
+            for (Object id : removed) {
+                int slot = slots.remove(id);
+                clear(slot);
+                entities.set(slot, null);
+                free.push(slot);
+                changes++;
+            }
+            return changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Starts a new query over this index.
+     *
+     * @return A new {@link Query} matching all entities.
+     */
+    public Query<T> query() {
+        return new Query<>(this);
+    }
+
+    /**
+     * Retrieves all indexed entities.
+     *
+     * @return A list of all entities, in no particular order.
+     */
+    public List<T> all() {
+        return query().list();
+    }
+
+    /**
+     * Retrieves the amount of indexed entities.
+     *
+     * @return The entity count.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Evaluates the clauses of a query.
+     *
+     * @param values   The accepted values per dimension; entities must match one value of every dimension.
+     * @param required The flags that must be set.
+     * @param excluded The flags that must not be set.
+     * @param limit    The maximum amount of results, or -1 to only count the matches.
+     * @param results  The list receiving the matching entities.
+     * @return The amount of matching entities.
+     */
+    int evaluate(Map<Dimension<T, ?>, Set<? extends Enum<?>>> values, List<Flag<T>> required,
+                 List<Flag<T>> excluded, int limit, List<T> results) {
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) live.clone();
+            for (Map.Entry<Dimension<T, ?>, Set<? extends Enum<?>>> clause : values.entrySet()) {
+                BitSet[] bitmaps = bitmaps(clause.getKey());
+                BitSet union = new BitSet();
+                for (Enum<?> value : clause.getValue()) {
+                    union.or(bitmaps[value.ordinal()]);
+                }
+                result.and(union);
+            }
+            for (Flag<T> flag : required) {
+                result.and(bitmap(flag));
+            }
+            for (Flag<T> flag : excluded) {
+                result.andNot(bitmap(flag));
+            }
+
+            if (limit >= 0) {
+                for (int slot = result.nextSetBit(0); slot >= 0 && results.size() < limit;
+                     slot = result.nextSetBit(slot + 1)) {
+                    results.add(entities.get(slot));
+                }
+            }
+            return result.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether two versions of an entity have the same indexed dimension values and flags.
+     *
+     * @param previous The indexed version of the entity.
+     * @param entity   The current version of the entity.
+     * @return true if both versions are indexed identically, false otherwise.
+     */
+    private boolean sameAttributes(T previous, T entity) {
+        for (Dimension<T, ?> dimension : dimensions.keySet()) {
+            if (!new HashSet<>(dimension.values(previous)).equals(new HashSet<>(dimension.values(entity)))) {
+                return false;
+            }
+        }
+        for (Flag<T> flag : flags.keySet()) {
+            if (flag.test(previous) != flag.test(entity)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds a new entity to a free slot.
+     *
+     * @param id     The identity of the entity.
+     * @param entity The entity.
+     */
+    private void add(Object id, T entity) {
+        int slot;
+        if (free.isEmpty()) {
+            slot = entities.size();
+            entities.add(null);
+        } else {
+            slot = free.pop();
+        }
+        slots.put(id, slot);
+        set(slot, entity);
+    }
+
+    /**
+     * Stores an entity in the given slot and sets its bits.
+     *
+     * @param slot   The slot of the entity.
+     * @param entity The entity.
+     */
+    private void set(int slot, T entity) {
+        entities.set(slot, entity);
+        live.set(slot);
+        for (Map.Entry<Dimension<T, ?>, BitSet[]> dimension : dimensions.entrySet()) {
+            for (Enum<?> value : dimension.getKey().values(entity)) {
+                dimension.getValue()[value.ordinal()].set(slot);
+            }
+        }
+        for (Map.Entry<Flag<T>, BitSet> flag : flags.entrySet()) {
+            if (flag.getKey().test(entity)) {
+                flag.getValue().set(slot);
+            }
+        }
+    }
+
+    /**
+     * Clears the bits of the entity in the given slot.
+     *
+     * @param slot The slot of the entity.
+     */
+    private void clear(int slot) {
+        T entity = entities.get(slot);
+        live.clear(slot);
+        for (Map.Entry<Dimension<T, ?>, BitSet[]> dimension : dimensions.entrySet()) {
+            for (Enum<?> value : dimension.getKey().values(entity)) {
+                dimension.getValue()[value.ordinal()].clear(slot);
+            }
+        }
+        for (BitSet bitmap : flags.values()) {
+            bitmap.clear(slot);
+        }
+    }
+
+    /**
+     * Retrieves the bitmaps of a dimension.
+     *
+     * @param dimension The dimension.
+     * @return The bitmaps indexed by ordinal.
+     * @throws IllegalArgumentException If the dimension is not part of this index.
+     */
+    private BitSet[] bitmaps(Dimension<T, ?> dimension) {
+        BitSet[] bitmaps = dimensions.get(dimension);
+        if (bitmaps == null) {
+            throw new IllegalArgumentException("Dimension " + dimension + " is not indexed");
+        }
+        return bitmaps;
+    }
+
+    /**
+     * Retrieves the bitmap of a flag.
+     *
+     * @param flag The flag.
+     * @return The bitmap of the flag.
+     * @throws IllegalArgumentException If the flag is not part of this index.
+     */
+    private BitSet bitmap(Flag<T> flag) {
+        BitSet bitmap = flags.get(flag);
+        if (bitmap == null) {
+            throw new IllegalArgumentException("Flag " + flag + " is not indexed");
+        }
+        return bitmap;
+    }
+}
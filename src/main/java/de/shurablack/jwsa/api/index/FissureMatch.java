@@ -0,0 +1,32 @@
+package de.shurablack.jwsa.api.index;
+
+import de.shurablack.jwsa.api.entities.worldstate.global.Fissure;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Represents an open fissure in which a requested item can be obtained, together with the relics to bring.
+ */
+@AllArgsConstructor
+@Getter
+@ToString
+public class FissureMatch {
+
+    /** The open fissure. */
+    private final Fissure fissure;
+
+    /** The relics of the era of the fissure rewarding the item, ordered by descending chance. */
+    private final List<RelicDrop> relics;
+
+    /**
+     * Retrieves the best chance of any relic to reward the item in this fissure.
+     *
+     * @return The chance of the first relic.
+     */
+    public double getBestChance() {
+        return relics.get(0).getChance();
+    }
+}
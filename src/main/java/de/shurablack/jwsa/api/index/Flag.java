@@ -0,0 +1,65 @@
+package de.shurablack.jwsa.api.index;
+
+import java.util.function.Predicate;
+
+/**
+ * Describes a boolean property of an entity indexed by an {@link EntityIndex}, e.g. whether a fissure is a
+ * Steel Path fissure. The index keeps a bitmap of the entities having the flag set.
+ *
+ * @param <T> The type of the indexed entities.
+ */
+public class Flag<T> {
+
+    /** The name of the flag, used for logging and debugging. */
+    private final String name;
+
+    /** The predicate evaluating the flag for an entity. */
+    private final Predicate<T> predicate;
+
+    /**
+     * Private constructor to create a flag.
+     *
+     * @param name      The name of the flag.
+     * @param predicate The predicate evaluating the flag for an entity.
+     */
+    private Flag(String name, Predicate<T> predicate) {
+        this.name = name;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Creates a flag.
+     *
+     * @param name      The name of the flag.
+     * @param predicate The predicate evaluating the flag for an entity.
+     * @param <T>       The type of the indexed entities.
+     * @return A new {@link Flag}.
+     */
+    public static <T> Flag<T> of(String name, Predicate<T> predicate) {
+        return new Flag<>(name, predicate);
+    }
+
+    /**
+     * Retrieves the name of this flag.
+     *
+     * @return The name of the flag.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Evaluates this flag for the given entity.
+     *
+     * @param entity The entity.
+     * @return true if the flag is set for the entity, false otherwise.
+     */
+    public boolean test(T entity) {
+        return predicate.test(entity);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
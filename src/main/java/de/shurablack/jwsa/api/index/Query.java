@@ -0,0 +1,128 @@
+package de.shurablack.jwsa.api.index;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A conjunctive query over an {@link EntityIndex}. Values of the same dimension are combined with OR,
+ * all dimensions and flags are combined with AND, e.g.
+ * {@code index.fissures().query().where(Fissures.ERA, Era.AXI).where(Fissures.MISSION_TYPE, MissionType.SURVIVAL)
+ * .is(Fissures.HARD).list()}.
+ * A query can be kept and evaluated again after the index was updated.
+ *
+ * @param <T> The type of the indexed entities.
+ */
+public class Query<T> {
+
+    /** The index this query is evaluated against. */
+    private final EntityIndex<T> index;
+
+    /** The accepted values per dimension. */
+    private final Map<Dimension<T, ?>, Set<? extends Enum<?>>> values = new IdentityHashMap<>();
+
+    /** The flags that must be set. */
+    private final List<Flag<T>> required = new ArrayList<>();
+
+    /** The flags that must not be set. */
+    private final List<Flag<T>> excluded = new ArrayList<>();
+
+    /**
+     * Creates a query matching all entities of the given index.
+     *
+     * @param index The index to query.
+     */
+    Query(EntityIndex<T> index) {
+        this.index = index;
+    }
+
+    /**
+     * Restricts the query to entities having at least one of the given values in the dimension.
+     * Calling this method again for the same dimension further narrows the accepted values.
+     *
+     * @param dimension The dimension to restrict.
+     * @param first     The first accepted value.
+     * @param others    Further accepted values.
+     * @param <V>       The enum type of the dimension.
+     * @return This query.
+     */
+    @SafeVarargs
+    public final <V extends Enum<V>> Query<T> where(Dimension<T, V> dimension, V first, V... others) {
+        EnumSet<V> accepted = EnumSet.of(first, others);
+        Set<? extends Enum<?>> previous = values.get(dimension);
+        if (previous != null) {
+            accepted.retainAll(previous);
+        }
+        values.put(dimension, accepted);
+        return this;
+    }
+
+    /**
+     * Restricts the query to entities having the given flag set.
+     *
+     * @param flag The flag.
+     * @return This query.
+     */
+    public Query<T> is(Flag<T> flag) {
+        required.add(flag);
+        return this;
+    }
+
+    /**
+     * Restricts the query to entities not having the given flag set.
+     *
+     * @param flag The flag.
+     * @return This query.
+     */
+    public Query<T> isNot(Flag<T> flag) {
+        excluded.add(flag);
+        return this;
+    }
+
+    /**
+     * Evaluates the query.
+     *
+     * @return All matching entities, in no particular order.
+     */
+    public List<T> list() {
+        return list(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Evaluates the query, returning at most the given amount of entities.
+     *
+     * @param limit The maximum amount of entities.
+     * @return The matching entities, in no particular order.
+     */
+    public List<T> list(int limit) {
+        List<T> results = new ArrayList<>();
+        index.evaluate(values, required, excluded, limit, results);
+        return results;
+    }
+
+    /**
+     * Counts the matching entities without materializing them.
+     *
+     * @return The amount of matching entities.
+     */
+    public int count() {
+        return index.evaluate(values, required, excluded, -1, null);
+    }
+
+    /**
+     * Checks whether any entity matches the query.
+     *
+     * @return true if at least one entity matches, false otherwise.
+     */
+    public boolean exists() {
+        return count() > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Query{values=" + values + ", is=" + required + ", isNot=" + excluded + "}";
+    }
+}
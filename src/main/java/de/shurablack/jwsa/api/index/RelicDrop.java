@@ -0,0 +1,32 @@
+package de.shurablack.jwsa.api.index;
+
+import de.shurablack.jwsa.api.entities.worldstate.others.types.Era;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Represents the chance of a relic at a refinement level to reward an item, as parsed from the drop tables.
+ */
+@AllArgsConstructor
+@Getter
+@ToString
+@EqualsAndHashCode
+public class RelicDrop {
+
+    /** The era of the relic. */
+    private final Era era;
+
+    /** The name of the relic including its era (e.g., "Axi A1"). */
+    private final String relic;
+
+    /** The refinement of the relic (e.g., "Intact" or "Radiant"), or null if the drop table does not state it. */
+    private final String refinement;
+
+    /** The name of the rewarded item. */
+    private final String item;
+
+    /** The chance of the relic to reward the item. */
+    private final double chance;
+}
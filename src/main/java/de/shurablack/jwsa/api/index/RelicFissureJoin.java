@@ -0,0 +1,239 @@
+package de.shurablack.jwsa.api.index;
+
+import de.shurablack.jwsa.api.entities.searchable.item.ItemDrop;
+import de.shurablack.jwsa.api.entities.worldstate.global.Fissure;
+import de.shurablack.jwsa.api.entities.worldstate.others.types.Era;
+import de.shurablack.jwsa.api.requests.Paths;
+import de.shurablack.jwsa.api.requests.Requests;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Joins the relic drop tables with the open fissures by era, answering "where can I open a relic for this
+ * prime part right now":
+ * <pre>{@code
+ * RelicFissureJoin join = RelicFissureJoin.request(List.of("Ash Prime"));
+ * join.refresh();
+ * List<FissureMatch> matches = join.find("Ash Prime Systems Blueprint", false, true);
+ * }</pre>
+ * The drop side is indexed once, by item and era. A refresh only replaces the open fissures per era,
+ * so a lookup costs a hash lookup plus the fissures of the matching eras, without searching the drop tables.
+ * Matches are ranked by the best relic chance, then by the remaining time of the fissure.
+ */
+public class RelicFissureJoin {
+
+    /** The pattern of a relic drop place, e.g. "Axi A1 Relic (Radiant)". */
+    private static final Pattern RELIC = Pattern.compile("^(\\w+) (\\w+) Relic(?: \\((\\w+)\\))?$");
+
+    /** The relic drops per normalized item name and era, ordered by descending chance. */
+    private final Map<String, Map<Era, List<RelicDrop>>> drops;
+
+    /** The open fissures per era, replaced as a whole on every update. */
+    private volatile Map<Era, List<Fissure>> fissures = Collections.emptyMap();
+
+    /**
+     * Private constructor to create a join over the given relic drops.
+     *
+     * @param drops The relic drops per normalized item name and era.
+     */
+    private RelicFissureJoin(Map<String, Map<Era, List<RelicDrop>>> drops) {
+        this.drops = drops;
+    }
+
+    /**
+     * Creates a join over the given drop table entries. Entries whose place is not a relic are ignored.
+     *
+     * @param itemDrops The drop table entries, e.g. the results of {@link ItemDrop#request(String)}.
+     * @return A new {@link RelicFissureJoin} without open fissures.
+     */
+    public static RelicFissureJoin of(Collection<ItemDrop> itemDrops) {
+        Map<String, Map<Era, List<RelicDrop>>> drops = new HashMap<>();
+        for (ItemDrop drop : itemDrops) {
+            RelicDrop relic = parse(drop);
+            if (relic != null) {
+                drops.computeIfAbsent(normalize(relic.getItem()), key -> new EnumMap<>(Era.class))
+                        .computeIfAbsent(relic.getEra(), key -> new ArrayList<>())
+                        .add(relic);
+            }
+        }
+        Comparator<RelicDrop> byChance = Comparator.comparingDouble(RelicDrop::getChance).reversed();
+        for (Map<Era, List<RelicDrop>> byEra : drops.values()) {
+            byEra.replaceAll((era, relics) -> {
+                relics.sort(byChance);
+                return Collections.unmodifiableList(relics);
+            });
+        }
+        return new RelicFissureJoin(drops);
+    }
+
+    /**
+     * Requests the drop tables for the given queries and creates a join over their relic drops.
+     *
+     * @param queries The drop search queries, e.g. the names of prime items.
+     * @return A new {@link RelicFissureJoin} without open fissures.
+     */
+    public static RelicFissureJoin request(Collection<String> queries) {
+        List<ItemDrop> itemDrops = new ArrayList<>();
+        for (List<ItemDrop> result : ItemDrop.requestBatch(queries).values()) {
+            itemDrops.addAll(result);
+        }
+        return of(itemDrops);
+    }
+
+    /**
+     * Requests the current fissures and replaces the fissure side of the join.
+     *
+     * @return The amount of open fissures.
+     */
+    public int refresh() {
+        return updateFissures(Requests.withListMappingOrNull(Fissure.class, Paths.FISSURES));
+    }
+
+    /**
+     * Replaces the fissure side of the join. Null marks a failed request and leaves it unchanged,
+     * an empty list clears it.
+     *
+     * @param current The current fissures, or null if they could not be requested.
+     * @return The amount of open fissures.
+     */
+    public int updateFissures(List<Fissure> current) {
+        if (current == null) {
+            return size();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<Era, List<Fissure>> byEra = new EnumMap<>(Era.class);
+        int open = 0;
+        for (Fissure fissure : current) {
+            if (isOpen(fissure, now)) {
+                byEra.computeIfAbsent(fissure.getTier(), key -> new ArrayList<>()).add(fissure);
+                open++;
+            }
+        }
+        fissures = byEra;
+        return open;
+    }
+
+    /**
+     * Finds the open fissures in which the item can be obtained, including Steel Path fissures and Void Storms.
+     *
+     * @param item The name of the item, compared case-insensitively.
+     * @return The ranked matches, empty if no relic of an open fissure rewards the item.
+     */
+    public List<FissureMatch> find(String item) {
+        return find(item, true, true);
+    }
+
+    /**
+     * Finds the open fissures in which the item can be obtained.
+     *
+     * @param item  The name of the item, compared case-insensitively.
+     * @param hard  Whether Steel Path fissures are included.
+     * @param storm Whether Void Storms are included.
+     * @return The ranked matches, empty if no relic of an open fissure rewards the item.
+     */
+    public List<FissureMatch> find(String item, boolean hard, boolean storm) {
+        Map<Era, List<RelicDrop>> byEra = drops.get(normalize(item));
+        if (byEra == null) {
+            return Collections.emptyList();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Era, List<Fissure>> open = fissures;
+        List<FissureMatch> matches = new ArrayList<>();
+        for (Map.Entry<Era, List<RelicDrop>> entry : byEra.entrySet()) {
+            for (Fissure fissure : open.getOrDefault(entry.getKey(), Collections.emptyList())) {
+                if ((hard || !fissure.isHard()) && (storm || !fissure.isStorm()) && isOpen(fissure, now)) {
+                    matches.add(new FissureMatch(fissure, entry.getValue()));
+                }
+            }
+        }
+
+        matches.sort(Comparator.comparingDouble(FissureMatch::getBestChance).reversed()
+                .thenComparing(match -> match.getFissure().getExpiry(),
+                        Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder())));
+        return matches;
+    }
+
+    /**
+     * Retrieves the relics rewarding an item, regardless of the open fissures.
+     *
+     * @param item The name of the item, compared case-insensitively.
+     * @return The relic drops ordered by era and descending chance, empty if no relic rewards the item.
+     */
+    public List<RelicDrop> relics(String item) {
+        Map<Era, List<RelicDrop>> byEra = drops.get(normalize(item));
+        if (byEra == null) {
+            return Collections.emptyList();
+        }
+        List<RelicDrop> relics = new ArrayList<>();
+        byEra.values().forEach(relics::addAll);
+        return relics;
+    }
+
+    /**
+     * Retrieves the amount of open fissures on the fissure side.
+     *
+     * @return The open fissure count.
+     */
+    public int size() {
+        int size = 0;
+        for (List<Fissure> byEra : fissures.values()) {
+            size += byEra.size();
+        }
+        return size;
+    }
+
+    /**
+     * Parses a drop table entry whose place is a relic.
+     *
+     * @param drop The drop table entry.
+     * @return The {@link RelicDrop}, or null if the place is not a relic of a known era.
+     */
+    private static RelicDrop parse(ItemDrop drop) {
+        if (drop.getPlace() == null || drop.getItem() == null) {
+            return null;
+        }
+        Matcher matcher = RELIC.matcher(drop.getPlace().trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        Era era = Era.fromString(matcher.group(1));
+        if (era == Era.UNKNOWN) {
+            return null;
+        }
+        return new RelicDrop(era, matcher.group(1) + " " + matcher.group(2), matcher.group(3), drop.getItem(),
+                drop.getChance());
+    }
+
+    /**
+     * Checks whether a fissure is open at the given time.
+     *
+     * @param fissure The fissure.
+     * @param now     The time to check.
+     * @return true if the fissure has not expired, false otherwise.
+     */
+    private static boolean isOpen(Fissure fissure, LocalDateTime now) {
+        return !fissure.isExpired() && (fissure.getExpiry() == null || fissure.getExpiry().isAfter(now));
+    }
+
+    /**
+     * Normalizes an item name for lookups by case and surrounding whitespace.
+     *
+     * @param item The item name.
+     * @return The normalized item name.
+     */
+    private static String normalize(String item) {
+        return item.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,446 @@
+package de.shurablack.jwsa.api.index;
+
+import de.shurablack.jwsa.api.entities.worldstate.global.Alert;
+import de.shurablack.jwsa.api.entities.worldstate.global.Invasion;
+import de.shurablack.jwsa.api.entities.worldstate.global.Nightwave;
+import de.shurablack.jwsa.api.entities.worldstate.global.SteelPath;
+import de.shurablack.jwsa.api.entities.worldstate.global.Syndicate;
+import de.shurablack.jwsa.api.entities.worldstate.global.sub.InvasionParty;
+import de.shurablack.jwsa.api.entities.worldstate.others.Job;
+import de.shurablack.jwsa.api.entities.worldstate.others.Reward;
+import de.shurablack.jwsa.api.entities.worldstate.relay.DarvoDeal;
+import de.shurablack.jwsa.api.entities.worldstate.relay.VaultTrader;
+import de.shurablack.jwsa.api.entities.worldstate.relay.VoidTrader;
+import de.shurablack.jwsa.api.requests.Paths;
+import de.shurablack.jwsa.api.requests.Requests;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * A reverse index from item names to the live worldstate sources offering them, answering questions like
+ * "is Nitain Extract available anywhere right now" with a single hash lookup:
+ * <pre>{@code
+ * RewardIndex rewards = new RewardIndex();
+ * rewards.refresh();
+ * List<RewardSource> sources = rewards.find("Nitain Extract");
+ * }</pre>
+ * Item names are normalized by case, surrounding whitespace and a leading quantity (e.g., "3x").
+ * Each section is updated incrementally: only the sources whose offered items changed since the last update
+ * of their section are re-indexed. Expired sources are skipped by lookups and removed by {@link #purgeExpired()}.
+ */
+public class RewardIndex {
+
+    /** The pattern matching a leading quantity of an item name, e.g. "3x " or "1,500 x ". */
+    private static final Pattern QUANTITY = Pattern.compile("^\\d[\\d,.]*\\s*x\\s+");
+
+    /** The sources per normalized item name, keyed by their type and id. */
+    private final Map<String, Map<String, RewardSource>> byItem = new HashMap<>();
+
+    /** The sources per section, grouped by the id of their source entity. */
+    private final Map<RewardSource.Type, Map<String, List<RewardSource>>> bySection =
+            new EnumMap<>(RewardSource.Type.class);
+
+    /** The lock separating lookups from updates. */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Requests all reward sections and updates the index incrementally.
+     * Sections that could not be requested are left unchanged.
+     *
+     * @return The amount of added, removed or changed sources.
+     */
+    public int refresh() {
+        return updateAlerts(Requests.withListMappingOrNull(Alert.class, Paths.ALERTS))
+                + updateInvasions(Requests.withListMappingOrNull(Invasion.class, Paths.INVASIONS))
+                + updateSyndicates(Requests.withListMappingOrNull(Syndicate.class, Paths.SYNDICATE))
+                + updateSteelPath(SteelPath.request())
+                + updateNightwave(Nightwave.request())
+                + updateVoidTrader(VoidTrader.request())
+                + updateDarvoDeals(Requests.withListMappingOrNull(DarvoDeal.class, Paths.DAILY_DARVO_DEALS));
+    }
+
+    /**
+     * Finds the sources currently offering an item.
+     *
+     * @param item The name of the item, compared case-insensitively.
+     * @return The unexpired sources offering the item, empty if there are none.
+     */
+    public List<RewardSource> find(String item) {
+        LocalDateTime now = LocalDateTime.now();
+        lock.readLock().lock();
+        try {
+            Map<String, RewardSource> sources = byItem.get(normalize(item));
+            if (sources == null) {
+                return Collections.emptyList();
+            }
+            List<RewardSource> available = new ArrayList<>(sources.size());
+            for (RewardSource source : sources.values()) {
+                if (source.isAvailable(now)) {
+                    available.add(source);
+                }
+            }
+            return available;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether an item is currently offered by any source.
+     *
+     * @param item The name of the item, compared case-insensitively.
+     * @return true if an unexpired source offers the item, false otherwise.
+     */
+    public boolean isAvailable(String item) {
+        return !find(item).isEmpty();
+    }
+
+    /**
+     * Retrieves the normalized names of all indexed items.
+     *
+     * @return A copy of the indexed item names.
+     */
+    public Set<String> items() {
+        lock.readLock().lock();
+        try {
+            return new LinkedHashSet<>(byItem.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Updates the sources of the alert section. Null marks a failed request and leaves the section unchanged,
+     * an empty list clears it.
+     *
+     * @param alerts The current alerts, or null if they could not be requested.
+     * @return The amount of added, removed or changed sources.
+     */
+    public int updateAlerts(List<Alert> alerts) {
+        if (alerts == null) {
+            return 0;
+        }
+        Map<String, List<RewardSource>> sources = new LinkedHashMap<>();
+        for (Alert alert : alerts) {
+            if (alert.getMission() != null) {
+                add(sources, RewardSource.Type.ALERT, alert.getId(), alert.getMission().getNode(),
+                        alert.getExpiry(), items(alert.getMission().getReward()));
+            }
+        }
+        return update(RewardSource.Type.ALERT, sources);
+    }
+
+    /**
+     * Updates the sources of the invasion section. Null leaves the section unchanged, an empty list clears it.
+     * Completed invasions no longer offer rewards.
+     *
+     * @param invasions The current invasions, or null if they could not be requested.
+     * @return The amount of added, removed or changed sources.
+     */
+    public int updateInvasions(List<Invasion> invasions) {
+        if (invasions == null) {
+            return 0;
+        }
+        Map<String, List<RewardSource>> sources = new LinkedHashMap<>();
+        for (Invasion invasion : invasions) {
+            if (invasion.isCompleted()) {
+                continue;
+            }
+            addParty(sources, invasion, "attacker", invasion.getAttacker());
+            addParty(sources, invasion, "defender", invasion.getDefender());
+        }
+        return update(RewardSource.Type.INVASION, sources);
+    }
+
+    /**
+     * Updates the sources of the syndicate bounty section. Null leaves the section unchanged,
+     * an empty list clears it.
+     *
+     * @param syndicates The current syndicates, or null if they could not be requested.
+     * @return The amount of added, removed or changed sources.
+     */
+    public int updateSyndicates(List<Syndicate> syndicates) {
+        if (syndicates == null) {
+            return 0;
+        }
+        Map<String, List<RewardSource>> sources = new LinkedHashMap<>();
+        for (Syndicate syndicate : syndicates) {
+            if (syndicate.getJobs() == null) {
+                continue;
+            }
+            String location = syndicate.getSyndicate() == null ? null : syndicate.getSyndicate().getName();
+            for (int i = 0; i < syndicate.getJobs().size(); i++) {
+                Job job = syndicate.getJobs().get(i);
+                LocalDateTime expiry = job.getExpiry() != null ? job.getExpiry() : syndicate.getExpiry();
+                add(sources, RewardSource.Type.SYNDICATE_JOB, syndicate.getId() + ":" + i, location, expiry,
+                        job.getRewardPool());
+            }
+        }
+        return update(RewardSource.Type.SYNDICATE_JOB, sources);
+    }
+
+    /**
+     * Updates the Steel Path section with the current reward and the evergreen offers. Null leaves the section
+     * unchanged.
+     *
+     * @param steelPath The current Steel Path rotation.
+     * @return The amount of added, removed or changed sources.
+     */
+    public int updateSteelPath(SteelPath steelPath) {
+        if (steelPath == null) {
+            return 0;
+        }
+        List<String> items = new ArrayList<>();
+        if (steelPath.getCurrentReward() != null) {
+            items.add(steelPath.getCurrentReward().getName());
+        }
+        if (steelPath.getEvergreens() != null) {
+            for (SteelPath.SingleMap evergreen : steelPath.getEvergreens()) {
+                items.add(evergreen.getName());
+            }
+        }
+        Map<String, List<RewardSource>> sources = new LinkedHashMap<>();
+        add(sources, RewardSource.Type.STEEL_PATH, "steelPath", "Steel Path Honors", steelPath.getExpiry(), items);
+        return update(RewardSource.Type.STEEL_PATH, sources);
+    }
+
+    /**
+     * Updates the Nightwave section with the reward types of the current season. Null leaves the section unchanged.
+     *
+     * @param nightwave The current Nightwave season.
+     * @return The amount of added, removed or changed sources.
+     */
+    public int updateNightwave(Nightwave nightwave) {
+        if (nightwave == null) {
+            return 0;
+        }
+        Map<String, List<RewardSource>> sources = new LinkedHashMap<>();
+        if (nightwave.isActive()) {
+            add(sources, RewardSource.Type.NIGHTWAVE, String.valueOf(nightwave.getId()), nightwave.getTag(),
+                    nightwave.getExpiry(), nightwave.getRewardTypes());
+        }
+        return update(RewardSource.Type.NIGHTWAVE, sources);
+    }
+
+    /**
+     * Updates the Void Trader section with its inventory. Null leaves the section unchanged,
+     * an absent trader clears it.
+     *
+     * @param trader The current Void Trader.
+     * @return The amount of added, removed or changed sources.
+     */
+    public int updateVoidTrader(VoidTrader trader) {
+        if (trader == null) {
+            return 0;
+        }
+        Map<String, List<RewardSource>> sources = new LinkedHashMap<>();
+        if (trader.isActive() && trader.getInventory() != null) {
+            List<String> items = new ArrayList<>();
+            for (VaultTrader.InventoryItem item : trader.getInventory()) {
+                items.add(item.getItem());
+            }
+            add(sources, RewardSource.Type.VOID_TRADER, String.valueOf(trader.getId()), trader.getLocation(),
+                    trader.getExpiry(), items);
+        }
+        return update(RewardSource.Type.VOID_TRADER, sources);
+    }
+
+    /**
+     * Updates the Darvo deal section. Null leaves the section unchanged, an empty list clears it.
+     *
+     * @param deals The current Darvo deals, or null if they could not be requested.
+     * @return The amount of added, removed or changed sources.
+     */
+    public int updateDarvoDeals(List<DarvoDeal> deals) {
+        if (deals == null) {
+            return 0;
+        }
+        Map<String, List<RewardSource>> sources = new LinkedHashMap<>();
+        for (DarvoDeal deal : deals) {
+            add(sources, RewardSource.Type.DARVO_DEAL, deal.getId(), "Darvo", deal.getExpiry(),
+                    Collections.singletonList(deal.getItem()));
+        }
+        return update(RewardSource.Type.DARVO_DEAL, sources);
+    }
+
+    /**
+     * Removes all expired sources from the index.
+     *
+     * @return The amount of removed sources.
+     */
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int removed = 0;
+        lock.writeLock().lock();
+        try {
+            for (Map<String, List<RewardSource>> section : bySection.values()) {
+                Iterator<List<RewardSource>> iterator = section.values().iterator();
+                while (iterator.hasNext()) {
+                    List<RewardSource> sources = iterator.next();
+                    if (!sources.isEmpty() && !sources.get(0).isAvailable(now)) {
+                        unindex(sources);
+                        iterator.remove();
+                        removed++;
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return removed;
+    }
+
+    /**
+     * Normalizes an item name for lookups by case, surrounding whitespace and a leading quantity.
+     *
+     * @param item The item name.
+     * @return The normalized item name.
+     */
+    public static String normalize(String item) {
+        String normalized = item.trim().toLowerCase(Locale.ROOT);
+        return QUANTITY.matcher(normalized).replaceFirst("");
+    }
+
+    /**
+     * Replaces the sources of a section, re-indexing only the source entities whose sources changed.
+     *
+     * @param type    The type of the section.
+     * @param current The current sources of the section by source entity id.
+     * @return The amount of added, removed or changed source entities.
+     */
+    private int update(RewardSource.Type type, Map<String, List<RewardSource>> current) {
+        int changes = 0;
+        lock.writeLock().lock();
+        try {
+            Map<String, List<RewardSource>> previous = bySection.getOrDefault(type, Collections.emptyMap());
+            for (Map.Entry<String, List<RewardSource>> entry : previous.entrySet()) {
+                if (!current.containsKey(entry.getKey())) {
+                    unindex(entry.getValue());
+                    changes++;
+                }
+            }
+            for (Map.Entry<String, List<RewardSource>> entry : current.entrySet()) {
+                List<RewardSource> old = previous.get(entry.getKey());
+                if (!entry.getValue().equals(old)) {
+                    if (old != null) {
+                        unindex(old);
+                    }
+                    index(entry.getValue());
+                    changes++;
+                }
+            }
+            bySection.put(type, current);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return changes;
+    }
+
+    /**
+     * Adds the sources of an entity to the item buckets.
+     *
+     * @param sources The sources of the entity.
+     */
+    private void index(List<RewardSource> sources) {
+        for (RewardSource source : sources) {
+            byItem.computeIfAbsent(normalize(source.getItem()), key -> new LinkedHashMap<>())
+                    .put(source.getType() + ":" + source.getId(), source);
+        }
+    }
+
+    /**
+     * Removes the sources of an entity from the item buckets.
+     *
+     * @param sources The sources of the entity.
+     */
+    private void unindex(List<RewardSource> sources) {
+        for (RewardSource source : sources) {
+            String item = normalize(source.getItem());
+            Map<String, RewardSource> bucket = byItem.get(item);
+            if (bucket != null) {
+                bucket.remove(source.getType() + ":" + source.getId());
+                if (bucket.isEmpty()) {
+                    byItem.remove(item);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the sources of an invasion side.
+     *
+     * @param sources  The sources of the section.
+     * @param invasion The invasion.
+     * @param side     The name of the side.
+     * @param party    The invasion party of the side, may be null.
+     */
+    private static void addParty(Map<String, List<RewardSource>> sources, Invasion invasion, String side,
+                                 InvasionParty party) {
+        if (party != null) {
+            add(sources, RewardSource.Type.INVASION, invasion.getId() + ":" + side, invasion.getNode(),
+                    invasion.getExpiry(), items(party.getReward()));
+        }
+    }
+
+    /**
+     * Adds a source entity offering the given items, one {@link RewardSource} per distinct item.
+     *
+     * @param sources  The sources of the section.
+     * @param type     The type of the source.
+     * @param id       The id of the source entity.
+     * @param location The location of the source.
+     * @param expiry   The expiry of the source, or null.
+     * @param items    The offered item names, may be null.
+     */
+    private static void add(Map<String, List<RewardSource>> sources, RewardSource.Type type, String id,
+                            String location, LocalDateTime expiry, List<String> items) {
+        if (items == null) {
+            return;
+        }
+        Map<String, RewardSource> distinct = new LinkedHashMap<>();
+        for (String item : items) {
+            if (item != null && !item.isBlank()) {
+                distinct.putIfAbsent(normalize(item), new RewardSource(type, id, item.trim(), location, expiry));
+            }
+        }
+        if (!distinct.isEmpty()) {
+            sources.put(id, new ArrayList<>(distinct.values()));
+        }
+    }
+
+    /**
+     * Retrieves the item names of a reward, including counted items.
+     *
+     * @param reward The reward, may be null.
+     * @return The item names.
+     */
+    private static List<String> items(Reward reward) {
+        List<String> items = new ArrayList<>();
+        if (reward == null) {
+            return items;
+        }
+        if (reward.getItems() != null) {
+            items.addAll(reward.getItems());
+        }
+        if (reward.getCountedItems() != null) {
+            for (Reward.Item item : reward.getCountedItems()) {
+                items.add(item.getType());
+            }
+        }
+        return items;
+    }
+}
@@ -0,0 +1,63 @@
+package de.shurablack.jwsa.api.index;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents a live worldstate source offering an item, as found by a {@link RewardIndex}.
+ */
+@AllArgsConstructor
+@Getter
+@ToString
+@EqualsAndHashCode
+public class RewardSource {
+
+    /** The type of the source. */
+    private final Type type;
+
+    /** The id of the source entity, suffixed with the offering part if an entity has several (e.g., the invasion side). */
+    private final String id;
+
+    /** The name of the item as offered by the source. */
+    private final String item;
+
+    /** The location of the source, e.g. the node of an alert or the name of a syndicate. */
+    private final String location;
+
+    /** The time the source stops offering the item, or null if unknown. */
+    private final LocalDateTime expiry;
+
+    /**
+     * Checks whether the source still offers the item at the given time.
+     *
+     * @param now The time to check.
+     * @return true if the source has not expired yet, false otherwise.
+     */
+    public boolean isAvailable(LocalDateTime now) {
+        return expiry == null || expiry.isAfter(now);
+    }
+
+    /**
+     * Enum representing the types of reward sources.
+     */
+    public enum Type {
+        /** The reward of an alert mission. */
+        ALERT,
+        /** The reward of one side of an invasion. */
+        INVASION,
+        /** An item of the reward pool of a syndicate bounty. */
+        SYNDICATE_JOB,
+        /** The current reward or an evergreen offer of Teshin's Steel Path rotation. */
+        STEEL_PATH,
+        /** A reward type of the current Nightwave season. */
+        NIGHTWAVE,
+        /** An item of the Void Trader's inventory. */
+        VOID_TRADER,
+        /** The item of a Darvo deal. */
+        DARVO_DEAL
+    }
+}
@@ -0,0 +1,218 @@
+package de.shurablack.jwsa.api.index;
+
+import de.shurablack.jwsa.api.entities.worldstate.global.Alert;
+import de.shurablack.jwsa.api.entities.worldstate.global.Fissure;
+import de.shurablack.jwsa.api.entities.worldstate.global.Invasion;
+import de.shurablack.jwsa.api.entities.worldstate.global.sub.InvasionParty;
+import de.shurablack.jwsa.api.entities.worldstate.others.types.Era;
+import de.shurablack.jwsa.api.entities.worldstate.others.types.Faction;
+import de.shurablack.jwsa.api.entities.worldstate.others.types.MissionType;
+import de.shurablack.jwsa.api.entities.worldstate.others.types.RewardTypes;
+import de.shurablack.jwsa.api.requests.Paths;
+import de.shurablack.jwsa.api.requests.Requests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An indexed view over the current fissures, alerts and invasions of the worldstate.
+ * Instead of filtering the requested lists on every lookup, the entities are indexed once per refresh
+ * and queried with bitmap operations, e.g.
+ * <pre>{@code
+ * WorldstateIndex index = new WorldstateIndex();
+ * index.refresh();
+ * List<Fissure> fissures = index.fissures().query()
+ *         .where(WorldstateIndex.Fissures.ERA, Era.AXI)
+ *         .where(WorldstateIndex.Fissures.MISSION_TYPE, MissionType.SURVIVAL)
+ *         .where(WorldstateIndex.Fissures.FACTION, Faction.GRINEER)
+ *         .is(WorldstateIndex.Fissures.HARD)
+ *         .list();
+ * }</pre>
+ */
+public class WorldstateIndex {
+
+    /** The index over the current fissures. */
+    private final EntityIndex<Fissure> fissures = new EntityIndex<>(Fissure::getId,
+            List.of(Fissures.ERA, Fissures.MISSION_TYPE, Fissures.FACTION),
+            List.of(Fissures.HARD, Fissures.STORM));
+
+    /** The index over the current alerts. */
+    private final EntityIndex<Alert> alerts = new EntityIndex<>(Alert::getId,
+            List.of(Alerts.MISSION_TYPE, Alerts.FACTION, Alerts.REWARD_TYPES),
+            List.of(Alerts.NIGHTMARE, Alerts.ARCHWING));
+
+    /** The index over the current invasions. */
+    private final EntityIndex<Invasion> invasions = new EntityIndex<>(Invasion::getId,
+            List.of(Invasions.FACTION, Invasions.REWARD_TYPES),
+            List.of(Invasions.VS_INFESTATION, Invasions.COMPLETED));
+
+    /**
+     * Requests the current fissures, alerts and invasions and updates the indexes incrementally.
+     * Sections that could not be requested are left unchanged.
+     *
+     * @return The amount of added, removed or changed entities.
+     */
+    public int refresh() {
+        List<Fissure> currentFissures = Requests.withListMappingOrNull(Fissure.class, Paths.FISSURES);
+        List<Alert> currentAlerts = Requests.withListMappingOrNull(Alert.class, Paths.ALERTS);
+        List<Invasion> currentInvasions = Requests.withListMappingOrNull(Invasion.class, Paths.INVASIONS);
+        return update(currentFissures, currentAlerts, currentInvasions);
+    }
+
+    /**
+     * Updates the indexes with the given entities. A null list marks a failed request and leaves the corresponding
+     * index unchanged, while an empty list clears it.
+     *
+     * @param currentFissures  The current fissures, or null if they could not be requested.
+     * @param currentAlerts    The current alerts, or null if they could not be requested.
+     * @param currentInvasions The current invasions, or null if they could not be requested.
+     * @return The amount of added, removed or changed entities.
+     */
+    public int update(List<Fissure> currentFissures, List<Alert> currentAlerts, List<Invasion> currentInvasions) {
+        int changes = 0;
+        if (currentFissures != null) {
+            changes += fissures.update(currentFissures);
+        }
+        if (currentAlerts != null) {
+            changes += alerts.update(currentAlerts);
+        }
+        if (currentInvasions != null) {
+            changes += invasions.update(currentInvasions);
+        }
+        return changes;
+    }
+
+    /**
+     * Retrieves the index over the current fissures.
+     *
+     * @return The fissure index, queryable by the dimensions and flags of {@link Fissures}.
+     */
+    public EntityIndex<Fissure> fissures() {
+        return fissures;
+    }
+
+    /**
+     * Retrieves the index over the current alerts.
+     *
+     * @return The alert index, queryable by the dimensions and flags of {@link Alerts}.
+     */
+    public EntityIndex<Alert> alerts() {
+        return alerts;
+    }
+
+    /**
+     * Retrieves the index over the current invasions.
+     *
+     * @return The invasion index, queryable by the dimensions and flags of {@link Invasions}.
+     */
+    public EntityIndex<Invasion> invasions() {
+        return invasions;
+    }
+
+    /**
+     * The indexed dimensions and flags of fissures.
+     */
+    public static final class Fissures {
+
+        /** The relic era of the fissure. */
+        public static final Dimension<Fissure, Era> ERA = Dimension.of("era", Era.class, Fissure::getTier);
+
+        /** The mission type of the fissure. */
+        public static final Dimension<Fissure, MissionType> MISSION_TYPE =
+                Dimension.of("missionType", MissionType.class, Fissure::getMissionType);
+
+        /** The enemy faction of the fissure. */
+        public static final Dimension<Fissure, Faction> FACTION =
+                Dimension.of("faction", Faction.class, Fissure::getEnemy);
+
+        /** Whether the fissure is a Steel Path fissure. */
+        public static final Flag<Fissure> HARD = Flag.of("hard", Fissure::isHard);
+
+        /** Whether the fissure is a Void Storm. */
+        public static final Flag<Fissure> STORM = Flag.of("storm", Fissure::isStorm);
+
+        /**
+         * Private constructor to prevent instantiation of this constant holder.
+         */
+        private Fissures() {
+            // Prevent instantiation
+        }
+    }
+
+    /**
+     * The indexed dimensions and flags of alerts.
+     */
+    public static final class Alerts {
+
+        /** The mission type of the alert. */
+        public static final Dimension<Alert, MissionType> MISSION_TYPE = Dimension.of("missionType", MissionType.class,
+                alert -> alert.getMission() == null ? null : alert.getMission().getType());
+
+        /** The enemy faction of the alert. */
+        public static final Dimension<Alert, Faction> FACTION = Dimension.of("faction", Faction.class,
+                alert -> alert.getMission() == null ? null : alert.getMission().getFaction());
+
+        /** The reward types of the alert. */
+        public static final Dimension<Alert, RewardTypes> REWARD_TYPES =
+                Dimension.ofMany("rewardTypes", RewardTypes.class, Alert::getAlertRewardTypes);
+
+        /** Whether the alert is a nightmare mission. */
+        public static final Flag<Alert> NIGHTMARE =
+                Flag.of("nightmare", alert -> alert.getMission() != null && alert.getMission().isNightmare());
+
+        /** Whether the alert requires an archwing. */
+        public static final Flag<Alert> ARCHWING =
+                Flag.of("archwing", alert -> alert.getMission() != null && alert.getMission().isArchwingRequired());
+
+        /**
+         * Private constructor to prevent instantiation of this constant holder.
+         */
+        private Alerts() {
+            // Prevent instantiation
+        }
+    }
+
+    /**
+     * The indexed dimensions and flags of invasions.
+     */
+    public static final class Invasions {
+
+        /** The factions taking part in the invasion, attacker and defender. */
+        public static final Dimension<Invasion, Faction> FACTION = Dimension.ofMany("faction", Faction.class,
+                invasion -> {
+                    List<Faction> factions = new ArrayList<>(2);
+                    addFaction(factions, invasion.getAttacker());
+                    addFaction(factions, invasion.getDefender());
+                    return factions;
+                });
+
+        /** The reward types of the invasion. */
+        public static final Dimension<Invasion, RewardTypes> REWARD_TYPES =
+                Dimension.ofMany("rewardTypes", RewardTypes.class, Invasion::getRewardTypes);
+
+        /** Whether the invasion is fought against the Infestation. */
+        public static final Flag<Invasion> VS_INFESTATION = Flag.of("vsInfestation", Invasion::isVsInfestation);
+
+        /** Whether the invasion is completed. */
+        public static final Flag<Invasion> COMPLETED = Flag.of("completed", Invasion::isCompleted);
+
+        /**
+         * Private constructor to prevent instantiation of this constant holder.
+         */
+        private Invasions() {
+            // Prevent instantiation
+        }
+
+        /**
+         * Adds the faction of an invasion party if present.
+         *
+         * @param factions The list to add the faction to.
+         * @param party    The invasion party, may be null.
+         */
+        private static void addFaction(List<Faction> factions, InvasionParty party) {
+            if (party != null && party.getFaction() != null) {
+                factions.add(party.getFaction());
+            }
+        }
+    }
+}
@@ -2,6 +2,8 @@ package de.shurablack.jwsa.api.requests;
 
 import de.shurablack.jwsa.api.exception.ResponseException;
 import de.shurablack.jwsa.api.requests.cache.ResponseCache;
+import de.shurablack.jwsa.api.requests.scheduler.Priority;
+import de.shurablack.jwsa.api.requests.scheduler.RequestScheduler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -9,6 +11,9 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Handles HTTP requests and responses, providing a singleton instance for making GET requests.
@@ -33,7 +38,7 @@ public class HTTPRequester {
      *
      * @return The singleton instance of HTTPRequester.
      */
-    public static HTTPRequester get() {
+    public static synchronized HTTPRequester get() {
         if (instance == null) {
             instance = new HTTPRequester();
         }
@@ -43,47 +48,84 @@ public class HTTPRequester {
     /**
      * Private constructor to initialize the HttpClient.
      * Ensures that the class follows the singleton pattern.
+     * The client only shares the {@link RequestExecutor} if it runs on virtual threads. The bounded platform pool
+     * runs blocking {@link HttpClient#send} calls, which could never complete if the client needed a thread
+     * of that same saturated pool, so the client keeps its default executor then.
      */
     private HTTPRequester() {
-        this.client = HttpClient.newBuilder()
-                .build();
+        HttpClient.Builder builder = HttpClient.newBuilder();
+        if (RequestExecutor.isVirtual()) {
+            builder.executor(RequestExecutor.get());
+        }
+        this.client = builder.build();
+    }
+
+    /**
+     * Retrieves the cache holding the responses of this requester, e.g. to enable its compressed tier.
+     *
+     * @return The {@link ResponseCache} of this requester.
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
     }
 
     /**
      * Sends an HTTP GET request to the specified URL and returns the response body as a string.
      * If the response status code is not 200, a ResponseException is thrown.
      * Logs any errors that occur during the request.
+     * The request uses the priority of the current thread, see {@link RequestScheduler#currentPriority()}.
      *
      * @param url The URL to send the GET request to.
      * @return The response body as a string, or null if an error occurs.
      */
     public String request(String url) {
-        try {
-            final ResponseCache.CacheEntry cached = responseCache.get(url);
-
-            HttpRequest.Builder builder = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .GET();
-
-            if (cached != null) {
-                builder.header("If-None-Match", cached.getETag());
-            }
+        return request(url, RequestScheduler.currentPriority());
+    }
 
-            HttpRequest request = builder.build();
+    /**
+     * Sends an HTTP GET request with the given priority to the specified URL and returns the response body as a string.
+     * If request scheduling is enabled, the calling thread waits until the scheduler dispatches the request.
+     *
+     * @param url      The URL to send the GET request to.
+     * @param priority The priority of the request.
+     * @return The response body as a string, or null if an error occurs.
+     */
+    public String request(String url, Priority priority) {
+        ResponseCache.CacheEntry entry = requestEntry(url, priority);
+        return entry == null ? null : entry.getData();
+    }
 
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+    /**
+     * Sends an HTTP GET request to the specified URL and returns the cache entry holding the response.
+     * The request uses the priority of the current thread, see {@link RequestScheduler#currentPriority()}.
+     *
+     * @param url The URL to send the GET request to.
+     * @return The {@link ResponseCache.CacheEntry} of the response, or null if an error occurs.
+     */
+    public ResponseCache.CacheEntry requestEntry(String url) {
+        return requestEntry(url, RequestScheduler.currentPriority());
+    }
 
-            if (response.statusCode() == 304) {
-                LOGGER.debug("Using cached response for URL: {}", url);
-                return cached.getData();
-            } else if (response.statusCode() == 200) {
-                LOGGER.debug("Received response for URL: {}", url);
-                responseCache.update(url, response.body(), response.headers().firstValue("ETag").orElse(null));
-            } else {
-                throw new ResponseException(response.statusCode(), response.body());
+    /**
+     * Sends an HTTP GET request with the given priority to the specified URL and returns the cache entry
+     * holding the response. The same entry instance with the same data is returned as long as the response is
+     * served from cache or revalidated with a 304, which allows callers to reuse results derived from it.
+     *
+     * @param url      The URL to send the GET request to.
+     * @param priority The priority of the request.
+     * @return The {@link ResponseCache.CacheEntry} of the response, or null if an error occurs.
+     */
+    public ResponseCache.CacheEntry requestEntry(String url, Priority priority) {
+        try {
+            final ResponseCache.CacheEntry fresh = responseCache.get(url);
+            if (fresh != null && fresh.isFresh()) {
+                LOGGER.debug("Using fresh cached response for URL: {}", url);
+                return fresh;
             }
-
-            return response.body();
+            RequestScheduler.admit(priority).join();
+            final ResponseCache.CacheEntry cached = responseCache.get(url);
+            HttpResponse<byte[]> response = client.send(buildRequest(url, cached), HttpResponse.BodyHandlers.ofByteArray());
+            return handleResponse(url, cached, response);
         } catch (ResponseException e) {
             LOGGER.error("HTTP request failed for {}: {} (Status Code: {})", url, e.getMessage(), e.getStatusCode());
             return null;
@@ -92,4 +134,118 @@ public class HTTPRequester {
             return null;
         }
     }
+
+    /**
+     * Sends an asynchronous HTTP GET request to the specified URL over the shared client.
+     * Behaves like {@link #request(String)}, but completes the returned future instead of blocking the caller.
+     * The request uses the priority of the current thread, see {@link RequestScheduler#currentPriority()}.
+     *
+     * @param url The URL to send the GET request to.
+     * @return A future completing with the response body as a string, or null if an error occurs.
+     */
+    public CompletableFuture<String> requestAsync(String url) {
+        return requestAsync(url, RequestScheduler.currentPriority());
+    }
+
+    /**
+     * Sends an asynchronous HTTP GET request with the given priority to the specified URL over the shared client.
+     *
+     * @param url      The URL to send the GET request to.
+     * @param priority The priority of the request.
+     * @return A future completing with the response body as a string, or null if an error occurs.
+     */
+    public CompletableFuture<String> requestAsync(String url, Priority priority) {
+        return requestEntryAsync(url, priority).thenApply(entry -> entry == null ? null : entry.getData());
+    }
+
+    /**
+     * Sends an asynchronous HTTP GET request to the specified URL over the shared client
+     * and completes with the cache entry holding the response.
+     * The request uses the priority of the current thread, see {@link RequestScheduler#currentPriority()}.
+     *
+     * @param url The URL to send the GET request to.
+     * @return A future completing with the {@link ResponseCache.CacheEntry} of the response, or null if an error occurs.
+     */
+    public CompletableFuture<ResponseCache.CacheEntry> requestEntryAsync(String url) {
+        return requestEntryAsync(url, RequestScheduler.currentPriority());
+    }
+
+    /**
+     * Sends an asynchronous HTTP GET request with the given priority to the specified URL over the shared client
+     * and completes with the cache entry holding the response, see {@link #requestEntry(String, Priority)}.
+     *
+     * @param url      The URL to send the GET request to.
+     * @param priority The priority of the request.
+     * @return A future completing with the {@link ResponseCache.CacheEntry} of the response, or null if an error occurs.
+     */
+    public CompletableFuture<ResponseCache.CacheEntry> requestEntryAsync(String url, Priority priority) {
+        final ResponseCache.CacheEntry fresh = responseCache.get(url);
+        if (fresh != null && fresh.isFresh()) {
+            LOGGER.debug("Using fresh cached response for URL: {}", url);
+            return CompletableFuture.completedFuture(fresh);
+        }
+
+        return RequestScheduler.admit(priority)
+                .thenCompose(ignored -> {
+                    final ResponseCache.CacheEntry cached = responseCache.get(url);
+                    return client.sendAsync(buildRequest(url, cached), HttpResponse.BodyHandlers.ofByteArray())
+                            .thenApply(response -> handleResponse(url, cached, response));
+                })
+                .exceptionally(throwable -> {
+                    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause() : throwable;
+                    if (cause instanceof ResponseException) {
+                        ResponseException e = (ResponseException) cause;
+                        LOGGER.error("HTTP request failed for {}: {} (Status Code: {})", url, e.getMessage(), e.getStatusCode());
+                    } else {
+                        LOGGER.error("Error during HTTP request to {}: {}", url, cause.getMessage(), cause);
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Builds a conditional GET request for the specified URL based on the cached entry.
+     * The ETag is preferred as validator; the Last-Modified value is only used if no ETag is present.
+     *
+     * @param url    The URL to send the GET request to.
+     * @param cached The cached entry for the URL, or null if none exists.
+     * @return The built {@link HttpRequest}.
+     */
+    private HttpRequest buildRequest(String url, ResponseCache.CacheEntry cached) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .GET();
+
+        if (cached != null && cached.getETag() != null) {
+            builder.header("If-None-Match", cached.getETag());
+        } else if (cached != null && cached.getLastModified() != null) {
+            builder.header("If-Modified-Since", cached.getLastModified());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Handles the response of a GET request, updating the cache or returning the cached data on a 304.
+     *
+     * @param url      The requested URL.
+     * @param cached   The cached entry for the URL, or null if none exists.
+     * @param response The received response.
+     * @return The entry holding the response body, or the cached entry if the response was not modified.
+     * @throws ResponseException If the response status code is neither 200 nor 304.
+     */
+    private ResponseCache.CacheEntry handleResponse(String url, ResponseCache.CacheEntry cached,
+                                                    HttpResponse<byte[]> response) {
+        if (response.statusCode() == 304 && cached != null) {
+            LOGGER.debug("Using cached response for URL: {}", url);
+            cached.revalidated(response.headers());
+            return cached;
+        } else if (response.statusCode() == 200) {
+            LOGGER.debug("Received response for URL: {}", url);
+            return responseCache.update(url, response.body(), response.headers());
+        }
+
+        throw new ResponseException(response.statusCode(), new String(response.body(), StandardCharsets.UTF_8));
+    }
 }
\ No newline at end of file
@@ -9,10 +9,10 @@ public class Paths {
     // Worldstate ------------------------------------------------------------------------------------------------------
 
     /** The base URL for the Warframe API. */
-    private static final String BASE_URL = "https://api.warframestat.us";
+    static final String BASE_URL = "https://api.warframestat.us";
 
     /** The base URL for the PC world state. */
-    private static final String WORLD_STATE = BASE_URL + "/pc/";
+    static final String WORLD_STATE = BASE_URL + "/pc/";
 
     /** Endpoint for retrieving the general world state. */
     public static final String GENERAL_WORLD_STATE = WORLD_STATE + "?language=en";
@@ -0,0 +1,53 @@
+package de.shurablack.jwsa.api.requests;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Represents the platforms served by the Warframe Worldstate API.
+ * Each platform is associated with the path segment used in the worldstate endpoints.
+ */
+@AllArgsConstructor
+@Getter
+public enum Platform {
+    /** The PC platform. */
+    PC("pc"),
+    /** The PlayStation platform. */
+    PS4("ps4"),
+    /** The Xbox platform. */
+    XB1("xb1"),
+    /** The Nintendo Switch platform. */
+    SWITCH("swi");
+
+    /** The path segment of the platform. */
+    private final String path;
+
+    /**
+     * Returns the string representation of the platform.
+     *
+     * @return The path segment of the platform.
+     */
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    /**
+     * Converts a string to its corresponding Platform.
+     *
+     * @param name The path segment or name of the platform.
+     * @return The matching Platform, or {@code PC} if no match is found.
+     */
+    public static Platform fromString(String name) {
+        if (name == null || name.isEmpty()) {
+            return PC;
+        }
+
+        for (Platform platform : Platform.values()) {
+            if (platform.path.equalsIgnoreCase(name) || platform.name().equalsIgnoreCase(name)) {
+                return platform;
+            }
+        }
+        return PC;
+    }
+}
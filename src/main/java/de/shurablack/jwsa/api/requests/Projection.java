@@ -0,0 +1,116 @@
+package de.shurablack.jwsa.api.requests;
+
+import de.shurablack.jwsa.api.requests.url.Encoder;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Describes which fields of a searchable entity should be returned by the API.
+ * The projection is sent upstream as the {@code only} or {@code remove} query parameter to reduce the payload size,
+ * and is additionally applied locally so that unrequested fields are never deserialized.
+ * Entities with a streaming {@code read} method skip unrequested fields while reading them,
+ * all others are filtered with {@link #filter(JSONObject)} before deserialization.
+ * Fields that are not part of the projection keep the default values of the entity's {@code deserialize} method.
+ */
+public class Projection {
+
+    /** The mode of the projection. */
+    private enum Mode { ONLY, REMOVE }
+
+    /** The mode of this projection. */
+    private final Mode mode;
+
+    /** The fields included or excluded by this projection. */
+    private final Set<String> fields;
+
+    /**
+     * Private constructor to create a projection with the given mode and fields.
+     *
+     * @param mode   The mode of the projection.
+     * @param fields The fields of the projection.
+     */
+    private Projection(Mode mode, String... fields) {
+        if (fields == null || fields.length == 0) {
+            throw new IllegalArgumentException("A projection requires at least one field");
+        }
+        this.mode = mode;
+        this.fields = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(fields)));
+    }
+
+    /**
+     * Creates a projection that only keeps the given fields.
+     *
+     * @param fields The JSON field names to keep (e.g., "name", "criticalChance").
+     * @return A new {@link Projection} including only the given fields.
+     */
+    public static Projection only(String... fields) {
+        return new Projection(Mode.ONLY, fields);
+    }
+
+    /**
+     * Creates a projection that drops the given fields.
+     *
+     * @param fields The JSON field names to drop (e.g., "patchlogs", "components").
+     * @return A new {@link Projection} excluding the given fields.
+     */
+    public static Projection remove(String... fields) {
+        return new Projection(Mode.REMOVE, fields);
+    }
+
+    /**
+     * Retrieves the fields of this projection.
+     *
+     * @return An unmodifiable set of the projected field names.
+     */
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Checks whether the given field is part of this projection.
+     *
+     * @param field The JSON field name.
+     * @return true if the field is kept, false if it is dropped.
+     */
+    public boolean accepts(String field) {
+        return fields.contains(field) == (mode == Mode.ONLY);
+    }
+
+    /**
+     * Appends the projection as query parameter to the given URL.
+     *
+     * @param url The URL to extend.
+     * @return The URL including the projection query parameter.
+     */
+    public String apply(String url) {
+        String parameter = (mode == Mode.ONLY ? "only=" : "remove=") + Encoder.encode(String.join(",", fields));
+        return url + (url.contains("?") ? "&" : "?") + parameter;
+    }
+
+    /**
+     * Removes all fields from the given JSON object that are not part of this projection.
+     * The object is modified in place.
+     *
+     * @param object The JSON object to filter.
+     * @return The filtered JSON object, or null if the input is null.
+     */
+    public JSONObject filter(JSONObject object) {
+        if (object == null) {
+            return null;
+        }
+
+        List<String> keys = new ArrayList<>(object.keySet());
+        for (String key : keys) {
+            if (!accepts(key)) {
+                object.remove(key);
+            }
+        }
+        return object;
+    }
+}
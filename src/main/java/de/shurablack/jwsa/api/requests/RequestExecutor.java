@@ -0,0 +1,103 @@
+package de.shurablack.jwsa.api.requests;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Provides the shared executors used for blocking fetches, pollers and batch operations.
+ * This is the Java 11 implementation, which runs tasks on a bounded pool of daemon platform threads.
+ * Tasks on this pool must not wait for other tasks on it, since all of its threads may be blocked at once.
+ * Polls of streams block for a whole round-trip on every tick, so they run on separate daemon threads
+ * that cannot starve the bounded pool, see {@link #pollers()}.
+ * On Java 21 and newer, the multi-release JAR replaces this class with an implementation based on virtual threads.
+ */
+public class RequestExecutor {
+
+    /** The maximum amount of platform threads used by the executor. */
+    private static final int POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    /** Counter used to name the worker threads. */
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /** Counter used to name the polling threads. */
+    private static final AtomicInteger POLLER_COUNTER = new AtomicInteger();
+
+    /** The shared executor instance. */
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    /** The executor running the polls of streams. */
+    private static final ExecutorService POLLERS = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "jwsa-poller-" + POLLER_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private RequestExecutor() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Retrieves the shared executor.
+     *
+     * @return The shared {@link ExecutorService}.
+     */
+    public static ExecutorService get() {
+        return EXECUTOR;
+    }
+
+    /**
+     * Retrieves the executor running the polls and terminal signals of streams.
+     * Polls block on their request, so they use an unbounded pool of daemon threads
+     * instead of the bounded pool of {@link #get()}.
+     *
+     * @return The polling {@link ExecutorService}.
+     */
+    public static ExecutorService pollers() {
+        return POLLERS;
+    }
+
+    /**
+     * Checks whether the shared executor runs its tasks on virtual threads.
+     *
+     * @return true if virtual threads are used, false if a bounded platform pool is used.
+     */
+    public static boolean isVirtual() {
+        return false;
+    }
+
+    /**
+     * Runs a blocking task on the shared executor.
+     *
+     * @param task The task to run.
+     * @param <T>  The type of the result.
+     * @return A future completing with the result of the task.
+     */
+    public static <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, EXECUTOR);
+    }
+
+    /**
+     * Creates the bounded pool of daemon platform threads.
+     *
+     * @return The created {@link ExecutorService}.
+     */
+    private static ExecutorService createExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "jwsa-worker-" + THREAD_COUNTER.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -1,13 +1,33 @@
 package de.shurablack.jwsa.api.requests;
 
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.requests.cache.EntityCache;
+import de.shurablack.jwsa.api.requests.cache.ResponseCache;
+import de.shurablack.jwsa.api.requests.url.Encoder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.json.JSONTokener;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
 
 /**
  * Provides utility methods for making HTTP requests and mapping responses to objects or lists of objects.
@@ -17,6 +37,52 @@ public class Requests {
     /** Logger instance for logging request-related events and errors. */
     private static final Logger LOGGER = LogManager.getLogger(Requests.class);
 
+    /** The variant applied to all requests that do not specify one. */
+    private static volatile Variant defaultVariant = Variant.DEFAULT;
+
+    /** The maximum amount of concurrent requests per batch. */
+    private static volatile int batchParallelism = 8;
+
+    /**
+     * Sets the platform and language used by all requests that do not specify a variant,
+     * including the {@code request()} methods of the entities.
+     *
+     * @param variant The new default {@link Variant}.
+     */
+    public static void setDefaultVariant(Variant variant) {
+        defaultVariant = variant != null ? variant : Variant.DEFAULT;
+    }
+
+    /**
+     * Retrieves the platform and language used by all requests that do not specify a variant.
+     *
+     * @return The current default {@link Variant}.
+     */
+    public static Variant getDefaultVariant() {
+        return defaultVariant;
+    }
+
+    /**
+     * Sets the maximum amount of concurrent requests used by a single batch.
+     *
+     * @param parallelism The maximum amount of concurrent requests, must be at least 1.
+     */
+    public static void setBatchParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Batch parallelism must be at least 1");
+        }
+        batchParallelism = parallelism;
+    }
+
+    /**
+     * Retrieves the maximum amount of concurrent requests used by a single batch.
+     *
+     * @return The maximum amount of concurrent requests.
+     */
+    public static int getBatchParallelism() {
+        return batchParallelism;
+    }
+
     /**
      * Sends an HTTP request to the specified URL and maps the response directly to an object of the specified class.
      * The class must have a static `deserialize` method to parse the JSON response.
@@ -27,11 +93,334 @@ public class Requests {
      * @return An instance of the specified class, or null if an error occurs or the response is null.
      */
     public static <T> T withDirectMapping(Class<T> cls, String url) {
-        String raw = HTTPRequester.get().request(url);
+        return withDirectMapping(cls, url, defaultVariant);
+    }
+
+    /**
+     * Sends an HTTP request to the specified URL for the given variant and maps the response directly to an object
+     * of the specified class.
+     *
+     * @param <T>     The type of the object to map the response to.
+     * @param cls     The class of the object to map the response to.
+     * @param url     The URL to send the request to.
+     * @param variant The platform and language to request.
+     * @return An instance of the specified class, or null if an error occurs or the response is null.
+     */
+    public static <T> T withDirectMapping(Class<T> cls, String url, Variant variant) {
+        return mapDirect(cls, variant.apply(url), null);
+    }
+
+    /**
+     * Sends an HTTP request to the specified URL restricted by the given projection and maps the response
+     * directly to an object of the specified class. Fields outside of the projection are skipped before deserialization.
+     *
+     * @param <T>        The type of the object to map the response to.
+     * @param cls        The class of the object to map the response to.
+     * @param url        The URL to send the request to.
+     * @param projection The projection limiting the returned fields.
+     * @return An instance of the specified class, or null if an error occurs or the response is null.
+     */
+    public static <T> T withDirectMapping(Class<T> cls, String url, Projection projection) {
+        return withDirectMapping(cls, url, defaultVariant, projection);
+    }
+
+    /**
+     * Sends an HTTP request to the specified URL for the given variant restricted by the given projection and maps
+     * the response directly to an object of the specified class. Fields outside of the projection are skipped before
+     * deserialization.
+     *
+     * @param <T>        The type of the object to map the response to.
+     * @param cls        The class of the object to map the response to.
+     * @param url        The URL to send the request to.
+     * @param variant    The platform and language to request.
+     * @param projection The projection limiting the returned fields.
+     * @return An instance of the specified class, or null if an error occurs or the response is null.
+     */
+    public static <T> T withDirectMapping(Class<T> cls, String url, Variant variant, Projection projection) {
+        return mapDirect(cls, projection.apply(variant.apply(url)), projection);
+    }
+
+    /**
+     * Sends an HTTP request to the specified URL and maps the response to a list of objects of the specified class.
+     * The class must have a static `deserialize` method to parse each JSON object in the response array.
+     *
+     * @param <T> The type of the objects in the list.
+     * @param cls The class of the objects to map the response to.
+     * @param url The URL to send the request to.
+     * @return A list of objects of the specified class, or an empty list if an error occurs or the response is null.
+     */
+    public static <T> List<T> withListMapping(Class<T> cls, String url) {
+        return withListMapping(cls, url, defaultVariant);
+    }
+
+    /**
+     * Sends an HTTP request to the specified URL for the given variant and maps the response to a list of objects
+     * of the specified class.
+     *
+     * @param <T>     The type of the objects in the list.
+     * @param cls     The class of the objects to map the response to.
+     * @param url     The URL to send the request to.
+     * @param variant The platform and language to request.
+     * @return A list of objects of the specified class, or an empty list if an error occurs or the response is null.
+     */
+    public static <T> List<T> withListMapping(Class<T> cls, String url, Variant variant) {
+        return orEmpty(mapList(cls, variant.apply(url), null));
+    }
+
+    /**
+     * Sends an HTTP request to the specified URL and maps the response to a list of objects of the specified class.
+     * Unlike {@link #withListMapping(Class, String)}, a failed request is not reported as an empty list,
+     * so callers can tell a failure apart from a section that is actually empty.
+     *
+     * @param <T> The type of the objects in the list.
+     * @param cls The class of the objects to map the response to.
+     * @param url The URL to send the request to.
+     * @return A list of objects of the specified class, or null if the request or the parsing of the response failed.
+     */
+    public static <T> List<T> withListMappingOrNull(Class<T> cls, String url) {
+        return withListMappingOrNull(cls, url, defaultVariant);
+    }
+
+    /**
+     * Sends an HTTP request to the specified URL for the given variant and maps the response to a list of objects
+     * of the specified class. Unlike {@link #withListMapping(Class, String, Variant)}, a failed request is not
+     * reported as an empty list, so callers can tell a failure apart from a section that is actually empty.
+     *
+     * @param <T>     The type of the objects in the list.
+     * @param cls     The class of the objects to map the response to.
+     * @param url     The URL to send the request to.
+     * @param variant The platform and language to request.
+     * @return A list of objects of the specified class, or null if the request or the parsing of the response failed.
+     */
+    public static <T> List<T> withListMappingOrNull(Class<T> cls, String url, Variant variant) {
+        return mapList(cls, variant.apply(url), null);
+    }
+
+    /**
+     * Sends an HTTP request to the specified URL restricted by the given projection and maps the response
+     * to a list of objects of the specified class. Fields outside of the projection are skipped before deserialization.
+     *
+     * @param <T>        The type of the objects in the list.
+     * @param cls        The class of the objects to map the response to.
+     * @param url        The URL to send the request to.
+     * @param projection The projection limiting the returned fields.
+     * @return A list of objects of the specified class, or an empty list if an error occurs or the response is null.
+     */
+    public static <T> List<T> withListMapping(Class<T> cls, String url, Projection projection) {
+        return withListMapping(cls, url, defaultVariant, projection);
+    }
+
+    /**
+     * Sends an HTTP request to the specified URL for the given variant restricted by the given projection and maps
+     * the response to a list of objects of the specified class. Fields outside of the projection are skipped before
+     * deserialization.
+     *
+     * @param <T>        The type of the objects in the list.
+     * @param cls        The class of the objects to map the response to.
+     * @param url        The URL to send the request to.
+     * @param variant    The platform and language to request.
+     * @param projection The projection limiting the returned fields.
+     * @return A list of objects of the specified class, or an empty list if an error occurs or the response is null.
+     */
+    public static <T> List<T> withListMapping(Class<T> cls, String url, Variant variant, Projection projection) {
+        return orEmpty(mapList(cls, projection.apply(variant.apply(url)), projection));
+    }
+
+    /**
+     * Requests the same endpoint for several variants concurrently over the shared HTTP client
+     * and maps each response directly to an object of the specified class.
+     * The responses are mapped on the {@link RequestExecutor}.
+     *
+     * @param <T>      The type of the object to map the responses to.
+     * @param cls      The class of the object to map the responses to.
+     * @param url      The endpoint URL of {@link Paths} to request.
+     * @param variants The platforms and languages to request.
+     * @return A map of each variant to its mapped object, in the order of the given variants.
+     *         Failed requests are mapped to null.
+     */
+    public static <T> Map<Variant, T> withDirectFanOut(Class<T> cls, String url, Collection<Variant> variants) {
+        Map<Variant, CompletableFuture<T>> futures = new LinkedHashMap<>();
+        for (Variant variant : variants) {
+            String target = variant.apply(url);
+            futures.put(variant, HTTPRequester.get().requestEntryAsync(target)
+                    .thenApplyAsync(entry -> mapDirect(cls, target, entry, null), RequestExecutor.get()));
+        }
+        return join(futures, null);
+    }
+
+    /**
+     * Requests the same endpoint for several variants concurrently over the shared HTTP client
+     * and maps each response to a list of objects of the specified class.
+     * The responses are mapped on the {@link RequestExecutor}.
+     *
+     * @param <T>      The type of the objects in the lists.
+     * @param cls      The class of the objects to map the responses to.
+     * @param url      The endpoint URL of {@link Paths} to request.
+     * @param variants The platforms and languages to request.
+     * @return A map of each variant to its mapped list, in the order of the given variants.
+     *         Failed requests are mapped to an empty list.
+     */
+    public static <T> Map<Variant, List<T>> withListFanOut(Class<T> cls, String url, Collection<Variant> variants) {
+        Map<Variant, CompletableFuture<List<T>>> futures = new LinkedHashMap<>();
+        for (Variant variant : variants) {
+            String target = variant.apply(url);
+            futures.put(variant, HTTPRequester.get().requestEntryAsync(target)
+                    .thenApplyAsync(entry -> orEmpty(mapList(cls, target, entry, null)), RequestExecutor.get()));
+        }
+        return join(futures, Collections.emptyList());
+    }
+
+    /**
+     * Requests a searchable endpoint for each of the given queries with bounded concurrency
+     * and maps each response directly to an object of the specified class.
+     * The responses are mapped on the {@link RequestExecutor}.
+     * Queries are trimmed, lower-cased and deduplicated before being requested.
+     *
+     * @param <T>     The type of the object to map the responses to.
+     * @param cls     The class of the object to map the responses to.
+     * @param format  The searchable endpoint of {@link Paths} containing a placeholder for the query.
+     * @param queries The queries to request.
+     * @return A map of each normalized query to its mapped object, in the order of the given queries.
+     *         Failed requests are mapped to null.
+     */
+    public static <T> Map<String, T> withDirectBatch(Class<T> cls, String format, Collection<String> queries) {
+        return batch(queries, query -> {
+            String target = defaultVariant.apply(String.format(format, Encoder.encode(query)));
+            return HTTPRequester.get().requestEntryAsync(target)
+                    .thenApplyAsync(entry -> mapDirect(cls, target, entry, null), RequestExecutor.get());
+        }, null);
+    }
+
+    /**
+     * Requests a searchable endpoint for each of the given queries with bounded concurrency
+     * and maps each response to a list of objects of the specified class.
+     * The responses are mapped on the {@link RequestExecutor}.
+     * Queries are trimmed, lower-cased and deduplicated before being requested.
+     *
+     * @param <T>     The type of the objects in the lists.
+     * @param cls     The class of the objects to map the responses to.
+     * @param format  The searchable endpoint of {@link Paths} containing a placeholder for the query.
+     * @param queries The queries to request.
+     * @return A map of each normalized query to its mapped list, in the order of the given queries.
+     *         Failed requests are mapped to an empty list.
+     */
+    public static <T> Map<String, List<T>> withListBatch(Class<T> cls, String format, Collection<String> queries) {
+        return batch(queries, query -> {
+            String target = defaultVariant.apply(String.format(format, Encoder.encode(query)));
+            return HTTPRequester.get().requestEntryAsync(target)
+                    .thenApplyAsync(entry -> orEmpty(mapList(cls, target, entry, null)), RequestExecutor.get());
+        }, Collections.emptyList());
+    }
+
+    /**
+     * Sends an HTTP request to the specified URL and retrieves the raw response as a string.
+     * Logs a warning if the response is null.
+     *
+     * @param url The URL to send the request to.
+     * @return The raw response as a string, or null if an error occurs or the response is null.
+     */
+    public static String raw(String url) {
+        String raw = HTTPRequester.get().request(defaultVariant.apply(url));
         if (raw == null) {
+            LOGGER.warn("Received null response for URL: " + url);
             return null;
         }
-        JSONObject json = new JSONObject(raw);
+        return raw;
+    }
+
+    /**
+     * Requests the specified URL and maps the response directly to an object of the specified class.
+     *
+     * @param <T>        The type of the object to map the response to.
+     * @param cls        The class of the object to map the response to.
+     * @param url        The final URL to send the request to.
+     * @param projection The projection applied before deserialization, or null.
+     * @return An instance of the specified class, or null if an error occurs or the response is null.
+     */
+    private static <T> T mapDirect(Class<T> cls, String url, Projection projection) {
+        return mapDirect(cls, url, HTTPRequester.get().requestEntry(url), projection);
+    }
+
+    /**
+     * Requests the specified URL and maps the response to a list of objects of the specified class.
+     *
+     * @param <T>        The type of the objects in the list.
+     * @param cls        The class of the objects to map the response to.
+     * @param url        The final URL to send the request to.
+     * @param projection The projection applied to each object before deserialization, or null.
+     * @return A list of objects of the specified class, or null if an error occurs or the response is null.
+     */
+    private static <T> List<T> mapList(Class<T> cls, String url, Projection projection) {
+        return mapList(cls, url, HTTPRequester.get().requestEntry(url), projection);
+    }
+
+    /**
+     * Maps a response directly to an object of the specified class,
+     * reusing the result of an unchanged response if {@link EntityCache} is enabled.
+     *
+     * @param <T>        The type of the object to map the response to.
+     * @param cls        The class of the object to map the response to.
+     * @param url        The URL the response was requested from.
+     * @param entry      The cache entry holding the response, may be null.
+     * @param projection The projection applied before deserialization, or null.
+     * @return An instance of the specified class, or null if an error occurs or the response is null.
+     */
+    private static <T> T mapDirect(Class<T> cls, String url, ResponseCache.CacheEntry entry, Projection projection) {
+        if (entry == null) {
+            return null;
+        }
+        return EntityCache.get(EntityCache.key(url, cls), entry,
+                () -> parseDirect(cls, entry.getBody(), projection));
+    }
+
+    /**
+     * Maps a response to a list of objects of the specified class,
+     * reusing the result of an unchanged response if {@link EntityCache} is enabled.
+     *
+     * @param <T>        The type of the objects in the list.
+     * @param cls        The class of the objects to map the response to.
+     * @param url        The URL the response was requested from.
+     * @param entry      The cache entry holding the response, may be null.
+     * @param projection The projection applied to each object before deserialization, or null.
+     * @return A list of objects of the specified class, or null if an error occurs or the response is null.
+     */
+    private static <T> List<T> mapList(Class<T> cls, String url, ResponseCache.CacheEntry entry, Projection projection) {
+        if (entry == null) {
+            return null;
+        }
+        return EntityCache.getList(EntityCache.listKey(url, cls), entry,
+                () -> parseList(cls, entry.getBody(), projection));
+    }
+
+    /**
+     * Parses a UTF-8 encoded response body directly to an object of the specified class.
+     *
+     * @param <T>        The type of the object to map the response to.
+     * @param cls        The class of the object to map the response to.
+     * @param body       The UTF-8 encoded response body, may be null.
+     * @param projection The projection applied before deserialization, or null.
+     * @return An instance of the specified class, or null if an error occurs or the response is null.
+     */
+    private static <T> T parseDirect(Class<T> cls, byte[] body, Projection projection) {
+        if (body == null) {
+            return null;
+        }
+        Method read = streamingReader(cls);
+        if (read != null) {
+            try (JsonReader reader = reader(body)) {
+                if (projection != null) {
+                    reader.filterMembers(1, projection::accepts);
+                }
+                return (T) read.invoke(null, reader);
+            } catch (Exception e) {
+                LOGGER.error("Error while parsing response for class: " + cls.getSimpleName(), e);
+                return null;
+            }
+        }
+        JSONObject json = new JSONObject(tokener(body));
+        if (projection != null) {
+            projection.filter(json);
+        }
         try {
             return (T) cls.getDeclaredMethod("deserialize", JSONObject.class).invoke(null, json);
         } catch (Exception e) {
@@ -41,46 +430,157 @@ public class Requests {
     }
 
     /**
-     * Sends an HTTP request to the specified URL and maps the response to a list of objects of the specified class.
-     * The class must have a static `deserialize` method to parse each JSON object in the response array.
+     * Parses a UTF-8 encoded response body to a list of objects of the specified class.
      *
-     * @param <T> The type of the objects in the list.
-     * @param cls The class of the objects to map the response to.
-     * @param url The URL to send the request to.
-     * @return A list of objects of the specified class, or an empty list if an error occurs or the response is null.
+     * @param <T>        The type of the objects in the list.
+     * @param cls        The class of the objects to map the response to.
+     * @param body       The UTF-8 encoded response body, may be null.
+     * @param projection The projection applied to each object before deserialization, or null.
+     * @return A list of objects of the specified class, or null if an error occurs or the response is null.
      */
-    public static <T> List<T> withListMapping(Class<T> cls, String url) {
-        String raw = HTTPRequester.get().request(url);
-        if (raw == null) {
-            return Collections.emptyList();
+    private static <T> List<T> parseList(Class<T> cls, byte[] body, Projection projection) {
+        if (body == null) {
+            return null;
+        }
+        Method read = streamingReader(cls);
+        if (read != null) {
+            List<T> list = new ArrayList<>();
+            try (JsonReader reader = reader(body)) {
+                if (projection != null) {
+                    reader.filterMembers(2, projection::accepts);
+                }
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    list.add((T) read.invoke(null, reader));
+                }
+                reader.endArray();
+            } catch (Exception e) {
+                LOGGER.error("Error while parsing response for class: " + cls.getSimpleName(), e);
+                return null;
+            }
+            return list;
         }
-        JSONArray data = new JSONArray(raw);
         List<T> list = new ArrayList<>();
         try {
+            JSONArray data = new JSONArray(tokener(body));
             for (int i = 0; i < data.length(); i++) {
                 JSONObject json = data.getJSONObject(i);
+                if (projection != null) {
+                    projection.filter(json);
+                }
                 T item = (T) cls.getDeclaredMethod("deserialize", JSONObject.class).invoke(null, json);
                 list.add(item);
             }
         } catch (Exception e) {
             LOGGER.error("Error while parsing response for class: " + cls.getSimpleName(), e);
+            return null;
         }
         return list;
     }
 
     /**
-     * Sends an HTTP request to the specified URL and retrieves the raw response as a string.
-     * Logs a warning if the response is null.
+     * Replaces a failed list result with an empty list.
      *
-     * @param url The URL to send the request to.
-     * @return The raw response as a string, or null if an error occurs or the response is null.
+     * @param <T>  The type of the objects in the list.
+     * @param list The mapped list, or null if the request failed.
+     * @return The given list, or an empty list if it is null.
      */
-    public static String raw(String url) {
-        String raw = HTTPRequester.get().request(url);
-        if (raw == null) {
-            LOGGER.warn("Received null response for URL: " + url);
+    private static <T> List<T> orEmpty(List<T> list) {
+        return list == null ? Collections.emptyList() : list;
+    }
+
+    /**
+     * Creates a tokener reading the given UTF-8 encoded response body as a stream,
+     * without decoding it into an intermediate string.
+     *
+     * @param body The UTF-8 encoded response body.
+     * @return A {@link JSONTokener} over the body.
+     */
+    private static JSONTokener tokener(byte[] body) {
+        return new JSONTokener(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates a streaming reader over the given UTF-8 encoded response body.
+     *
+     * @param body The UTF-8 encoded response body.
+     * @return A {@link JsonReader} over the body.
+     */
+    private static JsonReader reader(byte[] body) {
+        return new JsonReader(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Looks up the static {@code read(JsonReader)} method of the specified class, which deserializes
+     * the class in a single pass without building a {@link JSONObject} first.
+     * Projections are applied while reading, see {@link JsonReader#filterMembers(int, java.util.function.Predicate)}.
+     *
+     * @param cls The class of the object to map the response to.
+     * @return The streaming method, or null if the class has none.
+     */
+    private static Method streamingReader(Class<?> cls) {
+        try {
+            return cls.getDeclaredMethod("read", JsonReader.class);
+        } catch (NoSuchMethodException e) {
             return null;
         }
-        return raw;
     }
-}
\ No newline at end of file
+
+    /**
+     * Normalizes and deduplicates the given queries and runs the fetcher for each of them,
+     * keeping at most {@link #getBatchParallelism()} requests in flight.
+     * A failing query does not affect the others and is mapped to the fallback.
+     *
+     * @param <R>      The type of the results.
+     * @param queries  The queries to request.
+     * @param fetcher  The function starting the request for a normalized query.
+     * @param fallback The result of failed queries.
+     * @return A map of each normalized query to its result.
+     */
+    static <R> Map<String, R> batch(Collection<String> queries, Function<String, CompletableFuture<R>> fetcher,
+                                    R fallback) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String query : queries) {
+            if (query != null && !query.isBlank()) {
+                normalized.add(query.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+
+        Semaphore permits = new Semaphore(batchParallelism);
+        Map<String, CompletableFuture<R>> futures = new LinkedHashMap<>();
+        for (String query : normalized) {
+            permits.acquireUninterruptibly();
+            CompletableFuture<R> future;
+            try {
+                future = fetcher.apply(query);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            futures.put(query, future.whenComplete((result, throwable) -> permits.release()));
+        }
+        return join(futures, fallback);
+    }
+
+    /**
+     * Waits for all futures and collects their results.
+     * Futures completing exceptionally are logged and mapped to the fallback.
+     *
+     * @param <K>      The type of the keys.
+     * @param <V>      The type of the results.
+     * @param futures  The futures to wait for.
+     * @param fallback The result of failed futures.
+     * @return A map of each key to the result of its future, in the order of the given map.
+     */
+    private static <K, V> Map<K, V> join(Map<K, CompletableFuture<V>> futures, V fallback) {
+        Map<K, V> results = new LinkedHashMap<>();
+        for (Map.Entry<K, CompletableFuture<V>> entry : futures.entrySet()) {
+            try {
+                results.put(entry.getKey(), entry.getValue().join());
+            } catch (CompletionException | CancellationException e) {
+                LOGGER.error("Request failed for: " + entry.getKey(), e);
+                results.put(entry.getKey(), fallback);
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,70 @@
+package de.shurablack.jwsa.api.requests;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * Represents a combination of platform and language used to request the API.
+ * The endpoints in {@link Paths} target the PC platform in english and are rewritten to the variant on request.
+ */
+@Getter
+@EqualsAndHashCode
+public class Variant {
+
+    /** The default variant, targeting the PC platform in english. */
+    public static final Variant DEFAULT = new Variant(Platform.PC, "en");
+
+    /** The platform of the variant. */
+    private final Platform platform;
+
+    /** The language code of the variant (e.g., "en", "de"). */
+    private final String language;
+
+    /**
+     * Private constructor to create a variant for the given platform and language.
+     *
+     * @param platform The platform of the variant.
+     * @param language The language code of the variant.
+     */
+    private Variant(Platform platform, String language) {
+        this.platform = platform;
+        this.language = language;
+    }
+
+    /**
+     * Creates a variant for the given platform and language.
+     *
+     * @param platform The platform of the variant.
+     * @param language The language code of the variant (e.g., "en", "de").
+     * @return A new {@link Variant} for the given platform and language.
+     */
+    public static Variant of(Platform platform, String language) {
+        if (platform == null || language == null || language.isEmpty()) {
+            throw new IllegalArgumentException("Platform and language are required");
+        }
+        return new Variant(platform, language.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Rewrites an endpoint of {@link Paths} to target this variant.
+     * Endpoints without platform segment (e.g., searchable endpoints) only get their language replaced.
+     *
+     * @param url The endpoint URL to rewrite.
+     * @return The URL targeting the platform and language of this variant.
+     */
+    public String apply(String url) {
+        if (this.equals(DEFAULT)) {
+            return url;
+        }
+
+        String result = url.replace(Paths.WORLD_STATE, Paths.BASE_URL + "/" + platform.getPath() + "/");
+        return result.replace("language=en", "language=" + language);
+    }
+
+    @Override
+    public String toString() {
+        return platform.getPath() + "/" + language;
+    }
+}
@@ -0,0 +1,120 @@
+package de.shurablack.jwsa.api.requests.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.net.http.HttpHeaders;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Represents the caching rules of a response, derived from its {@code Cache-Control}, {@code Age},
+ * {@code Expires} and {@code Vary} headers.
+ */
+@AllArgsConstructor
+@Getter
+public class CachePolicy {
+
+    /** The policy used if a response does not contain any caching headers. */
+    public static final CachePolicy REVALIDATE = new CachePolicy(true, 0);
+
+    /** Indicates whether the response may be stored. */
+    private final boolean storable;
+
+    /** The time in milliseconds the response stays fresh after it was received, 0 to always revalidate. */
+    private final long freshMillis;
+
+    /**
+     * Derives the caching rules from the given response headers.
+     * {@code s-maxage} takes precedence over {@code max-age}, because the cache is shared by all callers of the library.
+     * {@code Expires} is only used if neither is present.
+     *
+     * @param headers The response headers.
+     * @return The {@link CachePolicy} of the response.
+     */
+    public static CachePolicy of(HttpHeaders headers) {
+        if (headers == null) {
+            return REVALIDATE;
+        }
+
+        boolean storable = true;
+        boolean revalidate = false;
+        long maxAge = -1;
+        long sharedMaxAge = -1;
+        for (String value : headers.allValues("Cache-Control")) {
+            for (String directive : value.split(",")) {
+                String token = directive.trim().toLowerCase(Locale.ROOT);
+                if (token.equals("no-store")) {
+                    storable = false;
+                } else if (token.equals("no-cache")) {
+                    revalidate = true;
+                } else if (token.startsWith("s-maxage=")) {
+                    sharedMaxAge = parseSeconds(token.substring("s-maxage=".length()));
+                } else if (token.startsWith("max-age=")) {
+                    maxAge = parseSeconds(token.substring("max-age=".length()));
+                }
+            }
+        }
+
+        if (headers.allValues("Vary").stream().anyMatch(value -> value.trim().equals("*"))) {
+            revalidate = true;
+        }
+        if (!storable || revalidate) {
+            return new CachePolicy(storable, 0);
+        }
+
+        long lifetime = sharedMaxAge >= 0 ? sharedMaxAge : maxAge;
+        if (lifetime < 0) {
+            return new CachePolicy(true, expiresMillis(headers));
+        }
+
+        long age = headers.firstValue("Age").map(CachePolicy::parseSeconds).orElse(0L);
+        return new CachePolicy(true, Math.max(0, lifetime - Math.max(0, age)) * 1000);
+    }
+
+    /**
+     * Computes the freshness lifetime from the {@code Expires} header relative to the {@code Date} header.
+     *
+     * @param headers The response headers.
+     * @return The freshness lifetime in milliseconds, or 0 if it cannot be determined.
+     */
+    private static long expiresMillis(HttpHeaders headers) {
+        Optional<ZonedDateTime> expires = headers.firstValue("Expires").flatMap(CachePolicy::parseDate);
+        if (expires.isEmpty()) {
+            return 0;
+        }
+        ZonedDateTime date = headers.firstValue("Date").flatMap(CachePolicy::parseDate).orElse(ZonedDateTime.now());
+        return Math.max(0, expires.get().toInstant().toEpochMilli() - date.toInstant().toEpochMilli());
+    }
+
+    /**
+     * Parses a delta-seconds value.
+     *
+     * @param value The value to parse.
+     * @return The parsed seconds, or -1 if the value is invalid.
+     */
+    private static long parseSeconds(String value) {
+        try {
+            return Long.parseLong(value.trim().replace("\"", ""));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Parses an HTTP date.
+     *
+     * @param value The value to parse.
+     * @return The parsed date, or empty if the value is invalid.
+     */
+    private static Optional<ZonedDateTime> parseDate(String value) {
+        try {
+            return Optional.of(ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package de.shurablack.jwsa.api.requests.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The cold tier of the {@link ResponseCache}. Response bodies that dropped out of the hot tier are compressed with
+ * a {@link CompressionDictionary} and moved into direct buffers outside the garbage collected heap.
+ * The tier is bounded by the total size of the compressed bodies, the least recently demoted entries are evicted first.
+ * Each platform and language of the {@link ResponseCache} has its own tier.
+ * All methods are called while holding the lock of the owning partition.
+ */
+public class CompressedTier {
+
+    /** The dictionary used to compress the bodies of this tier. */
+    private final CompressionDictionary dictionary;
+
+    /** The maximum total size of the compressed bodies in bytes. */
+    private final long capacity;
+
+    /** The sizes of the entries of this tier by URL as recorded when they were stored, in the order they were demoted. */
+    private final Map<String, Stored> entries = new LinkedHashMap<>();
+
+    /** The total size of the compressed bodies in bytes. */
+    private long compressedBytes;
+
+    /** The total size of the bodies before compression in bytes. */
+    private long uncompressedBytes;
+
+    /**
+     * Creates a new compressed tier.
+     *
+     * @param dictionary The dictionary used to compress the bodies.
+     * @param capacity   The maximum total size of the compressed bodies in bytes.
+     */
+    CompressedTier(CompressionDictionary dictionary, long capacity) {
+        this.dictionary = dictionary;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Compresses the body of the given entry into this tier.
+     *
+     * @param url   The URL of the entry.
+     * @param entry The entry to demote.
+     * @return The URLs of the entries evicted to stay within the capacity.
+     */
+    List<String> store(String url, ResponseCache.CacheEntry entry) {
+        Stored previous = entries.remove(url);
+        if (previous != null) {
+            account(previous, -1);
+        }
+        if (!entry.compress(dictionary)) {
+            return List.of();
+        }
+        Stored stored = new Stored(entry.getCompressedLength(), entry.getLength());
+        entries.put(url, stored);
+        account(stored, 1);
+
+        List<String> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Stored>> iterator = entries.entrySet().iterator();
+        while (compressedBytes > capacity && iterator.hasNext()) {
+            Map.Entry<String, Stored> eldest = iterator.next();
+            iterator.remove();
+            account(eldest.getValue(), -1);
+            evicted.add(eldest.getKey());
+        }
+        return evicted;
+    }
+
+    /**
+     * Removes the entry of the given URL from this tier, e.g. because it was promoted back into the hot tier.
+     * The compressed body stays attached to the entry until it is accessed.
+     *
+     * @param url The URL of the entry.
+     */
+    void release(String url) {
+        Stored stored = entries.remove(url);
+        if (stored != null) {
+            account(stored, -1);
+        }
+    }
+
+    /**
+     * Removes all entries from this tier.
+     */
+    void clear() {
+        entries.clear();
+        compressedBytes = 0;
+        uncompressedBytes = 0;
+    }
+
+    /**
+     * Retrieves the dictionary used to compress the bodies of this tier.
+     *
+     * @return The {@link CompressionDictionary} of this tier.
+     */
+    public CompressionDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Retrieves the maximum total size of the compressed bodies.
+     *
+     * @return The capacity in bytes.
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Retrieves the amount of entries held by this tier.
+     *
+     * @return The amount of compressed entries.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Retrieves the total size of the compressed bodies held outside the heap.
+     *
+     * @return The compressed size in bytes.
+     */
+    public synchronized long getCompressedBytes() {
+        return compressedBytes;
+    }
+
+    /**
+     * Retrieves the total size the bodies of this tier would take uncompressed.
+     *
+     * @return The uncompressed size in bytes.
+     */
+    public synchronized long getUncompressedBytes() {
+        return uncompressedBytes;
+    }
+
+    /**
+     * Adds or subtracts the recorded sizes of an entry from the totals.
+     * The recorded sizes are used since the entry may be inflated or updated while it is still held by this tier.
+     *
+     * @param stored The recorded sizes of the entry.
+     * @param sign   1 to add the entry, -1 to subtract it.
+     */
+    private synchronized void account(Stored stored, int sign) {
+        compressedBytes += sign * stored.compressedLength;
+        uncompressedBytes += sign * stored.length;
+    }
+
+    /**
+     * The sizes of an entry at the time it was stored in the tier.
+     */
+    private static class Stored {
+
+        /** The size of the compressed body in bytes. */
+        private final long compressedLength;
+
+        /** The size of the body before compression in bytes. */
+        private final long length;
+
+        /**
+         * Creates new recorded sizes.
+         *
+         * @param compressedLength The size of the compressed body in bytes.
+         * @param length           The size of the body before compression in bytes.
+         */
+        private Stored(long compressedLength, long length) {
+            this.compressedLength = compressedLength;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package de.shurablack.jwsa.api.requests.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A preset dictionary for compressing cached response bodies with {@link Deflater}.
+ * API responses are small, highly repetitive JSON documents, so priming the compressor with the recurring keys
+ * and values considerably improves the ratio compared to compressing each body on its own.
+ * The {@link #DEFAULT} dictionary covers the keys of the worldstate and item endpoints,
+ * a dictionary for a specific workload can be trained from sample responses with {@link #train(Collection, int)}.
+ */
+public class CompressionDictionary {
+
+    /** The maximum size of a deflate dictionary, larger dictionaries are not referenced by the compressor. */
+    public static final int MAX_SIZE = 32 * 1024;
+
+    /** The recurring fragments of worldstate and item responses, from least to most frequent. */
+    private static final String[] FRAGMENTS = {
+            "\"sharkwing\":", "\"archwing\":", "\"psId\":\"", "\"wikiaUrl\":\"https://warframe.fandom.com/wiki/",
+            "\"imageName\":\"", "\"releaseDate\":\"", "\"estimatedVaultDate\":\"", "\"vaulted\":",
+            "\"masterable\":", "\"tradable\":", "\"productCategory\":\"", "\"polarities\":[",
+            "\"patchlogs\":[", "\"components\":[", "\"introduced\":{", "\"drops\":[", "\"chance\":",
+            "\"rarity\":\"", "\"location\":\"", "\"category\":\"", "\"uniqueName\":\"/Lotus/",
+            "\"rewardTypes\":[", "\"rewardPool\":[", "\"reward\":{", "\"items\":[", "\"countedItems\":[",
+            "\"credits\":", "\"asString\":\"", "\"enemy\":\"", "\"boss\":\"", "\"missionType\":\"",
+            "\"tier\":\"", "\"tierNum\":", "\"isStorm\":", "\"isHard\":", "\"faction\":\"", "\"node\":\"",
+            "\"description\":\"", "\"name\":\"", "\"type\":\"", "\"eta\":\"", "\"startString\":\"",
+            "\"expired\":false,", "\"active\":true,", "\"expiry\":\"", "\"activation\":\"",
+            "T00:00:00.000Z\",", ".000Z\",", "\"id\":\"",
+    };
+
+    /** The dictionary for worldstate and item responses. */
+    public static final CompressionDictionary DEFAULT =
+            new CompressionDictionary(String.join("", FRAGMENTS).getBytes(StandardCharsets.UTF_8));
+
+    /** The raw dictionary bytes, the most valuable fragments are placed at the end. */
+    private final byte[] bytes;
+
+    /**
+     * Private constructor to create a dictionary from the given bytes.
+     *
+     * @param bytes The raw dictionary bytes.
+     */
+    private CompressionDictionary(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Creates a dictionary from the given raw bytes.
+     *
+     * @param bytes The raw dictionary bytes, at most {@link #MAX_SIZE} bytes are used.
+     * @return A new {@link CompressionDictionary}.
+     */
+    public static CompressionDictionary of(byte[] bytes) {
+        int from = Math.max(0, bytes.length - MAX_SIZE);
+        byte[] copy = new byte[bytes.length - from];
+        System.arraycopy(bytes, from, copy, 0, copy.length);
+        return new CompressionDictionary(copy);
+    }
+
+    /**
+     * Trains a dictionary from sample responses.
+     * All JSON strings of the samples (including the colon of keys) are counted,
+     * and the fragments saving the most bytes are packed into the dictionary.
+     *
+     * @param samples The UTF-8 encoded sample responses.
+     * @param maxSize The maximum size of the dictionary in bytes, limited to {@link #MAX_SIZE}.
+     * @return A new {@link CompressionDictionary} for the samples.
+     */
+    public static CompressionDictionary train(Collection<byte[]> samples, int maxSize) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (byte[] sample : samples) {
+            collectFragments(new String(sample, StandardCharsets.UTF_8), counts);
+        }
+
+        List<Map.Entry<String, Integer>> fragments = new ArrayList<>(counts.entrySet());
+        fragments.removeIf(entry -> entry.getValue() < 2);
+        fragments.sort(Comparator.comparingLong(
+                (Map.Entry<String, Integer> entry) -> (long) entry.getKey().length() * entry.getValue()).reversed());
+
+        int limit = Math.min(maxSize, MAX_SIZE);
+        List<byte[]> selected = new ArrayList<>();
+        int size = 0;
+        for (Map.Entry<String, Integer> fragment : fragments) {
+            byte[] encoded = fragment.getKey().getBytes(StandardCharsets.UTF_8);
+            if (size + encoded.length <= limit) {
+                selected.add(encoded);
+                size += encoded.length;
+            }
+        }
+
+        Collections.reverse(selected);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+        for (byte[] fragment : selected) {
+            out.write(fragment, 0, fragment.length);
+        }
+        return new CompressionDictionary(out.toByteArray());
+    }
+
+    /**
+     * Retrieves the size of this dictionary.
+     *
+     * @return The size of the dictionary in bytes.
+     */
+    public int size() {
+        return bytes.length;
+    }
+
+    /**
+     * Retrieves the raw bytes of this dictionary, e.g. to store them next to data compressed with it.
+     *
+     * @return A copy of the raw dictionary bytes, which can be restored with {@link #of(byte[])}.
+     */
+    public byte[] toByteArray() {
+        return bytes.clone();
+    }
+
+    /**
+     * Compresses the given data with this dictionary.
+     *
+     * @param data The data to compress.
+     * @return The compressed data.
+     */
+    public byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setDictionary(bytes);
+            deflater.setInput(data);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Decompresses data compressed with this dictionary.
+     *
+     * @param compressed The compressed data, read from its position to its limit without modifying it.
+     * @param length     The length of the uncompressed data.
+     * @return The uncompressed data.
+     * @throws IllegalStateException If the data is corrupt or was compressed with another dictionary.
+     */
+    public byte[] inflate(ByteBuffer compressed, int length) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed.duplicate());
+            byte[] data = new byte[length];
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                int count = inflater.inflate(data, offset, length - offset);
+                if (count == 0 && inflater.needsDictionary()) {
+                    inflater.setDictionary(bytes);
+                } else if (count == 0 && inflater.needsInput()) {
+                    throw new IllegalStateException("Compressed data is truncated");
+                }
+                offset += count;
+            }
+            return data;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Compressed data is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Counts all JSON strings of the given document. Keys are counted including their colon.
+     *
+     * @param json   The JSON document.
+     * @param counts The counts per fragment to update.
+     */
+    private static void collectFragments(String json, Map<String, Integer> counts) {
+        int index = json.indexOf('"');
+        while (index >= 0) {
+            int end = index + 1;
+            while (end < json.length() && json.charAt(end) != '"') {
+                end += json.charAt(end) == '\\' ? 2 : 1;
+            }
+            if (end >= json.length()) {
+                return;
+            }
+
+            int next = end + 1;
+            if (next < json.length() && json.charAt(next) == ':') {
+                next++;
+            }
+            if (next - index <= 64) {
+                counts.merge(json.substring(index, next), 1, Integer::sum);
+            }
+            index = json.indexOf('"', next);
+        }
+    }
+}
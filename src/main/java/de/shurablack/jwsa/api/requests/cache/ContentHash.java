@@ -0,0 +1,151 @@
+package de.shurablack.jwsa.api.requests.cache;
+
+/**
+ * Utility class for hashing response bodies with the 64-bit xxHash algorithm.
+ * The hash is used to detect unchanged responses of endpoints that do not send an ETag.
+ */
+public class ContentHash {
+
+    /** The first prime of xxHash64. */
+    private static final long PRIME_1 = 0x9E3779B185EBCA87L;
+
+    /** The second prime of xxHash64. */
+    private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+
+    /** The third prime of xxHash64. */
+    private static final long PRIME_3 = 0x165667B19E3779F9L;
+
+    /** The fourth prime of xxHash64. */
+    private static final long PRIME_4 = 0x85EBCA77C2B2AE63L;
+
+    /** The fifth prime of xxHash64. */
+    private static final long PRIME_5 = 0x27D4EB2F165667C5L;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ContentHash() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Computes the xxHash64 of the given data with seed 0.
+     *
+     * @param data The data to hash.
+     * @return The 64-bit hash of the data.
+     */
+    public static long xxHash64(byte[] data) {
+        return xxHash64(data, 0);
+    }
+
+    /**
+     * Computes the xxHash64 of the given data.
+     *
+     * @param data The data to hash.
+     * @param seed The seed of the hash.
+     * @return The 64-bit hash of the data.
+     */
+    public static long xxHash64(byte[] data, long seed) {
+        int length = data.length;
+        int offset = 0;
+        long hash;
+
+        if (length >= 32) {
+            long v1 = seed + PRIME_1 + PRIME_2;
+            long v2 = seed + PRIME_2;
+            long v3 = seed;
+            long v4 = seed - PRIME_1;
+            int limit = length - 32;
+            do {
+                v1 = round(v1, readLong(data, offset));
+                v2 = round(v2, readLong(data, offset + 8));
+                v3 = round(v3, readLong(data, offset + 16));
+                v4 = round(v4, readLong(data, offset + 24));
+                offset += 32;
+            } while (offset <= limit);
+
+            hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            hash = merge(hash, v1);
+            hash = merge(hash, v2);
+            hash = merge(hash, v3);
+            hash = merge(hash, v4);
+        } else {
+            hash = seed + PRIME_5;
+        }
+
+        hash += length;
+
+        while (offset + 8 <= length) {
+            hash ^= round(0, readLong(data, offset));
+            hash = Long.rotateLeft(hash, 27) * PRIME_1 + PRIME_4;
+            offset += 8;
+        }
+        if (offset + 4 <= length) {
+            hash ^= (readInt(data, offset) & 0xFFFFFFFFL) * PRIME_1;
+            hash = Long.rotateLeft(hash, 23) * PRIME_2 + PRIME_3;
+            offset += 4;
+        }
+        while (offset < length) {
+            hash ^= (data[offset] & 0xFFL) * PRIME_5;
+            hash = Long.rotateLeft(hash, 11) * PRIME_1;
+            offset++;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= PRIME_2;
+        hash ^= hash >>> 29;
+        hash *= PRIME_3;
+        hash ^= hash >>> 32;
+        return hash;
+    }
+
+    /**
+     * Mixes an input lane into an accumulator.
+     *
+     * @param accumulator The accumulator.
+     * @param input       The input lane.
+     * @return The updated accumulator.
+     */
+    private static long round(long accumulator, long input) {
+        accumulator += input * PRIME_2;
+        accumulator = Long.rotateLeft(accumulator, 31);
+        return accumulator * PRIME_1;
+    }
+
+    /**
+     * Merges an accumulator into the hash.
+     *
+     * @param hash        The hash.
+     * @param accumulator The accumulator to merge.
+     * @return The updated hash.
+     */
+    private static long merge(long hash, long accumulator) {
+        hash ^= round(0, accumulator);
+        return hash * PRIME_1 + PRIME_4;
+    }
+
+    /**
+     * Reads a little-endian long from the given data.
+     *
+     * @param data   The data to read from.
+     * @param offset The offset of the first byte.
+     * @return The read value.
+     */
+    private static long readLong(byte[] data, int offset) {
+        return (readInt(data, offset) & 0xFFFFFFFFL) | ((long) readInt(data, offset + 4) << 32);
+    }
+
+    /**
+     * Reads a little-endian int from the given data.
+     *
+     * @param data   The data to read from.
+     * @param offset The offset of the first byte.
+     * @return The read value.
+     */
+    private static int readInt(byte[] data, int offset) {
+        return (data[offset] & 0xFF)
+                | (data[offset + 1] & 0xFF) << 8
+                | (data[offset + 2] & 0xFF) << 16
+                | (data[offset + 3] & 0xFF) << 24;
+    }
+}
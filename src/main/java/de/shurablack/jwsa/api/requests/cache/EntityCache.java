@@ -0,0 +1,346 @@
+package de.shurablack.jwsa.api.requests.cache;
+
+import de.shurablack.jwsa.api.utils.Compaction;
+import de.shurablack.jwsa.api.utils.LazyLoading;
+import lombok.EqualsAndHashCode;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches the deserialized results of responses, so that responses served from the {@link ResponseCache}
+ * or revalidated with a 304 are not parsed again.
+ * A result is reused as long as the {@link ResponseCache.CacheEntry} still holds the revision of the response data
+ * the result was parsed from. A new 200 response replaces the data and therefore invalidates the result.
+ * Results are dropped together with their response when the {@link ResponseCache} removes or compresses it,
+ * and the least recently used results are dropped beyond {@link #setMaxEntries(int)}.
+ * Since results are shared between callers, only immutable results are cached: entities build their lists immutable
+ * while deserializing, and cached lists of entities are wrapped in unmodifiable views.
+ * Entity caching is disabled by default.
+ */
+public class EntityCache {
+
+    /** Indicates whether parsed results are cached. */
+    private static volatile boolean enabled = false;
+
+    /** The maximum amount of cached results. */
+    private static volatile int maxEntries = 256;
+
+    /** The parsed results by key in access order, guarded by the map itself. */
+    private static final Map<Key<?>, Parsed<?>> CACHE = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** The keys of the cached results by URL, guarded by {@link #CACHE}. */
+    private static final Map<String, Set<Key<?>>> KEYS_BY_URL = new HashMap<>();
+
+    /** The amount of lookups that reused a parsed result. */
+    private static final AtomicLong HITS = new AtomicLong();
+
+    /** The amount of lookups that required parsing. */
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private EntityCache() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Enables caching of parsed results for all following requests.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Disables caching of parsed results and releases all cached results.
+     */
+    public static void disable() {
+        enabled = false;
+        clear();
+    }
+
+    /**
+     * Checks whether caching of parsed results is currently enabled.
+     *
+     * @return true if entity caching is enabled, false otherwise.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets the maximum amount of cached results. The least recently used results beyond it are dropped.
+     *
+     * @param size The maximum amount of cached results.
+     */
+    public static void setMaxEntries(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("The maximum amount of entries must be positive");
+        }
+        maxEntries = size;
+        synchronized (CACHE) {
+            trim();
+        }
+    }
+
+    /**
+     * Retrieves the maximum amount of cached results.
+     *
+     * @return The maximum amount of cached results.
+     */
+    public static int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public static void clear() {
+        synchronized (CACHE) {
+            CACHE.clear();
+            KEYS_BY_URL.clear();
+        }
+    }
+
+    /**
+     * Removes all cached results parsed from the response of the given URL,
+     * e.g. because the {@link ResponseCache} removed or compressed the response.
+     *
+     * @param url The URL of the response.
+     */
+    public static void invalidate(String url) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (CACHE) {
+            Set<Key<?>> keys = KEYS_BY_URL.remove(url);
+            if (keys != null) {
+                CACHE.keySet().removeAll(keys);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the amount of currently cached results.
+     *
+     * @return The amount of cached results.
+     */
+    public static int size() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    /**
+     * Retrieves the amount of lookups that reused a parsed result.
+     *
+     * @return The amount of cache hits.
+     */
+    public static long getHits() {
+        return HITS.get();
+    }
+
+    /**
+     * Retrieves the amount of lookups that required parsing.
+     *
+     * @return The amount of cache misses.
+     */
+    public static long getMisses() {
+        return MISSES.get();
+    }
+
+    /**
+     * Retrieves the parsed result for the given response, parsing it only if the response data changed.
+     * The parser must create an immutable result, since cached results are shared between callers.
+     *
+     * @param <T>    The type of the result.
+     * @param key    The key identifying the URL, result type and parsing mode.
+     * @param entry  The cache entry holding the response data, may be null.
+     * @param parser The parser creating the result from the response data.
+     * @return The cached or newly parsed result, or null if parsing failed.
+     *         The parser's result if caching is disabled or the entry is null.
+     */
+    public static <T> T get(Key<T> key, ResponseCache.CacheEntry entry, Supplier<? extends T> parser) {
+        if (!enabled || entry == null) {
+            return parser.get();
+        }
+
+        long revision = entry.getRevision();
+        synchronized (CACHE) {
+            Parsed<T> parsed = lookup(key);
+            if (parsed != null && parsed.revision == revision) {
+                HITS.incrementAndGet();
+                return parsed.value;
+            }
+        }
+
+        MISSES.incrementAndGet();
+        T value = parser.get();
+        if (value == null) {
+            return null;
+        }
+        synchronized (CACHE) {
+            CACHE.put(key, new Parsed<>(revision, value));
+            KEYS_BY_URL.computeIfAbsent(key.url, url -> new HashSet<>()).add(key);
+            trim();
+        }
+        return value;
+    }
+
+    /**
+     * Retrieves the parsed list for the given response, parsing it only if the response data changed.
+     * Cached lists are unmodifiable, their elements are built immutable while deserializing.
+     *
+     * @param <T>    The type of the list elements.
+     * @param key    The key identifying the URL, element type and parsing mode.
+     * @param entry  The cache entry holding the response data, may be null.
+     * @param parser The parser creating the list from the response data.
+     * @return The cached or newly parsed list, or null if parsing failed.
+     *         The parser's result if caching is disabled or the entry is null.
+     */
+    public static <T> List<T> getList(Key<List<T>> key, ResponseCache.CacheEntry entry, Supplier<List<T>> parser) {
+        if (!enabled || entry == null) {
+            return parser.get();
+        }
+        return get(key, entry, () -> {
+            List<T> list = parser.get();
+            return list == null ? null : Collections.unmodifiableList(list);
+        });
+    }
+
+    /**
+     * Creates the key of a parsed result. The key includes the current {@link Compaction} and {@link LazyLoading}
+     * modes, since they change the shape of the parsed result.
+     *
+     * @param <T>  The type of the result.
+     * @param url  The requested URL.
+     * @param type The class of the result.
+     * @return The key identifying the URL, result type and parsing mode.
+     */
+    public static <T> Key<T> key(String url, Class<T> type) {
+        return new Key<>(url, type, false, Compaction.isEnabled(), LazyLoading.isEnabled());
+    }
+
+    /**
+     * Creates the key of a parsed list. The key includes the current {@link Compaction} and {@link LazyLoading}
+     * modes, since they change the shape of the parsed list.
+     *
+     * @param <T>  The type of the list elements.
+     * @param url  The requested URL.
+     * @param type The class of the list elements.
+     * @return The key identifying the URL, element type and parsing mode.
+     */
+    public static <T> Key<List<T>> listKey(String url, Class<T> type) {
+        return new Key<>(url, type, true, Compaction.isEnabled(), LazyLoading.isEnabled());
+    }
+
+    /**
+     * Looks up the parsed result of the given key. Must be called while holding the cache lock.
+     * Results are only stored by {@link #get(Key, ResponseCache.CacheEntry, Supplier)} under a key of their type,
+     * so the result always matches the type of its key.
+     *
+     * @param <T> The type of the result.
+     * @param key The key of the result.
+     * @return The parsed result, or null if none is cached.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Parsed<T> lookup(Key<T> key) {
+        return (Parsed<T>) CACHE.get(key);
+    }
+
+    /**
+     * Drops the least recently used results beyond the maximum amount. Must be called while holding the cache lock.
+     */
+    private static void trim() {
+        Iterator<Key<?>> iterator = CACHE.keySet().iterator();
+        while (CACHE.size() > maxEntries && iterator.hasNext()) {
+            Key<?> key = iterator.next();
+            iterator.remove();
+            Set<Key<?>> keys = KEYS_BY_URL.get(key.url);
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                KEYS_BY_URL.remove(key.url);
+            }
+        }
+    }
+
+    /**
+     * Identifies a parsed result by its URL, result type and parsing mode.
+     *
+     * @param <T> The type of the result.
+     */
+    @EqualsAndHashCode
+    public static final class Key<T> {
+
+        /** The requested URL. */
+        private final String url;
+
+        /** The class of the result or its elements. */
+        private final Class<?> type;
+
+        /** Whether the result is a list. */
+        private final boolean list;
+
+        /** Whether the result was parsed with compaction enabled. */
+        private final boolean compacted;
+
+        /** Whether the result was parsed with lazy loading enabled. */
+        private final boolean lazy;
+
+        /**
+         * Creates a new key.
+         *
+         * @param url       The requested URL.
+         * @param type      The class of the result or its elements.
+         * @param list      Whether the result is a list.
+         * @param compacted Whether the result was parsed with compaction enabled.
+         * @param lazy      Whether the result was parsed with lazy loading enabled.
+         */
+        private Key(String url, Class<?> type, boolean list, boolean compacted, boolean lazy) {
+            this.url = url;
+            this.type = type;
+            this.list = list;
+            this.compacted = compacted;
+            this.lazy = lazy;
+        }
+
+        @Override
+        public String toString() {
+            return type.getName() + (list ? "[] " : " ") + (compacted ? "compacted " : "")
+                    + (lazy ? "lazy " : "") + url;
+        }
+    }
+
+    /**
+     * A parsed result together with the revision of the response data it was parsed from.
+     *
+     * @param <T> The type of the result.
+     */
+    private static class Parsed<T> {
+
+        /** The revision of the response data the result was parsed from. */
+        private final long revision;
+
+        /** The parsed result. */
+        private final T value;
+
+        /**
+         * Creates a new parsed result.
+         *
+         * @param revision The revision of the response data the result was parsed from.
+         * @param value    The parsed result.
+         */
+        private Parsed(long revision, T value) {
+            this.revision = revision;
+            this.value = value;
+        }
+    }
+}
@@ -1,15 +1,29 @@
 package de.shurablack.jwsa.api.requests.cache;
 
-import lombok.AllArgsConstructor;
+import de.shurablack.jwsa.api.requests.Platform;
 import lombok.Getter;
 
 import java.io.Serializable;
+import java.net.http.HttpHeaders;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A utility class for caching HTTP response data associated with requested URLs.
  * Provides methods to store, retrieve, and update cached responses.
+ * Response bodies are kept as UTF-8 encoded bytes, which takes about half the memory of the decoded string
+ * for the mostly ASCII JSON returned by the API.
+ * With {@link #enableCompression(int, long)} only the most recently used bodies are kept on the heap,
+ * all others are compressed into the off-heap {@link CompressedTier}.
+ * The tiers are partitioned by platform and language, so requests of one variant never demote or evict
+ * the entries of another variant.
  */
 public class ResponseCache implements Serializable {
 
@@ -21,6 +35,15 @@ public class ResponseCache implements Serializable {
      */
     private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
 
+    /** The source of the revisions identifying the bodies of all cache entries. */
+    private static final AtomicLong REVISIONS = new AtomicLong();
+
+    /** The partition key of URLs targeting the default platform and language. */
+    private static final String DEFAULT_PARTITION = Platform.PC.getPath() + "/en";
+
+    /** The tiers of each partition, or null if compression is disabled. */
+    private transient volatile Tiers tiers;
+
     /**
      * Retrieves the cached response data for the specified URL.
      *
@@ -29,7 +52,78 @@ public class ResponseCache implements Serializable {
      *         or null if no entry exists for the given URL.
      */
     public CacheEntry get(final String url) {
-        return cache.get(url);
+        CacheEntry entry = cache.get(url);
+        if (entry != null && tiers != null) {
+            touch(url, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Enables the compressed tier with the {@link CompressionDictionary#DEFAULT} dictionary.
+     *
+     * @param hotEntries    The maximum amount of entries per variant whose bodies stay uncompressed on the heap.
+     * @param capacityBytes The maximum total size of the compressed bodies per variant held outside the heap.
+     */
+    public void enableCompression(int hotEntries, long capacityBytes) {
+        enableCompression(hotEntries, capacityBytes, CompressionDictionary.DEFAULT);
+    }
+
+    /**
+     * Enables the compressed tier. The least recently used bodies beyond the hot entries are compressed
+     * into direct buffers. Entries exceeding the capacity of the compressed tier are removed from the cache.
+     * Both limits apply to each platform and language separately.
+     *
+     * @param hotEntries    The maximum amount of entries per variant whose bodies stay uncompressed on the heap.
+     * @param capacityBytes The maximum total size of the compressed bodies per variant held outside the heap.
+     * @param dictionary    The dictionary used to compress the bodies.
+     */
+    public void enableCompression(int hotEntries, long capacityBytes, CompressionDictionary dictionary) {
+        if (hotEntries < 1 || capacityBytes < 1) {
+            throw new IllegalArgumentException("The hot entries and the capacity must be positive");
+        }
+        disableCompression();
+        tiers = new Tiers(hotEntries, capacityBytes, dictionary);
+        for (Map.Entry<String, CacheEntry> entry : cache.entrySet()) {
+            touch(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Disables the compressed tier. Compressed bodies are decompressed when they are accessed the next time.
+     */
+    public void disableCompression() {
+        Tiers current = tiers;
+        tiers = null;
+        if (current != null) {
+            for (Partition partition : current.partitions.values()) {
+                synchronized (partition) {
+                    partition.compressed.clear();
+                    partition.hot.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves the compressed tier holding the bodies of the default platform and language.
+     *
+     * @return The {@link CompressedTier}, or null if compression is disabled.
+     */
+    public CompressedTier getCompressedTier() {
+        Tiers current = tiers;
+        return current == null ? null : current.partition(DEFAULT_PARTITION).compressed;
+    }
+
+    /**
+     * Retrieves the compressed tier holding the bodies of the platform and language of the given URL.
+     *
+     * @param url A URL of the variant.
+     * @return The {@link CompressedTier}, or null if compression is disabled.
+     */
+    public CompressedTier getCompressedTier(String url) {
+        Tiers current = tiers;
+        return current == null ? null : current.partition(partitionOf(url)).compressed;
     }
 
     /**
@@ -41,7 +135,7 @@ public class ResponseCache implements Serializable {
      * @param eTag The ETag value associated with the response data.
      */
     public void put(final String url, final String data, final String eTag) {
-        cache.put(url, new CacheEntry(eTag, data));
+        store(url, new CacheEntry(eTag, data));
     }
 
     /**
@@ -62,18 +156,362 @@ public class ResponseCache implements Serializable {
         }
     }
 
+    /**
+     * Updates the cached response data for the specified URL based on the headers of a 200 response.
+     * Validators and freshness are taken from the headers. Responses marked as {@code no-store} are removed.
+     * If the body has the same length and content hash as the cached body, the cached entry is kept and only its
+     * validators and freshness are refreshed. Its revision stays the same, which tells callers that nothing changed.
+     *
+     * @param url     The URL whose cached response data is to be updated.
+     * @param body    The new UTF-8 encoded response body to be cached.
+     * @param headers The headers of the response.
+     * @return The entry holding the new response data. For {@code no-store} responses the entry is not cached.
+     */
+    public CacheEntry update(final String url, final byte[] body, final HttpHeaders headers) {
+        CachePolicy policy = CachePolicy.of(headers);
+        String eTag = headers.firstValue("ETag").orElse(null);
+        String lastModified = headers.firstValue("Last-Modified").orElse(null);
+        CacheEntry entry = new CacheEntry(eTag, body, lastModified, expiry(policy));
+
+        CacheEntry cached = cache.get(url);
+        if (policy.isStorable() && cached != null && cached.hasSameContent(entry)) {
+            cached.refreshed(eTag, lastModified, policy);
+            store(url, cached);
+            return cached;
+        }
+
+        if (policy.isStorable()) {
+            store(url, entry);
+        } else {
+            remove(url);
+        }
+        return entry;
+    }
+
+    /**
+     * Removes the cached response data for the specified URL.
+     *
+     * @param url The URL whose cached response data is to be removed.
+     */
+    public void remove(final String url) {
+        cache.remove(url);
+        EntityCache.invalidate(url);
+        Tiers current = tiers;
+        if (current != null) {
+            Partition partition = current.partition(partitionOf(url));
+            synchronized (partition) {
+                partition.hot.remove(url);
+                partition.compressed.release(url);
+            }
+        }
+    }
+
+    /**
+     * Stores the given entry in the cache and in the hot tier.
+     *
+     * @param url   The URL of the entry.
+     * @param entry The entry to store.
+     */
+    private void store(final String url, final CacheEntry entry) {
+        cache.put(url, entry);
+        if (tiers != null) {
+            touch(url, entry);
+        }
+    }
+
+    /**
+     * Marks the given entry as most recently used within its partition. Compressed entries are promoted into
+     * the hot tier, and the least recently used hot entries beyond the hot capacity are compressed.
+     * The victims are selected under the lock of the partition, but compressed outside of it,
+     * so lookups are never blocked by compression. The parsed results of demoted and evicted entries
+     * are dropped from the {@link EntityCache}.
+     *
+     * @param url   The URL of the entry.
+     * @param entry The accessed entry.
+     */
+    private void touch(final String url, final CacheEntry entry) {
+        Tiers current = tiers;
+        if (current == null) {
+            return;
+        }
+        Partition partition = current.partition(partitionOf(url));
+        List<Map.Entry<String, CacheEntry>> demoted = new ArrayList<>();
+        synchronized (partition) {
+            partition.compressed.release(url);
+            partition.hot.put(url, entry);
+
+            Iterator<Map.Entry<String, CacheEntry>> iterator = partition.hot.entrySet().iterator();
+            while (partition.hot.size() > current.hotCapacity && iterator.hasNext()) {
+                Map.Entry<String, CacheEntry> eldest = iterator.next();
+                iterator.remove();
+                demoted.add(eldest);
+            }
+        }
+        if (demoted.isEmpty()) {
+            return;
+        }
+
+        for (Map.Entry<String, CacheEntry> victim : demoted) {
+            victim.getValue().compress(current.dictionary);
+        }
+
+        List<String> evicted = new ArrayList<>();
+        synchronized (partition) {
+            for (Map.Entry<String, CacheEntry> victim : demoted) {
+                if (!partition.hot.containsKey(victim.getKey()) && cache.get(victim.getKey()) == victim.getValue()) {
+                    evicted.addAll(partition.compressed.store(victim.getKey(), victim.getValue()));
+                }
+            }
+        }
+        for (Map.Entry<String, CacheEntry> victim : demoted) {
+            EntityCache.invalidate(victim.getKey());
+        }
+        for (String evictedUrl : evicted) {
+            cache.remove(evictedUrl);
+            EntityCache.invalidate(evictedUrl);
+        }
+    }
+
+    /**
+     * Determines the partition of a URL from its platform path segment and its language parameter.
+     *
+     * @param url The URL.
+     * @return The partition key, e.g. {@code pc/en}.
+     */
+    static String partitionOf(final String url) {
+        String platform = "";
+        int scheme = url.indexOf("://");
+        int start = url.indexOf('/', scheme < 0 ? 0 : scheme + 3);
+        if (start >= 0) {
+            int end = url.indexOf('/', start + 1);
+            String segment = end < 0 ? url.substring(start + 1) : url.substring(start + 1, end);
+            for (Platform candidate : Platform.values()) {
+                if (candidate.getPath().equals(segment)) {
+                    platform = segment;
+                    break;
+                }
+            }
+        }
+
+        String language = "";
+        int parameter = url.indexOf("language=");
+        if (parameter >= 0) {
+            int end = url.indexOf('&', parameter);
+            language = url.substring(parameter + 9, end < 0 ? url.length() : end);
+        }
+        return platform + "/" + language;
+    }
+
+    /**
+     * Computes the expiry time of a response received now.
+     *
+     * @param policy The caching rules of the response.
+     * @return The time in epoch milliseconds until which the response is fresh.
+     */
+    private static long expiry(CachePolicy policy) {
+        return policy.getFreshMillis() > 0 ? System.currentTimeMillis() + policy.getFreshMillis() : 0;
+    }
+
+    /**
+     * Encodes the given response data as UTF-8.
+     *
+     * @param data The response data, may be null.
+     * @return The UTF-8 encoded bytes, or null if the data is null.
+     */
+    private static byte[] encode(String data) {
+        return data == null ? null : data.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The settings and the partitions of the hot and compressed tiers.
+     */
+    private static class Tiers {
+
+        /** The maximum amount of entries with uncompressed bodies per partition. */
+        private final int hotCapacity;
+
+        /** The maximum total size of the compressed bodies per partition. */
+        private final long capacityBytes;
+
+        /** The dictionary used to compress the bodies. */
+        private final CompressionDictionary dictionary;
+
+        /** The partitions by platform and language. */
+        private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+
+        /**
+         * Creates new, empty tiers.
+         *
+         * @param hotCapacity   The maximum amount of entries with uncompressed bodies per partition.
+         * @param capacityBytes The maximum total size of the compressed bodies per partition.
+         * @param dictionary    The dictionary used to compress the bodies.
+         */
+        private Tiers(int hotCapacity, long capacityBytes, CompressionDictionary dictionary) {
+            this.hotCapacity = hotCapacity;
+            this.capacityBytes = capacityBytes;
+            this.dictionary = dictionary;
+        }
+
+        /**
+         * Retrieves the partition of the given key, creating it if required.
+         *
+         * @param key The partition key.
+         * @return The {@link Partition} of the key.
+         */
+        private Partition partition(String key) {
+            return partitions.computeIfAbsent(key, k -> new Partition(new CompressedTier(dictionary, capacityBytes)));
+        }
+    }
+
+    /**
+     * The hot and the compressed tier of a single platform and language, guarded by the partition itself.
+     */
+    private static class Partition {
+
+        /** The entries with uncompressed bodies by URL in access order. */
+        private final LinkedHashMap<String, CacheEntry> hot = new LinkedHashMap<>(16, 0.75f, true);
+
+        /** The tier holding the compressed bodies. */
+        private final CompressedTier compressed;
+
+        /**
+         * Creates a new, empty partition.
+         *
+         * @param compressed The tier holding the compressed bodies.
+         */
+        private Partition(CompressedTier compressed) {
+            this.compressed = compressed;
+        }
+    }
+
     /**
      * Represents a single cache entry containing the response data and the last access time.
      */
-    @AllArgsConstructor
-    @Getter
     public static class CacheEntry {
 
         /** The timestamp of the last access or update to this cache entry. */
-        private String eTag;
+        @Getter
+        private volatile String eTag;
+
+        /** The cached UTF-8 encoded response body, or null while the body is compressed. */
+        private volatile byte[] body;
+
+        /** The compressed response body held outside the heap, or null if the body is not compressed. */
+        private volatile ByteBuffer compressedBody;
+
+        /** The dictionary the body was compressed with. */
+        private volatile CompressionDictionary dictionary;
+
+        /** The length of the uncompressed response body. */
+        @Getter
+        private volatile int length;
+
+        /** The Last-Modified value associated with the response data. */
+        @Getter
+        private volatile String lastModified;
+
+        /** The time in epoch milliseconds until which the response data is fresh, 0 if it must be revalidated. */
+        @Getter
+        private volatile long expiresAt;
+
+        /** The revision identifying the current response body, changes whenever the body is replaced. */
+        @Getter
+        private volatile long revision;
 
-        /** The cached response data. */
-        private String data;
+        /** The xxHash64 of the uncompressed response body, see {@link ContentHash}. */
+        @Getter
+        private volatile long contentHash;
+
+        /**
+         * Creates a cache entry for the given UTF-8 encoded response body.
+         *
+         * @param eTag         The ETag value associated with the response data.
+         * @param body         The UTF-8 encoded response body.
+         * @param lastModified The Last-Modified value associated with the response data.
+         * @param expiresAt    The time in epoch milliseconds until which the response data is fresh.
+         */
+        public CacheEntry(String eTag, byte[] body, String lastModified, long expiresAt) {
+            this.eTag = eTag;
+            this.body = body;
+            this.length = body == null ? 0 : body.length;
+            this.contentHash = body == null ? 0 : ContentHash.xxHash64(body);
+            this.lastModified = lastModified;
+            this.expiresAt = expiresAt;
+            this.revision = REVISIONS.incrementAndGet();
+        }
+
+        /**
+         * Creates a cache entry for the given response data.
+         *
+         * @param eTag         The ETag value associated with the response data.
+         * @param data         The response data.
+         * @param lastModified The Last-Modified value associated with the response data.
+         * @param expiresAt    The time in epoch milliseconds until which the response data is fresh.
+         */
+        public CacheEntry(String eTag, String data, String lastModified, long expiresAt) {
+            this(eTag, encode(data), lastModified, expiresAt);
+        }
+
+        /**
+         * Creates a cache entry for the given response data without a Last-Modified value,
+         * which must be revalidated before it is used.
+         *
+         * @param eTag The ETag value associated with the response data.
+         * @param data The response data.
+         */
+        public CacheEntry(String eTag, String data) {
+            this(eTag, data, null, 0);
+        }
+
+        /**
+         * Retrieves the cached response data decoded as string.
+         * A new string is created on each call, prefer {@link #getBody()} for parsing.
+         *
+         * @return The response data, or null if no body is present.
+         */
+        public String getData() {
+            byte[] current = getBody();
+            return current == null ? null : new String(current, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Retrieves the cached UTF-8 encoded response body.
+         * A compressed body is decompressed back onto the heap on first access.
+         *
+         * @return The response body, or null if no body is present.
+         */
+        public byte[] getBody() {
+            byte[] current = body;
+            if (current != null) {
+                return current;
+            }
+            synchronized (this) {
+                if (body == null && compressedBody != null) {
+                    body = dictionary.inflate(compressedBody, length);
+                    compressedBody = null;
+                }
+                return body;
+            }
+        }
+
+        /**
+         * Checks whether the body of this entry is currently compressed.
+         *
+         * @return true if the body is held compressed outside the heap, false otherwise.
+         */
+        public boolean isCompressed() {
+            return compressedBody != null;
+        }
+
+        /**
+         * Retrieves the size of the compressed body.
+         *
+         * @return The compressed size in bytes, 0 if the body is not compressed.
+         */
+        public int getCompressedLength() {
+            ByteBuffer current = compressedBody;
+            return current == null ? 0 : current.capacity();
+        }
 
         /**
          * Updates the response data and refreshes the last access time for this cache entry.
@@ -81,9 +519,101 @@ public class ResponseCache implements Serializable {
          * @param data The new response data to be stored in this cache entry.
          * @param eTag The new ETag value to be stored in this cache entry.
          */
-        public void update(String data, String eTag) {
-            this.data = data;
+        public synchronized void update(String data, String eTag) {
+            this.body = encode(data);
+            this.length = body == null ? 0 : body.length;
+            this.contentHash = body == null ? 0 : ContentHash.xxHash64(body);
+            this.compressedBody = null;
+            this.eTag = eTag;
+            this.revision = REVISIONS.incrementAndGet();
+        }
+
+        /**
+         * Compresses the body of this entry into a direct buffer and releases the heap copy.
+         *
+         * @param dictionary The dictionary to compress the body with.
+         * @return true if the body is compressed, false if there is no body to compress.
+         */
+        synchronized boolean compress(CompressionDictionary dictionary) {
+            if (compressedBody != null) {
+                return true;
+            }
+            if (body == null) {
+                return false;
+            }
+            byte[] deflated = dictionary.deflate(body);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(deflated.length);
+            buffer.put(deflated).flip();
+            this.dictionary = dictionary;
+            this.compressedBody = buffer;
+            this.body = null;
+            return true;
+        }
+
+        /**
+         * Refreshes the validators and freshness of this cache entry after a successful revalidation.
+         * Validators missing in the response are kept.
+         *
+         * @param headers The headers of the 304 response.
+         */
+        public void revalidated(HttpHeaders headers) {
+            headers.firstValue("ETag").ifPresent(value -> this.eTag = value);
+            revalidated(headers.firstValue("Last-Modified").orElse(null), CachePolicy.of(headers));
+        }
+
+        /**
+         * Checks whether the given entry holds the same response body as this entry,
+         * comparing the length and the content hash of both bodies.
+         *
+         * @param other The entry to compare with.
+         * @return true if both bodies are considered identical, false otherwise.
+         */
+        public boolean hasSameContent(CacheEntry other) {
+            return other.length == length && other.contentHash == contentHash;
+        }
+
+        /**
+         * Checks whether the response data is still fresh and can be used without contacting the server.
+         *
+         * @return true if the entry is fresh, false if it must be revalidated.
+         */
+        public boolean isFresh() {
+            return expiresAt > System.currentTimeMillis();
+        }
+
+        /**
+         * Checks whether this entry has a validator for a conditional request.
+         *
+         * @return true if an ETag or Last-Modified value is present, false otherwise.
+         */
+        public boolean hasValidator() {
+            return eTag != null || lastModified != null;
+        }
+
+        /**
+         * Replaces the validators and refreshes the freshness of this cache entry after receiving an identical body.
+         *
+         * @param eTag         The ETag value of the response, may be null.
+         * @param lastModified The Last-Modified value of the response, may be null.
+         * @param policy       The caching rules of the response.
+         */
+        private void refreshed(String eTag, String lastModified, CachePolicy policy) {
             this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.expiresAt = expiry(policy);
+        }
+
+        /**
+         * Refreshes the Last-Modified value and the freshness of this cache entry.
+         *
+         * @param lastModified The new Last-Modified value, or null to keep the current one.
+         * @param policy       The caching rules of the response.
+         */
+        private void revalidated(String lastModified, CachePolicy policy) {
+            if (lastModified != null) {
+                this.lastModified = lastModified;
+            }
+            this.expiresAt = expiry(policy);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package de.shurablack.jwsa.api.requests.scheduler;
+
+/**
+ * Represents the priority classes of outbound requests.
+ * Requests of a higher priority are always dispatched before requests of a lower priority.
+ */
+public enum Priority {
+    /** Requests a user is actively waiting for. */
+    INTERACTIVE,
+    /** Bulk requests such as catalog refreshes or polling. */
+    BACKGROUND
+}
@@ -0,0 +1,281 @@
+package de.shurablack.jwsa.api.requests.scheduler;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Supplier;
+
+/**
+ * Schedules outbound requests by priority and limits their rate with a {@link TokenBucket}.
+ * Interactive requests are always dispatched before background requests, requests of the same priority in FIFO order.
+ * The scheduler is disabled by default, in which case every request is sent immediately.
+ */
+public class RequestScheduler {
+
+    /** Logger instance for logging scheduler-related events. */
+    private static final Logger LOGGER = LogManager.getLogger(RequestScheduler.class);
+
+    /** The priority of the requests issued by the current thread. */
+    private static final ThreadLocal<Priority> CURRENT_PRIORITY = ThreadLocal.withInitial(() -> Priority.INTERACTIVE);
+
+    /** The active scheduler instance, or null if scheduling is disabled. */
+    private static volatile RequestScheduler instance;
+
+    /** The rate limit applied to all dispatched requests. */
+    private final TokenBucket bucket;
+
+    /** The queue of waiting requests, ordered by priority and arrival. */
+    private final PriorityBlockingQueue<Ticket> queue = new PriorityBlockingQueue<>();
+
+    /** The sequence used to keep the FIFO order within a priority. */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /** The dispatched request count per priority. */
+    private final AtomicLong[] dispatched = {new AtomicLong(), new AtomicLong()};
+
+    /** The accumulated queue wait per priority in nanoseconds. */
+    private final AtomicLong[] waitNanos = {new AtomicLong(), new AtomicLong()};
+
+    /** The longest queue wait in nanoseconds. */
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    /** The thread dispatching the queued requests. */
+    private final Thread dispatcher;
+
+    /** Indicates whether this scheduler is running. */
+    private volatile boolean running = true;
+
+    /**
+     * Private constructor to create and start a scheduler with the given rate limit.
+     *
+     * @param permitsPerSecond The sustained rate of requests per second.
+     * @param burst            The maximum burst size.
+     */
+    private RequestScheduler(double permitsPerSecond, int burst) {
+        this.bucket = new TokenBucket(permitsPerSecond, burst);
+        this.dispatcher = new Thread(this::dispatch, "jwsa-request-scheduler");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * Enables request scheduling with the given rate limit, replacing a previously enabled scheduler.
+     *
+     * @param permitsPerSecond The sustained rate of requests per second.
+     * @param burst            The maximum burst size.
+     */
+    public static synchronized void enable(double permitsPerSecond, int burst) {
+        RequestScheduler previous = instance;
+        instance = new RequestScheduler(permitsPerSecond, burst);
+        if (previous != null) {
+            previous.shutdown();
+        }
+    }
+
+    /**
+     * Disables request scheduling. Requests still waiting are released immediately.
+     */
+    public static synchronized void disable() {
+        RequestScheduler previous = instance;
+        instance = null;
+        if (previous != null) {
+            previous.shutdown();
+        }
+    }
+
+    /**
+     * Retrieves the active scheduler.
+     *
+     * @return The active {@link RequestScheduler}, or null if scheduling is disabled.
+     */
+    public static RequestScheduler get() {
+        return instance;
+    }
+
+    /**
+     * Retrieves the priority of the requests issued by the current thread.
+     *
+     * @return The current {@link Priority}, {@link Priority#INTERACTIVE} by default.
+     */
+    public static Priority currentPriority() {
+        return CURRENT_PRIORITY.get();
+    }
+
+    /**
+     * Runs the given task with the given priority for all requests it issues on the current thread,
+     * including the {@code request()} methods of the entities and the submission of batches.
+     *
+     * @param priority The priority to apply.
+     * @param task     The task to run.
+     * @param <T>      The type of the result.
+     * @return The result of the task.
+     */
+    public static <T> T withPriority(Priority priority, Supplier<T> task) {
+        Priority previous = CURRENT_PRIORITY.get();
+        CURRENT_PRIORITY.set(priority);
+        try {
+            return task.get();
+        } finally {
+            CURRENT_PRIORITY.set(previous);
+        }
+    }
+
+    /**
+     * Runs the given task in the background priority class.
+     *
+     * @param task The task to run.
+     * @param <T>  The type of the result.
+     * @return The result of the task.
+     */
+    public static <T> T background(Supplier<T> task) {
+        return withPriority(Priority.BACKGROUND, task);
+    }
+
+    /**
+     * Waits for permission to send a request of the given priority.
+     * Completes immediately if scheduling is disabled. Otherwise the future is completed on the dispatcher thread,
+     * so non-async dependent stages must not block.
+     *
+     * @param priority The priority of the request.
+     * @return A future completing once the request may be sent.
+     */
+    public static CompletableFuture<Void> admit(Priority priority) {
+        RequestScheduler scheduler = instance;
+        if (scheduler == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return scheduler.enqueue(priority);
+    }
+
+    /**
+     * Retrieves a snapshot of the queueing metrics.
+     *
+     * @return The current {@link SchedulerMetrics}.
+     */
+    public SchedulerMetrics getMetrics() {
+        int queuedInteractive = 0;
+        int queuedBackground = 0;
+        for (Ticket ticket : queue) {
+            if (ticket.priority == Priority.INTERACTIVE) {
+                queuedInteractive++;
+            } else {
+                queuedBackground++;
+            }
+        }
+        return new SchedulerMetrics(queuedInteractive, queuedBackground,
+                dispatched[0].get(), dispatched[1].get(),
+                averageMillis(0), averageMillis(1), maxWaitNanos.get() / 1_000_000d);
+    }
+
+    /**
+     * Queues a ticket for the given priority.
+     *
+     * @param priority The priority of the request.
+     * @return A future completing once the ticket is dispatched.
+     */
+    private CompletableFuture<Void> enqueue(Priority priority) {
+        Ticket ticket = new Ticket(priority, sequence.getAndIncrement());
+        queue.add(ticket);
+        if (!running && queue.remove(ticket)) {
+            ticket.future.complete(null);
+        }
+        return ticket.future;
+    }
+
+    /**
+     * Dispatches the queued tickets, taking one token per ticket.
+     * A token is only taken once a ticket is waiting, and it goes to the ticket of the highest priority
+     * at that time. Tickets are completed on the dispatcher thread itself, so that waiting requesters
+     * can never starve their own completion by saturating a shared pool.
+     */
+    private void dispatch() {
+        while (running) {
+            Ticket ticket = null;
+            try {
+                ticket = queue.take();
+                bucket.acquire();
+                queue.add(ticket);
+                ticket = queue.poll();
+                if (ticket == null) {
+                    continue;
+                }
+                long waited = System.nanoTime() - ticket.queuedAt;
+                int index = ticket.priority.ordinal();
+                dispatched[index].incrementAndGet();
+                waitNanos[index].addAndGet(waited);
+                maxWaitNanos.accumulate(waited);
+                ticket.future.complete(null);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (ticket != null) {
+                    ticket.future.complete(null);
+                }
+                break;
+            } catch (Exception e) {
+                LOGGER.error("Error while dispatching request", e);
+            }
+        }
+    }
+
+    /**
+     * Stops the dispatcher and releases all waiting tickets.
+     */
+    private void shutdown() {
+        running = false;
+        dispatcher.interrupt();
+        Ticket ticket;
+        while ((ticket = queue.poll()) != null) {
+            ticket.future.complete(null);
+        }
+    }
+
+    /**
+     * Computes the average queue wait of a priority in milliseconds.
+     *
+     * @param index The ordinal of the priority.
+     * @return The average wait, or 0 if nothing was dispatched.
+     */
+    private double averageMillis(int index) {
+        long count = dispatched[index].get();
+        return count == 0 ? 0 : waitNanos[index].get() / (double) count / 1_000_000d;
+    }
+
+    /**
+     * Represents a request waiting for dispatch.
+     */
+    private static class Ticket implements Comparable<Ticket> {
+
+        /** The priority of the request. */
+        private final Priority priority;
+
+        /** The arrival sequence of the request. */
+        private final long sequence;
+
+        /** The time the request was queued in nanoseconds. */
+        private final long queuedAt = System.nanoTime();
+
+        /** The future completed on dispatch. */
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        /**
+         * Creates a new ticket.
+         *
+         * @param priority The priority of the request.
+         * @param sequence The arrival sequence of the request.
+         */
+        private Ticket(Priority priority, long sequence) {
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Ticket other) {
+            int compare = priority.compareTo(other.priority);
+            return compare != 0 ? compare : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package de.shurablack.jwsa.api.requests.scheduler;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Represents a snapshot of the queueing metrics of the {@link RequestScheduler}.
+ */
+@AllArgsConstructor
+@Getter
+@ToString
+public class SchedulerMetrics {
+
+    /** The amount of interactive requests currently waiting. */
+    private final int queuedInteractive;
+
+    /** The amount of background requests currently waiting. */
+    private final int queuedBackground;
+
+    /** The total amount of dispatched interactive requests. */
+    private final long dispatchedInteractive;
+
+    /** The total amount of dispatched background requests. */
+    private final long dispatchedBackground;
+
+    /** The average time interactive requests waited in the queue, in milliseconds. */
+    private final double averageInteractiveWaitMillis;
+
+    /** The average time background requests waited in the queue, in milliseconds. */
+    private final double averageBackgroundWaitMillis;
+
+    /** The longest time a request waited in the queue, in milliseconds. */
+    private final double maxWaitMillis;
+}
@@ -0,0 +1,89 @@
+package de.shurablack.jwsa.api.requests.scheduler;
+
+/**
+ * A token bucket limiting the rate of outbound requests.
+ * The bucket holds up to {@code capacity} tokens and refills continuously at {@code permitsPerSecond}.
+ */
+public class TokenBucket {
+
+    /** The maximum amount of tokens, which is the allowed burst size. */
+    private final double capacity;
+
+    /** The amount of tokens added per nanosecond. */
+    private final double tokensPerNano;
+
+    /** The currently available tokens. */
+    private double tokens;
+
+    /** The time of the last refill in nanoseconds. */
+    private long lastRefill;
+
+    /**
+     * Creates a new full token bucket.
+     *
+     * @param permitsPerSecond The sustained rate of permits per second.
+     * @param capacity         The maximum burst size.
+     */
+    public TokenBucket(double permitsPerSecond, int capacity) {
+        if (permitsPerSecond <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("Rate and capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = permitsPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return true if a token was taken, false otherwise.
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Blocks until a token is available and takes it.
+     *
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public void acquire() throws InterruptedException {
+        while (true) {
+            long wait;
+            synchronized (this) {
+                refill();
+                if (tokens >= 1) {
+                    tokens -= 1;
+                    return;
+                }
+                wait = (long) Math.ceil((1 - tokens) / tokensPerNano);
+            }
+            Thread.sleep(Math.max(1, wait / 1_000_000), 0);
+        }
+    }
+
+    /**
+     * Retrieves the currently available tokens.
+     *
+     * @return The amount of available tokens.
+     */
+    public synchronized double available() {
+        refill();
+        return tokens;
+    }
+
+    /**
+     * Adds the tokens accumulated since the last refill.
+     */
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+}
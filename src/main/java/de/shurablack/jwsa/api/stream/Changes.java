@@ -0,0 +1,34 @@
+package de.shurablack.jwsa.api.stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Represents the changes between two snapshots of a worldstate section.
+ *
+ * @param <T> The type of the entities in the section.
+ */
+@AllArgsConstructor
+@Getter
+public class Changes<T> {
+
+    /** The entities that were not part of the previous snapshot. */
+    private final List<T> added;
+
+    /** The entities of the current snapshot whose content differs from the previous snapshot. */
+    private final List<T> updated;
+
+    /** The entities of the previous snapshot that are no longer part of the current snapshot. */
+    private final List<T> removed;
+
+    /**
+     * Checks whether this instance contains any change.
+     *
+     * @return true if no entity was added, updated or removed, false otherwise.
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && updated.isEmpty() && removed.isEmpty();
+    }
+}
@@ -0,0 +1,437 @@
+package de.shurablack.jwsa.api.stream;
+
+import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.requests.RequestExecutor;
+import de.shurablack.jwsa.api.requests.scheduler.RequestScheduler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Flow.Publisher} that polls a worldstate section and emits its snapshots or changes to subscribers.
+ * Each subscriber is served according to its own demand. Snapshots that arrive while a subscriber has no demand are
+ * conflated, so a slow subscriber always receives the latest state (or all changes since its last emission)
+ * once it requests more, without any queue growing in between.
+ * Polling starts with the first subscription and stops when the publisher is closed.
+ *
+ * @param <S> The type of the polled snapshot.
+ * @param <T> The type of the emitted items.
+ */
+public class WorldstatePublisher<S, T> implements Flow.Publisher<T>, AutoCloseable {
+
+    /** Logger instance for logging polling-related events and errors. */
+    private static final Logger LOGGER = LogManager.getLogger(WorldstatePublisher.class);
+
+    /** The scheduler triggering the polls of all publishers. */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jwsa-publisher-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The JSON keys holding values relative to the current time, which change with every poll. */
+    private static final Set<String> RELATIVE_KEYS = Set.of("eta", "startString", "endString", "timeLeft");
+
+    /** The source supplying the current snapshot, returning null on failure. */
+    private final Supplier<S> source;
+
+    /** The interval between two polls. */
+    private final Duration interval;
+
+    /** The function creating an emission from the last delivered and the latest snapshot, or null to skip it. */
+    private final BiFunction<S, S, T> emission;
+
+    /** The currently active subscriptions. */
+    private final List<WorldstateSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /** Prevents overlapping polls. */
+    private final AtomicBoolean polling = new AtomicBoolean();
+
+    /** The latest snapshot together with its version. */
+    private volatile Snapshot<S> latest;
+
+    /** The scheduled polling task, or null if polling was not started yet. */
+    private ScheduledFuture<?> task;
+
+    /** Indicates whether this publisher was closed. */
+    private volatile boolean closed;
+
+    /**
+     * Private constructor to create a publisher for the given source.
+     *
+     * @param source   The source supplying the current snapshot.
+     * @param interval The interval between two polls.
+     * @param emission The function creating an emission from the last delivered and the latest snapshot.
+     */
+    private WorldstatePublisher(Supplier<S> source, Duration interval, BiFunction<S, S, T> emission) {
+        this.source = source;
+        this.interval = interval;
+        this.emission = emission;
+    }
+
+    /**
+     * Creates a publisher emitting every new snapshot of the given source.
+     * A snapshot is only emitted if its content differs from the last one delivered to the subscriber,
+     * ignoring values relative to the current time (e.g., {@code eta}).
+     * Polls for which the source returns null are treated as failed and skipped.
+     *
+     * @param source   The source supplying the current snapshot (e.g., {@code VoidTrader::request}).
+     * @param interval The interval between two polls.
+     * @param <S>      The type of the snapshot.
+     * @return A new {@link WorldstatePublisher} emitting snapshots.
+     */
+    public static <S> WorldstatePublisher<S, S> snapshots(Supplier<S> source, Duration interval) {
+        return new WorldstatePublisher<>(source, interval,
+                (previous, current) -> sameContent(previous, current) ? null : current);
+    }
+
+    /**
+     * Creates a publisher emitting the changes of a list section between the snapshots delivered to each subscriber.
+     * Entities are matched by the given key; entities with the same key are compared by content,
+     * ignoring values relative to the current time (e.g., {@code eta}).
+     * The source must return null on failure, so that a failed poll is skipped instead of reporting
+     * all entities as removed (e.g., {@code () -> Requests.withListMappingOrNull(Fissure.class, Paths.FISSURES)}).
+     * An empty list is treated as an actually empty section.
+     *
+     * @param source   The source supplying the current list, or null on failure.
+     * @param key      The function extracting the identity of an entity (e.g., {@code Fissure::getId}).
+     * @param interval The interval between two polls.
+     * @param <E>      The type of the entities in the list.
+     * @return A new {@link WorldstatePublisher} emitting {@link Changes}.
+     */
+    public static <E> WorldstatePublisher<List<E>, Changes<E>> changes(Supplier<List<E>> source,
+                                                                       Function<E, ?> key, Duration interval) {
+        return changes(source, key, WorldstatePublisher::sameContent, interval);
+    }
+
+    /**
+     * Creates a publisher emitting the changes of a list section between the snapshots delivered to each subscriber.
+     * Entities are matched by the given key; entities with the same key are compared by the given predicate.
+     * The source must return null on failure, so that a failed poll is skipped.
+     *
+     * @param source      The source supplying the current list, or null on failure.
+     * @param key         The function extracting the identity of an entity (e.g., {@code Fissure::getId}).
+     * @param sameContent The predicate deciding whether an entity is unchanged, and therefore not reported as updated.
+     * @param interval    The interval between two polls.
+     * @param <E>         The type of the entities in the list.
+     * @return A new {@link WorldstatePublisher} emitting {@link Changes}.
+     */
+    public static <E> WorldstatePublisher<List<E>, Changes<E>> changes(Supplier<List<E>> source, Function<E, ?> key,
+                                                                       BiPredicate<? super E, ? super E> sameContent,
+                                                                       Duration interval) {
+        return new WorldstatePublisher<>(source, interval, (previous, current) -> {
+            Changes<E> changes = diff(previous, current, key, sameContent);
+            return changes.isEmpty() ? null : changes;
+        });
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        WorldstateSubscription subscription = new WorldstateSubscription(subscriber);
+        subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+        if (closed) {
+            subscription.drain();
+            return;
+        }
+        start();
+        if (latest != null) {
+            subscription.drain();
+        }
+    }
+
+    /**
+     * Stops polling and completes all subscribers.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (this) {
+            if (task != null) {
+                task.cancel(false);
+            }
+        }
+        for (WorldstateSubscription subscription : subscriptions) {
+            RequestExecutor.pollers().execute(subscription::drain);
+        }
+    }
+
+    /**
+     * Starts polling if it was not started yet.
+     */
+    private synchronized void start() {
+        if (task == null && !closed) {
+            task = SCHEDULER.scheduleWithFixedDelay(() -> RequestExecutor.pollers().execute(this::poll),
+                    0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Polls the source and signals all subscribers if a new snapshot was received.
+     * A null snapshot marks a failed poll and is skipped.
+     * With {@link de.shurablack.jwsa.api.requests.cache.EntityCache} enabled, unchanged responses yield the same
+     * instance as the previous poll and are skipped without comparing their content.
+     */
+    private void poll() {
+        if (closed || !polling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            S snapshot = RequestScheduler.background(source::get);
+            if (snapshot == null) {
+                return;
+            }
+            Snapshot<S> previous = latest;
+            if (previous != null && previous.value == snapshot) {
+                return;
+            }
+            latest = new Snapshot<>(previous == null ? 1 : previous.version + 1, snapshot);
+            for (WorldstateSubscription subscription : subscriptions) {
+                subscription.drain();
+            }
+        } catch (Exception e) {
+            LOGGER.error("Error while polling worldstate section", e);
+        } finally {
+            polling.set(false);
+        }
+    }
+
+    /**
+     * Computes the changes between two lists, matching entities by key.
+     *
+     * @param previous    The previous list, or null if none was delivered yet.
+     * @param current     The current list.
+     * @param key         The function extracting the identity of an entity.
+     * @param sameContent The predicate deciding whether an entity is unchanged.
+     * @param <E>         The type of the entities.
+     * @return The {@link Changes} between both lists.
+     */
+    private static <E> Changes<E> diff(List<E> previous, List<E> current, Function<E, ?> key,
+                                       BiPredicate<? super E, ? super E> sameContent) {
+        Map<Object, E> before = new LinkedHashMap<>();
+        if (previous != null) {
+            for (E entity : previous) {
+                before.put(key.apply(entity), entity);
+            }
+        }
+
+        List<E> added = new ArrayList<>();
+        List<E> updated = new ArrayList<>();
+        for (E entity : current) {
+            E old = before.remove(key.apply(entity));
+            if (old == null) {
+                added.add(entity);
+            } else if (!sameContent.test(old, entity)) {
+                updated.add(entity);
+            }
+        }
+        return new Changes<>(added, updated, new ArrayList<>(before.values()));
+    }
+
+    /**
+     * Compares two values by content. Entities are compared by their JSON representation without the values
+     * relative to the current time, lists element-wise and other values by {@link Objects#equals(Object, Object)}.
+     *
+     * @param a The first value.
+     * @param b The second value.
+     * @return true if both values have the same content, false otherwise.
+     */
+    private static boolean sameContent(Object a, Object b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null) {
+            return false;
+        }
+        if (a instanceof IJsonMapping && b instanceof IJsonMapping) {
+            return absolute(((IJsonMapping) a).serialize()).similar(absolute(((IJsonMapping) b).serialize()));
+        }
+        if (a instanceof List && b instanceof List) {
+            List<?> left = (List<?>) a;
+            List<?> right = (List<?>) b;
+            if (left.size() != right.size()) {
+                return false;
+            }
+            for (int i = 0; i < left.size(); i++) {
+                if (!sameContent(left.get(i), right.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return Objects.equals(a, b);
+    }
+
+    /**
+     * Removes all values relative to the current time from the given JSON value, including nested ones.
+     *
+     * @param json The JSON value to strip.
+     * @param <J>  The type of the JSON value.
+     * @return The given JSON value without the keys of {@link #RELATIVE_KEYS}.
+     */
+    private static <J> J absolute(J json) {
+        if (json instanceof JSONObject) {
+            JSONObject object = (JSONObject) json;
+            for (String key : RELATIVE_KEYS) {
+                object.remove(key);
+            }
+            for (String key : object.keySet()) {
+                absolute(object.get(key));
+            }
+        } else if (json instanceof JSONArray) {
+            for (Object element : (JSONArray) json) {
+                absolute(element);
+            }
+        }
+        return json;
+    }
+
+    /**
+     * Represents a polled snapshot together with its version.
+     *
+     * @param <S> The type of the snapshot.
+     */
+    private static class Snapshot<S> {
+
+        /** The version of the snapshot, increasing with every poll. */
+        private final long version;
+
+        /** The polled snapshot. */
+        private final S value;
+
+        /**
+         * Creates a new snapshot.
+         *
+         * @param version The version of the snapshot.
+         * @param value   The polled snapshot.
+         */
+        private Snapshot(long version, S value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The subscription of a single subscriber, tracking its demand and the last delivered snapshot.
+     * All signals to the subscriber are serialized through {@link #drain()}.
+     */
+    private class WorldstateSubscription implements Flow.Subscription {
+
+        /** The subscriber of this subscription. */
+        private final Flow.Subscriber<? super T> subscriber;
+
+        /** The outstanding demand of the subscriber. */
+        private final AtomicLong demand = new AtomicLong();
+
+        /** The amount of pending drain requests, used to serialize the signals. */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /** The last snapshot delivered to the subscriber. */
+        private S delivered;
+
+        /** The version of the last snapshot delivered to the subscriber. */
+        private long deliveredVersion;
+
+        /** Indicates whether the subscription was cancelled or terminated. */
+        private volatile boolean done;
+
+        /** An invalid demand signaled by the subscriber, or 0. */
+        private volatile long invalidDemand;
+
+        /**
+         * Creates a subscription for the given subscriber.
+         *
+         * @param subscriber The subscriber of this subscription.
+         */
+        private WorldstateSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidDemand = n;
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+            subscriptions.remove(this);
+        }
+
+        /**
+         * Delivers the latest snapshot if the subscriber has demand, and terminates the subscription if required.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                if (done) {
+                    continue;
+                }
+                if (invalidDemand != 0) {
+                    terminate();
+                    subscriber.onError(new IllegalArgumentException("Non-positive request: " + invalidDemand));
+                    continue;
+                }
+                try {
+                    Snapshot<S> snapshot = latest;
+                    while (!done && demand.get() > 0 && snapshot != null && snapshot.version != deliveredVersion) {
+                        T item = emission.apply(delivered, snapshot.value);
+                        delivered = snapshot.value;
+                        deliveredVersion = snapshot.version;
+                        if (item != null) {
+                            demand.decrementAndGet();
+                            subscriber.onNext(item);
+                        }
+                        snapshot = latest;
+                    }
+                } catch (Exception e) {
+                    terminate();
+                    subscriber.onError(e);
+                    continue;
+                }
+                if (closed && !done) {
+                    terminate();
+                    subscriber.onComplete();
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        /**
+         * Marks this subscription as terminated and removes it from the publisher.
+         */
+        private void terminate() {
+            done = true;
+            subscriptions.remove(this);
+        }
+    }
+}
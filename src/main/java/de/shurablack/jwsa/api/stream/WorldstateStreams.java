@@ -0,0 +1,134 @@
+package de.shurablack.jwsa.api.stream;
+
+import de.shurablack.jwsa.api.entities.general.news.News;
+import de.shurablack.jwsa.api.entities.worldstate.global.Alert;
+import de.shurablack.jwsa.api.entities.worldstate.global.Event;
+import de.shurablack.jwsa.api.entities.worldstate.global.Fissure;
+import de.shurablack.jwsa.api.entities.worldstate.global.Invasion;
+import de.shurablack.jwsa.api.entities.worldstate.global.Sortie;
+import de.shurablack.jwsa.api.entities.worldstate.relay.DarvoDeal;
+import de.shurablack.jwsa.api.entities.worldstate.relay.VoidTrader;
+import de.shurablack.jwsa.api.requests.Paths;
+import de.shurablack.jwsa.api.requests.Requests;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Provides ready-to-use {@link WorldstatePublisher}s for the most common worldstate sections.
+ * List sections emit their {@link Changes}, single-object sections emit each new snapshot.
+ * Failed requests of list sections are skipped instead of being reported as removals.
+ */
+public class WorldstateStreams {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private WorldstateStreams() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Creates a publisher emitting the changes of the current fissures.
+     *
+     * @param interval The interval between two polls.
+     * @return A new {@link WorldstatePublisher} for fissures.
+     */
+    public static WorldstatePublisher<List<Fissure>, Changes<Fissure>> fissures(Duration interval) {
+        return WorldstatePublisher.changes(
+                () -> Requests.withListMappingOrNull(Fissure.class, Paths.FISSURES), Fissure::getId, interval);
+    }
+
+    /**
+     * Creates a publisher emitting the changes of the current alerts.
+     *
+     * @param interval The interval between two polls.
+     * @return A new {@link WorldstatePublisher} for alerts.
+     */
+    public static WorldstatePublisher<List<Alert>, Changes<Alert>> alerts(Duration interval) {
+        return WorldstatePublisher.changes(
+                () -> Requests.withListMappingOrNull(Alert.class, Paths.ALERTS), Alert::getId, interval);
+    }
+
+    /**
+     * Creates a publisher emitting the changes of the current invasions.
+     *
+     * @param interval The interval between two polls.
+     * @return A new {@link WorldstatePublisher} for invasions.
+     */
+    public static WorldstatePublisher<List<Invasion>, Changes<Invasion>> invasions(Duration interval) {
+        return WorldstatePublisher.changes(
+                () -> Requests.withListMappingOrNull(Invasion.class, Paths.INVASIONS), Invasion::getId, interval);
+    }
+
+    /**
+     * Creates a publisher emitting the changes of the current events.
+     *
+     * @param interval The interval between two polls.
+     * @return A new {@link WorldstatePublisher} for events.
+     */
+    public static WorldstatePublisher<List<Event>, Changes<Event>> events(Duration interval) {
+        return WorldstatePublisher.changes(
+                () -> Requests.withListMappingOrNull(Event.class, Paths.EVENTS), Event::getId, interval);
+    }
+
+    /**
+     * Creates a publisher emitting the changes of the current news.
+     *
+     * @param interval The interval between two polls.
+     * @return A new {@link WorldstatePublisher} for news.
+     */
+    public static WorldstatePublisher<List<News>, Changes<News>> news(Duration interval) {
+        return WorldstatePublisher.changes(
+                () -> recent(Requests.withListMappingOrNull(News.class, Paths.NEWS)), News::getId, interval);
+    }
+
+    /**
+     * Creates a publisher emitting the changes of the current Darvo deals.
+     *
+     * @param interval The interval between two polls.
+     * @return A new {@link WorldstatePublisher} for Darvo deals.
+     */
+    public static WorldstatePublisher<List<DarvoDeal>, Changes<DarvoDeal>> darvoDeals(Duration interval) {
+        return WorldstatePublisher.changes(
+                () -> Requests.withListMappingOrNull(DarvoDeal.class, Paths.DAILY_DARVO_DEALS), DarvoDeal::getId, interval);
+    }
+
+    /**
+     * Creates a publisher emitting each new state of the Void Trader.
+     *
+     * @param interval The interval between two polls.
+     * @return A new {@link WorldstatePublisher} for the Void Trader.
+     */
+    public static WorldstatePublisher<VoidTrader, VoidTrader> voidTrader(Duration interval) {
+        return WorldstatePublisher.snapshots(VoidTrader::request, interval);
+    }
+
+    /**
+     * Creates a publisher emitting each new sortie.
+     *
+     * @param interval The interval between two polls.
+     * @return A new {@link WorldstatePublisher} for the sortie.
+     */
+    public static WorldstatePublisher<Sortie, Sortie> sortie(Duration interval) {
+        return WorldstatePublisher.snapshots(Sortie::request, interval);
+    }
+
+    /**
+     * Filters out news items older than 90 days, like {@link News#request()}.
+     *
+     * @param news The requested news items, or null if the request failed.
+     * @return The news items of the last 90 days, or null if the request failed.
+     */
+    private static List<News> recent(List<News> news) {
+        if (news == null) {
+            return null;
+        }
+        LocalDateTime ninetyDaysAgo = LocalDateTime.now().minusDays(90);
+        List<News> recent = new ArrayList<>(news);
+        recent.removeIf(item -> item.getDate().isBefore(ninetyDaysAgo));
+        return recent;
+    }
+}
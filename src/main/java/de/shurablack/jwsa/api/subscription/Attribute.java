@@ -0,0 +1,105 @@
+package de.shurablack.jwsa.api.subscription;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Describes a string-valued property of an entity a {@link Criteria} can match on, e.g. the node of a fissure
+ * or the reward item names of an invasion. Values are compared trimmed and case-insensitively.
+ *
+ * @param <T> The type of the matched entities.
+ */
+public class Attribute<T> {
+
+    /** The name of the attribute, used for logging and debugging. */
+    private final String name;
+
+    /** The function extracting the values of an entity, may return null. */
+    private final Function<T, Collection<String>> extractor;
+
+    /**
+     * Private constructor to create an attribute.
+     *
+     * @param name      The name of the attribute.
+     * @param extractor The function extracting the values of an entity.
+     */
+    private Attribute(String name, Function<T, Collection<String>> extractor) {
+        this.name = name;
+        this.extractor = extractor;
+    }
+
+    /**
+     * Creates an attribute for a single-valued property.
+     *
+     * @param name      The name of the attribute.
+     * @param extractor The function extracting the value of an entity, may return null.
+     * @param <T>       The type of the matched entities.
+     * @return A new {@link Attribute}.
+     */
+    public static <T> Attribute<T> of(String name, Function<T, String> extractor) {
+        return new Attribute<>(name, entity -> {
+            String value = extractor.apply(entity);
+            return value == null ? Collections.emptyList() : Collections.singletonList(value);
+        });
+    }
+
+    /**
+     * Creates an attribute for a multi-valued property.
+     *
+     * @param name      The name of the attribute.
+     * @param extractor The function extracting the values of an entity, may return null.
+     * @param <T>       The type of the matched entities.
+     * @return A new {@link Attribute}.
+     */
+    public static <T> Attribute<T> ofMany(String name, Function<T, Collection<String>> extractor) {
+        return new Attribute<>(name, extractor);
+    }
+
+    /**
+     * Retrieves the name of this attribute.
+     *
+     * @return The name of the attribute.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Extracts the normalized values of the given entity.
+     *
+     * @param entity The entity.
+     * @return The distinct normalized values of the entity, never null.
+     */
+    public Set<String> values(T entity) {
+        Collection<String> values = extractor.apply(entity);
+        if (values == null || values.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String value : values) {
+            if (value != null) {
+                normalized.add(normalize(value));
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * Normalizes a value for comparison.
+     *
+     * @param value The value.
+     * @return The trimmed, lower-cased value.
+     */
+    static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
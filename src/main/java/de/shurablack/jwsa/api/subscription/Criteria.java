@@ -0,0 +1,253 @@
+package de.shurablack.jwsa.api.subscription;
+
+import de.shurablack.jwsa.api.index.Dimension;
+import de.shurablack.jwsa.api.index.Flag;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An immutable predicate over entities, built from enum {@link Dimension}s, string {@link Attribute}s and
+ * {@link Flag}s, e.g. "Steel Path Axi Disruption fissure" or "invasion rewarding an Orokin Reactor".
+ * Values of the same dimension or attribute are combined with OR, all constraints are combined with AND.
+ * Every method returns a new criteria, the receiver is left unchanged.
+ *
+ * @param <T> The type of the matched entities.
+ */
+public class Criteria<T> {
+
+    /** The assumed amount of distinct values of a string attribute, used to estimate its selectivity. */
+    private static final double ATTRIBUTE_DOMAIN = 1000;
+
+    /** The accepted values per dimension. */
+    private final Map<Dimension<T, ?>, Set<? extends Enum<?>>> dimensions;
+
+    /** The accepted normalized values per attribute. */
+    private final Map<Attribute<T>, Set<String>> attributes;
+
+    /** The flags that must be set. */
+    private final List<Flag<T>> required;
+
+    /** The flags that must not be set. */
+    private final List<Flag<T>> excluded;
+
+    /**
+     * Private constructor to create criteria from the given constraints.
+     *
+     * @param dimensions The accepted values per dimension.
+     * @param attributes The accepted values per attribute.
+     * @param required   The flags that must be set.
+     * @param excluded   The flags that must not be set.
+     */
+    private Criteria(Map<Dimension<T, ?>, Set<? extends Enum<?>>> dimensions, Map<Attribute<T>, Set<String>> attributes,
+                     List<Flag<T>> required, List<Flag<T>> excluded) {
+        this.dimensions = dimensions;
+        this.attributes = attributes;
+        this.required = required;
+        this.excluded = excluded;
+    }
+
+    /**
+     * Creates criteria matching every entity.
+     *
+     * @param <T> The type of the matched entities.
+     * @return New, empty {@link Criteria}.
+     */
+    public static <T> Criteria<T> any() {
+        return new Criteria<>(new IdentityHashMap<>(), new IdentityHashMap<>(), List.of(), List.of());
+    }
+
+    /**
+     * Restricts the criteria to entities having at least one of the given values in the dimension.
+     *
+     * @param dimension The dimension to restrict.
+     * @param first     The first accepted value.
+     * @param others    Further accepted values.
+     * @param <V>       The enum type of the dimension.
+     * @return New {@link Criteria} including the constraint.
+     * @throws IllegalArgumentException If none of the values is accepted by a previous constraint of the dimension.
+     */
+    @SafeVarargs
+    public final <V extends Enum<V>> Criteria<T> where(Dimension<T, V> dimension, V first, V... others) {
+        EnumSet<V> accepted = EnumSet.of(first, others);
+        Set<? extends Enum<?>> previous = dimensions.get(dimension);
+        if (previous != null) {
+            accepted.retainAll(previous);
+        }
+        if (accepted.isEmpty()) {
+            throw new IllegalArgumentException("The constraint on " + dimension + " accepts no value");
+        }
+        Map<Dimension<T, ?>, Set<? extends Enum<?>>> copy = new IdentityHashMap<>(dimensions);
+        copy.put(dimension, Collections.unmodifiableSet(accepted));
+        return new Criteria<>(copy, attributes, required, excluded);
+    }
+
+    /**
+     * Restricts the criteria to entities having at least one of the given values in the attribute.
+     * Values are compared trimmed and case-insensitively.
+     *
+     * @param attribute The attribute to restrict.
+     * @param values    The accepted values.
+     * @return New {@link Criteria} including the constraint.
+     * @throws IllegalArgumentException If no value is given or none of the values is accepted by a previous
+     *                                  constraint of the attribute.
+     */
+    public Criteria<T> where(Attribute<T> attribute, String... values) {
+        Set<String> accepted = new LinkedHashSet<>();
+        for (String value : values) {
+            accepted.add(Attribute.normalize(value));
+        }
+        Set<String> previous = attributes.get(attribute);
+        if (previous != null) {
+            accepted.retainAll(previous);
+        }
+        if (accepted.isEmpty()) {
+            throw new IllegalArgumentException("The constraint on " + attribute + " accepts no value");
+        }
+        Map<Attribute<T>, Set<String>> copy = new IdentityHashMap<>(attributes);
+        copy.put(attribute, Collections.unmodifiableSet(accepted));
+        return new Criteria<>(dimensions, copy, required, excluded);
+    }
+
+    /**
+     * Restricts the criteria to entities having the given flag set.
+     *
+     * @param flag The flag.
+     * @return New {@link Criteria} including the constraint.
+     */
+    public Criteria<T> is(Flag<T> flag) {
+        List<Flag<T>> copy = new ArrayList<>(required);
+        copy.add(flag);
+        return new Criteria<>(dimensions, attributes, List.copyOf(copy), excluded);
+    }
+
+    /**
+     * Restricts the criteria to entities not having the given flag set.
+     *
+     * @param flag The flag.
+     * @return New {@link Criteria} including the constraint.
+     */
+    public Criteria<T> isNot(Flag<T> flag) {
+        List<Flag<T>> copy = new ArrayList<>(excluded);
+        copy.add(flag);
+        return new Criteria<>(dimensions, attributes, required, List.copyOf(copy));
+    }
+
+    /**
+     * Evaluates the criteria for the given entity.
+     *
+     * @param entity The entity.
+     * @return true if the entity satisfies all constraints, false otherwise.
+     */
+    public boolean matches(T entity) {
+        return matches(entity, new IdentityHashMap<>());
+    }
+
+    /**
+     * Evaluates the criteria for the given entity, reusing the values already extracted for it.
+     *
+     * @param entity The entity.
+     * @param values The values extracted from the entity per dimension or attribute, filled on demand.
+     * @return true if the entity satisfies all constraints, false otherwise.
+     */
+    boolean matches(T entity, Map<Object, Collection<?>> values) {
+        for (Flag<T> flag : required) {
+            if (!flag.test(entity)) {
+                return false;
+            }
+        }
+        for (Flag<T> flag : excluded) {
+            if (flag.test(entity)) {
+                return false;
+            }
+        }
+        for (Map.Entry<Dimension<T, ?>, Set<? extends Enum<?>>> constraint : dimensions.entrySet()) {
+            Dimension<T, ?> dimension = constraint.getKey();
+            if (Collections.disjoint(values.computeIfAbsent(dimension, key -> dimension.values(entity)),
+                    constraint.getValue())) {
+                return false;
+            }
+        }
+        for (Map.Entry<Attribute<T>, Set<String>> constraint : attributes.entrySet()) {
+            Attribute<T> attribute = constraint.getKey();
+            if (Collections.disjoint(values.computeIfAbsent(attribute, key -> attribute.values(entity)),
+                    constraint.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Selects the most selective constraint of these criteria, under which the criteria are indexed
+     * by the {@link SubscriptionEngine}. String attributes are assumed to be far more selective than enum dimensions.
+     *
+     * @return The anchor constraint, or null if the criteria have no dimension or attribute constraint.
+     */
+    Anchor<T> anchor() {
+        Anchor<T> best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (Map.Entry<Dimension<T, ?>, Set<? extends Enum<?>>> constraint : dimensions.entrySet()) {
+            double score = constraint.getValue().size()
+                    / (double) constraint.getKey().getType().getEnumConstants().length;
+            if (score < bestScore) {
+                Dimension<T, ?> dimension = constraint.getKey();
+                best = new Anchor<>(dimension, dimension::values, constraint.getValue());
+                bestScore = score;
+            }
+        }
+        for (Map.Entry<Attribute<T>, Set<String>> constraint : attributes.entrySet()) {
+            double score = constraint.getValue().size() / ATTRIBUTE_DOMAIN;
+            if (score < bestScore) {
+                Attribute<T> attribute = constraint.getKey();
+                best = new Anchor<>(attribute, attribute::values, constraint.getValue());
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public String toString() {
+        return "Criteria{dimensions=" + dimensions + ", attributes=" + attributes
+                + ", is=" + required + ", isNot=" + excluded + "}";
+    }
+
+    /**
+     * The constraint a subscription is indexed under: a dimension or attribute and its accepted values.
+     *
+     * @param <T> The type of the matched entities.
+     */
+    static class Anchor<T> {
+
+        /** The {@link Dimension} or {@link Attribute} of the constraint. */
+        final Object key;
+
+        /** The function extracting the values of the dimension or attribute from an entity. */
+        final Function<T, ? extends Collection<?>> extractor;
+
+        /** The accepted values of the constraint. */
+        final Collection<?> values;
+
+        /**
+         * Creates a new anchor.
+         *
+         * @param key       The dimension or attribute of the constraint.
+         * @param extractor The function extracting the values of the dimension or attribute from an entity.
+         * @param values    The accepted values of the constraint.
+         */
+        Anchor(Object key, Function<T, ? extends Collection<?>> extractor, Collection<?> values) {
+            this.key = key;
+            this.extractor = extractor;
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package de.shurablack.jwsa.api.subscription;
+
+/**
+ * A rule registered at a {@link SubscriptionEngine}, pairing the {@link Criteria} with its owner.
+ * Subscriptions are compared by identity.
+ *
+ * @param <T> The type of the matched entities.
+ */
+public class Subscription<T> {
+
+    /** The unique id of the subscription within its engine. */
+    private final long id;
+
+    /** The owner of the subscription, e.g. a user id. */
+    private final String owner;
+
+    /** The criteria of the subscription. */
+    private final Criteria<T> criteria;
+
+    /**
+     * Creates a new subscription.
+     *
+     * @param id       The unique id of the subscription.
+     * @param owner    The owner of the subscription.
+     * @param criteria The criteria of the subscription.
+     */
+    Subscription(long id, String owner, Criteria<T> criteria) {
+        this.id = id;
+        this.owner = owner;
+        this.criteria = criteria;
+    }
+
+    /**
+     * Retrieves the unique id of this subscription.
+     *
+     * @return The id of the subscription.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the owner of this subscription.
+     *
+     * @return The owner, e.g. a user id.
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Retrieves the criteria of this subscription.
+     *
+     * @return The {@link Criteria} of the subscription.
+     */
+    public Criteria<T> getCriteria() {
+        return criteria;
+    }
+
+    @Override
+    public String toString() {
+        return "Subscription{id=" + id + ", owner=" + owner + ", criteria=" + criteria + "}";
+    }
+}
@@ -0,0 +1,284 @@
+package de.shurablack.jwsa.api.subscription;
+
+import de.shurablack.jwsa.api.stream.Changes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Matches entities against a large amount of {@link Subscription}s without evaluating every rule for every entity.
+ * <p>
+ * Each subscription is indexed under its most selective constraint (its anchor, e.g. the node or the era).
+ * For every dimension or attribute used as anchor, a map from value to subscriptions forms the discrimination index.
+ * Matching an entity extracts its values for each anchored dimension or attribute, looks up the candidate
+ * subscriptions under those values and only evaluates the full criteria of these candidates.
+ * The cost of matching therefore depends on the amount of candidates, not on the amount of subscribers.
+ * Subscriptions without any dimension or attribute constraint are evaluated for every entity.
+ * <p>
+ * Subscribing, unsubscribing and matching may run concurrently.
+ *
+ * @param <T> The type of the matched entities.
+ */
+public class SubscriptionEngine<T> {
+
+    /** The subscriptions per anchor value, per anchored dimension or attribute. */
+    private final Map<Object, Map<Object, Set<Subscription<T>>>> index = new IdentityHashMap<>();
+
+    /** The function extracting the values of each anchored dimension or attribute from an entity. */
+    private final Map<Object, Function<T, ? extends Collection<?>>> extractors = new IdentityHashMap<>();
+
+    /** The subscriptions without an anchor. */
+    private final Set<Subscription<T>> unanchored = new LinkedHashSet<>();
+
+    /** The source of subscription ids. */
+    private final AtomicLong ids = new AtomicLong();
+
+    /** The amount of registered subscriptions. */
+    private int size;
+
+    /** The amount of candidate evaluations, for monitoring the selectivity of the index. */
+    private final AtomicLong evaluations = new AtomicLong();
+
+    /** The amount of matches. */
+    private final AtomicLong matches = new AtomicLong();
+
+    /** The lock separating matching from modifications of the index. */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** The subscriptions already matched per entity identity when matching changes, guarded by the map itself. */
+    private final Map<Object, Set<Subscription<T>>> delivered = new HashMap<>();
+
+    /**
+     * Registers a new subscription.
+     *
+     * @param owner    The owner of the subscription, e.g. a user id.
+     * @param criteria The criteria of the subscription.
+     * @return The registered {@link Subscription}.
+     */
+    public Subscription<T> subscribe(String owner, Criteria<T> criteria) {
+        Subscription<T> subscription = new Subscription<>(ids.incrementAndGet(), owner, criteria);
+        Criteria.Anchor<T> anchor = criteria.anchor();
+
+        lock.writeLock().lock();
+        try {
+            if (anchor == null) {
+                unanchored.add(subscription);
+            } else {
+                Map<Object, Set<Subscription<T>>> byValue = index.computeIfAbsent(anchor.key, key -> new HashMap<>());
+                extractors.putIfAbsent(anchor.key, anchor.extractor);
+                for (Object value : anchor.values) {
+                    byValue.computeIfAbsent(value, key -> new LinkedHashSet<>()).add(subscription);
+                }
+            }
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return subscription;
+    }
+
+    /**
+     * Removes a subscription.
+     *
+     * @param subscription The subscription to remove.
+     * @return true if the subscription was registered, false otherwise.
+     */
+    public boolean unsubscribe(Subscription<T> subscription) {
+        Criteria.Anchor<T> anchor = subscription.getCriteria().anchor();
+
+        boolean removed = false;
+        lock.writeLock().lock();
+        try {
+            if (anchor == null) {
+                removed = unanchored.remove(subscription);
+            } else {
+                Map<Object, Set<Subscription<T>>> byValue = index.get(anchor.key);
+                if (byValue != null) {
+                    for (Object value : anchor.values) {
+                        Set<Subscription<T>> subscriptions = byValue.get(value);
+                        if (subscriptions != null && subscriptions.remove(subscription)) {
+                            removed = true;
+                            if (subscriptions.isEmpty()) {
+                                byValue.remove(value);
+                            }
+                        }
+                    }
+                    if (byValue.isEmpty()) {
+                        index.remove(anchor.key);
+                        extractors.remove(anchor.key);
+                    }
+                }
+            }
+            if (removed) {
+                size--;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (removed) {
+            synchronized (delivered) {
+                for (Set<Subscription<T>> subscriptions : delivered.values()) {
+                    subscriptions.remove(subscription);
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Finds all subscriptions matching the given entity.
+     *
+     * @param entity The entity.
+     * @return The matching subscriptions.
+     */
+    public List<Subscription<T>> match(T entity) {
+        List<Subscription<T>> result = new ArrayList<>();
+        Map<Object, Collection<?>> values = new IdentityHashMap<>();
+
+        lock.readLock().lock();
+        try {
+            for (Subscription<T> subscription : unanchored) {
+                evaluate(subscription, entity, values, result);
+            }
+            for (Map.Entry<Object, Map<Object, Set<Subscription<T>>>> anchored : index.entrySet()) {
+                Collection<?> entityValues = values.computeIfAbsent(anchored.getKey(),
+                        key -> extractors.get(key).apply(entity));
+                Set<Subscription<T>> seen = entityValues.size() > 1 ? new HashSet<>() : null;
+                for (Object value : entityValues) {
+                    Set<Subscription<T>> candidates = anchored.getValue().get(value);
+                    if (candidates == null) {
+                        continue;
+                    }
+                    for (Subscription<T> candidate : candidates) {
+                        if (seen == null || seen.add(candidate)) {
+                            evaluate(candidate, entity, values, result);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * Matches all given entities.
+     *
+     * @param entities The entities.
+     * @return The matched entities per subscription, in order of the first match.
+     */
+    public Map<Subscription<T>, List<T>> match(Collection<T> entities) {
+        Map<Subscription<T>, List<T>> result = new LinkedHashMap<>();
+        for (T entity : entities) {
+            for (Subscription<T> subscription : match(entity)) {
+                result.computeIfAbsent(subscription, key -> new ArrayList<>()).add(entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Matches the added and updated entities of a poll, e.g. as emitted by
+     * {@link de.shurablack.jwsa.api.stream.WorldstateStreams}. An entity is reported to each subscription only once:
+     * an updated entity is only reported to subscriptions it did not match before, e.g. because its rewards changed.
+     * Removed entities are not matched and are forgotten, so an entity added again is reported again.
+     *
+     * @param changes The changes of a poll.
+     * @param key     The function extracting the identity of an entity (e.g., {@code Fissure::getId}).
+     * @return The newly matched entities per subscription, in order of the first match.
+     */
+    public Map<Subscription<T>, List<T>> match(Changes<T> changes, Function<? super T, ?> key) {
+        Map<Subscription<T>, List<T>> result = new LinkedHashMap<>();
+        synchronized (delivered) {
+            for (T entity : changes.getRemoved()) {
+                delivered.remove(key.apply(entity));
+            }
+            matchOnce(changes.getAdded(), key, result);
+            matchOnce(changes.getUpdated(), key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Retrieves the amount of registered subscriptions.
+     *
+     * @return The subscription count.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the amount of full criteria evaluations performed for candidates so far.
+     *
+     * @return The evaluation count.
+     */
+    public long getEvaluations() {
+        return evaluations.get();
+    }
+
+    /**
+     * Retrieves the amount of matches found so far.
+     *
+     * @return The match count.
+     */
+    public long getMatches() {
+        return matches.get();
+    }
+
+    /**
+     * Matches the given entities, skipping subscriptions that already matched an entity of the same identity.
+     * Must be called while holding the lock of {@link #delivered}.
+     *
+     * @param entities The entities.
+     * @param key      The function extracting the identity of an entity.
+     * @param result   The map receiving the newly matched entities per subscription.
+     */
+    private void matchOnce(List<T> entities, Function<? super T, ?> key, Map<Subscription<T>, List<T>> result) {
+        for (T entity : entities) {
+            Set<Subscription<T>> reported = delivered.computeIfAbsent(key.apply(entity), id -> new HashSet<>());
+            for (Subscription<T> subscription : match(entity)) {
+                if (reported.add(subscription)) {
+                    result.computeIfAbsent(subscription, id -> new ArrayList<>()).add(entity);
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates a candidate subscription and adds it to the result if it matches.
+     *
+     * @param subscription The candidate subscription.
+     * @param entity       The entity.
+     * @param values       The values already extracted from the entity.
+     * @param result       The list receiving the matching subscriptions.
+     */
+    private void evaluate(Subscription<T> subscription, T entity, Map<Object, Collection<?>> values,
+                          List<Subscription<T>> result) {
+        evaluations.incrementAndGet();
+        if (subscription.getCriteria().matches(entity, values)) {
+            matches.incrementAndGet();
+            result.add(subscription);
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+package de.shurablack.jwsa.api.subscription;
+
+import de.shurablack.jwsa.api.entities.worldstate.global.Alert;
+import de.shurablack.jwsa.api.entities.worldstate.global.Fissure;
+import de.shurablack.jwsa.api.entities.worldstate.global.Invasion;
+import de.shurablack.jwsa.api.entities.worldstate.global.sub.InvasionParty;
+import de.shurablack.jwsa.api.entities.worldstate.others.Reward;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The string attributes of fissures, alerts and invasions that subscriptions can match on.
+ * Together with the dimensions and flags of {@link de.shurablack.jwsa.api.index.WorldstateIndex}
+ * they cover rules like
+ * <pre>{@code
+ * Criteria.<Invasion>any().where(WorldstateAttributes.Invasions.REWARD_ITEMS, "Orokin Reactor");
+ * Criteria.<Fissure>any()
+ *         .where(WorldstateIndex.Fissures.ERA, Era.AXI)
+ *         .where(WorldstateIndex.Fissures.MISSION_TYPE, MissionType.DISRUPTION)
+ *         .is(WorldstateIndex.Fissures.HARD);
+ * }</pre>
+ */
+public class WorldstateAttributes {
+
+    /**
+     * Private constructor to prevent instantiation of this constant holder.
+     */
+    private WorldstateAttributes() {
+        // Prevent instantiation
+    }
+
+    /**
+     * The string attributes of fissures.
+     */
+    public static final class Fissures {
+
+        /** The node of the fissure (e.g., "Hydron (Sedna)"). */
+        public static final Attribute<Fissure> NODE = Attribute.of("node", Fissure::getNode);
+
+        /**
+         * Private constructor to prevent instantiation of this constant holder.
+         */
+        private Fissures() {
+            // Prevent instantiation
+        }
+    }
+
+    /**
+     * The string attributes of alerts.
+     */
+    public static final class Alerts {
+
+        /** The node of the alert mission. */
+        public static final Attribute<Alert> NODE = Attribute.of("node",
+                alert -> alert.getMission() == null ? null : alert.getMission().getNode());
+
+        /** The names of the items rewarded by the alert mission. */
+        public static final Attribute<Alert> REWARD_ITEMS = Attribute.ofMany("rewardItems", alert -> {
+            List<String> items = new ArrayList<>();
+            if (alert.getMission() != null) {
+                addItems(items, alert.getMission().getReward());
+            }
+            return items;
+        });
+
+        /**
+         * Private constructor to prevent instantiation of this constant holder.
+         */
+        private Alerts() {
+            // Prevent instantiation
+        }
+    }
+
+    /**
+     * The string attributes of invasions.
+     */
+    public static final class Invasions {
+
+        /** The node of the invasion. */
+        public static final Attribute<Invasion> NODE = Attribute.of("node", Invasion::getNode);
+
+        /** The names of the items rewarded by either side of the invasion. */
+        public static final Attribute<Invasion> REWARD_ITEMS = Attribute.ofMany("rewardItems", invasion -> {
+            List<String> items = new ArrayList<>();
+            addItems(items, invasion.getAttacker());
+            addItems(items, invasion.getDefender());
+            return items;
+        });
+
+        /**
+         * Private constructor to prevent instantiation of this constant holder.
+         */
+        private Invasions() {
+            // Prevent instantiation
+        }
+
+        /**
+         * Adds the reward item names of an invasion party if present.
+         *
+         * @param items The list to add the item names to.
+         * @param party The invasion party, may be null.
+         */
+        private static void addItems(List<String> items, InvasionParty party) {
+            if (party != null) {
+                WorldstateAttributes.addItems(items, party.getReward());
+            }
+        }
+    }
+
+    /**
+     * Adds the item names of a reward, including counted items.
+     *
+     * @param items  The list to add the item names to.
+     * @param reward The reward, may be null.
+     */
+    private static void addItems(List<String> items, Reward reward) {
+        if (reward == null) {
+            return;
+        }
+        if (reward.getItems() != null) {
+            items.addAll(reward.getItems());
+        }
+        if (reward.getCountedItems() != null) {
+            for (Reward.Item item : reward.getCountedItems()) {
+                items.add(item.getType());
+            }
+        }
+    }
+}
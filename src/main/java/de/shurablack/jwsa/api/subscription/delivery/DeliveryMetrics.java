@@ -0,0 +1,38 @@
+package de.shurablack.jwsa.api.subscription.delivery;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Represents a snapshot of the delivery metrics of a {@link FanOut}.
+ */
+@AllArgsConstructor
+@Getter
+@ToString
+public class DeliveryMetrics {
+
+    /** The amount of worker shards. */
+    private final int shards;
+
+    /** The amount of registered subscribers. */
+    private final int subscribers;
+
+    /** The amount of messages currently waiting in mailboxes. */
+    private final long queued;
+
+    /** The total amount of published messages accepted by a mailbox. */
+    private final long published;
+
+    /** The total amount of messages their listener accepted without an exception. */
+    private final long delivered;
+
+    /** The total amount of messages dropped by a full mailbox. */
+    private final long dropped;
+
+    /** The total amount of pending messages replaced by a newer message with the same coalescing key. */
+    private final long coalesced;
+
+    /** The total amount of messages whose listener threw an exception. */
+    private final long failed;
+}
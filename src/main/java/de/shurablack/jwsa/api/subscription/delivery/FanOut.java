@@ -0,0 +1,249 @@
+package de.shurablack.jwsa.api.subscription.delivery;
+
+import de.shurablack.jwsa.api.subscription.Subscription;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Delivers notifications to many subscribers on a fixed set of worker shards.
+ * <p>
+ * Every subscriber is assigned to a shard by the hash of its key and owns a bounded mailbox. A mailbox is drained
+ * by its shard only, one message after another, so the messages of a subscriber are delivered in publishing order
+ * while different subscribers are served in parallel. If a mailbox is full, its {@link OverflowPolicy} decides
+ * whether the publisher waits, a message is dropped or a pending message is replaced.
+ * A slow listener only fills its own mailbox; the other subscribers of its shard are served in turns in between.
+ * <p>
+ * Listeners run on the shard thread and should not block indefinitely, as the other subscribers of the shard would
+ * wait for them. In particular, listeners must not publish to their own subscriber with {@link OverflowPolicy#BLOCK}.
+ *
+ * @param <M> The type of the messages.
+ */
+public class FanOut<M> implements AutoCloseable {
+
+    /** The default capacity of a mailbox. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /** The worker shards. */
+    private final Shard<M>[] shards;
+
+    /** The mailboxes by subscriber key. */
+    private final Map<String, Mailbox<M>> mailboxes = new ConcurrentHashMap<>();
+
+    /** The total amount of published messages accepted by a mailbox. */
+    private final LongAdder published = new LongAdder();
+
+    /** The total amount of messages dropped by a full mailbox. */
+    private final LongAdder dropped = new LongAdder();
+
+    /** The total amount of pending messages replaced by a newer message. */
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Creates a new fan-out with one shard per available processor.
+     */
+    public FanOut() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new fan-out with the given amount of shards.
+     *
+     * @param shards The amount of worker shards.
+     */
+    @SuppressWarnings("unchecked")
+    public FanOut(int shards) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = (Shard<M>[]) new Shard<?>[shards];
+        for (int i = 0; i < shards; i++) {
+            this.shards[i] = new Shard<>(i);
+        }
+    }
+
+    /**
+     * Registers a subscriber with the default capacity, dropping the oldest message if it falls behind.
+     *
+     * @param key      The key of the subscriber, e.g. the owner of its subscriptions.
+     * @param listener The listener consuming the messages.
+     */
+    public void register(String key, Consumer<M> listener) {
+        register(key, listener, DEFAULT_CAPACITY, OverflowPolicy.DROP_OLDEST);
+    }
+
+    /**
+     * Registers a subscriber. A subscriber registered under the same key is replaced.
+     *
+     * @param key      The key of the subscriber, e.g. the owner of its subscriptions.
+     * @param listener The listener consuming the messages.
+     * @param capacity The maximum amount of pending messages.
+     * @param policy   The policy applied if the mailbox is full, except {@link OverflowPolicy#COALESCE}.
+     */
+    public void register(String key, Consumer<M> listener, int capacity, OverflowPolicy policy) {
+        if (policy == OverflowPolicy.COALESCE) {
+            throw new IllegalArgumentException("Coalescing requires a coalescing key");
+        }
+        register(key, listener, capacity, policy, null);
+    }
+
+    /**
+     * Registers a coalescing subscriber. A pending message is replaced by a newer message with the same
+     * coalescing key, so a slow subscriber only receives the latest state of e.g. each fissure.
+     * A subscriber registered under the same key is replaced.
+     *
+     * @param key         The key of the subscriber, e.g. the owner of its subscriptions.
+     * @param listener    The listener consuming the messages.
+     * @param capacity    The maximum amount of pending messages.
+     * @param coalesceKey The function extracting the coalescing key of a message (e.g., {@code Fissure::getId}).
+     */
+    public void register(String key, Consumer<M> listener, int capacity, Function<M, ?> coalesceKey) {
+        register(key, listener, capacity, OverflowPolicy.COALESCE, coalesceKey);
+    }
+
+    /**
+     * Removes a subscriber. Its pending messages are discarded.
+     *
+     * @param key The key of the subscriber.
+     * @return true if the subscriber was registered, false otherwise.
+     */
+    public boolean unregister(String key) {
+        Mailbox<M> mailbox = mailboxes.remove(key);
+        if (mailbox == null) {
+            return false;
+        }
+        mailbox.close();
+        return true;
+    }
+
+    /**
+     * Publishes a message to a subscriber. Depending on the overflow policy of the subscriber,
+     * this method blocks while its mailbox is full.
+     *
+     * @param key     The key of the subscriber.
+     * @param message The message.
+     * @return true if the message was accepted, false if the subscriber is unknown or the message was dropped.
+     */
+    public boolean publish(String key, M message) {
+        Mailbox<M> mailbox = mailboxes.get(key);
+        if (mailbox == null) {
+            return false;
+        }
+
+        Mailbox.Offer offer;
+        try {
+            offer = mailbox.offer(message);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        switch (offer) {
+            case CLOSED:
+                return false;
+            case COALESCED:
+                coalesced.increment();
+                published.increment();
+                return true;
+            case DROPPED:
+                dropped.increment();
+                return false;
+            case EVICTED:
+                dropped.increment();
+                published.increment();
+                return true;
+            default:
+                published.increment();
+                return true;
+        }
+    }
+
+    /**
+     * Publishes the matches of a {@link de.shurablack.jwsa.api.subscription.SubscriptionEngine} to the subscribers
+     * registered under the owners of the subscriptions.
+     *
+     * @param matches The matched entities per subscription.
+     * @param message The function building the message of a subscription and its matched entities.
+     * @param <T>     The type of the matched entities.
+     * @return The amount of accepted messages.
+     */
+    public <T> int publish(Map<Subscription<T>, List<T>> matches, BiFunction<Subscription<T>, List<T>, M> message) {
+        int accepted = 0;
+        for (Map.Entry<Subscription<T>, List<T>> match : matches.entrySet()) {
+            String owner = match.getKey().getOwner();
+            if (mailboxes.containsKey(owner) && publish(owner, message.apply(match.getKey(), match.getValue()))) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Retrieves the amount of registered subscribers.
+     *
+     * @return The subscriber count.
+     */
+    public int size() {
+        return mailboxes.size();
+    }
+
+    /**
+     * Retrieves a snapshot of the delivery metrics.
+     *
+     * @return The current {@link DeliveryMetrics}.
+     */
+    public DeliveryMetrics getMetrics() {
+        long queued = 0;
+        for (Mailbox<M> mailbox : mailboxes.values()) {
+            queued += mailbox.size();
+        }
+        long delivered = 0;
+        long failed = 0;
+        for (Shard<M> shard : shards) {
+            delivered += shard.getDelivered();
+            failed += shard.getFailed();
+        }
+        return new DeliveryMetrics(shards.length, mailboxes.size(), queued, published.sum(), delivered,
+                dropped.sum(), coalesced.sum(), failed);
+    }
+
+    /**
+     * Stops all shards. Pending messages are discarded and blocked publishers are released.
+     */
+    @Override
+    public void close() {
+        for (Mailbox<M> mailbox : mailboxes.values()) {
+            mailbox.close();
+        }
+        mailboxes.clear();
+        for (Shard<M> shard : shards) {
+            shard.stop();
+        }
+    }
+
+    /**
+     * Creates and registers the mailbox of a subscriber.
+     *
+     * @param key         The key of the subscriber.
+     * @param listener    The listener consuming the messages.
+     * @param capacity    The maximum amount of pending messages.
+     * @param policy      The overflow policy.
+     * @param coalesceKey The function extracting the coalescing key, or null.
+     */
+    private void register(String key, Consumer<M> listener, int capacity, OverflowPolicy policy,
+                          Function<M, ?> coalesceKey) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive");
+        }
+        Shard<M> shard = shards[Math.floorMod(key.hashCode(), shards.length)];
+        Mailbox<M> previous = mailboxes.put(key, new Mailbox<>(shard, key, listener, capacity, policy, coalesceKey));
+        if (previous != null) {
+            previous.close();
+        }
+    }
+}
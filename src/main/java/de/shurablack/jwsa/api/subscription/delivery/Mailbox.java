@@ -0,0 +1,208 @@
+package de.shurablack.jwsa.api.subscription.delivery;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The bounded queue of pending messages of a single subscriber. A mailbox is drained by exactly one shard thread
+ * at a time, which keeps the messages of a subscriber in order.
+ *
+ * @param <M> The type of the messages.
+ */
+class Mailbox<M> {
+
+    /** The result of offering a message to a mailbox. */
+    enum Offer {
+        /** The message was queued. */
+        QUEUED,
+        /** The message was queued in place of the oldest pending message. */
+        EVICTED,
+        /** The message was dropped. */
+        DROPPED,
+        /** The message replaced a pending message with the same coalescing key. */
+        COALESCED,
+        /** The mailbox is closed. */
+        CLOSED
+    }
+
+    /** The shard draining this mailbox. */
+    private final Shard<M> shard;
+
+    /** The key of the subscriber. */
+    private final String key;
+
+    /** The listener consuming the messages. */
+    private final Consumer<M> listener;
+
+    /** The maximum amount of pending messages. */
+    private final int capacity;
+
+    /** The overflow policy of this mailbox. */
+    private final OverflowPolicy policy;
+
+    /** The function extracting the coalescing key of a message, only used with {@link OverflowPolicy#COALESCE}. */
+    private final Function<M, ?> coalesceKey;
+
+    /** The pending messages, used unless the mailbox coalesces. */
+    private final Deque<M> queue = new ArrayDeque<>();
+
+    /** The pending messages by coalescing key in arrival order, used if the mailbox coalesces. */
+    private final Map<Object, M> coalescing = new LinkedHashMap<>();
+
+    /** Indicates whether the mailbox is waiting in or being drained by its shard. */
+    private boolean scheduled;
+
+    /** Indicates whether the subscriber has been removed. */
+    private boolean closed;
+
+    /**
+     * Creates a new mailbox.
+     *
+     * @param shard       The shard draining this mailbox.
+     * @param key         The key of the subscriber.
+     * @param listener    The listener consuming the messages.
+     * @param capacity    The maximum amount of pending messages.
+     * @param policy      The overflow policy.
+     * @param coalesceKey The function extracting the coalescing key, or null.
+     */
+    Mailbox(Shard<M> shard, String key, Consumer<M> listener, int capacity, OverflowPolicy policy,
+            Function<M, ?> coalesceKey) {
+        this.shard = shard;
+        this.key = key;
+        this.listener = listener;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.coalesceKey = coalesceKey;
+    }
+
+    /**
+     * Offers a message to this mailbox, applying the overflow policy if it is full.
+     * An idle mailbox is handed to its shard.
+     *
+     * @param message The message.
+     * @return The outcome of the offer.
+     * @throws InterruptedException If the publisher is interrupted while waiting for space.
+     */
+    synchronized Offer offer(M message) throws InterruptedException {
+        if (closed) {
+            return Offer.CLOSED;
+        }
+
+        Offer outcome = Offer.QUEUED;
+        if (policy == OverflowPolicy.COALESCE) {
+            Object coalescing = coalesceKey.apply(message);
+            if (this.coalescing.containsKey(coalescing)) {
+                this.coalescing.put(coalescing, message);
+                return Offer.COALESCED;
+            }
+            if (this.coalescing.size() >= capacity) {
+                Iterator<Object> eldest = this.coalescing.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+                outcome = Offer.EVICTED;
+            }
+            this.coalescing.put(coalescing, message);
+        } else {
+            if (queue.size() >= capacity) {
+                switch (policy) {
+                    case BLOCK:
+                        while (queue.size() >= capacity && !closed) {
+                            wait();
+                        }
+                        if (closed) {
+                            return Offer.CLOSED;
+                        }
+                        break;
+                    case DROP_NEWEST:
+                        return Offer.DROPPED;
+                    default:
+                        queue.pollFirst();
+                        outcome = Offer.EVICTED;
+                        break;
+                }
+            }
+            queue.addLast(message);
+        }
+
+        if (!scheduled) {
+            scheduled = true;
+            shard.schedule(this);
+        }
+        return outcome;
+    }
+
+    /**
+     * Removes the oldest pending message.
+     *
+     * @return The removed message, or null if no message is pending.
+     */
+    synchronized M poll() {
+        M message = null;
+        if (policy == OverflowPolicy.COALESCE) {
+            Iterator<M> iterator = coalescing.values().iterator();
+            if (iterator.hasNext()) {
+                message = iterator.next();
+                iterator.remove();
+            }
+        } else {
+            message = queue.pollFirst();
+        }
+        notifyAll();
+        return message;
+    }
+
+    /**
+     * Completes a drain turn of the shard.
+     *
+     * @return true if messages are pending and the mailbox must be handed to its shard again, false otherwise.
+     */
+    synchronized boolean finishTurn() {
+        if (size() == 0 || closed) {
+            scheduled = false;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Closes this mailbox, discarding pending messages and releasing blocked publishers.
+     */
+    synchronized void close() {
+        closed = true;
+        queue.clear();
+        coalescing.clear();
+        notifyAll();
+    }
+
+    /**
+     * Retrieves the amount of pending messages.
+     *
+     * @return The pending message count.
+     */
+    synchronized int size() {
+        return policy == OverflowPolicy.COALESCE ? coalescing.size() : queue.size();
+    }
+
+    /**
+     * Retrieves the key of the subscriber.
+     *
+     * @return The subscriber key.
+     */
+    String getKey() {
+        return key;
+    }
+
+    /**
+     * Retrieves the listener consuming the messages.
+     *
+     * @return The listener.
+     */
+    Consumer<M> getListener() {
+        return listener;
+    }
+}
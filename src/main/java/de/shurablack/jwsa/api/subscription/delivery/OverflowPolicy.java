@@ -0,0 +1,18 @@
+package de.shurablack.jwsa.api.subscription.delivery;
+
+/**
+ * Defines how the mailbox of a subscriber behaves once it holds as many pending messages as its capacity.
+ */
+public enum OverflowPolicy {
+    /** The publisher waits until the subscriber has consumed a message, propagating backpressure. */
+    BLOCK,
+    /** The oldest pending message is dropped in favor of the new one. */
+    DROP_OLDEST,
+    /** The new message is dropped. */
+    DROP_NEWEST,
+    /**
+     * A pending message with the same coalescing key is replaced by the new one, keeping its position.
+     * If no such message exists and the mailbox is full, the oldest pending message is dropped.
+     */
+    COALESCE
+}
@@ -0,0 +1,126 @@
+package de.shurablack.jwsa.api.subscription.delivery;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A worker thread of a {@link FanOut} draining the mailboxes of its subscribers.
+ * Mailboxes with pending messages wait in a ready queue and are drained in turns limited by a message count and
+ * a time budget, so neither a subscriber with a long backlog nor one with a slow listener can starve the other
+ * subscribers of the shard. A turn ends after the message whose delivery exhausted the budget; a single listener
+ * call is never interrupted.
+ *
+ * @param <M> The type of the messages.
+ */
+class Shard<M> implements Runnable {
+
+    /** The logger of the shards. */
+    private static final Logger LOGGER = LogManager.getLogger(Shard.class);
+
+    /** The maximum amount of messages delivered to a subscriber in a single turn. */
+    static final int BATCH = 32;
+
+    /** The time budget of a single turn in nanoseconds. */
+    static final long TURN_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /** The mailboxes with pending messages. */
+    private final BlockingQueue<Mailbox<M>> ready = new LinkedBlockingQueue<>();
+
+    /** The total amount of messages their listener accepted without an exception. */
+    private final LongAdder delivered = new LongAdder();
+
+    /** The total amount of messages whose listener threw an exception. */
+    private final LongAdder failed = new LongAdder();
+
+    /** The thread of this shard. */
+    private final Thread thread;
+
+    /** Indicates whether the shard is running. */
+    private volatile boolean running = true;
+
+    /**
+     * Creates and starts a new shard.
+     *
+     * @param index The index of the shard, used in the thread name.
+     */
+    Shard(int index) {
+        thread = new Thread(this, "jwsa-delivery-" + index);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Hands a mailbox with pending messages to this shard.
+     *
+     * @param mailbox The mailbox.
+     */
+    void schedule(Mailbox<M> mailbox) {
+        ready.add(mailbox);
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            Mailbox<M> mailbox;
+            try {
+                mailbox = ready.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            long deadline = System.nanoTime() + TURN_NANOS;
+            for (int i = 0; i < BATCH; i++) {
+                M message = mailbox.poll();
+                if (message == null) {
+                    break;
+                }
+                try {
+                    mailbox.getListener().accept(message);
+                    delivered.increment();
+                } catch (Exception e) {
+                    failed.increment();
+                    LOGGER.error("Listener of subscriber {} failed", mailbox.getKey(), e);
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    break;
+                }
+            }
+
+            if (mailbox.finishTurn()) {
+                ready.add(mailbox);
+            }
+        }
+    }
+
+    /**
+     * Stops this shard. Messages pending in its mailboxes are discarded.
+     */
+    void stop() {
+        running = false;
+        thread.interrupt();
+    }
+
+    /**
+     * Retrieves the total amount of messages their listener accepted without an exception.
+     *
+     * @return The delivered message count.
+     */
+    long getDelivered() {
+        return delivered.sum();
+    }
+
+    /**
+     * Retrieves the total amount of messages whose listener threw an exception.
+     *
+     * @return The failed message count.
+     */
+    long getFailed() {
+        return failed.sum();
+    }
+}
@@ -0,0 +1,223 @@
+package de.shurablack.jwsa.api.timer;
+
+import de.shurablack.jwsa.api.stream.Changes;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Emits a {@link TimerEvent} when a worldstate entity activates or expires, based on its
+ * {@code activation} and {@code expiry} fields, without polling.
+ * <p>
+ * Entities are tracked by key. Passing a new state of an entity only reschedules its events if its times changed,
+ * and entities removed from the worldstate are cancelled. An activation in the past is not emitted, as the entity
+ * is already active; an expiry in the past is emitted once, right away. The events are scheduled on a shared
+ * {@link HashedWheelTimer}, so tracking many entities neither creates threads nor issues requests.
+ *
+ * @param <T> The type of the entities.
+ */
+public class EntityTimer<T> {
+
+    /** The timer the events are scheduled at. */
+    private final HashedWheelTimer timer;
+
+    /** The function extracting the key of an entity. */
+    private final Function<T, String> key;
+
+    /** The function extracting the activation of an entity, or null if the entities have none. */
+    private final Function<T, LocalDateTime> activation;
+
+    /** The function extracting the expiry of an entity. */
+    private final Function<T, LocalDateTime> expiry;
+
+    /** The listener receiving the events, called on the timer thread. */
+    private final Consumer<TimerEvent<T>> listener;
+
+    /** The tracked entities by key. */
+    private final Map<String, Tracked> tracked = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new entity timer.
+     *
+     * @param timer      The timer the events are scheduled at.
+     * @param key        The function extracting the key of an entity (e.g., {@code Fissure::getId}).
+     * @param activation The function extracting the activation of an entity, or null if the entities have none.
+     * @param expiry     The function extracting the expiry of an entity.
+     * @param listener   The listener receiving the events, called on the timer thread.
+     */
+    public EntityTimer(HashedWheelTimer timer, Function<T, String> key, Function<T, LocalDateTime> activation,
+                       Function<T, LocalDateTime> expiry, Consumer<TimerEvent<T>> listener) {
+        this.timer = timer;
+        this.key = key;
+        this.activation = activation;
+        this.expiry = expiry;
+        this.listener = listener;
+    }
+
+    /**
+     * Tracks an entity or updates the state of a tracked entity.
+     *
+     * @param entity The entity.
+     */
+    public void track(T entity) {
+        String id = key.apply(entity);
+        LocalDateTime start = activation == null ? null : activation.apply(entity);
+        LocalDateTime end = expiry.apply(entity);
+
+        Tracked current = tracked.get(id);
+        if (current != null && Objects.equals(current.activation, start) && Objects.equals(current.expiry, end)) {
+            current.entity = entity;
+            return;
+        }
+
+        Tracked next = new Tracked(id, entity, start, end);
+        Tracked previous = tracked.put(id, next);
+        if (previous != null) {
+            previous.cancel();
+        }
+        next.schedule();
+    }
+
+    /**
+     * Stops tracking an entity, cancelling its pending events.
+     *
+     * @param key The key of the entity.
+     * @return true if the entity was tracked, false otherwise.
+     */
+    public boolean untrack(String key) {
+        Tracked previous = tracked.remove(key);
+        if (previous == null) {
+            return false;
+        }
+        previous.cancel();
+        return true;
+    }
+
+    /**
+     * Applies the changes of a worldstate section, e.g. as emitted by a
+     * {@link de.shurablack.jwsa.api.stream.WorldstatePublisher}.
+     *
+     * @param changes The changes.
+     */
+    public void update(Changes<T> changes) {
+        for (T entity : changes.getRemoved()) {
+            untrack(key.apply(entity));
+        }
+        changes.getAdded().forEach(this::track);
+        changes.getUpdated().forEach(this::track);
+    }
+
+    /**
+     * Replaces the tracked entities with the given snapshot of a worldstate section.
+     * Entities missing from the snapshot are no longer tracked.
+     *
+     * @param entities The current entities.
+     */
+    public void update(Collection<T> entities) {
+        Set<String> keys = new HashSet<>();
+        for (T entity : entities) {
+            keys.add(key.apply(entity));
+            track(entity);
+        }
+        for (String id : tracked.keySet()) {
+            if (!keys.contains(id)) {
+                untrack(id);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the amount of tracked entities.
+     *
+     * @return The tracked entity count.
+     */
+    public int size() {
+        return tracked.size();
+    }
+
+    /**
+     * An entity tracked together with its scheduled events.
+     */
+    private class Tracked {
+
+        /** The key of the entity. */
+        private final String id;
+
+        /** The activation the events were scheduled for. */
+        private final LocalDateTime activation;
+
+        /** The expiry the events were scheduled for. */
+        private final LocalDateTime expiry;
+
+        /** The latest state of the entity. */
+        private volatile T entity;
+
+        /** The pending activation event, or null. */
+        private Timeout activationTimeout;
+
+        /** The pending expiry event, or null. */
+        private Timeout expiryTimeout;
+
+        /**
+         * Creates a new tracked entity.
+         *
+         * @param id         The key of the entity.
+         * @param entity     The state of the entity.
+         * @param activation The activation of the entity, or null.
+         * @param expiry     The expiry of the entity, or null.
+         */
+        private Tracked(String id, T entity, LocalDateTime activation, LocalDateTime expiry) {
+            this.id = id;
+            this.entity = entity;
+            this.activation = activation;
+            this.expiry = expiry;
+        }
+
+        /**
+         * Schedules the events of the entity.
+         */
+        private synchronized void schedule() {
+            LocalDateTime now = LocalDateTime.now();
+            if (activation != null && activation.isAfter(now)) {
+                activationTimeout = timer.schedule(activation.atZone(ZoneId.systemDefault()).toInstant(),
+                        () -> fire(TimerEvent.Type.ACTIVATION, activation));
+            }
+            if (expiry != null) {
+                expiryTimeout = timer.schedule(expiry.atZone(ZoneId.systemDefault()).toInstant(),
+                        () -> fire(TimerEvent.Type.EXPIRY, expiry));
+            }
+        }
+
+        /**
+         * Cancels the pending events of the entity.
+         */
+        private synchronized void cancel() {
+            if (activationTimeout != null) {
+                activationTimeout.cancel();
+            }
+            if (expiryTimeout != null) {
+                expiryTimeout.cancel();
+            }
+        }
+
+        /**
+         * Emits an event of the entity if it is still tracked with these times.
+         *
+         * @param type The type of the event.
+         * @param time The scheduled time of the event.
+         */
+        private void fire(TimerEvent.Type type, LocalDateTime time) {
+            if (tracked.get(id) == this) {
+                listener.accept(new TimerEvent<>(type, id, entity, time));
+            }
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package de.shurablack.jwsa.api.timer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A timer for a large amount of pending deadlines with a coarse resolution, such as the activation and expiry
+ * of worldstate entities.
+ * <p>
+ * The timer consists of a wheel of buckets, each covering one tick. A timeout is placed in the bucket of its
+ * deadline tick modulo the wheel size, together with the amount of full rotations left. On every tick, the worker
+ * thread walks the current bucket only, executing the due timeouts and counting down the rotations of the others.
+ * Scheduling and cancelling only append to a queue, which the worker drains on its next tick, so both operations
+ * take constant time regardless of the amount of pending timeouts.
+ * <p>
+ * Tasks are executed on the worker thread and should return quickly, e.g. by handing their work to an executor.
+ */
+public class HashedWheelTimer implements AutoCloseable {
+
+    /** Logger instance for logging failed tasks. */
+    private static final Logger LOGGER = LogManager.getLogger(HashedWheelTimer.class);
+
+    /** The duration of a tick in nanoseconds. */
+    private final long tickNanos;
+
+    /** The buckets of the wheel. */
+    private final Bucket[] wheel;
+
+    /** The mask mapping a tick to its bucket. */
+    private final int mask;
+
+    /** The timeouts scheduled since the last tick. */
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+
+    /** The timeouts cancelled since the last tick. */
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+
+    /** The amount of pending timeouts. */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /** The start of the timer as {@link System#nanoTime()}. */
+    private final long startTime;
+
+    /** The worker thread. */
+    private final Thread worker;
+
+    /** The current tick, only accessed by the worker thread. */
+    private long tick;
+
+    /** Indicates whether the timer is running. */
+    private volatile boolean running = true;
+
+    /**
+     * Creates a new timer with a tick of 100 milliseconds and 512 buckets.
+     */
+    public HashedWheelTimer() {
+        this(Duration.ofMillis(100), 512);
+    }
+
+    /**
+     * Creates a new timer.
+     *
+     * @param tick      The duration of a tick, which is the resolution of the timer.
+     * @param wheelSize The amount of buckets, rounded up to the next power of two.
+     */
+    public HashedWheelTimer(Duration tick, int wheelSize) {
+        if (tick.toMillis() < 1) {
+            throw new IllegalArgumentException("The tick must be at least one millisecond");
+        }
+        if (wheelSize < 1 || wheelSize > 1 << 30) {
+            throw new IllegalArgumentException("The wheel size must be between 1 and 2^30");
+        }
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickNanos = tick.toNanos();
+        this.wheel = new Bucket[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::work, "jwsa-timer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Schedules a task after the given delay.
+     *
+     * @param delay The delay, executed on the next tick if not positive.
+     * @param task  The task to execute.
+     * @return The scheduled {@link Timeout}.
+     */
+    public Timeout schedule(Duration delay, Runnable task) {
+        if (!running) {
+            throw new IllegalStateException("The timer is closed");
+        }
+        long nanos;
+        try {
+            nanos = Math.max(0, delay.toNanos());
+        } catch (ArithmeticException e) {
+            nanos = delay.isNegative() ? 0 : Long.MAX_VALUE / 2;
+        }
+        long deadline = System.nanoTime() - startTime + Math.min(nanos, Long.MAX_VALUE / 2);
+
+        Timeout timeout = new Timeout(this, task, deadline);
+        pending.incrementAndGet();
+        scheduled.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Schedules a task at the given point in time.
+     *
+     * @param deadline The time of execution, executed on the next tick if it already passed.
+     * @param task     The task to execute.
+     * @return The scheduled {@link Timeout}.
+     */
+    public Timeout schedule(Instant deadline, Runnable task) {
+        return schedule(Duration.between(Instant.now(), deadline), task);
+    }
+
+    /**
+     * Retrieves the amount of pending timeouts.
+     *
+     * @return The pending timeout count.
+     */
+    public int size() {
+        return pending.get();
+    }
+
+    /**
+     * Stops the timer. Pending timeouts are discarded.
+     */
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    /**
+     * Registers the cancellation of a timeout, removing it from its bucket on the next tick.
+     *
+     * @param timeout The cancelled timeout.
+     */
+    void cancelled(Timeout timeout) {
+        pending.decrementAndGet();
+        cancelled.add(timeout);
+    }
+
+    /**
+     * Runs the worker loop, processing one bucket per tick.
+     */
+    private void work() {
+        while (running) {
+            long deadline = awaitTick();
+            if (deadline < 0) {
+                return;
+            }
+
+            Timeout timeout;
+            while ((timeout = cancelled.poll()) != null) {
+                timeout.unlink();
+            }
+            transfer();
+            wheel[(int) (tick & mask)].expire(deadline);
+            tick++;
+        }
+    }
+
+    /**
+     * Places the scheduled timeouts in their buckets.
+     */
+    private void transfer() {
+        Timeout timeout;
+        while ((timeout = scheduled.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long target = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (target - tick) / wheel.length;
+            wheel[(int) (Math.max(target, tick) & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * Sleeps until the start of the next tick.
+     *
+     * @return The time of the tick in nanoseconds relative to the start of the timer, or -1 if the timer was closed.
+     */
+    private long awaitTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long now = System.nanoTime() - startTime;
+            long sleep = deadline - now;
+            if (sleep <= 0) {
+                return now;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleep);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    /**
+     * A bucket of the wheel, holding its timeouts in a doubly linked list.
+     */
+    class Bucket {
+
+        /** The first timeout of the bucket. */
+        private Timeout head;
+
+        /** The last timeout of the bucket. */
+        private Timeout tail;
+
+        /**
+         * Appends a timeout to this bucket.
+         *
+         * @param timeout The timeout.
+         */
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        /**
+         * Removes a timeout from this bucket.
+         *
+         * @param timeout The timeout.
+         */
+        void remove(Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        /**
+         * Executes all timeouts of this bucket that are due at the given time
+         * and counts down the rotations of the others.
+         *
+         * @param deadline The time of the tick in nanoseconds relative to the start of the timer.
+         */
+        void expire(long deadline) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    if (timeout.expire()) {
+                        pending.decrementAndGet();
+                        try {
+                            timeout.task.run();
+                        } catch (Exception e) {
+                            LOGGER.error("Timer task failed", e);
+                        }
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package de.shurablack.jwsa.api.timer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A task scheduled at a {@link HashedWheelTimer}, which can be cancelled until it expires.
+ */
+public class Timeout {
+
+    /** The state of a pending timeout. */
+    private static final int PENDING = 0;
+
+    /** The state of a cancelled timeout. */
+    private static final int CANCELLED = 1;
+
+    /** The state of an expired timeout. */
+    private static final int EXPIRED = 2;
+
+    /** The timer this timeout was scheduled at. */
+    private final HashedWheelTimer timer;
+
+    /** The task executed on expiry. */
+    final Runnable task;
+
+    /** The deadline in nanoseconds relative to the start of the timer. */
+    final long deadline;
+
+    /** The amount of wheel rotations left until the deadline is reached. */
+    long remainingRounds;
+
+    /** The bucket containing this timeout, or null if it is not placed in the wheel yet. */
+    HashedWheelTimer.Bucket bucket;
+
+    /** The next timeout of the bucket. */
+    Timeout next;
+
+    /** The previous timeout of the bucket. */
+    Timeout prev;
+
+    /** The state of this timeout. */
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+
+    /**
+     * Creates a new timeout.
+     *
+     * @param timer    The timer the timeout is scheduled at.
+     * @param task     The task executed on expiry.
+     * @param deadline The deadline in nanoseconds relative to the start of the timer.
+     */
+    Timeout(HashedWheelTimer timer, Runnable task, long deadline) {
+        this.timer = timer;
+        this.task = task;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Cancels this timeout. The task will not be executed unless it already started.
+     *
+     * @return true if the timeout was cancelled, false if it already expired or was cancelled before.
+     */
+    public boolean cancel() {
+        if (!state.compareAndSet(PENDING, CANCELLED)) {
+            return false;
+        }
+        timer.cancelled(this);
+        return true;
+    }
+
+    /**
+     * Checks whether this timeout was cancelled.
+     *
+     * @return true if the timeout was cancelled, false otherwise.
+     */
+    public boolean isCancelled() {
+        return state.get() == CANCELLED;
+    }
+
+    /**
+     * Checks whether this timeout expired and its task was executed.
+     *
+     * @return true if the timeout expired, false otherwise.
+     */
+    public boolean isExpired() {
+        return state.get() == EXPIRED;
+    }
+
+    /**
+     * Marks this timeout as expired.
+     *
+     * @return true if the task must be executed, false if the timeout was cancelled.
+     */
+    boolean expire() {
+        return state.compareAndSet(PENDING, EXPIRED);
+    }
+
+    /**
+     * Removes this timeout from its bucket.
+     */
+    void unlink() {
+        if (bucket != null) {
+            bucket.remove(this);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package de.shurablack.jwsa.api.timer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents the activation or expiry of a worldstate entity, emitted by an {@link EntityTimer}.
+ *
+ * @param <T> The type of the entity.
+ */
+@AllArgsConstructor
+@Getter
+@ToString
+public class TimerEvent<T> {
+
+    /** The type of the event. */
+    private final Type type;
+
+    /** The key of the entity. */
+    private final String key;
+
+    /** The latest known state of the entity. */
+    private final T entity;
+
+    /** The scheduled time of the event. */
+    private final LocalDateTime time;
+
+    /**
+     * Enum representing the types of timer events.
+     */
+    public enum Type {
+        /** The entity became active. */
+        ACTIVATION,
+        /** The entity expired. */
+        EXPIRY
+    }
+}
@@ -0,0 +1,103 @@
+package de.shurablack.jwsa.api.timer;
+
+import de.shurablack.jwsa.api.entities.worldstate.global.Alert;
+import de.shurablack.jwsa.api.entities.worldstate.global.Event;
+import de.shurablack.jwsa.api.entities.worldstate.global.Fissure;
+import de.shurablack.jwsa.api.entities.worldstate.global.Invasion;
+import de.shurablack.jwsa.api.entities.worldstate.relay.DarvoDeal;
+import de.shurablack.jwsa.api.entities.worldstate.relay.FlashSale;
+import de.shurablack.jwsa.api.entities.worldstate.relay.VoidTrader;
+
+import java.util.function.Consumer;
+
+/**
+ * Provides ready-to-use {@link EntityTimer}s for the worldstate sections with activation or expiry times.
+ */
+public class WorldstateTimers {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private WorldstateTimers() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Creates a timer emitting the activation and expiry of fissures.
+     *
+     * @param timer    The timer the events are scheduled at.
+     * @param listener The listener receiving the events.
+     * @return A new {@link EntityTimer} for fissures.
+     */
+    public static EntityTimer<Fissure> fissures(HashedWheelTimer timer, Consumer<TimerEvent<Fissure>> listener) {
+        return new EntityTimer<>(timer, Fissure::getId, Fissure::getActivation, Fissure::getExpiry, listener);
+    }
+
+    /**
+     * Creates a timer emitting the activation and expiry of alerts.
+     *
+     * @param timer    The timer the events are scheduled at.
+     * @param listener The listener receiving the events.
+     * @return A new {@link EntityTimer} for alerts.
+     */
+    public static EntityTimer<Alert> alerts(HashedWheelTimer timer, Consumer<TimerEvent<Alert>> listener) {
+        return new EntityTimer<>(timer, Alert::getId, Alert::getActivation, Alert::getExpiry, listener);
+    }
+
+    /**
+     * Creates a timer emitting the activation and expiry of invasions.
+     *
+     * @param timer    The timer the events are scheduled at.
+     * @param listener The listener receiving the events.
+     * @return A new {@link EntityTimer} for invasions.
+     */
+    public static EntityTimer<Invasion> invasions(HashedWheelTimer timer, Consumer<TimerEvent<Invasion>> listener) {
+        return new EntityTimer<>(timer, Invasion::getId, Invasion::getActivation, Invasion::getExpiry, listener);
+    }
+
+    /**
+     * Creates a timer emitting the activation and expiry of events.
+     *
+     * @param timer    The timer the events are scheduled at.
+     * @param listener The listener receiving the events.
+     * @return A new {@link EntityTimer} for events.
+     */
+    public static EntityTimer<Event> events(HashedWheelTimer timer, Consumer<TimerEvent<Event>> listener) {
+        return new EntityTimer<>(timer, Event::getId, Event::getActivation, Event::getExpiry, listener);
+    }
+
+    /**
+     * Creates a timer emitting the activation and expiry of flash sales, keyed by their item.
+     *
+     * @param timer    The timer the events are scheduled at.
+     * @param listener The listener receiving the events.
+     * @return A new {@link EntityTimer} for flash sales.
+     */
+    public static EntityTimer<FlashSale> flashSales(HashedWheelTimer timer, Consumer<TimerEvent<FlashSale>> listener) {
+        return new EntityTimer<>(timer, FlashSale::getItem, FlashSale::getActivation, FlashSale::getExpiry, listener);
+    }
+
+    /**
+     * Creates a timer emitting the expiry of Darvo deals. Darvo deals have no activation time.
+     *
+     * @param timer    The timer the events are scheduled at.
+     * @param listener The listener receiving the events.
+     * @return A new {@link EntityTimer} for Darvo deals.
+     */
+    public static EntityTimer<DarvoDeal> darvoDeals(HashedWheelTimer timer, Consumer<TimerEvent<DarvoDeal>> listener) {
+        return new EntityTimer<>(timer, DarvoDeal::getId, null, DarvoDeal::getExpiry, listener);
+    }
+
+    /**
+     * Creates a timer emitting the arrival and departure of the Void Trader.
+     * Pass each new state with {@link EntityTimer#track(Object)}.
+     *
+     * @param timer    The timer the events are scheduled at.
+     * @param listener The listener receiving the events.
+     * @return A new {@link EntityTimer} for the Void Trader.
+     */
+    public static EntityTimer<VoidTrader> voidTrader(HashedWheelTimer timer,
+                                                     Consumer<TimerEvent<VoidTrader>> listener) {
+        return new EntityTimer<>(timer, VoidTrader::getId, VoidTrader::getActivation, VoidTrader::getExpiry, listener);
+    }
+}
@@ -0,0 +1,150 @@
+package de.shurablack.jwsa.api.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Utility class for reducing the memory footprint of deserialized entities.
+ * When enabled, repeated strings (node names, categories, reward names, ...) are deduplicated through a shared pool
+ * and lists are copied into exact-size immutable lists.
+ * Compaction is disabled by default and has no effect on the deserialized values themselves.
+ * Lists passed through {@link #list(List)} or {@link #strings(List)} are immutable in either mode.
+ */
+public class Compaction {
+
+    /** Indicates whether compaction is applied during deserialization. */
+    private static volatile boolean enabled = false;
+
+    /** The maximum amount of distinct strings held by the pool. */
+    private static volatile int maxPoolSize = 100_000;
+
+    /** A thread-safe pool that maps each string to its canonical instance. */
+    private static final Map<String, String> POOL = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private Compaction() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Enables compaction for all following deserializations.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Disables compaction and releases the string pool.
+     */
+    public static void disable() {
+        enabled = false;
+        POOL.clear();
+    }
+
+    /**
+     * Checks whether compaction is currently enabled.
+     *
+     * @return true if compaction is enabled, false otherwise.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets the maximum amount of distinct strings held by the pool.
+     * Once the limit is reached, new strings are returned as they are.
+     *
+     * @param size The maximum pool size.
+     */
+    public static void setMaxPoolSize(int size) {
+        maxPoolSize = size;
+    }
+
+    /**
+     * Retrieves the amount of distinct strings currently held by the pool.
+     *
+     * @return The current pool size.
+     */
+    public static int poolSize() {
+        return POOL.size();
+    }
+
+    /**
+     * Removes all strings from the pool. Already deserialized entities keep their references.
+     */
+    public static void clearPool() {
+        POOL.clear();
+    }
+
+    /**
+     * Returns the canonical instance of the given string if compaction is enabled.
+     *
+     * @param value The string to deduplicate.
+     * @return The pooled instance, or the given string if compaction is disabled, the value is null
+     *         or the pool is full.
+     */
+    public static String string(String value) {
+        if (!enabled || value == null) {
+            return value;
+        }
+
+        String pooled = POOL.get(value);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (POOL.size() >= maxPoolSize) {
+            return value;
+        }
+
+        pooled = POOL.putIfAbsent(value, value);
+        return pooled != null ? pooled : value;
+    }
+
+    /**
+     * Deduplicates every string of the given list and compacts the result.
+     *
+     * @param values The list of strings to deduplicate.
+     * @return An exact-size immutable list with pooled strings,
+     *         or an unmodifiable view of the given list if compaction is disabled.
+     */
+    public static List<String> strings(List<String> values) {
+        if (!enabled || values == null) {
+            return list(values);
+        }
+
+        List<String> pooled = new ArrayList<>(values.size());
+        for (String value : values) {
+            pooled.add(string(value));
+        }
+        return list(pooled);
+    }
+
+    /**
+     * Copies the given list into an exact-size immutable list if compaction is enabled.
+     *
+     * @param values The list to compact.
+     * @param <T>    The type of the list elements.
+     * @return The compacted list, an unmodifiable view of the given list if compaction is disabled,
+     *         or the given list if it is a {@link LazyList}, which is immutable already.
+     */
+    public static <T> List<T> list(List<T> values) {
+        if (values == null || values instanceof LazyList) {
+            return values;
+        }
+        if (!enabled) {
+            return Collections.unmodifiableList(values);
+        }
+        if (values.isEmpty()) {
+            return List.of();
+        }
+        if (values.contains(null)) {
+            return Collections.unmodifiableList(new ArrayList<>(values));
+        }
+        return List.copyOf(values);
+    }
+}
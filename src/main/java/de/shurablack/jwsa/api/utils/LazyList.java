@@ -0,0 +1,143 @@
+package de.shurablack.jwsa.api.utils;
+
+import de.shurablack.jwsa.api.entities.JsonReader;
+import org.json.JSONArray;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable list that keeps the compact UTF-8 encoded JSON array of its elements and only deserializes them
+ * on first access. Holding the raw bytes retains far less heap than a parsed {@link JSONArray} or the
+ * materialized elements. The materialized elements are memoized and the raw bytes are released afterwards.
+ * Materialization is thread-safe and happens at most once.
+ *
+ * @param <T> The type of the list elements.
+ */
+public class LazyList<T> extends AbstractList<T> implements Serializable {
+
+    private static final long serialVersionUID = 3870528185469391017L;
+
+    /** The compact UTF-8 encoded JSON array, released once the elements are materialized. */
+    private transient byte[] raw;
+
+    /** The amount of elements in the raw JSON array. */
+    private final int size;
+
+    /** The function deserializing the raw JSON array, released once the elements are materialized. */
+    private transient Materializer<T> materializer;
+
+    /** The materialized elements, or null if the list was not accessed yet. */
+    private transient volatile List<T> elements;
+
+    /**
+     * Creates a new lazy list for the given UTF-8 encoded JSON array, whose elements are read in a single pass.
+     *
+     * @param raw     The compact UTF-8 encoded JSON array containing the elements.
+     * @param size    The amount of elements in the array.
+     * @param element The function reading each element.
+     */
+    public LazyList(byte[] raw, int size, JsonReader.Element<T> element) {
+        this(bytes -> {
+            try (JsonReader reader = new JsonReader(
+                    new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8))) {
+                return reader.nextList(element);
+            }
+        }, raw, size);
+    }
+
+    /**
+     * Creates a new lazy list.
+     *
+     * @param materializer The function deserializing the array.
+     * @param raw          The compact UTF-8 encoded JSON array containing the elements.
+     * @param size         The amount of elements in the array.
+     */
+    private LazyList(Materializer<T> materializer, byte[] raw, int size) {
+        this.raw = raw;
+        this.size = size;
+        this.materializer = materializer;
+    }
+
+    /**
+     * Checks whether the elements of this list were already deserialized.
+     *
+     * @return true if the list is materialized, false otherwise.
+     */
+    public boolean isMaterialized() {
+        return elements != null;
+    }
+
+    @Override
+    public T get(int index) {
+        return materialize().get(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Deserializes the raw JSON array on first access and returns the memoized elements.
+     *
+     * @return The materialized elements.
+     */
+    private List<T> materialize() {
+        List<T> current = elements;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (elements == null) {
+                List<T> materialized;
+                try {
+                    materialized = materializer.apply(raw);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                elements = Collections.unmodifiableList(materialized);
+                raw = null;
+                materializer = null;
+            }
+            return elements;
+        }
+    }
+
+    /**
+     * Replaces this list with a plain materialized copy during Java serialization.
+     *
+     * @return An {@link ArrayList} containing the materialized elements.
+     * @throws ObjectStreamException Never thrown, required by the serialization contract.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return new ArrayList<>(materialize());
+    }
+
+    /**
+     * Deserializes the raw JSON array of a lazy list.
+     *
+     * @param <T> The type of the list elements.
+     */
+    @FunctionalInterface
+    private interface Materializer<T> {
+
+        /**
+         * Deserializes all elements of the given array.
+         *
+         * @param raw The compact UTF-8 encoded JSON array.
+         * @return The deserialized elements.
+         * @throws IOException If the array cannot be read.
+         */
+        List<T> apply(byte[] raw) throws IOException;
+    }
+}
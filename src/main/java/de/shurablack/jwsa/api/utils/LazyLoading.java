@@ -0,0 +1,107 @@
+package de.shurablack.jwsa.api.utils;
+
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.JsonWriter;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Utility class for controlling the lazy materialization of heavy sub-objects such as patchlogs, components,
+ * attacks and abilities. When enabled, these lists are copied into compact raw JSON while streaming a response
+ * and are only deserialized on first access. Lists of an already parsed {@link JSONObject} are always deserialized
+ * immediately, since re-encoding the parsed tree would cost more than it saves.
+ * Lazy loading is disabled by default.
+ */
+public class LazyLoading {
+
+    /** Indicates whether heavy sub-objects are deserialized lazily. */
+    private static volatile boolean enabled = false;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private LazyLoading() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Enables lazy materialization for all following deserializations.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Disables lazy materialization for all following deserializations.
+     * Already created lazy lists stay lazy.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Checks whether lazy materialization is currently enabled.
+     *
+     * @return true if lazy materialization is enabled, false otherwise.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Creates a list of deserialized elements from the given JSON array.
+     * The elements are deserialized immediately regardless of the lazy materialization mode,
+     * since the array is already parsed.
+     *
+     * @param array        The JSON array containing the elements, may be null.
+     * @param deserializer The function used to deserialize each element.
+     * @param <T>          The type of the list elements.
+     * @return A list of the deserialized elements, or an empty list if the array is null.
+     */
+    public static <T> List<T> list(JSONArray array, Function<JSONObject, T> deserializer) {
+        if (array == null) {
+            return new ArrayList<>();
+        }
+
+        List<T> list = new ArrayList<>(array.length());
+        for (int i = 0; i < array.length(); i++) {
+            list.add(deserializer.apply(array.optJSONObject(i)));
+        }
+        return list;
+    }
+
+    /**
+     * Reads the next value of the reader as a list of elements.
+     * If lazy materialization is enabled, the array is copied into a compact {@link LazyList} without
+     * deserializing its elements, otherwise the elements are read immediately.
+     *
+     * @param reader  The reader positioned at the JSON array containing the elements.
+     * @param element The function reading each element.
+     * @param <T>     The type of the list elements.
+     * @return A list of the read elements, or an empty list if the value is not an array.
+     * @throws IOException If the source cannot be read.
+     */
+    public static <T> List<T> read(JsonReader reader, JsonReader.Element<T> element) throws IOException {
+        if (!enabled || reader.peek() != JsonReader.Token.ARRAY) {
+            return reader.nextList(element);
+        }
+
+        StringBuilder raw = new StringBuilder();
+        JsonWriter writer = new JsonWriter(raw).beginArray();
+        int size = 0;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            reader.copyValue(writer);
+            size++;
+        }
+        reader.endArray();
+        writer.endArray();
+        return new LazyList<>(raw.toString().getBytes(StandardCharsets.UTF_8), size, element);
+    }
+}
@@ -0,0 +1,363 @@
+package de.shurablack.jwsa.api.utils;
+
+import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonWriter;
+import org.json.JSONObject;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes entities and worldstate snapshots as newline-delimited compact JSON (NDJSON), one record per line.
+ * Entities are streamed through {@link IJsonMapping#writeTo(Appendable)} straight to a buffered, optionally
+ * gzip-compressed stream instead of one file per document, so downstream consumers can ingest the output
+ * continuously.
+ * <p>
+ * When writing to a directory, the output is rotated to a new file once the current file reaches a size or age
+ * limit. Files are named {@code <prefix>-<epoch millis>-<sequence>.ndjson} (with {@code .gz} if compressed),
+ * so they sort in the order they were written. Rotation is checked before each record. The size limit applies to
+ * the uncompressed records, so compressed files stay well below it.
+ * <p>
+ * Each record is built in a reusable buffer and only copied to the output once it is complete, so an entity
+ * failing to serialize never leaves a partial line behind.
+ * <p>
+ * All methods are thread-safe; records of concurrent writers never interleave.
+ */
+public class NdjsonExporter implements Closeable, Flushable {
+
+    /** The size of the output buffer in bytes. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** The capacity in chars up to which the record buffer is kept for the next record. */
+    private static final int MAX_RETAINED_RECORD = 1024 * 1024;
+
+    /** The directory of the rotated files, or null if writing to a single stream. */
+    private final Path directory;
+
+    /** The prefix of the rotated files. */
+    private final String prefix;
+
+    /** Whether the output is gzip-compressed. */
+    private final boolean gzip;
+
+    /** The size in bytes after which the file is rotated, or 0 to disable size-based rotation. */
+    private final long maxBytes;
+
+    /** The age after which the file is rotated, or null to disable time-based rotation. */
+    private final Duration maxAge;
+
+    /** The writer of the current output. */
+    private Writer writer;
+
+    /** The counter of the uncompressed bytes of the current output. */
+    private CountingOutputStream counter;
+
+    /** The current file, or null if writing to a single stream. */
+    private Path file;
+
+    /** The time the current output was opened. */
+    private Instant openedAt;
+
+    /** The amount of files created so far. */
+    private int sequence;
+
+    /** The total amount of written records. */
+    private long records;
+
+    /** The buffer the current record is built in. */
+    private StringBuilder record = new StringBuilder();
+
+    /**
+     * Private constructor to create an exporter.
+     *
+     * @param directory The directory of the rotated files, or null.
+     * @param prefix    The prefix of the rotated files.
+     * @param gzip      Whether the output is gzip-compressed.
+     * @param maxBytes  The size limit of a file, or 0.
+     * @param maxAge    The age limit of a file, or null.
+     */
+    private NdjsonExporter(Path directory, String prefix, boolean gzip, long maxBytes, Duration maxAge) {
+        this.directory = directory;
+        this.prefix = prefix;
+        this.gzip = gzip;
+        this.maxBytes = maxBytes;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Opens an exporter writing to a stream without rotation. The stream is closed with the exporter.
+     *
+     * @param out  The stream to write to.
+     * @param gzip Whether the output is gzip-compressed.
+     * @return A new {@link NdjsonExporter}.
+     * @throws IOException If the gzip header cannot be written.
+     */
+    public static NdjsonExporter open(OutputStream out, boolean gzip) throws IOException {
+        NdjsonExporter exporter = new NdjsonExporter(null, null, gzip, 0, null);
+        exporter.openStream(out);
+        return exporter;
+    }
+
+    /**
+     * Opens an exporter writing to a channel without rotation. The channel is closed with the exporter.
+     *
+     * @param channel The channel to write to, e.g. a socket or pipe.
+     * @param gzip    Whether the output is gzip-compressed.
+     * @return A new {@link NdjsonExporter}.
+     * @throws IOException If the gzip header cannot be written.
+     */
+    public static NdjsonExporter open(WritableByteChannel channel, boolean gzip) throws IOException {
+        return open(Channels.newOutputStream(channel), gzip);
+    }
+
+    /**
+     * Opens an exporter writing rotated files to a directory, which is created if necessary.
+     *
+     * @param directory The directory of the files.
+     * @param prefix    The prefix of the file names.
+     * @param gzip      Whether the files are gzip-compressed.
+     * @param maxBytes  The uncompressed size in bytes after which a new file is started,
+     *                  or 0 to disable size-based rotation.
+     * @param maxAge    The age after which a new file is started, or null to disable time-based rotation.
+     * @return A new {@link NdjsonExporter}.
+     * @throws IOException If the directory or the first file cannot be created.
+     */
+    public static NdjsonExporter open(Path directory, String prefix, boolean gzip, long maxBytes, Duration maxAge)
+            throws IOException {
+        Files.createDirectories(directory);
+        NdjsonExporter exporter = new NdjsonExporter(directory, prefix, gzip, maxBytes, maxAge);
+        exporter.rotate();
+        return exporter;
+    }
+
+    /**
+     * Writes an entity as a single record.
+     *
+     * @param entity The entity.
+     * @throws IOException If the record cannot be written.
+     */
+    public synchronized void write(IJsonMapping entity) throws IOException {
+        prepare();
+        entity.writeTo(record);
+        commit();
+    }
+
+    /**
+     * Writes a JSON object as a single record.
+     *
+     * @param object The JSON object.
+     * @throws IOException If the record cannot be written.
+     */
+    public synchronized void write(JSONObject object) throws IOException {
+        prepare();
+        new JsonWriter(record).value((Object) object);
+        commit();
+    }
+
+    /**
+     * Writes each entity of a list as its own record.
+     *
+     * @param entities The entities.
+     * @return The amount of written records.
+     * @throws IOException If a record cannot be written.
+     */
+    public synchronized int writeAll(Collection<? extends IJsonMapping> entities) throws IOException {
+        for (IJsonMapping entity : entities) {
+            write(entity);
+        }
+        return entities.size();
+    }
+
+    /**
+     * Writes a worldstate snapshot as a single record of the form {@code {"timestamp":...,"snapshot":{...}}}.
+     *
+     * @param timestamp The time the snapshot was taken.
+     * @param snapshot  The snapshot.
+     * @throws IOException If the record cannot be written.
+     */
+    public synchronized void writeSnapshot(Instant timestamp, IJsonMapping snapshot) throws IOException {
+        prepare();
+        new JsonWriter(record).beginObject()
+                .field("timestamp", timestamp.toString())
+                .name("snapshot").value(snapshot)
+                .endObject();
+        commit();
+    }
+
+    /**
+     * Writes a snapshot of a list section as a single record of the form
+     * {@code {"timestamp":...,"snapshot":[...]}}.
+     *
+     * @param timestamp The time the snapshot was taken.
+     * @param snapshot  The entities of the section.
+     * @throws IOException If the record cannot be written.
+     */
+    public synchronized void writeSnapshot(Instant timestamp, Collection<? extends IJsonMapping> snapshot)
+            throws IOException {
+        prepare();
+        JsonWriter json = new JsonWriter(record);
+        json.beginObject()
+                .field("timestamp", timestamp.toString())
+                .name("snapshot").beginArray();
+        for (IJsonMapping entity : snapshot) {
+            json.value(entity);
+        }
+        json.endArray().endObject();
+        commit();
+    }
+
+    /**
+     * Flushes the buffered records. Compressed output is flushed up to a complete block,
+     * so a consumer can decompress everything written so far.
+     *
+     * @throws IOException If the records cannot be flushed.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Retrieves the current file.
+     *
+     * @return The path of the current file, or null if writing to a stream.
+     */
+    public synchronized Path getCurrentFile() {
+        return file;
+    }
+
+    /**
+     * Retrieves the total amount of written records.
+     *
+     * @return The record count.
+     */
+    public synchronized long getRecords() {
+        return records;
+    }
+
+    /**
+     * Closes the current output.
+     *
+     * @throws IOException If the output cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    /**
+     * Ensures the output is open, rotates the file if it reached its size or age limit and clears the record buffer.
+     *
+     * @throws IOException If the output is closed or a new file cannot be created.
+     */
+    private void prepare() throws IOException {
+        if (writer == null) {
+            throw new IOException("The exporter is closed");
+        }
+        record.setLength(0);
+        if (directory == null) {
+            return;
+        }
+        if (maxBytes > 0 && counter.count >= maxBytes
+                || maxAge != null && !Instant.now().isBefore(openedAt.plus(maxAge))) {
+            rotate();
+        }
+    }
+
+    /**
+     * Copies the completed record with its line break to the output.
+     * An unusually large buffer is released afterwards instead of being kept for the next record.
+     *
+     * @throws IOException If the record cannot be written.
+     */
+    private void commit() throws IOException {
+        record.append('\n');
+        writer.append(record);
+        records++;
+        if (record.capacity() > MAX_RETAINED_RECORD) {
+            record = new StringBuilder();
+        } else {
+            record.setLength(0);
+        }
+    }
+
+    /**
+     * Closes the current file and starts a new one.
+     *
+     * @throws IOException If the current file cannot be closed or the new file cannot be created.
+     */
+    private void rotate() throws IOException {
+        close();
+        String name = String.format("%s-%d-%04d.ndjson%s", prefix, System.currentTimeMillis(), sequence++,
+                gzip ? ".gz" : "");
+        file = directory.resolve(name);
+        openStream(Files.newOutputStream(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+    }
+
+    /**
+     * Builds the writer chain on top of a stream.
+     *
+     * @param out The underlying stream.
+     * @throws IOException If the gzip header cannot be written.
+     */
+    private void openStream(OutputStream out) throws IOException {
+        OutputStream stream = new BufferedOutputStream(out, BUFFER_SIZE);
+        if (gzip) {
+            stream = new GZIPOutputStream(stream, BUFFER_SIZE, true);
+        }
+        counter = new CountingOutputStream(stream);
+        writer = new OutputStreamWriter(counter, StandardCharsets.UTF_8);
+        openedAt = Instant.now();
+    }
+
+    /**
+     * A stream counting the bytes written to the underlying stream.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        /** The amount of written bytes. */
+        private long count;
+
+        /**
+         * Creates a new counting stream.
+         *
+         * @param out The underlying stream.
+         */
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -3,9 +3,28 @@ package de.shurablack.jwsa.api.utils;
 import de.shurablack.jwsa.api.entities.IJsonMapping;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.json.JSONArray;
 import org.json.JSONObject;
+import org.json.JSONTokener;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Utility class for handling persistence operations such as serialization, deserialization,
@@ -16,6 +35,9 @@ public class Persistence {
     /** Logger instance for logging errors and information related to persistence operations. */
     private static final Logger LOGGER = LogManager.getLogger(Persistence.class);
 
+    /** The file size in bytes from which files are memory-mapped instead of read into the heap. */
+    private static final long MAP_THRESHOLD = 1024 * 1024;
+
     /**
      * Private constructor to prevent instantiation of this utility class.
      */
@@ -67,7 +89,7 @@ public class Persistence {
      * @param filePath The file path where the JSON representation will be saved.
      */
     public static void jsonMapToFile(IJsonMapping object, String filePath) {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath, StandardCharsets.UTF_8))) {
             writer.write(object.serialize().toString(4)); // Pretty print with 4 spaces
         } catch (IOException e) {
             LOGGER.error("Failed to write JSON mapping to file: {}", filePath, e);
@@ -75,22 +97,212 @@ public class Persistence {
     }
 
     /**
-     * Reads a JSON object from a file.
+     * Serializes a given object to a file asynchronously and atomically on the shared {@link PersistenceWriter}.
+     * The object is serialized before this method returns, only the file is written asynchronously.
+     * A queued write to the same file is replaced.
+     *
+     * @param object   The object to serialize. Must implement {@link Serializable}.
+     * @param filePath The file path where the serialized object will be saved.
+     * @return A future completed with the path once the file is written.
+     */
+    public static CompletableFuture<Path> serializeToFileAsync(Serializable object, String filePath) {
+        return SharedWriter.INSTANCE.writeSerialized(object, Paths.get(filePath));
+    }
+
+    /**
+     * Writes the JSON representation of an object to a file asynchronously and atomically on the shared
+     * {@link PersistenceWriter}. The object is serialized before this method returns, only the file is written
+     * asynchronously. A queued write to the same file is replaced.
+     *
+     * @param object   The object to be serialized to JSON. Must implement {@link IJsonMapping}.
+     * @param filePath The file path where the JSON representation will be saved.
+     * @return A future completed with the path once the file is written.
+     */
+    public static CompletableFuture<Path> jsonMapToFileAsync(IJsonMapping object, String filePath) {
+        return SharedWriter.INSTANCE.writeJson(object, Paths.get(filePath));
+    }
+
+    /**
+     * Waits until all asynchronous writes submitted so far are written, e.g. before the application exits
+     * through {@link Runtime#halt(int)}. Pending writes are also drained by a shutdown hook on a regular exit.
+     */
+    public static void flushAsyncWrites() {
+        SharedWriter.INSTANCE.flush();
+    }
+
+    /**
+     * Reads a JSON object from a file, see {@link #readJson(Path)}.
      *
      * @param filePath The file path from which the JSON object will be read.
      * @return A {@link JSONObject} representing the contents of the file, or null if an error occurs.
      */
     public static JSONObject readJsonFromFile(String filePath) {
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            StringBuilder jsonBuilder = new StringBuilder();
-            String line;
-            while ((line = reader.readLine()) != null) {
-                jsonBuilder.append(line);
+        return readJson(Paths.get(filePath));
+    }
+
+    /**
+     * Reads a UTF-8 encoded JSON object from a file. The file is read as bytes, or memory-mapped if it is large,
+     * and parsed directly from the buffer without building an intermediate string.
+     *
+     * @param file The file from which the JSON object will be read.
+     * @return A {@link JSONObject} representing the contents of the file, or null if an error occurs.
+     */
+    public static JSONObject readJson(Path file) {
+        try {
+            return new JSONObject(tokener(file));
+        } catch (Exception e) {
+            LOGGER.error("Failed to read JSON from file: {}", file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Reads a UTF-8 encoded JSON array from a file, like {@link #readJson(Path)}.
+     *
+     * @param file The file from which the JSON array will be read.
+     * @return A {@link JSONArray} representing the contents of the file, or null if an error occurs.
+     */
+    public static JSONArray readJsonArray(Path file) {
+        try {
+            return new JSONArray(tokener(file));
+        } catch (Exception e) {
+            LOGGER.error("Failed to read JSON from file: {}", file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Reads the JSON objects of all matching files in a directory in parallel.
+     *
+     * @param directory The directory to read.
+     * @param glob      The glob pattern of the file names (e.g., {@code "*.json"}).
+     * @return The JSON objects by file, ordered by path. Files that cannot be read are omitted.
+     */
+    public static Map<Path, JSONObject> readJsonDirectory(Path directory, String glob) {
+        return loadDirectory(directory, glob, Function.identity());
+    }
+
+    /**
+     * Reads and deserializes the JSON objects of all matching files in a directory in parallel,
+     * spreading the files across all cores.
+     *
+     * @param directory    The directory to read.
+     * @param glob         The glob pattern of the file names (e.g., {@code "*.json"}).
+     * @param deserializer The deserialization method of the entity (e.g., {@code Weapon::deserialize}).
+     * @param <T>          The type of the entity.
+     * @return The deserialized entities by file, ordered by path. Files that cannot be read are omitted.
+     */
+    public static <T> Map<Path, T> loadDirectory(Path directory, String glob, Function<JSONObject, T> deserializer) {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+            for (Path file : stream) {
+                if (Files.isRegularFile(file)) {
+                    files.add(file);
+                }
             }
-            return new JSONObject(jsonBuilder.toString());
         } catch (IOException e) {
-            LOGGER.error("Failed to read JSON from file: {}", filePath, e);
-            return null;
+            LOGGER.error("Failed to list directory: {}", directory, e);
+            return new TreeMap<>();
+        }
+
+        return files.parallelStream()
+                .map(file -> {
+                    JSONObject json = readJson(file);
+                    if (json == null) {
+                        return null;
+                    }
+                    try {
+                        return new AbstractMap.SimpleEntry<>(file, deserializer.apply(json));
+                    } catch (Exception e) {
+                        LOGGER.error("Failed to deserialize JSON from file: {}", file, e);
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull)
+                .filter(entry -> entry.getValue() != null)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, TreeMap::new));
+    }
+
+    /**
+     * Creates a tokener decoding the given file as UTF-8 while parsing.
+     *
+     * @param file The file to parse.
+     * @return A {@link JSONTokener} over the contents of the file.
+     * @throws IOException If the file cannot be read.
+     */
+    private static JSONTokener tokener(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size >= MAP_THRESHOLD) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // Read until the buffer is full
+                }
+                buffer.flip();
+            }
+        }
+        return new JSONTokener(new InputStreamReader(new ByteBufferInputStream(buffer), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Holds the shared {@link PersistenceWriter}, created on first use.
+     * Its writer thread is a daemon, so a shutdown hook closes it to drain the queued writes before the JVM exits.
+     */
+    private static class SharedWriter {
+
+        /** The shared writer. */
+        private static final PersistenceWriter INSTANCE = create();
+
+        /**
+         * Creates the shared writer and registers the shutdown hook closing it.
+         *
+         * @return The shared writer.
+         */
+        private static PersistenceWriter create() {
+            PersistenceWriter writer = new PersistenceWriter();
+            Runtime.getRuntime().addShutdownHook(new Thread(writer::close, "jwsa-persistence-shutdown"));
+            return writer;
+        }
+    }
+
+    /**
+     * An input stream reading the remaining bytes of a buffer.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        /** The buffer to read from. */
+        private final ByteBuffer buffer;
+
+        /**
+         * Creates a new stream over the given buffer.
+         *
+         * @param buffer The buffer to read from.
+         */
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
         }
     }
-}
\ No newline at end of file
+}
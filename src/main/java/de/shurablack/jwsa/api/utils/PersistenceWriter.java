@@ -0,0 +1,363 @@
+package de.shurablack.jwsa.api.utils;
+
+import de.shurablack.jwsa.api.entities.IJsonMapping;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Serializable;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes files asynchronously and atomically on a dedicated thread, so saving snapshots does not block the caller.
+ * <p>
+ * Writes are queued per path. A write to a path that is still queued replaces the queued content and shares its
+ * future (last write wins), so rapid successive snapshots of the same file cause a single write. Objects are
+ * serialized on the calling thread when the write is submitted, so the caller may keep modifying them afterwards.
+ * Only a custom {@link Content} is produced on the writer thread and must therefore not depend on mutable state.
+ * The queue is bounded; a write to a new path blocks while it is full.
+ * <p>
+ * Each file is written to a temporary file in the same directory, flushed to the storage device and moved over
+ * the target, so readers and crashes never observe a partially written file. The file gets the permissions of the
+ * file it replaces, or the default permissions of newly created files like the synchronous methods of
+ * {@link Persistence}.
+ */
+public class PersistenceWriter implements AutoCloseable {
+
+    /** Logger instance for logging failed writes. */
+    private static final Logger LOGGER = LogManager.getLogger(PersistenceWriter.class);
+
+    /** The default maximum amount of queued paths. */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /** The queued writes by path in submission order. */
+    private final Map<Path, Pending> queue = new LinkedHashMap<>();
+
+    /** The maximum amount of queued paths. */
+    private final int capacity;
+
+    /** The writer thread. */
+    private final Thread worker;
+
+    /** Indicates whether the writer accepts new writes. */
+    private boolean running = true;
+
+    /** The amount of writes taken from the queue that are not completed yet, guarded by the queue. */
+    private int writing;
+
+    /**
+     * Creates a new writer with the default capacity.
+     */
+    public PersistenceWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new writer.
+     *
+     * @param capacity The maximum amount of queued paths.
+     */
+    public PersistenceWriter(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.worker = new Thread(this::work, "jwsa-persistence-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Writes the pretty-printed JSON representation of an object, like
+     * {@link Persistence#jsonMapToFile(IJsonMapping, String)}. The object is serialized before this method returns.
+     *
+     * @param object The object to write.
+     * @param path   The target file.
+     * @return A future completed with the path once the file is written.
+     */
+    public CompletableFuture<Path> writeJson(IJsonMapping object, Path path) {
+        return capture(path, out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            object.serialize().write(writer, 4, 0);
+            writer.flush();
+        });
+    }
+
+    /**
+     * Writes the Java serialization of an object, like {@link Persistence#serializeToFile(Serializable, String)}.
+     * The object is serialized before this method returns.
+     *
+     * @param object The object to write.
+     * @param path   The target file.
+     * @return A future completed with the path once the file is written.
+     */
+    public CompletableFuture<Path> writeSerialized(Serializable object, Path path) {
+        return capture(path, out -> {
+            ObjectOutputStream stream = new ObjectOutputStream(out);
+            stream.writeObject(object);
+            stream.flush();
+        });
+    }
+
+    /**
+     * Writes the given bytes.
+     *
+     * @param data The bytes to write.
+     * @param path The target file.
+     * @return A future completed with the path once the file is written.
+     */
+    public CompletableFuture<Path> write(byte[] data, Path path) {
+        return submit(path, out -> out.write(data));
+    }
+
+    /**
+     * Produces the content on the calling thread and queues the resulting bytes.
+     *
+     * @param path    The target file.
+     * @param content The producer of the file content.
+     * @return A future completed with the path once the file is written, or failed if the content cannot be produced.
+     */
+    private CompletableFuture<Path> capture(Path path, Content content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            content.writeTo(out);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Failed to serialize content of file: {}", path, e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return write(out.toByteArray(), path);
+    }
+
+    /**
+     * Queues a write, replacing the content of a queued write to the same path.
+     * The content is produced on the writer thread, so it must not depend on state the caller keeps modifying.
+     *
+     * @param path    The target file.
+     * @param content The producer of the file content.
+     * @return A future completed with the path once the file is written.
+     */
+    public CompletableFuture<Path> submit(Path path, Content content) {
+        Path target = path.toAbsolutePath().normalize();
+        synchronized (queue) {
+            Pending pending = queue.get(target);
+            if (pending != null) {
+                pending.content = content;
+                return pending.future;
+            }
+
+            boolean interrupted = false;
+            while (running && queue.size() >= capacity) {
+                try {
+                    queue.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (!running) {
+                CompletableFuture<Path> rejected = new CompletableFuture<>();
+                rejected.completeExceptionally(new IllegalStateException("The writer is closed"));
+                return rejected;
+            }
+
+            pending = queue.get(target);
+            if (pending == null) {
+                pending = new Pending(content);
+                queue.put(target, pending);
+                queue.notifyAll();
+            } else {
+                pending.content = content;
+            }
+            return pending.future;
+        }
+    }
+
+    /**
+     * Retrieves the amount of queued paths.
+     *
+     * @return The queued path count.
+     */
+    public int size() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * Waits until all writes queued before this call are completed, without closing the writer.
+     * Returns early if the calling thread is interrupted, keeping its interrupt status.
+     */
+    public void flush() {
+        synchronized (queue) {
+            while ((!queue.isEmpty() || writing > 0) && worker.isAlive()) {
+                try {
+                    queue.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops accepting writes and waits until all queued writes are completed.
+     */
+    @Override
+    public void close() {
+        synchronized (queue) {
+            running = false;
+            queue.notifyAll();
+        }
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs the writer loop, taking all queued writes as one batch.
+     */
+    private void work() {
+        while (true) {
+            List<Map.Entry<Path, Pending>> batch;
+            synchronized (queue) {
+                while (queue.isEmpty() && running) {
+                    try {
+                        queue.wait();
+                    } catch (InterruptedException e) {
+                        // Keep draining until closed
+                    }
+                }
+                if (queue.isEmpty()) {
+                    return;
+                }
+                batch = new ArrayList<>(queue.entrySet());
+                writing = batch.size();
+                queue.clear();
+                queue.notifyAll();
+            }
+
+            for (Map.Entry<Path, Pending> entry : batch) {
+                write(entry.getKey(), entry.getValue());
+            }
+            synchronized (queue) {
+                writing = 0;
+                queue.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Writes a file atomically and completes its future.
+     *
+     * @param target  The target file.
+     * @param pending The queued write.
+     */
+    private static void write(Path target, Pending pending) {
+        Path directory = target.getParent();
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = directory.resolve("." + target.getFileName() + "."
+                    + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.WRITE)) {
+                OutputStream out = Channels.newOutputStream(channel);
+                pending.content.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            copyPermissions(target, temp);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            pending.future.complete(target);
+        } catch (Exception e) {
+            LOGGER.error("Failed to write file: {}", target, e);
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // The temporary file is left behind
+                }
+            }
+            pending.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Applies the POSIX permissions of an existing target to the temporary file replacing it.
+     * New targets keep the default permissions the temporary file was created with.
+     *
+     * @param target The target file.
+     * @param temp   The temporary file.
+     * @throws IOException If the permissions cannot be read or applied.
+     */
+    private static void copyPermissions(Path target, Path temp) throws IOException {
+        if (Files.exists(target) && Files.getFileStore(temp).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(target));
+        }
+    }
+
+    /**
+     * Produces the content of a file.
+     */
+    @FunctionalInterface
+    public interface Content {
+
+        /**
+         * Writes the content to the given stream. The stream must not be closed.
+         *
+         * @param out The stream of the temporary file.
+         * @throws IOException If the content cannot be written.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * A queued write together with its future.
+     */
+    private static class Pending {
+
+        /** The latest content of the file. */
+        private Content content;
+
+        /** The future completed once the file is written. */
+        private final CompletableFuture<Path> future = new CompletableFuture<>();
+
+        /**
+         * Creates a new queued write.
+         *
+         * @param content The content of the file.
+         */
+        private Pending(Content content) {
+            this.content = content;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package de.shurablack.jwsa.api.requests;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Provides the shared executors used for blocking fetches, pollers and batch operations.
+ * This is the Java 21 implementation of the multi-release JAR, which runs every task on its own virtual thread.
+ * Since virtual threads are not bounded, polls of streams share the same executor.
+ */
+public class RequestExecutor {
+
+    /** The shared executor instance. */
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("jwsa-virtual-", 0).factory());
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private RequestExecutor() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Retrieves the shared executor.
+     *
+     * @return The shared {@link ExecutorService}.
+     */
+    public static ExecutorService get() {
+        return EXECUTOR;
+    }
+
+    /**
+     * Retrieves the executor running the polls and terminal signals of streams.
+     * Polls block on their request, which only parks their virtual thread.
+     *
+     * @return The polling {@link ExecutorService}, the shared executor.
+     */
+    public static ExecutorService pollers() {
+        return EXECUTOR;
+    }
+
+    /**
+     * Checks whether the shared executor runs its tasks on virtual threads.
+     *
+     * @return true if virtual threads are used, false if a bounded platform pool is used.
+     */
+    public static boolean isVirtual() {
+        return true;
+    }
+
+    /**
+     * Runs a blocking task on the shared executor.
+     *
+     * @param task The task to run.
+     * @param <T>  The type of the result.
+     * @return A future completing with the result of the task.
+     */
+    public static <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, EXECUTOR);
+    }
+}
@@ -0,0 +1,203 @@
+package de.shurablack.jwsa.api.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.shurablack.jwsa.api.entities.searchable.warframe.Warframe;
+import de.shurablack.jwsa.api.entities.searchable.weapon.Weapon;
+import de.shurablack.jwsa.api.entities.worldstate.global.Alert;
+import de.shurablack.jwsa.api.entities.worldstate.global.Event;
+import de.shurablack.jwsa.api.entities.worldstate.global.Fissure;
+import de.shurablack.jwsa.api.requests.Projection;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+
+class JsonReaderTest {
+
+    private static final JSONObject WEAPON = new JSONObject()
+            .put("name", "Braton \"Prime\"\né ")
+            .put("uniqueName", "/Lotus/Weapons/Tenno/Rifle/BratonPrime")
+            .put("type", "Rifle")
+            .put("tradable", true)
+            .put("vaulted", "true")
+            .put("releaseDate", "2013-03-18")
+            .put("masteryReq", 8)
+            .put("criticalChance", 0.12)
+            .put("fireRate", "9.5")
+            .put("totalDamage", 12345678901L)
+            .put("trigger", JSONObject.NULL)
+            .put("unknown", new JSONObject().put("nested", new JSONArray().put(1).put(new JSONObject())))
+            .put("polarities", new JSONArray().put("madurai").put("naramon"))
+            .put("damage", new JSONObject().put("impact", 1.75).put("slash", 12))
+            .put("damagePerShot", new JSONArray().put(1.75).put(0).put(12.25))
+            .put("attacks", new JSONArray().put(new JSONObject()
+                    .put("name", "Normal Attack")
+                    .put("crit_chance", 12)
+                    .put("falloff", new JSONObject().put("start", 10).put("end", 20).put("reduction", 0.5))
+                    .put("damage", new JSONObject().put("impact", 1.75))))
+            .put("patchlogs", new JSONArray().put(new JSONObject()
+                    .put("name", "Hotfix 1")
+                    .put("date", "2020-01-01T00:00:00Z")
+                    .put("changes", "Fixed stuff")))
+            .put("components", new JSONArray().put(new JSONObject()
+                    .put("name", "Barrel")
+                    .put("ducats", 45)
+                    .put("drops", new JSONArray().put(new JSONObject()
+                            .put("location", "Axi A1 Relic").put("type", "Barrel").put("chance", 0.11)
+                            .put("rarity", "Rare")))))
+            .put("introduced", new JSONObject()
+                    .put("name", "Update 8").put("aliases", new JSONArray().put("U8")).put("date", "2013-03-18"))
+            .put("tags", new JSONArray().put("Prime"));
+
+    @Test
+    void readsWeaponsLikeDeserialize() throws IOException {
+        Weapon expected = Weapon.deserialize(new JSONObject(WEAPON.toString()));
+        Weapon actual = Weapon.read(reader(WEAPON.toString()));
+
+        assertTrue(expected.serialize().similar(actual.serialize()));
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getCriticalChance(), actual.getCriticalChance());
+        assertEquals(expected.getFireRate(), actual.getFireRate());
+        assertEquals(expected.getTotalDamage(), actual.getTotalDamage());
+        assertEquals(expected.getDamage(), actual.getDamage());
+        assertEquals(expected.getDamagePerShot(), actual.getDamagePerShot());
+        assertTrue(actual.isVaulted());
+        assertNull(actual.getTrigger());
+        assertEquals(expected.getEstimatedVaultDate(), actual.getEstimatedVaultDate());
+    }
+
+    @Test
+    void readsWarframesLikeDeserialize() throws IOException {
+        JSONObject json = new JSONObject()
+                .put("name", "Excalibur")
+                .put("isPrime", false)
+                .put("health", 270)
+                .put("releaseDate", "2012-10-25")
+                .put("polarities", new JSONArray().put("madurai"))
+                .put("abilities", new JSONArray().put(new JSONObject().put("name", "Slash Dash")))
+                .put("introduced", JSONObject.NULL);
+
+        Warframe expected = Warframe.deserialize(new JSONObject(json.toString()));
+        Warframe actual = Warframe.read(reader(json.toString()));
+
+        assertTrue(expected.serialize().similar(actual.serialize()));
+        assertEquals(expected.getReleaseDate(), actual.getReleaseDate());
+        assertNull(actual.getVaultDate());
+        assertEquals("Slash Dash", actual.getAbilities().get(0).getName());
+    }
+
+    @Test
+    void readsEventsAndWorldstateSectionsLikeDeserialize() throws IOException {
+        JSONObject reward = new JSONObject()
+                .put("countedItems", new JSONArray().put(new JSONObject().put("type", "Nitain Extract").put("count", 2)))
+                .put("credits", 10000)
+                .put("items", new JSONArray().put("Orokin Catalyst"))
+                .put("asString", "Orokin Catalyst + 10000cr");
+        JSONObject event = new JSONObject()
+                .put("id", "event1")
+                .put("activation", "2024-01-01T00:00:00.000Z")
+                .put("expiry", "2024-01-15T00:00:00.000Z")
+                .put("faction", "Grineer")
+                .put("maximumScore", 100)
+                .put("concurrentNodes", new JSONArray().put("Earth"))
+                .put("rewards", new JSONArray().put(reward))
+                .put("jobs", new JSONArray().put(new JSONObject()
+                        .put("type", "Bounty")
+                        .put("rewardPool", new JSONArray().put("Endo"))
+                        .put("enemyLevels", new JSONArray().put(5).put(15))
+                        .put("standingStages", new JSONArray().put(430))))
+                .put("interimSteps", new JSONObject().put("goal", 50).put("reward", reward)
+                        .put("message", new JSONObject().put("sender", "Lotus").put("attachments", new JSONArray())))
+                .put("progressionSteps", new JSONArray().put(new JSONObject().put("type", "Kills").put("progressAmt", 3)))
+                .put("isCommunity", true)
+                .put("regionDrops", new JSONArray())
+                .put("completionBonuses", new JSONArray().put(1).put(2.5))
+                .put("nextAlt", new JSONObject().put("activation", "2024-02-01T00:00:00.000Z"));
+        JSONObject alert = new JSONObject()
+                .put("id", "alert1")
+                .put("rewardTypes", new JSONArray().put("catalyst"))
+                .put("mission", new JSONObject().put("node", "Mercury").put("type", "Survival")
+                        .put("maxEnemyLevel", 20).put("reward", reward));
+        JSONObject fissure = new JSONObject()
+                .put("id", "fissure1")
+                .put("tier", "Axi")
+                .put("missionType", "Capture")
+                .put("isHard", true);
+
+        Event expectedEvent = Event.deserialize(new JSONObject(event.toString()));
+        Event actualEvent = Event.read(reader(event.toString()));
+        assertTrue(expectedEvent.serialize().similar(actualEvent.serialize()));
+        assertEquals(expectedEvent.getActivation(), actualEvent.getActivation());
+        assertEquals(expectedEvent.getCompletionBonuses(), actualEvent.getCompletionBonuses());
+        assertEquals(2, actualEvent.getRewards().get(0).getCountedItems().get(0).getCount());
+
+        Alert expectedAlert = Alert.deserialize(new JSONObject(alert.toString()));
+        Alert actualAlert = Alert.read(reader(alert.toString()));
+        assertTrue(expectedAlert.serialize().similar(actualAlert.serialize()));
+        assertEquals(expectedAlert.getMission().getType(), actualAlert.getMission().getType());
+
+        assertEquals(Fissure.deserialize(new JSONObject(fissure.toString())), Fissure.read(reader(fissure.toString())));
+    }
+
+    @Test
+    void skipsMembersOutsideOfTheProjection() throws IOException {
+        Projection projection = Projection.only("name", "criticalChance", "attacks");
+        JSONArray weapons = new JSONArray().put(WEAPON).put(new JSONObject(WEAPON.toString()).put("name", "Braton"));
+
+        JsonReader reader = reader(weapons.toString());
+        reader.filterMembers(2, projection::accepts);
+        List<Weapon> actual = reader.nextList(Weapon::read);
+
+        assertEquals(2, actual.size());
+        for (int i = 0; i < actual.size(); i++) {
+            Weapon expected = Weapon.deserialize(projection.filter(new JSONObject(weapons.getJSONObject(i).toString())));
+            assertTrue(expected.serialize().similar(actual.get(i).serialize()));
+            assertEquals(expected.getName(), actual.get(i).getName());
+            assertEquals(1, actual.get(i).getAttacks().size());
+            assertNull(actual.get(i).getUniqueName());
+            assertTrue(actual.get(i).getPolarities().isEmpty());
+        }
+    }
+
+    @Test
+    void readsTokensInASinglePass() throws IOException {
+        JsonReader reader = reader(" {\"a\" : [1, -2.5e3, true, null, 'x'], \"b\": {}}\n[]");
+        reader.beginObject();
+        assertEquals("a", reader.nextName());
+        assertEquals(JsonReader.Token.ARRAY, reader.peek());
+        reader.beginArray();
+        assertEquals(1, reader.nextNumber());
+        assertEquals(JSONObject.stringToValue("-2.5e3"), reader.nextNumber());
+        assertTrue(reader.nextBoolean());
+        assertTrue(reader.skipNull());
+        assertEquals("x", reader.nextString());
+        assertFalse(reader.hasNext());
+        reader.endArray();
+        assertEquals("b", reader.nextName());
+        reader.skipValue();
+        assertFalse(reader.hasNext());
+        reader.endObject();
+        assertTrue(reader.hasNext());
+        reader.beginArray();
+        reader.endArray();
+        assertFalse(reader.hasNext());
+
+        assertThrows(JSONException.class, () -> reader("{\"a\" 1}").nextName());
+        assertThrows(JSONException.class, () -> {
+            JsonReader broken = reader("[1 2]");
+            broken.beginArray();
+            broken.nextNumber();
+            broken.nextNumber();
+        });
+    }
+
+    private static JsonReader reader(String json) {
+        return new JsonReader(new StringReader(json));
+    }
+}
@@ -0,0 +1,125 @@
+package de.shurablack.jwsa.api.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.shurablack.jwsa.api.entities.searchable.warframe.Warframe;
+import de.shurablack.jwsa.api.entities.searchable.weapon.Weapon;
+import de.shurablack.jwsa.api.entities.worldstate.global.Alert;
+import de.shurablack.jwsa.api.entities.worldstate.global.Event;
+import de.shurablack.jwsa.api.entities.worldstate.global.Fissure;
+import de.shurablack.jwsa.api.entities.worldstate.global.Invasion;
+import de.shurablack.jwsa.api.entities.worldstate.relay.DarvoDeal;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+
+class JsonWriterTest {
+
+    private static final JSONObject WEAPON = new JSONObject()
+            .put("name", "Braton Prime")
+            .put("uniqueName", "/Lotus/Weapons/Tenno/Rifle/BratonPrime")
+            .put("description", "A \"prime\" rifle.\nNo </script> here ")
+            .put("type", "Rifle")
+            .put("tradable", true)
+            .put("releaseDate", "2013-03-18")
+            .put("masteryReq", 8)
+            .put("criticalChance", 0.12)
+            .put("fireRate", 9.583333015441895)
+            .put("polarities", new JSONArray().put("madurai"))
+            .put("damage", new JSONObject().put("impact", 1.75).put("slash", 12.25))
+            .put("damagePerShot", new JSONArray().put(1.75).put(0).put(12.25))
+            .put("attacks", new JSONArray().put(new JSONObject()
+                    .put("name", "Normal Attack")
+                    .put("crit_chance", 12)
+                    .put("falloff", new JSONObject().put("start", 10).put("end", 20).put("reduction", 0.5))
+                    .put("damage", new JSONObject().put("impact", 1.75))))
+            .put("patchlogs", new JSONArray().put(new JSONObject()
+                    .put("name", "Hotfix 1")
+                    .put("date", "2020-01-01T00:00:00Z")
+                    .put("changes", "Fixed stuff")))
+            .put("components", new JSONArray().put(new JSONObject()
+                    .put("name", "Barrel")
+                    .put("ducats", 45)
+                    .put("drops", new JSONArray().put(new JSONObject()
+                            .put("location", "Axi A1 Relic").put("type", "Barrel").put("chance", 0.11)
+                            .put("rarity", "Rare")))))
+            .put("introduced", new JSONObject()
+                    .put("name", "Update 8").put("aliases", new JSONArray().put("U8")).put("date", "2013-03-18"))
+            .put("tags", new JSONArray().put("Prime"));
+
+    @Test
+    void streamsTheSameJsonAsSerialize() throws IOException {
+        Weapon weapon = Weapon.deserialize(WEAPON);
+
+        StringBuilder out = new StringBuilder();
+        weapon.writeTo(out);
+        assertTrue(new JSONObject(out.toString()).similar(weapon.serialize()));
+        assertTrue(out.toString().contains("<\\/script>"));
+        assertTrue(out.toString().contains("\\u2028"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        weapon.writeTo(bytes);
+        assertEquals(out.toString(), bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void streamsWarframesAndWorldstateSectionsLikeSerialize() throws IOException {
+        JSONObject reward = new JSONObject().put("countedItems", new JSONArray()
+                .put(new JSONObject().put("type", "Detonite Injector").put("count", 3)))
+                .put("credits", 0).put("items", new JSONArray().put("Orokin Catalyst")).put("asString", "3x Injector");
+        JSONObject mission = new JSONObject().put("reward", reward).put("node", "Hydron (Sedna)")
+                .put("faction", "Grineer").put("type", "Defense").put("levelAuras", new JSONArray());
+
+        List<IJsonMapping> entities = List.of(
+                Warframe.deserialize(new JSONObject().put("name", "Excalibur").put("isPrime", false)
+                        .put("releaseDate", "2012-10-25").put("health", 300).put("sprintSpeed", 1.0)
+                        .put("polarities", new JSONArray().put("madurai"))
+                        .put("abilities", new JSONArray().put(new JSONObject().put("name", "Slash Dash")))
+                        .put("patchlogs", WEAPON.getJSONArray("patchlogs"))
+                        .put("components", WEAPON.getJSONArray("components"))
+                        .put("introduced", WEAPON.getJSONObject("introduced"))),
+                Alert.deserialize(new JSONObject().put("id", "a1").put("activation", "2024-01-01T00:00:00.000Z")
+                        .put("mission", mission).put("rewardTypes", new JSONArray().put("endo"))),
+                Fissure.deserialize(new JSONObject().put("id", "f1").put("node", "Hydron (Sedna)")
+                        .put("missionType", "Defense").put("tier", "Lith").put("enemy", "Grineer").put("isHard", true)),
+                Invasion.deserialize(new JSONObject().put("id", "i1").put("completion", 42.5).put("node", "Kappa (Sedna)")
+                        .put("attacker", new JSONObject().put("reward", reward).put("faction", "Corpus"))
+                        .put("defender", new JSONObject().put("faction", "Grineer"))),
+                Event.deserialize(new JSONObject().put("id", "e1").put("description", "Thermia Fractures")
+                        .put("concurrentNodes", new JSONArray().put("Cambion Drift")).put("regionDrops", new JSONArray())
+                        .put("completionBonuses", new JSONArray().put(5).put(7.5))
+                        .put("rewards", new JSONArray().put(reward))
+                        .put("jobs", new JSONArray().put(new JSONObject().put("type", "Capture")
+                                .put("rewardPool", new JSONArray().put("Endo")).put("enemyLevels", new JSONArray().put(5))
+                                .put("standingStages", new JSONArray().put(500))))
+                        .put("interimSteps", new JSONObject().put("goal", 10).put("reward", reward)
+                                .put("message", new JSONObject().put("sender", "Lotus").put("subject", "Well done")))
+                        .put("progressionSteps", new JSONArray().put(new JSONObject().put("type", "Fractures")
+                                .put("progressAmt", 2)))
+                        .put("nextAlt", new JSONObject().put("activation", "2024-01-02T00:00:00.000Z"))));
+
+        for (IJsonMapping entity : entities) {
+            StringBuilder out = new StringBuilder();
+            entity.writeTo(out);
+            assertTrue(new JSONObject(out.toString()).similar(entity.serialize()), entity.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    void fallsBackToSerializeForOtherEntities() throws IOException {
+        DarvoDeal deal = DarvoDeal.deserialize(new JSONObject().put("id", "d1").put("item", "Forma").put("sold", 3));
+        StringBuilder out = new StringBuilder();
+        new JsonWriter(out).beginArray().value(deal).value(List.of(1.0, 2.5)).nullValue().endArray();
+
+        JSONArray array = new JSONArray(out.toString());
+        assertTrue(array.getJSONObject(0).similar(deal.serialize()));
+        assertEquals("[1,2.5]", array.getJSONArray(1).toString());
+        assertTrue(array.isNull(2));
+    }
+}
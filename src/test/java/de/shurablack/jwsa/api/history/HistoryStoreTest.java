@@ -0,0 +1,80 @@
+package de.shurablack.jwsa.api.history;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.shurablack.jwsa.api.requests.cache.CompressionDictionary;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+
+class HistoryStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private static JSONObject snapshot(int poll) {
+        JSONArray fissures = new JSONArray();
+        for (int i = poll; i < poll + 5; i++) {
+            fissures.put(new JSONObject().put("id", "f" + i).put("node", "Node " + i).put("tierNum", i % 5));
+        }
+        return new JSONObject().put("fissures", fissures).put("progress", poll * 1.5);
+    }
+
+    @Test
+    void reconstructsPointsInTimeAcrossSegmentsAndReopen() throws IOException {
+        List<JSONObject> written = new ArrayList<>();
+        try (HistoryStore store = HistoryStore.open(directory, 4, 512)) {
+            for (int poll = 0; poll < 40; poll++) {
+                written.add(snapshot(poll));
+                assertTrue(store.append(Instant.ofEpochMilli(poll * 1000L), snapshot(poll)));
+            }
+            assertFalse(store.append(Instant.ofEpochMilli(40_000), snapshot(39)));
+        }
+
+        try (HistoryStore store = HistoryStore.open(directory, 4, 512)) {
+            assertEquals(40, store.size());
+            assertTrue(written.get(17).similar(store.at(Instant.ofEpochMilli(17_500)).getSnapshot()));
+            assertNull(store.at(Instant.ofEpochMilli(-1)));
+
+            List<HistoryRecord> range = store.range(Instant.ofEpochMilli(10_000), Instant.ofEpochMilli(30_000));
+            assertEquals(21, range.size());
+            for (HistoryRecord record : range) {
+                int poll = (int) (record.getTimestamp().toEpochMilli() / 1000);
+                assertTrue(written.get(poll).similar(record.getSnapshot()));
+            }
+
+            store.append(Instant.ofEpochMilli(41_000), snapshot(41));
+            assertTrue(snapshot(41).similar(store.at(Instant.ofEpochMilli(41_000)).getSnapshot()));
+            assertTrue(store.deleteBefore(Instant.ofEpochMilli(20_000)) > 0);
+            assertTrue(written.get(25).similar(store.at(Instant.ofEpochMilli(25_000)).getSnapshot()));
+        }
+    }
+
+    @Test
+    void decodesWithThePinnedDictionary() throws IOException {
+        try (HistoryStore store = HistoryStore.open(directory)) {
+            store.append(Instant.ofEpochMilli(0), snapshot(0));
+        }
+        assertArrayEquals(CompressionDictionary.DEFAULT.toByteArray(), Files.readAllBytes(directory.resolve("dictionary.bin")));
+
+        Path other = directory.resolve("other");
+        Files.createDirectories(other);
+        Files.write(other.resolve("dictionary.bin"), "\"fissures\":[{\"node\":\"Node ".getBytes(StandardCharsets.UTF_8));
+        try (HistoryStore store = HistoryStore.open(other)) {
+            store.append(Instant.ofEpochMilli(0), snapshot(0));
+        }
+        try (HistoryStore store = HistoryStore.open(other)) {
+            assertTrue(snapshot(0).similar(store.at(Instant.ofEpochMilli(0)).getSnapshot()));
+        }
+    }
+}
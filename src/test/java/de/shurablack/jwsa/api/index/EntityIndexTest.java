@@ -0,0 +1,59 @@
+package de.shurablack.jwsa.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.shurablack.jwsa.api.entities.worldstate.global.Fissure;
+import de.shurablack.jwsa.api.entities.worldstate.others.types.Era;
+import de.shurablack.jwsa.api.entities.worldstate.others.types.MissionType;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+
+class EntityIndexTest {
+
+    private static final Dimension<Fissure, Era> ERA = WorldstateIndex.Fissures.ERA;
+    private static final Dimension<Fissure, MissionType> TYPE = WorldstateIndex.Fissures.MISSION_TYPE;
+    private static final Flag<Fissure> HARD = WorldstateIndex.Fissures.HARD;
+
+    @Test
+    void answersConjunctiveQueriesAfterIncrementalUpdates() {
+        EntityIndex<Fissure> index = new EntityIndex<>(Fissure::getId, List.of(ERA, TYPE), List.of(HARD));
+        Fissure axiSurvivalHard = fissure("a", "Axi", "Survival", true);
+        Fissure axiSurvival = fissure("b", "Axi", "Survival", false);
+        Fissure lithCapture = fissure("c", "Lith", "Capture", true);
+        assertEquals(3, index.update(List.of(axiSurvivalHard, axiSurvival, lithCapture)));
+
+        Query<Fissure> query = index.query().where(ERA, Era.AXI).where(TYPE, MissionType.SURVIVAL).is(HARD);
+        assertEquals(List.of(axiSurvivalHard), query.list());
+        assertEquals(2, index.query().where(ERA, Era.AXI, Era.LITH).is(HARD).count());
+        assertEquals(List.of(axiSurvival), index.query().where(ERA, Era.AXI).isNot(HARD).list());
+
+        Fissure replacement = fissure("d", "Axi", "Survival", true);
+        assertEquals(2, index.update(List.of(axiSurvival, lithCapture, replacement)));
+        assertEquals(List.of(replacement), query.list());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void onlyReindexesChangedAttributes() {
+        EntityIndex<Fissure> index = new EntityIndex<>(Fissure::getId, List.of(ERA, TYPE), List.of(HARD));
+        index.update(List.of(fissure("a", "Axi", "Survival", false)));
+
+        Fissure sameAttributes = fissure("a", "Axi", "Survival", false);
+        assertEquals(0, index.update(List.of(sameAttributes)));
+        assertSame(sameAttributes, index.query().where(ERA, Era.AXI).list().get(0));
+
+        Fissure hard = fissure("a", "Axi", "Survival", true);
+        assertEquals(1, index.update(List.of(hard)));
+        assertEquals(List.of(hard), index.query().is(HARD).list());
+        assertEquals(1, index.update(List.of()));
+        assertEquals(0, index.size());
+    }
+
+    private static Fissure fissure(String id, String tier, String missionType, boolean hard) {
+        return Fissure.deserialize(new JSONObject().put("id", id).put("tier", tier).put("missionType", missionType)
+                .put("node", "Hydron (Sedna)").put("isHard", hard));
+    }
+}
@@ -0,0 +1,53 @@
+package de.shurablack.jwsa.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.shurablack.jwsa.api.entities.searchable.item.ItemDrop;
+import de.shurablack.jwsa.api.entities.searchable.others.types.Rarity;
+import de.shurablack.jwsa.api.entities.worldstate.global.Fissure;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+class RelicFissureJoinTest {
+
+    private static Fissure fissure(String id, String tier, boolean hard, LocalDateTime expiry) {
+        return Fissure.deserialize(new JSONObject()
+                .put("id", id).put("tier", tier).put("isHard", hard).put("expiry", expiry.toString()));
+    }
+
+    @Test
+    void ranksOpenFissuresByRelicChance() {
+        RelicFissureJoin join = RelicFissureJoin.of(List.of(
+                new ItemDrop("Ash Prime Systems Blueprint", 2.0, "Axi A1 Relic (Intact)", Rarity.RARE),
+                new ItemDrop("Ash Prime Systems Blueprint", 10.0, "Axi A1 Relic (Radiant)", Rarity.RARE),
+                new ItemDrop("Ash Prime Systems Blueprint", 25.33, "Lith B2 Relic (Intact)", Rarity.COMMON),
+                new ItemDrop("Ash Prime Systems Blueprint", 5.0, "Void/Mot (Rotation C)", Rarity.RARE),
+                new ItemDrop("Forma Blueprint", 25.33, "Meso F1 Relic (Intact)", Rarity.COMMON)));
+
+        LocalDateTime now = LocalDateTime.now();
+        assertEquals(3, join.updateFissures(List.of(
+                fissure("1", "Axi", false, now.plusMinutes(30)),
+                fissure("2", "Lith", true, now.plusMinutes(10)),
+                fissure("3", "Lith", false, now.plusMinutes(50)),
+                fissure("4", "Neo", false, now.minusMinutes(1)))));
+
+        List<FissureMatch> matches = join.find("ash prime systems blueprint");
+        assertEquals(3, matches.size());
+        assertEquals("3", matches.get(0).getFissure().getId());
+        assertEquals("2", matches.get(1).getFissure().getId());
+        assertEquals("Axi A1", matches.get(2).getRelics().get(0).getRelic());
+        assertEquals("Radiant", matches.get(2).getRelics().get(0).getRefinement());
+
+        assertEquals(2, join.find("Ash Prime Systems Blueprint", false, true).size());
+        assertTrue(join.find("Forma Blueprint").isEmpty());
+        assertEquals(3, join.relics("Ash Prime Systems Blueprint").size());
+
+        assertEquals(3, join.updateFissures(null));
+        assertEquals(0, join.updateFissures(List.of()));
+        assertTrue(join.find("ash prime systems blueprint").isEmpty());
+    }
+}
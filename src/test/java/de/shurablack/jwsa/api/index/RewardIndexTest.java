@@ -0,0 +1,58 @@
+package de.shurablack.jwsa.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.shurablack.jwsa.api.entities.worldstate.global.Alert;
+import de.shurablack.jwsa.api.entities.worldstate.relay.DarvoDeal;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+class RewardIndexTest {
+
+    private static Alert alert(String id, String node, LocalDateTime expiry, String... items) {
+        return Alert.deserialize(new JSONObject()
+                .put("id", id)
+                .put("expiry", expiry.toString())
+                .put("mission", new JSONObject()
+                        .put("node", node)
+                        .put("reward", new JSONObject().put("items", List.of(items)).put("countedItems", List.of()))));
+    }
+
+    @Test
+    void findsLiveSourcesAndUpdatesIncrementally() {
+        LocalDateTime later = LocalDateTime.now().plusHours(1);
+        RewardIndex index = new RewardIndex();
+
+        assertEquals(2, index.updateAlerts(List.of(
+                alert("a1", "Hydron (Sedna)", later, "Nitain Extract", "Orokin Catalyst"),
+                alert("a2", "Apollo (Lua)", later, "3x Nitain Extract"))));
+        index.updateDarvoDeals(List.of(DarvoDeal.deserialize(new JSONObject()
+                .put("id", "d1").put("item", "Nitain Extract").put("expiry", later.toString()))));
+
+        List<RewardSource> sources = index.find("  nitain extract ");
+        assertEquals(3, sources.size());
+        assertEquals("Hydron (Sedna)", sources.get(0).getLocation());
+        assertTrue(index.isAvailable("Orokin Catalyst"));
+
+        assertEquals(0, index.updateAlerts(List.of(
+                alert("a1", "Hydron (Sedna)", later, "Nitain Extract", "Orokin Catalyst"),
+                alert("a2", "Apollo (Lua)", later, "3x Nitain Extract"))));
+        assertEquals(3, index.updateAlerts(List.of(
+                alert("a1", "Hydron (Sedna)", later, "Nitain Extract"),
+                alert("a3", "Lares (Mercury)", LocalDateTime.now().minusMinutes(1), "Orokin Reactor"))));
+
+        assertFalse(index.isAvailable("Orokin Catalyst"));
+        assertFalse(index.isAvailable("Orokin Reactor"));
+        assertEquals(2, index.find("Nitain Extract").size());
+        assertEquals(1, index.purgeExpired());
+        assertFalse(index.items().contains("orokin reactor"));
+
+        assertEquals(0, index.updateAlerts(null));
+        assertEquals(1, index.updateAlerts(List.of()));
+        assertEquals(1, index.find("Nitain Extract").size());
+    }
+}
@@ -0,0 +1,72 @@
+package de.shurablack.jwsa.api.requests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sun.net.httpserver.HttpServer;
+import de.shurablack.jwsa.api.requests.scheduler.RequestScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+
+class HTTPRequesterTest {
+
+    private HttpServer server;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = ("{\"path\":\"" + exchange.getRequestURI().getQuery() + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void stop() {
+        RequestScheduler.disable();
+        server.stop(0);
+    }
+
+    @Test
+    void blockingRequestsCompleteWhenTheExecutorIsSaturated() throws Exception {
+        saturate("plain");
+    }
+
+    @Test
+    void scheduledRequestsCompleteWhenTheExecutorIsSaturated() throws Exception {
+        RequestScheduler.enable(10_000, 10);
+        saturate("scheduled");
+    }
+
+    private void saturate(String prefix) throws Exception {
+        String base = "http://127.0.0.1:" + server.getAddress().getPort() + "/?" + prefix + "=";
+        int requests = Runtime.getRuntime().availableProcessors() * 8 + 16;
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            String url = base + i;
+            futures.add(RequestExecutor.submit(() -> HTTPRequester.get().request(url)));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+        for (int i = 0; i < requests; i++) {
+            assertEquals("{\"path\":\"" + prefix + "=" + i + "\"}", futures.get(i).join());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package de.shurablack.jwsa.api.requests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+class RequestsTest {
+
+    @AfterEach
+    void reset() {
+        Requests.setBatchParallelism(8);
+    }
+
+    @Test
+    void batchBoundsConcurrencyAndIsolatesFailures() {
+        Requests.setBatchParallelism(2);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        ScheduledExecutorService executor = Executors.newScheduledThreadPool(4);
+        try {
+            Map<String, String> results = Requests.batch(List.of(" Braton", "braton", "Soma", "broken", "Lato", "Boltor"),
+                    query -> {
+                        peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                        CompletableFuture<String> future = new CompletableFuture<>();
+                        executor.schedule(() -> {
+                            inFlight.decrementAndGet();
+                            if (query.equals("broken")) {
+                                future.completeExceptionally(new JSONException("Malformed body"));
+                            } else {
+                                future.complete(query.toUpperCase());
+                            }
+                        }, 20, TimeUnit.MILLISECONDS);
+                        return future;
+                    }, null);
+
+            assertEquals(List.of("braton", "soma", "broken", "lato", "boltor"), List.copyOf(results.keySet()));
+            assertEquals("SOMA", results.get("soma"));
+            assertNull(results.get("broken"));
+            assertEquals("BOLTOR", results.get("boltor"));
+            assertTrue(peak.get() <= 2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void batchMapsSynchronousFailuresToTheFallback() {
+        Map<String, List<String>> results = Requests.batch(List.of("a", "b"), query -> {
+            if (query.equals("a")) {
+                throw new IllegalStateException("Rejected");
+            }
+            return CompletableFuture.completedFuture(List.of(query));
+        }, List.of());
+
+        assertEquals(List.of(), results.get("a"));
+        assertEquals(List.of("b"), results.get("b"));
+    }
+}
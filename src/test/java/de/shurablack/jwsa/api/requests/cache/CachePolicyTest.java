@@ -0,0 +1,60 @@
+package de.shurablack.jwsa.api.requests.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpHeaders;
+import java.util.List;
+import java.util.Map;
+
+
+class CachePolicyTest {
+
+    private static HttpHeaders headers(Map<String, List<String>> values) {
+        return HttpHeaders.of(values, (name, value) -> true);
+    }
+
+    @Test
+    void usesMaxAgeReducedByAge() {
+        CachePolicy policy = CachePolicy.of(headers(Map.of(
+                "Cache-Control", List.of("public, max-age=60"),
+                "Age", List.of("20"))));
+        assertTrue(policy.isStorable());
+        assertEquals(40_000, policy.getFreshMillis());
+    }
+
+    @Test
+    void prefersSharedMaxAge() {
+        CachePolicy policy = CachePolicy.of(headers(Map.of("Cache-Control", List.of("max-age=60, s-maxage=10"))));
+        assertEquals(10_000, policy.getFreshMillis());
+    }
+
+    @Test
+    void revalidatesWithoutCachingHeaders() {
+        CachePolicy policy = CachePolicy.of(headers(Map.of()));
+        assertTrue(policy.isStorable());
+        assertEquals(0, policy.getFreshMillis());
+    }
+
+    @Test
+    void revalidatesOnNoCacheAndVaryWildcard() {
+        assertEquals(0, CachePolicy.of(headers(Map.of("Cache-Control", List.of("no-cache, max-age=60")))).getFreshMillis());
+        assertEquals(0, CachePolicy.of(headers(Map.of(
+                "Cache-Control", List.of("max-age=60"),
+                "Vary", List.of("*")))).getFreshMillis());
+    }
+
+    @Test
+    void doesNotStoreOnNoStore() {
+        assertFalse(CachePolicy.of(headers(Map.of("Cache-Control", List.of("no-store")))).isStorable());
+    }
+
+    @Test
+    void fallsBackToExpiresRelativeToDate() {
+        CachePolicy policy = CachePolicy.of(headers(Map.of(
+                "Date", List.of("Mon, 19 Oct 2026 08:00:00 GMT"),
+                "Expires", List.of("Mon, 19 Oct 2026 08:00:30 GMT"))));
+        assertEquals(30_000, policy.getFreshMillis());
+    }
+}
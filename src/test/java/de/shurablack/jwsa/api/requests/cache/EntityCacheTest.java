@@ -0,0 +1,81 @@
+package de.shurablack.jwsa.api.requests.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.shurablack.jwsa.api.entities.worldstate.global.Alert;
+import de.shurablack.jwsa.api.utils.Compaction;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+class EntityCacheTest {
+
+    @AfterEach
+    void tearDown() {
+        EntityCache.disable();
+    }
+
+    @Test
+    void reusesResultWhileDataIsUnchanged() {
+        EntityCache.enable();
+        AtomicInteger parses = new AtomicInteger();
+        ResponseCache.CacheEntry entry = new ResponseCache.CacheEntry("\"a\"", "[1]", null, 0);
+        EntityCache.Key<List<Integer>> key = EntityCache.listKey("url", Integer.class);
+
+        List<Integer> first = EntityCache.getList(key, entry, () -> parse(parses));
+        List<Integer> second = EntityCache.getList(key, entry, () -> parse(parses));
+        assertSame(first, second);
+        assertEquals(1, parses.get());
+        assertThrows(UnsupportedOperationException.class, () -> first.add(2));
+
+        entry.update("[1, 2]", "\"b\"");
+        assertNotSame(first, EntityCache.getList(key, entry, () -> parse(parses)));
+        assertEquals(2, parses.get());
+    }
+
+    @Test
+    void parsesEveryTimeWhenDisabled() {
+        AtomicInteger parses = new AtomicInteger();
+        ResponseCache.CacheEntry entry = new ResponseCache.CacheEntry(null, "[1]", null, 0);
+        EntityCache.Key<List<Integer>> key = EntityCache.listKey("url", Integer.class);
+
+        EntityCache.getList(key, entry, () -> parse(parses));
+        EntityCache.getList(key, entry, () -> parse(parses));
+        assertEquals(2, parses.get());
+    }
+
+    @Test
+    void sharesDeeplyImmutableResultsTiedToTheResponse() {
+        EntityCache.enable();
+        ResponseCache cache = new ResponseCache();
+        cache.put("url", "[]", null);
+        ResponseCache.CacheEntry entry = cache.get("url");
+        EntityCache.Key<Alert> key = EntityCache.key("url", Alert.class);
+
+        Alert alert = EntityCache.get(key, entry,
+                () -> Alert.deserialize(new JSONObject().put("id", "a").put("mission", new JSONObject())
+                        .put("rewardTypes", List.of("endo"))));
+        assertThrows(UnsupportedOperationException.class, () -> alert.getAlertRewardTypes().clear());
+        assertEquals(1, EntityCache.size());
+
+        Compaction.enable();
+        try {
+            assertNotEquals(key, EntityCache.key("url", Alert.class));
+        } finally {
+            Compaction.disable();
+        }
+
+        cache.remove("url");
+        assertEquals(0, EntityCache.size());
+    }
+
+    private static List<Integer> parse(AtomicInteger parses) {
+        parses.incrementAndGet();
+        return new ArrayList<>(List.of(1));
+    }
+}
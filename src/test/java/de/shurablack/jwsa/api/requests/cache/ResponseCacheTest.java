@@ -0,0 +1,109 @@
+package de.shurablack.jwsa.api.requests.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpHeaders;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+
+class ResponseCacheTest {
+
+    private static final String BODY = "[{\"id\":\"1\",\"activation\":\"2025-01-01T00:00:00.000Z\","
+            + "\"expiry\":\"2025-01-01T01:00:00.000Z\",\"node\":\"Hydron (Sedna)\",\"missionType\":\"Defense\"}]";
+
+    @Test
+    void compressesLeastRecentlyUsedBodies() {
+        ResponseCache cache = new ResponseCache();
+        cache.enableCompression(1, 1024 * 1024);
+        cache.put("a", BODY, null);
+        long revision = cache.get("a").getRevision();
+        cache.put("b", BODY, null);
+
+        CompressedTier tier = cache.getCompressedTier("a");
+        assertEquals(1, tier.size());
+        assertEquals(BODY.length(), tier.getUncompressedBytes());
+        assertTrue(tier.getCompressedBytes() < BODY.length());
+
+        ResponseCache.CacheEntry promoted = cache.get("a");
+        assertEquals(BODY, promoted.getData());
+        assertFalse(promoted.isCompressed());
+        assertEquals(revision, promoted.getRevision());
+        assertTrue(cache.get("b").isCompressed());
+    }
+
+    @Test
+    void evictsBeyondCapacity() {
+        ResponseCache cache = new ResponseCache();
+        cache.enableCompression(1, 1);
+        cache.put("a", BODY, null);
+        cache.put("b", BODY, null);
+
+        assertNull(cache.get("a"));
+        assertEquals(BODY, cache.get("b").getData());
+    }
+
+    @Test
+    void accountsEntriesInflatedWhileCompressed() {
+        ResponseCache cache = new ResponseCache();
+        cache.enableCompression(1, 1024 * 1024);
+        cache.put("a", BODY, null);
+        ResponseCache.CacheEntry entry = cache.get("a");
+        cache.put("b", BODY, null);
+
+        CompressedTier tier = cache.getCompressedTier("a");
+        long compressed = tier.getCompressedBytes();
+        assertEquals(BODY, entry.getData());
+        assertFalse(entry.isCompressed());
+
+        cache.get("a");
+        assertEquals(1, tier.size());
+        assertEquals(compressed, tier.getCompressedBytes());
+        assertEquals(BODY.length(), tier.getUncompressedBytes());
+    }
+
+    @Test
+    void partitionsTiersByVariant() {
+        ResponseCache cache = new ResponseCache();
+        cache.enableCompression(1, 1);
+        cache.put("https://api.warframestat.us/ps4/alerts/?language=en", BODY, null);
+        cache.put("https://api.warframestat.us/pc/alerts/?language=en", BODY, null);
+        cache.put("https://api.warframestat.us/pc/alerts/?language=de", BODY, null);
+
+        assertFalse(cache.get("https://api.warframestat.us/ps4/alerts/?language=en").isCompressed());
+        assertFalse(cache.get("https://api.warframestat.us/pc/alerts/?language=en").isCompressed());
+        assertEquals("pc/en", ResponseCache.partitionOf("https://api.warframestat.us/pc/fissures/?language=en"));
+        assertEquals("/de", ResponseCache.partitionOf("https://api.warframestat.us/items/search/x?language=de"));
+    }
+
+    @Test
+    void trainedDictionaryRoundTrips() {
+        byte[] sample = BODY.getBytes(StandardCharsets.UTF_8);
+        CompressionDictionary dictionary = CompressionDictionary.train(List.of(sample, sample), 1024);
+        byte[] deflated = dictionary.deflate(sample);
+        assertArrayEquals(sample, dictionary.inflate(ByteBuffer.wrap(deflated), sample.length));
+    }
+
+    @Test
+    void keepsRevisionForIdenticalBody() {
+        ResponseCache cache = new ResponseCache();
+        HttpHeaders headers = HttpHeaders.of(Map.of(), (name, value) -> true);
+
+        ResponseCache.CacheEntry first = cache.update("a", BODY.getBytes(StandardCharsets.UTF_8), headers);
+        ResponseCache.CacheEntry second = cache.update("a", BODY.getBytes(StandardCharsets.UTF_8), headers);
+        assertSame(first, second);
+
+        ResponseCache.CacheEntry changed = cache.update("a", "[]".getBytes(StandardCharsets.UTF_8), headers);
+        assertNotEquals(first.getRevision(), changed.getRevision());
+    }
+
+    @Test
+    void hashesWithXxHash64() {
+        assertEquals(0xEF46DB3751D8E999L, ContentHash.xxHash64(new byte[0]));
+        assertEquals(0x44BC2CF5AD770999L, ContentHash.xxHash64("abc".getBytes(StandardCharsets.UTF_8)));
+    }
+}
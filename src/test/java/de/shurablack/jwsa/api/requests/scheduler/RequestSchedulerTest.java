@@ -0,0 +1,52 @@
+package de.shurablack.jwsa.api.requests.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+
+class RequestSchedulerTest {
+
+    @AfterEach
+    void disable() {
+        RequestScheduler.disable();
+    }
+
+    @Test
+    void dispatchesTheHighestPriorityOnceATokenIsAvailable() throws Exception {
+        RequestScheduler.enable(4, 1);
+        RequestScheduler.admit(Priority.BACKGROUND).get(1, TimeUnit.SECONDS);
+
+        List<Priority> order = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> background = RequestScheduler.admit(Priority.BACKGROUND)
+                .thenRun(() -> order.add(Priority.BACKGROUND));
+        CompletableFuture<Void> interactive = RequestScheduler.admit(Priority.INTERACTIVE)
+                .thenRun(() -> order.add(Priority.INTERACTIVE));
+
+        CompletableFuture.allOf(background, interactive).get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(Priority.INTERACTIVE, Priority.BACKGROUND), order);
+
+        SchedulerMetrics metrics = RequestScheduler.get().getMetrics();
+        assertEquals(1, metrics.getDispatchedInteractive());
+        assertEquals(2, metrics.getDispatchedBackground());
+    }
+
+    @Test
+    void releasesWaitingTicketsOnDisable() throws Exception {
+        RequestScheduler.enable(0.01, 1);
+        RequestScheduler.admit(Priority.INTERACTIVE).get(1, TimeUnit.SECONDS);
+        CompletableFuture<Void> first = RequestScheduler.admit(Priority.INTERACTIVE);
+        CompletableFuture<Void> second = RequestScheduler.admit(Priority.BACKGROUND);
+        Thread.sleep(50);
+        assertFalse(first.isDone());
+
+        RequestScheduler.disable();
+        CompletableFuture.allOf(first, second).get(1, TimeUnit.SECONDS);
+    }
+}
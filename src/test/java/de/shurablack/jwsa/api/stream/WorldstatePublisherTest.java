@@ -0,0 +1,140 @@
+package de.shurablack.jwsa.api.stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.shurablack.jwsa.api.entities.IJsonMapping;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+class WorldstatePublisherTest {
+
+    @Test
+    void emitsChangesBetweenSnapshots() throws InterruptedException {
+        AtomicInteger polls = new AtomicInteger();
+        List<List<String>> snapshots = List.of(List.of("a", "b"), List.of("b", "c"));
+        WorldstatePublisher<List<String>, Changes<String>> publisher = WorldstatePublisher.changes(
+                () -> snapshots.get(Math.min(polls.getAndIncrement(), snapshots.size() - 1)),
+                value -> value, Duration.ofMillis(10));
+
+        List<Changes<String>> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Changes<String> item) {
+                received.add(item);
+                latch.countDown();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        publisher.close();
+        assertEquals(List.of("a", "b"), received.get(0).getAdded());
+        assertEquals(List.of("c"), received.get(1).getAdded());
+        assertEquals(List.of("a"), received.get(1).getRemoved());
+    }
+
+    @Test
+    void respectsDemandAndCompletesOnClose() throws InterruptedException {
+        AtomicInteger polls = new AtomicInteger();
+        WorldstatePublisher<Integer, Integer> publisher = WorldstatePublisher.snapshots(
+                polls::incrementAndGet, Duration.ofMillis(5));
+
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+
+        Thread.sleep(100);
+        publisher.close();
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    void skipsFailedPollsAndIgnoresRelativeTimes() throws InterruptedException {
+        AtomicInteger polls = new AtomicInteger();
+        List<List<IJsonMapping>> snapshots = Arrays.asList(
+                List.of(entity("a", "1m")), List.of(entity("a", "59s")), null, Collections.emptyList());
+        WorldstatePublisher<List<IJsonMapping>, Changes<IJsonMapping>> publisher = WorldstatePublisher.changes(
+                () -> snapshots.get(Math.min(polls.getAndIncrement(), snapshots.size() - 1)),
+                entity -> entity.serialize().getString("id"), Duration.ofMillis(10));
+
+        List<Changes<IJsonMapping>> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Changes<IJsonMapping> item) {
+                received.add(item);
+                latch.countDown();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        publisher.close();
+        assertEquals(2, received.size());
+        assertEquals(1, received.get(0).getAdded().size());
+        assertTrue(received.get(1).getUpdated().isEmpty());
+        assertTrue(received.get(1).getAdded().isEmpty());
+        assertEquals(1, received.get(1).getRemoved().size());
+    }
+
+    private static IJsonMapping entity(String id, String eta) {
+        return () -> new JSONObject().put("id", id).put("eta", eta).put("node", "Earth");
+    }
+}
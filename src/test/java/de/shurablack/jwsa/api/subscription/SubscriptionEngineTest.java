@@ -0,0 +1,101 @@
+package de.shurablack.jwsa.api.subscription;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.shurablack.jwsa.api.entities.worldstate.global.Fissure;
+import de.shurablack.jwsa.api.entities.worldstate.global.Invasion;
+import de.shurablack.jwsa.api.entities.worldstate.others.types.Era;
+import de.shurablack.jwsa.api.entities.worldstate.others.types.Faction;
+import de.shurablack.jwsa.api.entities.worldstate.others.types.MissionType;
+import de.shurablack.jwsa.api.index.WorldstateIndex;
+import de.shurablack.jwsa.api.stream.Changes;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+
+class SubscriptionEngineTest {
+
+    @Test
+    void onlyEvaluatesCandidateSubscriptions() {
+        SubscriptionEngine<Fissure> engine = new SubscriptionEngine<>();
+        for (int i = 0; i < 10_000; i++) {
+            engine.subscribe("user" + i, Criteria.<Fissure>any().where(WorldstateAttributes.Fissures.NODE, "Node " + i));
+        }
+        Subscription<Fissure> axiDisruption = engine.subscribe("axi", Criteria.<Fissure>any()
+                .where(WorldstateIndex.Fissures.ERA, Era.AXI)
+                .where(WorldstateIndex.Fissures.MISSION_TYPE, MissionType.DISRUPTION)
+                .is(WorldstateIndex.Fissures.HARD));
+        Subscription<Fissure> everything = engine.subscribe("all", Criteria.any());
+
+        List<Subscription<Fissure>> matched = engine.match(fissure("f1", "Axi", "Disruption", " node 42", true));
+        assertEquals(3, matched.size());
+        assertTrue(matched.contains(axiDisruption));
+        assertTrue(matched.contains(everything));
+        assertEquals("user42", matched.stream().filter(s -> s.getOwner().startsWith("user")).findFirst()
+                .orElseThrow().getOwner());
+        assertTrue(engine.getEvaluations() <= 3);
+
+        assertFalse(engine.match(fissure("f2", "Axi", "Disruption", "Node 1", false)).contains(axiDisruption));
+        assertTrue(engine.unsubscribe(axiDisruption));
+        assertFalse(engine.unsubscribe(axiDisruption));
+        assertEquals(10_001, engine.size());
+    }
+
+    @Test
+    void matchesInvasionsByRewardItemAndFaction() {
+        SubscriptionEngine<Invasion> engine = new SubscriptionEngine<>();
+        Subscription<Invasion> reactor = engine.subscribe("reactor", Criteria.<Invasion>any()
+                .where(WorldstateAttributes.Invasions.REWARD_ITEMS, "orokin reactor blueprint")
+                .where(WorldstateIndex.Invasions.FACTION, Faction.GRINEER));
+
+        assertEquals(List.of(reactor), engine.match(invasion("i1", "Corpus", "Orokin Reactor Blueprint")));
+        assertEquals(List.of(), engine.match(invasion("i2", "Corpus", "Fieldron")));
+    }
+
+    @Test
+    void reportsEachEntityOncePerSubscription() {
+        SubscriptionEngine<Fissure> engine = new SubscriptionEngine<>();
+        Subscription<Fissure> axi = engine.subscribe("axi",
+                Criteria.<Fissure>any().where(WorldstateIndex.Fissures.ERA, Era.AXI));
+        Subscription<Fissure> hard = engine.subscribe("hard",
+                Criteria.<Fissure>any().is(WorldstateIndex.Fissures.HARD));
+        Fissure added = fissure("f1", "Axi", "Survival", "Node 1", false);
+        Fissure updated = fissure("f1", "Axi", "Survival", "Node 1", true);
+
+        assertEquals(Map.of(axi, List.of(added)),
+                engine.match(new Changes<>(List.of(added), List.of(), List.of()), Fissure::getId));
+        assertEquals(Map.of(hard, List.of(updated)),
+                engine.match(new Changes<>(List.of(), List.of(updated), List.of()), Fissure::getId));
+        assertEquals(Map.of(), engine.match(new Changes<>(List.of(), List.of(updated), List.of()), Fissure::getId));
+
+        engine.match(new Changes<>(List.of(), List.of(), List.of(updated)), Fissure::getId);
+        assertEquals(Map.of(axi, List.of(updated), hard, List.of(updated)),
+                engine.match(new Changes<>(List.of(updated), List.of(), List.of()), Fissure::getId));
+    }
+
+    @Test
+    void rejectsConstraintsWithoutAcceptedValues() {
+        Criteria<Fissure> axi = Criteria.<Fissure>any().where(WorldstateIndex.Fissures.ERA, Era.AXI);
+        assertThrows(IllegalArgumentException.class, () -> axi.where(WorldstateIndex.Fissures.ERA, Era.LITH));
+        assertThrows(IllegalArgumentException.class,
+                () -> Criteria.<Fissure>any().where(WorldstateAttributes.Fissures.NODE));
+    }
+
+    private static Fissure fissure(String id, String tier, String missionType, String node, boolean hard) {
+        return Fissure.deserialize(new JSONObject().put("id", id).put("tier", tier).put("missionType", missionType)
+                .put("node", node).put("enemy", "Grineer").put("isHard", hard));
+    }
+
+    private static Invasion invasion(String id, String attacker, String item) {
+        JSONObject reward = new JSONObject().put("countedItems", new JSONArray()
+                .put(new JSONObject().put("type", item).put("count", 3)));
+        return Invasion.deserialize(new JSONObject().put("id", id).put("node", "Kappa (Sedna)")
+                .put("rewardTypes", new JSONArray())
+                .put("attacker", new JSONObject().put("faction", attacker).put("reward", reward))
+                .put("defender", new JSONObject().put("faction", "Grineer")));
+    }
+}
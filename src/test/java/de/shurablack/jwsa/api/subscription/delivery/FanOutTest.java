@@ -0,0 +1,154 @@
+package de.shurablack.jwsa.api.subscription.delivery;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+class FanOutTest {
+
+    @Test
+    void deliversInOrderPerSubscriber() throws InterruptedException {
+        try (FanOut<Integer> fanOut = new FanOut<>(4)) {
+            List<List<Integer>> received = new ArrayList<>();
+            CountDownLatch done = new CountDownLatch(8);
+            for (int s = 0; s < 8; s++) {
+                List<Integer> messages = Collections.synchronizedList(new ArrayList<>());
+                received.add(messages);
+                fanOut.register("user" + s, message -> {
+                    messages.add(message);
+                    if (message == 999) {
+                        done.countDown();
+                    }
+                }, 100, OverflowPolicy.BLOCK);
+            }
+
+            for (int i = 0; i < 1000; i++) {
+                for (int s = 0; s < 8; s++) {
+                    assertTrue(fanOut.publish("user" + s, i));
+                }
+            }
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            for (List<Integer> messages : received) {
+                assertEquals(1000, messages.size());
+                for (int i = 0; i < 1000; i++) {
+                    assertEquals(i, messages.get(i));
+                }
+            }
+            assertEquals(8000, fanOut.getMetrics().getDelivered());
+        }
+    }
+
+    @Test
+    void slowSubscriberDoesNotStallOthers() throws InterruptedException {
+        try (FanOut<Integer> fanOut = new FanOut<>(1)) {
+            CountDownLatch fast = new CountDownLatch(100);
+            fanOut.register("slow", message -> {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, 10, OverflowPolicy.DROP_OLDEST);
+            fanOut.register("fast", message -> fast.countDown());
+
+            for (int i = 0; i < 100; i++) {
+                fanOut.publish("slow", i);
+                fanOut.publish("fast", i);
+            }
+
+            assertTrue(fast.await(10, TimeUnit.SECONDS));
+            assertTrue(fanOut.getMetrics().getDropped() > 0);
+        }
+    }
+
+    @Test
+    void slowListenerYieldsTheShardAfterItsTimeBudget() throws InterruptedException {
+        try (FanOut<Integer> fanOut = new FanOut<>(1)) {
+            AtomicInteger slow = new AtomicInteger();
+            AtomicInteger slowBeforeFast = new AtomicInteger(-1);
+            CountDownLatch fast = new CountDownLatch(1);
+            fanOut.register("slow", message -> {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                slow.incrementAndGet();
+            });
+            fanOut.register("fast", message -> {
+                slowBeforeFast.set(slow.get());
+                fast.countDown();
+            });
+
+            for (int i = 0; i < 10; i++) {
+                fanOut.publish("slow", i);
+            }
+            fanOut.publish("fast", 0);
+
+            assertTrue(fast.await(10, TimeUnit.SECONDS));
+            assertTrue(slowBeforeFast.get() < 10);
+        }
+    }
+
+    @Test
+    void coalescesPendingMessages() throws InterruptedException {
+        try (FanOut<String> fanOut = new FanOut<>(1)) {
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(1);
+            List<String> received = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch done = new CountDownLatch(3);
+            fanOut.register("user", message -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                received.add(message);
+                done.countDown();
+            }, 10, message -> message.charAt(0));
+
+            fanOut.publish("user", "a0");
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            for (int i = 1; i <= 5; i++) {
+                fanOut.publish("user", "a" + i);
+                fanOut.publish("user", "b" + i);
+            }
+            release.countDown();
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(List.of("a0", "a5", "b5"), received);
+            assertEquals(8, fanOut.getMetrics().getCoalesced());
+        }
+    }
+
+    @Test
+    void countsFailedMessagesSeparately() throws InterruptedException {
+        try (FanOut<Integer> fanOut = new FanOut<>(1)) {
+            fanOut.register("user", message -> {
+                if (message == 0) {
+                    throw new IllegalStateException("Listener failure");
+                }
+            });
+            fanOut.publish("user", 0);
+            fanOut.publish("user", 1);
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (fanOut.getMetrics().getDelivered() + fanOut.getMetrics().getFailed() < 2
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, fanOut.getMetrics().getDelivered());
+            assertEquals(1, fanOut.getMetrics().getFailed());
+        }
+    }
+}
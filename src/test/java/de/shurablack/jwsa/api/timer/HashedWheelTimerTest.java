@@ -0,0 +1,65 @@
+package de.shurablack.jwsa.api.timer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+
+class HashedWheelTimerTest {
+
+    @Test
+    void expiresInDeadlineOrderAcrossRotations() throws InterruptedException {
+        try (HashedWheelTimer timer = new HashedWheelTimer(Duration.ofMillis(5), 4)) {
+            List<Integer> fired = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch done = new CountDownLatch(3);
+            timer.schedule(Duration.ofMillis(150), () -> { fired.add(3); done.countDown(); });
+            timer.schedule(Duration.ofMillis(10), () -> { fired.add(1); done.countDown(); });
+            timer.schedule(Duration.ofMillis(60), () -> { fired.add(2); done.countDown(); });
+            Timeout cancelled = timer.schedule(Duration.ofMillis(30), () -> fired.add(-1));
+            assertTrue(cancelled.cancel());
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(1, 2, 3), fired);
+            assertEquals(0, timer.size());
+            assertTrue(cancelled.isCancelled());
+        }
+    }
+
+    @Test
+    void reschedulesEntitiesOnlyWhenTheirTimesChange() throws InterruptedException {
+        try (HashedWheelTimer timer = new HashedWheelTimer(Duration.ofMillis(5), 64)) {
+            List<TimerEvent<String[]>> events = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch done = new CountDownLatch(2);
+            EntityTimer<String[]> entities = new EntityTimer<>(timer, entity -> entity[0],
+                    entity -> LocalDateTime.parse(entity[1]), entity -> LocalDateTime.parse(entity[2]), event -> {
+                        events.add(event);
+                        done.countDown();
+                    });
+
+            LocalDateTime now = LocalDateTime.now();
+            entities.update(List.of(
+                    new String[]{"a", now.minusHours(1).toString(), now.plusHours(1).toString()},
+                    new String[]{"b", now.minusHours(1).toString(), now.plusHours(1).toString()}));
+            assertEquals(2, timer.size());
+
+            entities.update(List.of(
+                    new String[]{"a", now.minusHours(1).toString(), now.plusHours(1).toString()},
+                    new String[]{"c", now.plusNanos(50_000_000).toString(), now.plusNanos(100_000_000).toString()}));
+            assertEquals(2, entities.size());
+            assertEquals(3, timer.size());
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(TimerEvent.Type.ACTIVATION, events.get(0).getType());
+            assertEquals(TimerEvent.Type.EXPIRY, events.get(1).getType());
+            assertEquals("c", events.get(1).getKey());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package de.shurablack.jwsa.api.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+class CompactionTest {
+
+    @AfterEach
+    void disableCompaction() {
+        Compaction.disable();
+    }
+
+    @Test
+    void returnsInputUnchangedWhenDisabled() {
+        String value = new String("Hydron (Sedna)");
+        List<String> list = new ArrayList<>(List.of("a", "b"));
+        assertSame(value, Compaction.string(value));
+        assertEquals(list, Compaction.list(list));
+        assertThrows(UnsupportedOperationException.class, () -> Compaction.list(list).add("c"));
+        assertEquals(0, Compaction.poolSize());
+    }
+
+    @Test
+    void deduplicatesEqualStringsWhenEnabled() {
+        Compaction.enable();
+        String first = Compaction.string(new String("Hydron (Sedna)"));
+        String second = Compaction.string(new String("Hydron (Sedna)"));
+        assertSame(first, second);
+        assertNull(Compaction.string(null));
+    }
+
+    @Test
+    void compactsListsIntoImmutableCopies() {
+        Compaction.enable();
+        List<String> compacted = Compaction.strings(new ArrayList<>(List.of("Madurai", "Vazarin")));
+        assertEquals(List.of("Madurai", "Vazarin"), compacted);
+        assertThrows(UnsupportedOperationException.class, () -> compacted.add("Naramon"));
+    }
+
+    @Test
+    void keepsNullElementsInCompactedLists() {
+        Compaction.enable();
+        List<String> compacted = Compaction.list(Arrays.asList("a", null));
+        assertEquals(2, compacted.size());
+        assertNull(compacted.get(1));
+    }
+
+    @Test
+    void stopsPoolingWhenLimitIsReached() {
+        Compaction.enable();
+        Compaction.setMaxPoolSize(1);
+        try {
+            Compaction.string("first");
+            String second = new String("second");
+            assertSame(second, Compaction.string(second));
+            assertEquals(1, Compaction.poolSize());
+        } finally {
+            Compaction.setMaxPoolSize(100_000);
+        }
+    }
+}
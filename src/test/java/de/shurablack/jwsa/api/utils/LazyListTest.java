@@ -0,0 +1,65 @@
+package de.shurablack.jwsa.api.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.shurablack.jwsa.api.entities.JsonReader;
+import de.shurablack.jwsa.api.entities.searchable.others.Patchlog;
+import de.shurablack.jwsa.api.entities.searchable.weapon.Weapon;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+
+class LazyListTest {
+
+    private static final JSONObject WEAPON = new JSONObject()
+            .put("name", "Braton")
+            .put("patchlogs", new JSONArray()
+                    .put(new JSONObject().put("name", "Hotfix \"1\"").put("changes", "é\n"))
+                    .put(new JSONObject().put("name", "Hotfix 2")))
+            .put("attacks", new JSONArray().put(new JSONObject().put("name", "Normal").put("crit_chance", 0.25)));
+
+    @AfterEach
+    void disable() {
+        LazyLoading.disable();
+    }
+
+    @Test
+    void streamingReadsStayLazyUntilAccessed() throws IOException {
+        LazyLoading.enable();
+        Weapon weapon = Weapon.read(new JsonReader(new StringReader(WEAPON.toString())));
+
+        List<Patchlog> patchlogs = weapon.getPatchlogs();
+        assertTrue(patchlogs instanceof LazyList);
+        assertFalse(((LazyList<Patchlog>) patchlogs).isMaterialized());
+        assertEquals(2, patchlogs.size());
+        assertFalse(((LazyList<Patchlog>) patchlogs).isMaterialized());
+
+        assertEquals("Hotfix \"1\"", patchlogs.get(0).getName());
+        assertEquals("é\n", patchlogs.get(0).getChanges());
+        assertTrue(((LazyList<Patchlog>) patchlogs).isMaterialized());
+        assertThrows(UnsupportedOperationException.class, () -> patchlogs.add(null));
+
+        LazyLoading.disable();
+        Weapon eager = Weapon.read(new JsonReader(new StringReader(WEAPON.toString())));
+        assertFalse(eager.getPatchlogs() instanceof LazyList);
+        assertTrue(eager.serialize().similar(weapon.serialize()));
+    }
+
+    @Test
+    void alreadyParsedListsAreDeserializedImmediately() {
+        LazyLoading.enable();
+        Weapon lazy = Weapon.deserialize(WEAPON);
+        LazyLoading.disable();
+        Weapon eager = Weapon.deserialize(WEAPON);
+
+        assertFalse(lazy.getAttacks() instanceof LazyList);
+        assertEquals(1, lazy.getAttacks().size());
+        assertTrue(eager.serialize().similar(lazy.serialize()));
+    }
+}
@@ -0,0 +1,86 @@
+package de.shurablack.jwsa.api.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.shurablack.jwsa.api.entities.IJsonMapping;
+import de.shurablack.jwsa.api.entities.JsonWriter;
+import de.shurablack.jwsa.api.entities.worldstate.relay.DarvoDeal;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+
+class NdjsonExporterTest {
+
+    @Test
+    void rotatesCompressedFilesBySize(@TempDir Path directory) throws IOException {
+        List<DarvoDeal> deals = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            deals.add(DarvoDeal.deserialize(new JSONObject().put("id", "deal" + i).put("item", "Item " + i)));
+        }
+
+        try (NdjsonExporter exporter = NdjsonExporter.open(directory, "deals", true, 16 * 1024, null)) {
+            assertEquals(5000, exporter.writeAll(deals));
+            exporter.writeSnapshot(Instant.EPOCH, deals.subList(0, 2));
+        }
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.sorted().collect(Collectors.toList());
+        }
+        assertTrue(files.size() > 1);
+
+        List<String> lines = new ArrayList<>();
+        for (Path file : files) {
+            assertTrue(file.getFileName().toString().endsWith(".ndjson.gz"));
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+                reader.lines().forEach(lines::add);
+            }
+        }
+        assertEquals(5001, lines.size());
+        assertEquals("deal4999", new JSONObject(lines.get(4999)).getString("id"));
+        JSONObject snapshot = new JSONObject(lines.get(5000));
+        assertEquals("1970-01-01T00:00:00Z", snapshot.getString("timestamp"));
+        assertEquals(2, snapshot.getJSONArray("snapshot").length());
+    }
+
+    @Test
+    void dropsRecordsThatFailHalfway() throws IOException {
+        IJsonMapping failing = new IJsonMapping() {
+            @Override
+            public JSONObject serialize() {
+                return new JSONObject();
+            }
+
+            @Override
+            public void writeJson(JsonWriter writer) throws IOException {
+                writer.beginObject().field("id", "partial");
+                throw new IllegalStateException("Broken entity");
+            }
+        };
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (NdjsonExporter exporter = NdjsonExporter.open(out, false)) {
+            exporter.write(new JSONObject().put("id", "first"));
+            assertThrows(IllegalStateException.class, () -> exporter.write(failing));
+            exporter.write(new JSONObject().put("id", "second"));
+            assertEquals(2, exporter.getRecords());
+        }
+        assertEquals("{\"id\":\"first\"}\n{\"id\":\"second\"}\n", out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,43 @@
+package de.shurablack.jwsa.api.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+
+class PersistenceTest {
+
+    @Test
+    void loadsDirectoriesInParallel(@TempDir Path directory) throws IOException {
+        for (int i = 0; i < 20; i++) {
+            Files.writeString(directory.resolve("snapshot-" + i + ".json"),
+                    "{\n  \"id\": " + i + ",\n  \"name\": \"Kuva Lich ✓\"\n}", StandardCharsets.UTF_8);
+        }
+        Files.writeString(directory.resolve("broken.json"), "{", StandardCharsets.UTF_8);
+        Files.writeString(directory.resolve("notes.txt"), "{}", StandardCharsets.UTF_8);
+
+        StringBuilder large = new StringBuilder("{\"values\":[");
+        for (int i = 0; i < 200_000; i++) {
+            large.append(i).append(',');
+        }
+        large.append("-1]}");
+        Files.writeString(directory.resolve("large.json"), large, StandardCharsets.UTF_8);
+
+        Map<Path, JSONObject> loaded = Persistence.readJsonDirectory(directory, "*.json");
+        assertEquals(21, loaded.size());
+        assertEquals("Kuva Lich ✓", loaded.get(directory.resolve("snapshot-7.json")).getString("name"));
+        assertEquals(200_001, loaded.get(directory.resolve("large.json")).getJSONArray("values").length());
+
+        Map<Path, Integer> ids = Persistence.loadDirectory(directory, "snapshot-*.json", json -> json.getInt("id"));
+        assertEquals(20, ids.size());
+        assertEquals(3, ids.get(directory.resolve("snapshot-3.json")));
+    }
+}
@@ -0,0 +1,125 @@
+package de.shurablack.jwsa.api.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ObjectInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+
+class PersistenceWriterTest {
+
+    @Test
+    void coalescesQueuedWritesToTheSamePath(@TempDir Path directory) throws Exception {
+        Path first = directory.resolve("first.json");
+        Path second = directory.resolve("second.json");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger writes = new AtomicInteger();
+
+        try (PersistenceWriter writer = new PersistenceWriter(4)) {
+            CompletableFuture<Path> blocking = writer.submit(first, out -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                out.write('1');
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertFalse(Files.exists(first));
+
+            CompletableFuture<Path> future = null;
+            for (int i = 0; i < 10; i++) {
+                String content = "snapshot " + i;
+                CompletableFuture<Path> next = writer.submit(second, out -> {
+                    writes.incrementAndGet();
+                    out.write(content.getBytes(StandardCharsets.UTF_8));
+                });
+                assertTrue(future == null || future == next);
+                future = next;
+            }
+            assertEquals(1, writer.size());
+            release.countDown();
+
+            assertEquals(first.toAbsolutePath(), blocking.get(5, TimeUnit.SECONDS));
+            assertEquals(second.toAbsolutePath(), future.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, writes.get());
+        assertEquals("snapshot 9", Files.readString(second));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void flushWaitsForTheWriteInProgress(@TempDir Path directory) throws Exception {
+        Path target = directory.resolve("flushed.bin");
+        CountDownLatch started = new CountDownLatch(1);
+
+        try (PersistenceWriter writer = new PersistenceWriter()) {
+            writer.submit(target, out -> {
+                started.countDown();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                out.write(1);
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertEquals(0, writer.size());
+
+            writer.flush();
+            assertTrue(Files.exists(target));
+        }
+    }
+
+    @Test
+    void capturesObjectsOnSubmitAndKeepsPermissions(@TempDir Path directory) throws Exception {
+        Path blocked = directory.resolve("blocked.bin");
+        Path target = directory.resolve("list.bin");
+        Path reference = Files.createFile(directory.resolve("reference.bin"));
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (PersistenceWriter writer = new PersistenceWriter(4)) {
+            writer.submit(blocked, out -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            ArrayList<String> list = new ArrayList<>(List.of("a"));
+            CompletableFuture<Path> future = writer.writeSerialized(list, target);
+            list.add("b");
+            release.countDown();
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(Files.newInputStream(target))) {
+            assertEquals(List.of("a"), in.readObject());
+        }
+        assertEquals(Files.getPosixFilePermissions(reference), Files.getPosixFilePermissions(target));
+
+        Files.setPosixFilePermissions(target, PosixFilePermissions.fromString("rw-r-----"));
+        try (PersistenceWriter writer = new PersistenceWriter()) {
+            writer.write(new byte[] {1}, target).get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(PosixFilePermissions.fromString("rw-r-----"), Files.getPosixFilePermissions(target));
+    }
+}